@@ -7,11 +7,13 @@ import static util.constant.ConstantHelper.COMMAND_ASSIGN_TASK;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import models.member.IMember;
 import models.member.Member;
 import models.project.Project;
 import models.task.Task;
 import util.ParserHelper;
+import util.parser.AssignmentParams;
 
 //@@author sinteary
 public class AssignmentController {
@@ -43,11 +45,11 @@ public class AssignmentController {
             return;
         }
         input = input.substring(COMMAND_ASSIGN_TASK.length()); //remove the "assign task " portion
-        ArrayList<ArrayList<Integer>> assignmentParams = parserHelper.parseAssignmentParams(input, project);
-        errorMessages.addAll(parserHelper.getErrorMessages());
-        ArrayList<Integer> validTaskIndexes = assignmentParams.get(0);
-        ArrayList<Integer> validAssignees = assignmentParams.get(1);
-        ArrayList<Integer> validUnassignees = assignmentParams.get(2);
+        AssignmentParams assignmentParams = parserHelper.parseAssignmentParams(input, project);
+        errorMessages.addAll(assignmentParams.getErrorMessages());
+        List<Integer> validTaskIndexes = assignmentParams.getTaskIndexes();
+        List<Integer> validAssignees = assignmentParams.getAssignees();
+        List<Integer> validUnassignees = assignmentParams.getUnassignees();
 
         if (validTaskIndexes.size() == 0) {
             errorMessages.addAll(Arrays.asList(ASSIGN_TASKS_NO_VALID_TASKS_MESSAGE));
@@ -85,7 +87,7 @@ public class AssignmentController {
      * @param task Task to be assigned to members.
      * @return ArrayList of messages from task assignments.
      */
-    private ArrayList<String> assign(ArrayList<Integer> validAssignees, Task task) {
+    private ArrayList<String> assign(List<Integer> validAssignees, Task task) {
         ArrayList<String> assignMessages = new ArrayList<>();
         for (Integer assigneeIndex : validAssignees) {
             IMember member = project.getMember(assigneeIndex);
@@ -110,7 +112,7 @@ public class AssignmentController {
      * @param task Task to be unassigned.
      * @return ArrayList of messages from task assignments.
      */
-    private ArrayList<String> unassign(ArrayList<Integer> validUnassignees, Task task) {
+    private ArrayList<String> unassign(List<Integer> validUnassignees, Task task) {
         ArrayList<String> unassignMessages = new ArrayList<>();
         for (Integer unassigneeIndex : validUnassignees) {
             IMember member = project.getMemberList().getMember(unassigneeIndex);
@@ -0,0 +1,70 @@
+package controllers;
+
+import java.util.HashMap;
+
+//@@author Lucria
+/**
+ * Routes commands to the handlers registered for them, using a trie of the characters of the registered commands.
+ * A handler is registered either for one exact command, or for every command starting with a prefix. A command is
+ * routed by reading it one character at a time down the trie, so routing takes time in the length of the command
+ * rather than the number of handlers, and no pattern is compiled or matched.
+ * Where the prefixes of several handlers match a command, the longest one wins, so a command such as
+ * "edit task requirements" can be registered alongside "edit task" in any order.
+ * @param <T> Type of the handlers.
+ */
+public class CommandRouter<T> {
+    private final Node<T> root = new Node<>();
+
+    /**
+     * Registers a handler for one exact command.
+     * @param command : Command to be handled.
+     * @param handler : Handler of the command.
+     */
+    public void addExactCommand(String command, T handler) {
+        getOrAddNode(command).exactHandler = handler;
+    }
+
+    /**
+     * Registers a handler for every command starting with a prefix, including the prefix itself.
+     * @param prefix : Start of the commands to be handled.
+     * @param handler : Handler of the commands.
+     */
+    public void addPrefixCommand(String prefix, T handler) {
+        getOrAddNode(prefix).prefixHandler = handler;
+    }
+
+    /**
+     * Finds the handler of a command.
+     * @param command : Command to be routed.
+     * @return : Returns the handler registered for the exact command if there is one, otherwise the handler of the
+     *         longest registered prefix of the command, or null if no handler matches the command.
+     */
+    public T route(String command) {
+        Node<T> node = root;
+        T handler = root.prefixHandler;
+        for (int charIndex = 0; charIndex < command.length(); charIndex++) {
+            node = node.children.get(command.charAt(charIndex));
+            if (node == null) {
+                return handler;
+            }
+            if (node.prefixHandler != null) {
+                handler = node.prefixHandler;
+            }
+        }
+        return node.exactHandler != null ? node.exactHandler : handler;
+    }
+
+    private Node<T> getOrAddNode(String command) {
+        Node<T> node = root;
+        for (int charIndex = 0; charIndex < command.length(); charIndex++) {
+            node = node.children.computeIfAbsent(command.charAt(charIndex), character -> new Node<>());
+        }
+        return node;
+    }
+
+    private static class Node<T> {
+        private final HashMap<Character, Node<T>> children = new HashMap<>();
+        private T exactHandler;
+        private T prefixHandler;
+    }
+}
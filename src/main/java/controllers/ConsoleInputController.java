@@ -1,14 +1,23 @@
 package controllers;
 
+import models.project.Project;
 import repositories.ProjectRepository;
 import util.log.ArchDukeLogger;
 import util.uiformatter.CommandHelper;
 import util.uiformatter.ViewHelper;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Scanner;
 
+import static util.constant.ConstantHelper.COMMAND_MANAGE_PROJECT_NOT_LOADED;
 import static util.constant.ConstantHelper.DEFAULT_HORI_BORDER_LENGTH;
+import static util.constant.ConstantHelper.MAX_SCRIPT_FAILURES_SHOWN;
 import static util.constant.ConstantHelper.NUM_OF_TABLE_COLUMNS_FOR_COMMAND_LIST;
 import static util.constant.ConstantHelper.PROJECT_COMMAND_BYE;
 import static util.constant.ConstantHelper.PROJECT_COMMAND_CREATE;
@@ -16,6 +25,9 @@ import static util.constant.ConstantHelper.PROJECT_COMMAND_DELETE;
 import static util.constant.ConstantHelper.PROJECT_COMMAND_HELP;
 import static util.constant.ConstantHelper.PROJECT_COMMAND_LIST;
 import static util.constant.ConstantHelper.PROJECT_COMMAND_MANAGE;
+import static util.constant.ConstantHelper.PROJECT_COMMAND_RUN;
+import static util.constant.ConstantHelper.SCRIPT_CHECKPOINT_INTERVAL;
+import static util.constant.ConstantHelper.SCRIPT_COMMENT_PREFIX;
 
 public class ConsoleInputController implements IController {
 
@@ -24,6 +36,8 @@ public class ConsoleInputController implements IController {
     private ViewHelper viewHelper;
     private CommandHelper commandHelper;
     private ProjectInputController projectInputController;
+    private boolean hasLastCommandFailed;
+    private boolean isRunningScript;
 
     //@@author Lucria
     /**
@@ -44,7 +58,7 @@ public class ConsoleInputController implements IController {
      * Constructor called by View layer due to no knowledge of ProjectRepository.
      */
     public ConsoleInputController() {
-        this.projectRepository = new ProjectRepository();
+        this.projectRepository = ProjectRepository.createConfiguredRepository();
         this.managingProjectIndex = "";
         this.viewHelper = new ViewHelper();
         this.commandHelper = new CommandHelper();
@@ -59,12 +73,13 @@ public class ConsoleInputController implements IController {
     public String[] onCommandReceived(String input) {
         try {
             ArchDukeLogger.logInfo(ConsoleInputController.class.getName(), "User input: '" + input + "'");
+            hasLastCommandFailed = false;
             Scanner inputReader = new Scanner(input);
             String command;
             if (inputReader.hasNext()) {
                 command = inputReader.next();
             } else {
-                return new String[] {"No input detected! Type \"help\" for a list of commands!"};
+                return failWith("No input detected! Type \"help\" for a list of commands!");
             }
 
             switch (command) {
@@ -80,14 +95,26 @@ public class ConsoleInputController implements IController {
                 return commandDelete(inputReader);
             case PROJECT_COMMAND_HELP:
                 return commandHelp();
+            case PROJECT_COMMAND_RUN:
+                return commandRun(input);
             default:
-                return new String[] {"Invalid inputs. Please refer to User Guide or type help!"};
+                return failWith("Invalid inputs. Please refer to User Guide or type help!");
             }
         } catch (NullPointerException err) {
-            return new String[] {"Please delete any corrupted .json saved data and try again!"};
+            return failWith("Please delete any corrupted .json saved data and try again!");
         }
     }
 
+    /**
+     * Records the command being handled as failed.
+     * @param messages : Messages explaining the failure to the user.
+     * @return : Returns the messages for View layer to print.
+     */
+    private String[] failWith(String... messages) {
+        hasLastCommandFailed = true;
+        return messages;
+    }
+
     //@@author Lucria
     /**
      * Creates a new project with a given name and a number of numbers.
@@ -97,8 +124,8 @@ public class ConsoleInputController implements IController {
         ArchDukeLogger.logDebug(ConsoleInputController.class.getName(), "[commandCreate] User input: '" + input + "'");
         boolean isProjectCreated = projectRepository.addToRepo(input);
         if (!isProjectCreated) {
-            return new String[] {"Creation of Project failed. Please ensure that Project name doesn't have any "
-                    + "special characters"};
+            return failWith("Creation of Project failed. Please ensure that Project name doesn't have any "
+                    + "special characters");
         } else {
             return new String[] {"Project created!"};
         }
@@ -129,20 +156,22 @@ public class ConsoleInputController implements IController {
         if (inputReader.hasNext()) {
             this.managingProjectIndex = inputReader.next();
             try {
+                Project project = projectRepository.getItem(Integer.parseInt(managingProjectIndex));
+                if (project == null) {
+                    return failWith(COMMAND_MANAGE_PROJECT_NOT_LOADED);
+                }
                 ArchDukeLogger.logInfo(ConsoleInputController.class.getName(), "Managing project: "
-                        + projectRepository.getItem(Integer.parseInt(managingProjectIndex)).getName());
+                        + project.getName());
                 this.projectInputController.onCommandReceived(this.managingProjectIndex);
-                return new String[] {"Now managing "
-                        + projectRepository.getItem(Integer.parseInt(managingProjectIndex)).getName()};
+                return new String[] {"Now managing " + project.getName()};
             } catch (IndexOutOfBoundsException err) {
-                return new String[] {"Please enter the correct index of an existing Project!"};
+                return failWith("Please enter the correct index of an existing Project!");
             } catch (NumberFormatException err) {
-                return new String[]
-                {"The project \"" + managingProjectIndex + "\" does not exist!",
-                 "Please ensure the project index number exists and is an integer."};
+                return failWith("The project \"" + managingProjectIndex + "\" does not exist!",
+                    "Please ensure the project index number exists and is an integer.");
             }
         } else {
-            return new String[] {"Please enter a project number!"};
+            return failWith("Please enter a project number!");
         }
     }
 
@@ -157,14 +186,16 @@ public class ConsoleInputController implements IController {
             String projectInput = inputReader.next();
             try {
                 int projectIndex = Integer.parseInt(projectInput);
-                return this.projectRepository.deleteItem(projectIndex);
+                int numOfProjects = projectRepository.getNumOfProjects();
+                String[] deleteResponse = this.projectRepository.deleteItem(projectIndex);
+                hasLastCommandFailed = projectRepository.getNumOfProjects() == numOfProjects;
+                return deleteResponse;
             } catch (NumberFormatException err) {
-                return new String[]
-                {"Invalid project index: " + projectInput,
-                 "Please ensure that the project number is an integer, and that it exists in the repo!"};
+                return failWith("Invalid project index: " + projectInput,
+                    "Please ensure that the project number is an integer, and that it exists in the repo!");
             }
         } else {
-            return new String[] {"Please enter a project number to delete"};
+            return failWith("Please enter a project number to delete");
         }
     }
 
@@ -177,11 +208,113 @@ public class ConsoleInputController implements IController {
     }
 
     //@@author Lucria
+    /**
+     * Runs the commands in the script file named by the command, such as "run onboarding.txt".
+     * @param input : Full command typed by the user.
+     */
+    private String[] commandRun(String input) {
+        ArchDukeLogger.logDebug(ConsoleInputController.class.getName(), "[commandRun] User input: '" + input + "'");
+        String scriptName = input.trim().substring(PROJECT_COMMAND_RUN.length()).trim();
+        if (scriptName.isEmpty()) {
+            return failWith("Please enter the name of the script file to run!");
+        } else if (isRunningScript) {
+            return failWith("A script cannot run another script!");
+        }
+        try {
+            return runScript(Paths.get(scriptName));
+        } catch (IOException | InvalidPathException err) {
+            return failWith("The script file \"" + scriptName + "\" could not be read!",
+                "Please ensure that the file exists and that its path is correct.");
+        }
+    }
+
+    /**
+     * Runs the commands in a script file, one command per line, as if each line was typed into the CLI.
+     * Lines are read as the commands run, so a script of any length is never held in memory. Blank lines and lines
+     * starting with "#" are skipped. A command that fails is recorded with its line number, and the script carries
+     * on with the next line. A "bye" command ends the script.
+     * The whole script runs as one batch of the ProjectRepository, so a changed Project is saved once when the
+     * script ends, and at every checkpoint of SCRIPT_CHECKPOINT_INTERVAL commands, rather than after every command.
+     * @param scriptPath : Path of the script file.
+     * @return : Returns the number of commands run and failed, their throughput, and the failed commands.
+     * @throws IOException : Exception thrown when the script file cannot be opened or read.
+     */
+    public String[] runScript(Path scriptPath) throws IOException {
+        ArchDukeLogger.logInfo(ConsoleInputController.class.getName(), "Running script: " + scriptPath);
+        final long startTime = System.nanoTime();
+        ArrayList<String> failedCommands = new ArrayList<>();
+        int numOfCommands = 0;
+        int numOfFailedCommands = 0;
+        isRunningScript = true;
+        projectRepository.beginBatch();
+        try (BufferedReader scriptReader = Files.newBufferedReader(scriptPath)) {
+            boolean isManagingProject = false;
+            int lineNumber = 0;
+            String command;
+            while ((command = scriptReader.readLine()) != null) {
+                lineNumber++;
+                command = command.trim();
+                if (command.isEmpty() || command.startsWith(SCRIPT_COMMENT_PREFIX)) {
+                    continue;
+                }
+                numOfCommands++;
+                String[] response;
+                boolean hasFailed;
+                try {
+                    if (isManagingProject) {
+                        response = manageProject(command);
+                        hasFailed = projectInputController.hasLastCommandFailed();
+                        isManagingProject = getIsManagingAProject();
+                    } else {
+                        response = onCommandReceived(command);
+                        hasFailed = hasLastCommandFailed;
+                        isManagingProject = !hasFailed && command.startsWith(PROJECT_COMMAND_MANAGE);
+                    }
+                } catch (RuntimeException err) {
+                    response = new String[] {"Unexpected error: " + err};
+                    hasFailed = true;
+                }
+                if (hasFailed) {
+                    numOfFailedCommands++;
+                    if (failedCommands.size() < MAX_SCRIPT_FAILURES_SHOWN) {
+                        failedCommands.add("Line " + lineNumber + ": " + command);
+                        failedCommands.add("  " + response[0]);
+                    }
+                }
+                if (response[0].startsWith("Bye")) {
+                    break;
+                } else if (numOfCommands % SCRIPT_CHECKPOINT_INTERVAL == 0) {
+                    projectRepository.flushToRepo();
+                }
+            }
+        } finally {
+            projectRepository.endBatch();
+            isRunningScript = false;
+        }
+        double secondsTaken = (System.nanoTime() - startTime) / 1e9;
+        ArrayList<String> scriptReport = new ArrayList<>();
+        scriptReport.add(String.format("Ran %d commands from %s in %.2f s (%.0f commands/s).", numOfCommands,
+            scriptPath, secondsTaken, numOfCommands / Math.max(secondsTaken, 1e-9)));
+        hasLastCommandFailed = numOfFailedCommands > 0;
+        if (numOfFailedCommands == 0) {
+            scriptReport.add("All commands succeeded.");
+        } else {
+            scriptReport.add(numOfFailedCommands + " commands failed:");
+            scriptReport.addAll(failedCommands);
+            if (numOfFailedCommands * 2 > failedCommands.size()) {
+                scriptReport.add("... and " + (numOfFailedCommands - failedCommands.size() / 2) + " more.");
+            }
+        }
+        ArchDukeLogger.logInfo(ConsoleInputController.class.getName(), scriptReport.get(0));
+        return scriptReport.toArray(new String[0]);
+    }
+
     /**
      * Method to be called when user says bye to exit the program.
      */
     private String[] end() {
         ArchDukeLogger.logInfo(ConsoleInputController.class.getName(), "ArchDuke have stopped.");
+        projectRepository.flushToRepo();
         return new String[] { "Bye. Hope to see you again soon!" };
     }
 
@@ -0,0 +1,17 @@
+package controllers;
+
+import models.project.Project;
+
+//@@author Lucria
+/**
+ * Handler of a command entered while managing a Project.
+ */
+public interface IProjectCommand {
+    /**
+     * Runs the command on a Project.
+     * @param projectToManage : Project that is currently being managed.
+     * @param projectCommand : Full command entered by the user.
+     * @return : Returns the messages to be shown to the user.
+     */
+    String[] execute(Project projectToManage, String projectCommand);
+}
@@ -1,5 +1,6 @@
 package controllers;
 
+import exceptions.DukeException;
 import models.member.IMember;
 import models.member.Member;
 import models.member.NullMember;
@@ -15,24 +16,44 @@ import util.factories.MemberFactory;
 import util.factories.ReminderFactory;
 import util.factories.TaskFactory;
 import util.log.ArchDukeLogger;
+import util.parser.IndexNumbers;
+import util.parser.ReminderDetails;
+import util.parser.ReminderIndex;
+import util.transfer.ProjectExporter;
+import util.transfer.ProjectImporter;
 import util.uiformatter.AssignmentViewHelper;
 import util.uiformatter.CommandHelper;
 import util.uiformatter.ViewHelper;
 
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
 import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 import static util.constant.ConstantHelper.COMMAND_ADD_MEMBER;
+import static util.constant.ConstantHelper.COMMAND_AGENDA;
+import static util.constant.ConstantHelper.COMMAND_AGENDA_INVALID_FLAG;
+import static util.constant.ConstantHelper.COMMAND_AGENDA_NEXT_MONTH_FLAG;
+import static util.constant.ConstantHelper.COMMAND_AGENDA_PREVIOUS_MONTH_FLAG;
+import static util.constant.ConstantHelper.COMMAND_AGENDA_WEEK_FLAG;
 import static util.constant.ConstantHelper.COMMAND_DELETE_MEMBER;
 import static util.constant.ConstantHelper.COMMAND_DELETE_TASK;
 import static util.constant.ConstantHelper.COMMAND_EDIT_MEMBER;
 import static util.constant.ConstantHelper.COMMAND_EDIT_TASK;
 import static util.constant.ConstantHelper.COMMAND_EDIT_TASK_REQ;
+import static util.constant.ConstantHelper.COMMAND_EXPORT;
+import static util.constant.ConstantHelper.COMMAND_EXPORT_INVALID_COMMAND;
+import static util.constant.ConstantHelper.COMMAND_IMPORT;
+import static util.constant.ConstantHelper.COMMAND_IMPORT_INVALID_COMMAND;
 import static util.constant.ConstantHelper.COMMAND_MANAGE_PROJECT_INVALID_COMMAND;
 import static util.constant.ConstantHelper.COMMAND_MANAGE_PROJECT_INVALID_NUMBER;
+import static util.constant.ConstantHelper.COMMAND_MANAGE_PROJECT_NOT_LOADED;
 import static util.constant.ConstantHelper.COMMAND_MANAGE_PROJECT_REQUEST_INPUT;
 import static util.constant.ConstantHelper.COMMAND_RENAME_PROJECT_CORRUPTED;
 import static util.constant.ConstantHelper.COMMAND_RENAME_PROJECT_EMPTY_NAME;
@@ -42,6 +63,7 @@ import static util.constant.ConstantHelper.COMMAND_RENAME_PROJECT_NOT_NUMBER;
 import static util.constant.ConstantHelper.COMMAND_ROLE_CORRECT_LENGTH;
 import static util.constant.ConstantHelper.COMMAND_ROLE_MEMBER;
 import static util.constant.ConstantHelper.COMMAND_VIEW_TASKS;
+import static util.constant.ConstantHelper.COMMAND_VIEW_TASKS_INVALID_SLICE;
 import static util.constant.ConstantHelper.COMMAND_VIEW_TASK_REQ;
 import static util.constant.ConstantHelper.DEFAULT_HORI_BORDER_LENGTH;
 import static util.constant.ConstantHelper.NUM_OF_TABLE_COLUMNS_FOR_ASSIGNMENT_RESULTS;
@@ -58,6 +80,9 @@ public class ProjectInputController implements IController {
     private ViewHelper viewHelper;
     private CommandHelper commandHelper;
     private Project projectToManage;
+    private boolean hasLastCommandFailed;
+    private boolean isSnapshotNeeded;
+    private final CommandRouter<IProjectCommand> commandRouter;
 
     /**
      * Constructor for ProjectInputController takes in a View model and a ProjectRepository.
@@ -71,6 +96,67 @@ public class ProjectInputController implements IController {
         this.isManagingAProject = true;
         this.viewHelper = new ViewHelper();
         this.commandHelper = new CommandHelper();
+        this.commandRouter = createCommandRouter();
+    }
+
+    //@@author Lucria
+    /**
+     * Registers the handler of every command that can be entered while managing a project. Commands that take
+     * arguments are registered by the prefix that names them, and commands without arguments by their exact text.
+     * Commands that are meant to change the project are wrapped by changingCommand, so that they are known to have
+     * failed when they leave the project unchanged.
+     * @return : Returns the router of the commands.
+     */
+    private CommandRouter<IProjectCommand> createCommandRouter() {
+        CommandRouter<IProjectCommand> router = new CommandRouter<>();
+        router.addExactCommand("exit", (project, command) -> {
+            isManagingAProject = false;
+            return projectExit(project);
+        });
+        router.addPrefixCommand("add member", changingCommand(this::projectAddMember));
+        router.addPrefixCommand("edit member", changingCommand(this::projectEditMember));
+        router.addPrefixCommand("delete member", changingCommand(this::projectDeleteMember));
+        router.addPrefixCommand("view members", (project, command) -> projectViewMembers(project));
+        router.addPrefixCommand("role", changingCommand(this::projectRoleMembers));
+        router.addPrefixCommand("view credits", (project, command) -> projectViewCredits(project));
+        router.addPrefixCommand("add task", changingCommand(this::projectAddTask));
+        router.addPrefixCommand("view tasks", this::projectViewTasks);
+        router.addPrefixCommand("view assignments", this::projectViewAssignments);
+        router.addPrefixCommand("view task requirements", this::projectViewTaskRequirements);
+        router.addPrefixCommand("edit task requirements", changingCommand(this::projectEditTaskRequirements));
+        router.addPrefixCommand("edit task", changingCommand(this::projectEditTask));
+        router.addPrefixCommand("delete task", changingCommand(this::projectDeleteTask));
+        router.addPrefixCommand("assign task", changingCommand(this::projectAssignTask));
+        router.addPrefixCommand("add reminder", changingCommand(this::projectAddReminder));
+        router.addExactCommand("view reminders", (project, command) -> projectViewReminder(project));
+        router.addExactCommand("view reminders by list", (project, command) -> projectViewReminderByList(project));
+        router.addPrefixCommand("edit reminder", changingCommand(this::projectEditReminder));
+        router.addPrefixCommand("delete reminder", changingCommand(this::projectDeleteReminder));
+        router.addPrefixCommand("mark reminder", changingCommand(this::projectSetReminderStatus));
+        router.addPrefixCommand("unmark reminder", changingCommand(this::projectSetReminderStatus));
+        router.addExactCommand("view", (project, command) -> projectViewSelf(project));
+        router.addPrefixCommand("rename", changingCommand(this::projectRename));
+        router.addPrefixCommand(COMMAND_IMPORT, changingCommand(this::projectImport));
+        router.addPrefixCommand(COMMAND_EXPORT, this::projectExport);
+        router.addPrefixCommand(COMMAND_AGENDA, this::projectViewCalender);
+        router.addExactCommand("help", (project, command) -> projectHelp());
+        router.addExactCommand("bye", (project, command) -> end());
+        return router;
+    }
+
+    /**
+     * Wraps the handler of a command that is meant to change the project, so that the command is recorded as failed
+     * if the version of the project is the same after it runs, as happens when its input is rejected.
+     * @param command : Handler of the command.
+     * @return : Returns the wrapped handler.
+     */
+    private IProjectCommand changingCommand(IProjectCommand command) {
+        return (project, projectCommand) -> {
+            long version = project.getVersion();
+            String[] response = command.execute(project, projectCommand);
+            hasLastCommandFailed = project.getVersion() == version;
+            return response;
+        };
     }
 
     /**
@@ -88,7 +174,12 @@ public class ProjectInputController implements IController {
             isManagingAProject = false;
             return COMMAND_MANAGE_PROJECT_INVALID_NUMBER;
         }
-        this.projectToManage = projectRepository.getItem(projectNumber);
+        Project project = projectRepository.getItem(projectNumber);
+        if (project == null) {
+            isManagingAProject = false;
+            return COMMAND_MANAGE_PROJECT_NOT_LOADED;
+        }
+        this.projectToManage = project;
         isManagingAProject = true;
         return COMMAND_MANAGE_PROJECT_REQUEST_INPUT;
     }
@@ -103,63 +194,24 @@ public class ProjectInputController implements IController {
         ArchDukeLogger.logInfo(ProjectInputController.class.getName(), "Managing:"
             + this.projectToManage.getName() + ",input:'"
             + projectFullCommand + "'");
-        if (projectFullCommand.matches("exit")) {
-            isManagingAProject = false;
-            responseToView = projectExit(this.projectToManage);
-        } else if (projectFullCommand.matches("add member.*")) {
-            responseToView = projectAddMember(this.projectToManage, projectFullCommand);
-        } else if (projectFullCommand.matches("edit member.*")) {
-            responseToView = projectEditMember(this.projectToManage, projectFullCommand);
-        } else if (projectFullCommand.matches("delete member.*")) {
-            responseToView = projectDeleteMember(this.projectToManage, projectFullCommand);
-        } else if (projectFullCommand.matches("view members.*")) {
-            responseToView = projectViewMembers(this.projectToManage);
-        } else if (projectFullCommand.matches("role.*")) {
-            responseToView = projectRoleMembers(this.projectToManage, projectFullCommand);
-        } else if (projectFullCommand.matches("view credits.*")) {
-            responseToView = projectViewCredits(this.projectToManage);
-        } else if (projectFullCommand.matches("add task.*")) {
-            responseToView = projectAddTask(this.projectToManage, projectFullCommand);
-        } else if (projectFullCommand.matches("view tasks.*")) {
-            responseToView = projectViewTasks(this.projectToManage, projectFullCommand);
-        } else if (projectFullCommand.matches("view assignments.*")) {
-            responseToView = projectViewAssignments(this.projectToManage, projectFullCommand);
-        } else if (projectFullCommand.matches("view task requirements.*")) {
-            responseToView = projectViewTaskRequirements(this.projectToManage, projectFullCommand);
-        } else if (projectFullCommand.matches("edit task requirements.*")) {
-            responseToView = projectEditTaskRequirements(this.projectToManage, projectFullCommand);
-        } else if (projectFullCommand.matches("edit task.*")) {
-            responseToView = projectEditTask(this.projectToManage, projectFullCommand);
-        } else if (projectFullCommand.matches("delete task.*")) {
-            responseToView = projectDeleteTask(this.projectToManage, projectFullCommand);
-        } else if (projectFullCommand.matches("assign task.*")) {
-            responseToView = projectAssignTask(this.projectToManage, projectFullCommand);
-        } else if (projectFullCommand.matches("add reminder.*")) {
-            responseToView = projectAddReminder(this.projectToManage,projectFullCommand);
-        } else if (projectFullCommand.matches("view reminders"))  {
-            responseToView = projectViewReminder(this.projectToManage);
-        }  else if (projectFullCommand.matches("view reminders by list"))  {
-            responseToView = projectViewReminderByList(this.projectToManage);
-        } else if (projectFullCommand.matches("edit reminder.*")) {
-            responseToView = projectEditReminder(this.projectToManage,projectFullCommand);
-        } else if (projectFullCommand.matches("delete reminder.*")) {
-            responseToView = projectDeleteReminder(this.projectToManage,projectFullCommand);
-        } else if (projectFullCommand.matches(".*mark reminder.*")) {
-            responseToView = projectSetReminderStatus(this.projectToManage,projectFullCommand);
-        } else if (projectFullCommand.matches("view")) {
-            responseToView = projectViewSelf(this.projectToManage);
-        } else if (projectFullCommand.matches("rename.*")) {
-            responseToView = projectRename(this.projectToManage, projectFullCommand);
-        } else if (projectFullCommand.matches("agenda")) {
-            responseToView = projectViewCalender(this.projectToManage);
-        } else if (projectFullCommand.matches("help")) {
-            responseToView = projectHelp();
-        } else if (projectFullCommand.matches("bye")) {
-            return end();
-        } else {
-            return COMMAND_MANAGE_PROJECT_INVALID_COMMAND;
+        // Held while the command runs so that background saves never see a half-applied command
+        synchronized (this.projectToManage) {
+            IProjectCommand projectCommand = this.commandRouter.route(projectFullCommand);
+            hasLastCommandFailed = projectCommand == null;
+            if (projectCommand == null) {
+                return COMMAND_MANAGE_PROJECT_INVALID_COMMAND;
+            }
+            responseToView = projectCommand.execute(this.projectToManage, projectFullCommand);
+            if (isSnapshotNeeded) {
+                isSnapshotNeeded = false;
+                projectRepository.saveToRepo(this.projectToManage);
+            } else {
+                projectRepository.saveChangesToRepo(this.projectToManage);
+            }
+        }
+        if (!isManagingAProject) {
+            projectRepository.flushToRepo();
         }
-        projectRepository.saveToRepo(this.projectToManage);
         return responseToView;
     }
 
@@ -187,10 +239,93 @@ public class ProjectInputController implements IController {
         }
     }
 
-    private String[] projectViewCalender(Project projectToManage) {
-        HashMap<Integer, Integer> currentMonthTasks = projectRepository.getAllTasksInCurrentMonth(projectToManage);
-        return viewHelper.consolePrintCalender(currentMonthTasks);
+    //@@author Lucria
+    /**
+     * Shows the tasks due in this month, next month, last month or this week, depending on the flag of the command.
+     * @param projectToManage : The project being managed.
+     * @param projectCommand : The agenda command, with an optional flag.
+     * @return : Returns an array of strings for View layer to print to the console line.
+     */
+    private String[] projectViewCalender(Project projectToManage, String projectCommand) {
+        String agendaFlag = projectCommand.substring(COMMAND_AGENDA.length()).trim();
+        DateTimeHelper dateTimeHelper = new DateTimeHelper();
+        YearMonth currentMonth = dateTimeHelper.getCurrentYearMonth();
+        switch (agendaFlag) {
+        case "":
+            return viewHelper.consolePrintCalender(currentMonth,
+                    projectRepository.getAllTasksInMonth(projectToManage, currentMonth));
+        case COMMAND_AGENDA_NEXT_MONTH_FLAG:
+            return viewHelper.consolePrintCalender(currentMonth.plusMonths(1),
+                    projectRepository.getAllTasksInMonth(projectToManage, currentMonth.plusMonths(1)));
+        case COMMAND_AGENDA_PREVIOUS_MONTH_FLAG:
+            return viewHelper.consolePrintCalender(currentMonth.minusMonths(1),
+                    projectRepository.getAllTasksInMonth(projectToManage, currentMonth.minusMonths(1)));
+        case COMMAND_AGENDA_WEEK_FLAG:
+            LocalDate today = dateTimeHelper.getCurrentLocalDate();
+            LocalDate startOfWeek = today.minusDays(today.getDayOfWeek().getValue() % 7);
+            return viewHelper.consolePrintTable(projectRepository.getAgendaForWeekForTable(projectToManage,
+                    startOfWeek), DEFAULT_HORI_BORDER_LENGTH);
+        default:
+            return COMMAND_AGENDA_INVALID_FLAG;
+        }
+    }
+
+    /**
+     * Imports the tasks, members or reminders of a CSV or JSON-lines file into the project, with a command such as
+     * "import tasks tasks.csv". Rows that are not valid are skipped and listed, and the other rows are imported.
+     * The project is saved in full afterwards rather than journaling its changes, as an import can add thousands of
+     * rows at once, which a snapshot holds more compactly than a journal record.
+     * @param projectToManage : The project being managed.
+     * @param projectCommand : The import command.
+     * @return : Returns an array of strings for View layer to print to the console line.
+     */
+    private String[] projectImport(Project projectToManage, String projectCommand) {
+        ArchDukeLogger.logDebug(ProjectInputController.class.getName(), "[projectImport] User input: '"
+            + projectCommand + "'");
+        String[] importArguments = projectCommand.substring(COMMAND_IMPORT.length()).trim().split("\\s+", 2);
+        if (importArguments.length < 2) {
+            return COMMAND_IMPORT_INVALID_COMMAND;
+        }
+        isSnapshotNeeded = true;
+        try {
+            return new ProjectImporter().importRows(projectToManage, importArguments[0],
+                Paths.get(importArguments[1]));
+        } catch (DukeException err) {
+            return new String[] {err.getMessage(), COMMAND_IMPORT_INVALID_COMMAND[1],
+                COMMAND_IMPORT_INVALID_COMMAND[2]};
+        } catch (IOException | InvalidPathException err) {
+            return new String[] {"The file \"" + importArguments[1] + "\" could not be read!",
+                "Please ensure that the file exists and that its path is correct."};
+        }
+    }
+
+    /**
+     * Exports the tasks, members, assignments or reminders of the project to a CSV or JSON-lines file, or its due
+     * dates and reminder dates to an iCalendar file, with a command such as "export tasks tasks.csv".
+     * The rows are streamed to the file as they are read, and the project is not changed.
+     * @param projectToManage : The project being managed.
+     * @param projectCommand : The export command.
+     * @return : Returns an array of strings for View layer to print to the console line.
+     */
+    private String[] projectExport(Project projectToManage, String projectCommand) {
+        ArchDukeLogger.logDebug(ProjectInputController.class.getName(), "[projectExport] User input: '"
+            + projectCommand + "'");
+        String[] exportArguments = projectCommand.substring(COMMAND_EXPORT.length()).trim().split("\\s+", 2);
+        if (exportArguments.length < 2) {
+            return COMMAND_EXPORT_INVALID_COMMAND;
+        }
+        try {
+            return new ProjectExporter().exportRows(projectToManage, exportArguments[0],
+                Paths.get(exportArguments[1]));
+        } catch (DukeException err) {
+            return new String[] {err.getMessage(), COMMAND_EXPORT_INVALID_COMMAND[1],
+                COMMAND_EXPORT_INVALID_COMMAND[2]};
+        } catch (IOException | InvalidPathException err) {
+            return new String[] {"The file \"" + exportArguments[1] + "\" could not be written!",
+                "Please ensure that its folder exists and that its path is correct."};
+        }
     }
+    //@@author
 
     private String[] projectViewSelf(Project projectToManage) {
         return viewHelper.consolePrintTable(projectRepository.getProjectDetailsForTable(projectToManage),
@@ -311,9 +446,10 @@ public class ProjectInputController implements IController {
                 "Please enter them as space-separated integers."};
         }
         ParserHelper parserHelper = new ParserHelper();
-        ArrayList<Integer> validMemberIndexes = parserHelper.parseMembersIndexes(projectCommand.substring(14),
+        IndexNumbers memberIndexes = parserHelper.parseMembersIndexes(projectCommand.substring(14),
             projectToManage.getNumOfMembers());
-        ArrayList<String> outputMessages = new ArrayList<>(parserHelper.getErrorMessages());
+        ArrayList<Integer> validMemberIndexes = new ArrayList<>(memberIndexes.getIndexNumbers());
+        ArrayList<String> outputMessages = new ArrayList<>(memberIndexes.getErrorMessages());
         if (validMemberIndexes.isEmpty()) {
             outputMessages.add("No valid member indexes. Cannot delete members.");
             return outputMessages.toArray(new String[0]);
@@ -442,10 +578,11 @@ public class ProjectInputController implements IController {
             return new String[] {"No task number detected! Please enter the task index number."};
         }
         ParserHelper parserHelper = new ParserHelper();
-        ArrayList<Integer> validTaskIndexes =
+        IndexNumbers taskIndexes =
             parserHelper.parseTasksIndexes(projectCommand.substring(COMMAND_DELETE_TASK.length()),
                 projectToManage.getNumOfTasks());
-        ArrayList<String> outputMessages = new ArrayList<>(parserHelper.getErrorMessages());
+        ArrayList<Integer> validTaskIndexes = new ArrayList<>(taskIndexes.getIndexNumbers());
+        ArrayList<String> outputMessages = new ArrayList<>(taskIndexes.getErrorMessages());
         // Sort to ensure task indexes work in the correct way
         Collections.sort(validTaskIndexes);
         Collections.reverse(validTaskIndexes);
@@ -563,6 +700,10 @@ public class ProjectInputController implements IController {
             ArchDukeLogger.logError(ProjectInputController.class.getName(), "[projectAssignTask] "
                 + "Currently there are no tasks with the specified attribute.");
             return (new String[] {"Currently there are no tasks with the specified attribute."});
+        } catch (NumberFormatException e) {
+            ArchDukeLogger.logError(ProjectInputController.class.getName(), "[projectViewTasks] "
+                + "Invalid part of the tasks: " + e.getMessage());
+            return COMMAND_VIEW_TASKS_INVALID_SLICE;
         }
     }
 
@@ -618,8 +759,17 @@ public class ProjectInputController implements IController {
         return isManagingAProject;
     }
 
+    /**
+     * Checks if the last command given to manageProject failed, either because it is not a known command or because
+     * it was meant to change the project but did not.
+     */
+    public boolean hasLastCommandFailed() {
+        return hasLastCommandFailed;
+    }
+
     private String[] end() {
         ArchDukeLogger.logDebug(ProjectInputController.class.getName(), "[end]");
+        projectRepository.flushToRepo();
         return new String[] {"Bye. Hope to see you again soon!"};
     }
 
@@ -691,10 +841,10 @@ public class ProjectInputController implements IController {
         ArchDukeLogger.logDebug(ProjectInputController.class.getName(), "[projectDeleteReminder] User input: '"
             + projectCommand + "'");
         ParserHelper parserHelper = new ParserHelper();
-        int index = parserHelper.parseDeleteReminder(projectCommand);
+        ReminderIndex reminderIndex = parserHelper.parseDeleteReminder(projectCommand);
+        int index = reminderIndex.getIndexNumber();
         if (index == 0) {
-            ArrayList<String> outputMessages = new ArrayList<>(parserHelper.getErrorMessages());
-            return outputMessages.toArray(new String[0]);
+            return reminderIndex.getErrorMessages().toArray(new String[0]);
         } else if (index > projectToManage.getReminderListSize()) {
             return new String[] {"No reminder index number found in the list! "
                     + "Please enter the correct reminder index number."};
@@ -716,31 +866,31 @@ public class ProjectInputController implements IController {
         ArchDukeLogger.logDebug(ProjectInputController.class.getName(), "[projectEditReminder] User input: '"
             + projectCommand + "'");
         ParserHelper parserHelper = new ParserHelper();
-        int index = parserHelper.parseEditReminder(projectCommand);
+        ReminderIndex reminderIndex = parserHelper.parseEditReminder(projectCommand);
+        int index = reminderIndex.getIndexNumber();
         if (index == 0) {
-            ArrayList<String> outputMessages = new ArrayList<>(parserHelper.getErrorMessages());
-            return outputMessages.toArray(new String[0]);
+            return reminderIndex.getErrorMessages().toArray(new String[0]);
         } else if (index > projectToManage.getReminderListSize()) {
             return new String[] {"No reminder index number found in the list! "
                     + "Please enter the correct reminder index number."};
         } else {
 
             try {
-                ArrayList<String> newReminderDetails = parserHelper.parseReminderDetails(projectCommand);
+                ReminderDetails newReminderDetails = parserHelper.parseReminderDetails(projectCommand);
                 DateTimeHelper dateTimeHelper = new DateTimeHelper();
 
-                if (!newReminderDetails.get(0).matches("--")) {
-                    projectToManage.getReminder(index).setReminderName(newReminderDetails.get(0));
+                if (!newReminderDetails.getReminderName().equals("--")) {
+                    projectToManage.getReminder(index).setReminderName(newReminderDetails.getReminderName());
                 }
-                if (!newReminderDetails.get(1).matches("--")) {
-                    projectToManage.getReminder(index).setReminderRemarks(newReminderDetails.get(1));
+                if (!newReminderDetails.getReminderRemarks().equals("--")) {
+                    projectToManage.getReminder(index).setReminderRemarks(newReminderDetails.getReminderRemarks());
                 }
-                if (newReminderDetails.get(2) != null) {
+                if (newReminderDetails.getReminderDate() != null) {
                     projectToManage.getReminder(index)
-                        .setReminderDate(dateTimeHelper.formatDate(newReminderDetails.get(2)));
+                        .setReminderDate(dateTimeHelper.formatDate(newReminderDetails.getReminderDate()));
                 }
-                if (!(newReminderDetails.get(3).equals("DEFAULT"))) {
-                    projectToManage.getReminder(index).setCategory(newReminderDetails.get(3));
+                if (!(newReminderDetails.getReminderCategory().equals("DEFAULT"))) {
+                    projectToManage.getReminder(index).setCategory(newReminderDetails.getReminderCategory());
                     projectToManage.getReminder(index);
                 }
                 return new String[] {"Your reminder have been updated."};
@@ -761,14 +911,12 @@ public class ProjectInputController implements IController {
         ArchDukeLogger.logDebug(ProjectInputController.class.getName(),
             "[projectSetReminderStatus] User input: '" + projectCommand + "'");
         ParserHelper parserHelper = new ParserHelper();
-        ArrayList<String> checkReminderDetails = parserHelper.parseCheckReminder(projectCommand);
-        if (checkReminderDetails == null) {
-            ArrayList<String> outputMessages = new ArrayList<>(parserHelper.getErrorMessages());
-            return outputMessages.toArray(new String[0]);
+        ReminderIndex reminderIndex = parserHelper.parseCheckReminder(projectCommand);
+        if (reminderIndex.getIndexNumber() == 0) {
+            return reminderIndex.getErrorMessages().toArray(new String[0]);
         } else {
-            boolean status = Boolean.parseBoolean(checkReminderDetails.get(0));
-            int index = Integer.parseInt(checkReminderDetails.get(1));
-            projectToManage.markReminder(status,index);
+            int index = reminderIndex.getIndexNumber();
+            projectToManage.markReminder(reminderIndex.isDone(), index);
             return new String[] {projectToManage.getReminder(index).getReminderName() + " have been marked "
                     + projectToManage.getReminder(index).getStatus()};
         }
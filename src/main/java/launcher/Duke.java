@@ -2,15 +2,25 @@ package launcher;
 
 import views.CLIView;
 
+import java.nio.file.Paths;
+
+import static util.constant.ConstantHelper.LAUNCHER_SCRIPT_FLAG;
+
 public class Duke {
     /**
      * Main class.
+     * Starting ArchDuke with "--script FILE" runs the commands in FILE and exits, instead of reading commands from
+     * the user.
      *
      * @param args Refers to CLI arguments
      */
     public static void main(String[] args) {
         CLIView cliView = new CLIView();
 
-        cliView.start();
+        if (args.length == 2 && LAUNCHER_SCRIPT_FLAG.equals(args[0])) {
+            cliView.runScript(Paths.get(args[1]));
+        } else {
+            cliView.start();
+        }
     }
 }
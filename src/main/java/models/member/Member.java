@@ -10,6 +10,7 @@ public class Member implements IMember {
     private int indexNumber;
     private String role;
     private String memberID;
+    private transient MemberList memberList;
 
     /**
      * Class representing a member in a project team.
@@ -27,6 +28,21 @@ public class Member implements IMember {
         this.memberID = UUID.randomUUID().toString();
     }
 
+    /**
+     * Class representing a member that has been saved before, which keeps the unique ID it was saved with.
+     * @param memberID The unique ID of the member. A new ID is generated if it is null.
+     * @param name The name of the member.
+     * @param phone The phone number of the member.
+     * @param email The email address of the member.
+     * @param indexNumber The index number assigned to the member, unique to the project.
+     */
+    public Member(String memberID, String name, String phone, String email, int indexNumber, String role) {
+        this(name, phone, email, indexNumber, role);
+        if (memberID != null) {
+            this.memberID = memberID;
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -35,7 +51,7 @@ public class Member implements IMember {
             return false;
         } else {
             Member other = (Member) obj;
-            return this.name.equals(other.name);
+            return this.memberID.equals(other.memberID);
         }
     }
 
@@ -47,17 +63,25 @@ public class Member implements IMember {
 
     @Override
     public String getDetails() {
-        return this.indexNumber + ". " + this.name + " (Phone: " + this.phone + " | Email: "
+        return getIndexNumber() + ". " + this.name + " (Phone: " + this.phone + " | Email: "
             + this.email + " | Role: " + this.role + ")";
     }
 
     @Override
     public void setIndexNumber(int indexNumber) {
         this.indexNumber = indexNumber;
+        markModified();
     }
 
+    /**
+     * Returns the index number of the member. While the member is in a MemberList, the index number is its position in
+     * the list, which shifts when a member before it is removed.
+     */
     @Override
     public int getIndexNumber() {
+        if (this.memberList != null) {
+            return this.memberList.getIndexNumber(this);
+        }
         return this.indexNumber;
     }
 
@@ -83,18 +107,39 @@ public class Member implements IMember {
 
     @Override
     public String setRole(String input) {
-        return this.role = input;
+        this.role = input;
+        markModified();
+        return this.role;
     }
 
     @Override
     public void updateDetails(String name, String phone, String email) {
+        final String oldName = this.name;
         this.name = name;
         this.phone = phone;
         this.email = email;
+        if (this.memberList != null && !oldName.equals(name)) {
+            this.memberList.renameMember(this, oldName);
+        }
+        markModified();
     }
 
     @Override
     public String getMemberID() {
         return this.memberID;
     }
+
+    /**
+     * Links this member to the MemberList holding it, so that changes to the member are tracked by the list.
+     * @param memberList MemberList holding this member, or null once the member is removed from it.
+     */
+    void setMemberList(MemberList memberList) {
+        this.memberList = memberList;
+    }
+
+    private void markModified() {
+        if (this.memberList != null) {
+            this.memberList.markMemberModified(this);
+        }
+    }
 }
@@ -1,22 +1,36 @@
 package models.member;
 
+import models.project.ProjectChange;
+import models.project.ProjectChangeLog;
 import util.ParserHelper;
+import util.parser.MemberDetails;
 import util.validation.ValidityHelper;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 
 public class MemberList implements IMemberList {
     private ArrayList<Member> memberList;
     private ParserHelper parserHelper;
     private ValidityHelper validityHelper;
+    private transient int modificationCount;
+    private transient HashMap<String, Member> membersByID; //memberID_member
+    private transient HashMap<String, ArrayList<Member>> membersByName; //name_members
+    private transient HashMap<Member, Integer> memberIndexNumbers; //member_indexNumber
+    private transient ProjectChangeLog changeLog;
 
     /**
      * Class representing a list with all members and their details.
+     * Besides the members in order, the list keeps an index of the members by ID and by name, so that finding a
+     * member or checking for a member with the same name does not visit the other members.
      */
     public MemberList() {
         this.memberList = new ArrayList<>();
         this.parserHelper = new ParserHelper();
         this.validityHelper = new ValidityHelper();
+        this.membersByID = new HashMap<>();
+        this.membersByName = new HashMap<>();
+        this.memberIndexNumbers = new HashMap<>();
     }
 
     public ArrayList<Member> getMemberList() {
@@ -30,6 +44,14 @@ public class MemberList implements IMemberList {
     public void addMember(Member newMember) {
         newMember.setIndexNumber(this.memberList.size() + 1);
         this.memberList.add(newMember);
+        newMember.setMemberList(this);
+        this.membersByID.putIfAbsent(newMember.getMemberID(), newMember);
+        this.membersByName.computeIfAbsent(newMember.getName(), name -> new ArrayList<>()).add(newMember);
+        if (this.memberIndexNumbers != null) {
+            this.memberIndexNumbers.putIfAbsent(newMember, this.memberList.size());
+        }
+        recordChange(ProjectChange.putMember(newMember));
+        markModified();
     }
 
     /**
@@ -39,42 +61,45 @@ public class MemberList implements IMemberList {
      * @return An error message if any.
      */
     public String editMember(int memberIndexNumber, String updatedMemberDetails) {
-        String [] memberDetails = parserHelper.parseMemberDetails(updatedMemberDetails);
-        String name = memberDetails[0];
-        String phone = memberDetails[1];
-        String email = memberDetails[2];
+        MemberDetails memberDetails = parserHelper.parseMemberDetails(updatedMemberDetails);
+        String name = memberDetails.getName();
+        String phone = memberDetails.getPhone();
+        String email = memberDetails.getEmail();
 
         String errorMessage = validityHelper.emailPhoneErrorMessage(email, phone);
         if (!"".equals(errorMessage)) {
             return errorMessage;
         }
 
-        for (Member currentMember : memberList) {
-            if (currentMember.getIndexNumber() == memberIndexNumber) {
-                String updatedName = ("--".equals(name)) ? currentMember.getName() : name;
-                String updatedPhone = ("--".equals(phone)) ? currentMember.getPhone() : phone;
-                String updatedEmail = ("--".equals(email)) ? currentMember.getEmail() : email;
-                currentMember.updateDetails(updatedName, updatedPhone, updatedEmail);
-                break;
-            }
+        if (memberIndexNumber > 0 && memberIndexNumber <= memberList.size()) {
+            Member currentMember = memberList.get(memberIndexNumber - 1);
+            String updatedName = ("--".equals(name)) ? currentMember.getName() : name;
+            String updatedPhone = ("--".equals(phone)) ? currentMember.getPhone() : phone;
+            String updatedEmail = ("--".equals(email)) ? currentMember.getEmail() : email;
+            currentMember.updateDetails(updatedName, updatedPhone, updatedEmail);
         }
         return "Updated member details with the index number " + memberIndexNumber;
     }
 
     /**
      * Removes a member from the list.
-     * Shifts the index numbers of all members up if required.
+     * The index numbers of the members after it shift up. They are worked out again the next time an index number is
+     * needed, instead of being renumbered one by one.
      * @param toBeRemoved The Member that needs to be removed
      */
     public void removeMember(Member toBeRemoved) {
-        if (toBeRemoved.getIndexNumber() < memberList.size()) { //if need to reassign index numbers after removal
-            this.memberList.remove(toBeRemoved);
-            for (int i = 1; i <= memberList.size(); i++) {
-                memberList.get(i - 1).setIndexNumber(i);
-            }
-        } else {
-            this.memberList.remove(toBeRemoved);
+        int memberIndex = findMemberIndex(toBeRemoved);
+        if (memberIndex < 0) {
+            return;
         }
+        toBeRemoved.setMemberList(null);
+        toBeRemoved.setIndexNumber(memberIndex + 1);
+        this.memberList.remove(memberIndex);
+        this.membersByID.remove(toBeRemoved.getMemberID(), toBeRemoved);
+        removeFromNameIndex(toBeRemoved, toBeRemoved.getName());
+        this.memberIndexNumbers = null;
+        recordChange(ProjectChange.removeMember(toBeRemoved.getMemberID()));
+        markModified();
     }
 
     /**
@@ -137,6 +162,121 @@ public class MemberList implements IMemberList {
      * @return True if the project's member list already contains the member, false otherwise.
      */
     public boolean contains(IMember newMember) {
-        return this.memberList.contains(newMember);
+        return this.membersByName.containsKey(newMember.getName());
+    }
+
+    //@@author Lucria
+    /**
+     * Returns the member with a member ID.
+     * @param memberID The member ID associated with a member.
+     * @return The member, or null if no member in this list has the ID.
+     */
+    public Member getMemberFromID(String memberID) {
+        return this.membersByID.get(memberID);
+    }
+
+    /**
+     * Returns the members with a name, in the order of their index numbers.
+     * @param name The name of the members.
+     * @return The members with the name, which is empty if there are none.
+     */
+    public ArrayList<Member> getMembersByName(String name) {
+        ArrayList<Member> members = new ArrayList<>(this.membersByName.getOrDefault(name, new ArrayList<>()));
+        members.sort((member1, member2) -> getIndexNumber(member1) - getIndexNumber(member2));
+        return members;
+    }
+
+    /**
+     * Returns the index number of a member in this list, which is its position in the list starting from 1.
+     * The index numbers are worked out again only after members are removed.
+     * @param member A member in this list.
+     * @return The index number of the member, or 0 if the member is not in this list.
+     */
+    int getIndexNumber(Member member) {
+        if (this.memberIndexNumbers == null) {
+            this.memberIndexNumbers = new HashMap<>();
+            for (int memberIndex = 0; memberIndex < this.memberList.size(); memberIndex++) {
+                this.memberIndexNumbers.putIfAbsent(this.memberList.get(memberIndex), memberIndex + 1);
+            }
+        }
+        return this.memberIndexNumbers.getOrDefault(member, 0);
+    }
+
+    /**
+     * Finds the position of a member in the list. Uses the index numbers if they are up to date, so that removing
+     * several members in a row does not work out the index numbers again after each removal.
+     */
+    private int findMemberIndex(Member member) {
+        if (this.memberIndexNumbers != null) {
+            return this.memberIndexNumbers.getOrDefault(member, 0) - 1;
+        }
+        for (int memberIndex = 0; memberIndex < this.memberList.size(); memberIndex++) {
+            if (this.memberList.get(memberIndex) == member) {
+                return memberIndex;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Moves a member that was renamed within the name index.
+     * @param member The member that was renamed.
+     * @param oldName The name of the member before it was renamed.
+     */
+    void renameMember(Member member, String oldName) {
+        removeFromNameIndex(member, oldName);
+        this.membersByName.computeIfAbsent(member.getName(), name -> new ArrayList<>()).add(member);
+    }
+
+    private void removeFromNameIndex(Member member, String name) {
+        ArrayList<Member> membersWithName = this.membersByName.get(name);
+        if (membersWithName != null) {
+            membersWithName.removeIf(memberWithName -> memberWithName == member);
+            if (membersWithName.isEmpty()) {
+                this.membersByName.remove(name);
+            }
+        }
+    }
+    //@@author
+
+    /**
+     * Returns the number of changes made to this list and its members so far.
+     * Used to tell whether the list has changed since it was last saved.
+     * @return The modification count of this list.
+     */
+    public int getModificationCount() {
+        return this.modificationCount;
+    }
+
+    /**
+     * Records that this list or one of its members has changed.
+     */
+    void markModified() {
+        this.modificationCount++;
+    }
+
+    //@@author Lucria
+    /**
+     * Records that a member in this list has changed.
+     * @param member The member that changed.
+     */
+    void markMemberModified(Member member) {
+        recordChange(ProjectChange.putMember(member));
+        markModified();
+    }
+
+    /**
+     * Sets the log that the members added to, changed in or removed from this list are recorded in.
+     * @param changeLog The log of the project holding this list, or null to stop recording changes.
+     */
+    public void setChangeLog(ProjectChangeLog changeLog) {
+        this.changeLog = changeLog;
+    }
+
+    private void recordChange(ProjectChange change) {
+        if (this.changeLog != null) {
+            this.changeLog.record(change);
+        }
     }
+    //@@author
 }
@@ -0,0 +1,229 @@
+package models.project;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+
+//@@author Lucria
+/**
+ * Assignments between the tasks and members of a Project, stored once as a matrix of bits.
+ * Each task and member is given a small integer ordinal when it is added. Every task keeps a bitset of the ordinals of
+ * its members, and every member keeps a bitset of the ordinals of its tasks, so checking, adding and removing an
+ * assignment takes constant time, and listing the tasks of a member or the members of a task only visits the words of
+ * its bitset. The ordinal of a removed task or member is given to the next one that is added, so the bitsets stay as
+ * small as the Project.
+ */
+class AssignmentMatrix {
+    private final Ordinals taskOrdinals = new Ordinals();
+    private final Ordinals memberOrdinals = new Ordinals();
+    private final ArrayList<BitSet> membersOfTasks = new ArrayList<>();
+    private final ArrayList<BitSet> tasksOfMembers = new ArrayList<>();
+
+    /**
+     * Adds a task without any members. A task that is already in the matrix keeps its members.
+     * @param taskID : ID of the task.
+     */
+    void addTask(String taskID) {
+        addRow(taskOrdinals, membersOfTasks, taskID);
+    }
+
+    /**
+     * Adds a member without any tasks. A member that is already in the matrix keeps its tasks.
+     * @param memberID : ID of the member.
+     */
+    void addMember(String memberID) {
+        addRow(memberOrdinals, tasksOfMembers, memberID);
+    }
+
+    /**
+     * Removes a task and all of its assignments.
+     * @param taskID : ID of the task.
+     */
+    void removeTask(String taskID) {
+        removeRow(taskOrdinals, membersOfTasks, tasksOfMembers, taskID);
+    }
+
+    /**
+     * Removes a member and all of its assignments.
+     * @param memberID : ID of the member.
+     */
+    void removeMember(String memberID) {
+        removeRow(memberOrdinals, tasksOfMembers, membersOfTasks, memberID);
+    }
+
+    /**
+     * Assigns a task to a member. Does nothing if either of them is not in the matrix.
+     * @param taskID : ID of the task.
+     * @param memberID : ID of the member.
+     * @return : Returns true if the assignment was added.
+     */
+    boolean assign(String taskID, String memberID) {
+        Integer taskOrdinal = taskOrdinals.getOrdinal(taskID);
+        Integer memberOrdinal = memberOrdinals.getOrdinal(memberID);
+        if (taskOrdinal == null || memberOrdinal == null) {
+            return false;
+        }
+        membersOfTasks.get(taskOrdinal).set(memberOrdinal);
+        tasksOfMembers.get(memberOrdinal).set(taskOrdinal);
+        return true;
+    }
+
+    /**
+     * Removes the assignment of a task to a member, if there is one.
+     * @param taskID : ID of the task.
+     * @param memberID : ID of the member.
+     */
+    void unassign(String taskID, String memberID) {
+        Integer taskOrdinal = taskOrdinals.getOrdinal(taskID);
+        Integer memberOrdinal = memberOrdinals.getOrdinal(memberID);
+        if (taskOrdinal != null && memberOrdinal != null) {
+            membersOfTasks.get(taskOrdinal).clear(memberOrdinal);
+            tasksOfMembers.get(memberOrdinal).clear(taskOrdinal);
+        }
+    }
+
+    /**
+     * Checks whether a task is assigned to a member.
+     * @param taskID : ID of the task.
+     * @param memberID : ID of the member.
+     */
+    boolean contains(String taskID, String memberID) {
+        Integer taskOrdinal = taskOrdinals.getOrdinal(taskID);
+        Integer memberOrdinal = memberOrdinals.getOrdinal(memberID);
+        return taskOrdinal != null && memberOrdinal != null && membersOfTasks.get(taskOrdinal).get(memberOrdinal);
+    }
+
+    /**
+     * Returns the IDs of the members a task is assigned to, in the order of their ordinals.
+     * @param taskID : ID of the task.
+     * @return : Returns the IDs of the members, or an empty list if the task is not in the matrix.
+     */
+    ArrayList<String> getMemberIDs(String taskID) {
+        return getColumnIDs(taskOrdinals, membersOfTasks, memberOrdinals, taskID);
+    }
+
+    /**
+     * Returns the IDs of the tasks assigned to a member, in the order of their ordinals.
+     * @param memberID : ID of the member.
+     * @return : Returns the IDs of the tasks, or an empty list if the member is not in the matrix.
+     */
+    ArrayList<String> getTaskIDs(String memberID) {
+        return getColumnIDs(memberOrdinals, tasksOfMembers, taskOrdinals, memberID);
+    }
+
+    /**
+     * Returns the number of members a task is assigned to.
+     * @param taskID : ID of the task.
+     */
+    int getNumOfMembers(String taskID) {
+        Integer taskOrdinal = taskOrdinals.getOrdinal(taskID);
+        return taskOrdinal == null ? 0 : membersOfTasks.get(taskOrdinal).cardinality();
+    }
+
+    /**
+     * Returns the assignments in the shape they were stored in by earlier versions, with the IDs of the members of
+     * every task, keyed by task ID.
+     */
+    LinkedHashMap<String, ArrayList<String>> getMemberIDsOfAllTasks() {
+        return getAllColumnIDs(taskOrdinals, membersOfTasks, memberOrdinals);
+    }
+
+    /**
+     * Returns the assignments in the shape they were stored in by earlier versions, with the IDs of the tasks of
+     * every member, keyed by member ID.
+     */
+    LinkedHashMap<String, ArrayList<String>> getTaskIDsOfAllMembers() {
+        return getAllColumnIDs(memberOrdinals, tasksOfMembers, taskOrdinals);
+    }
+
+    private void addRow(Ordinals rowOrdinals, ArrayList<BitSet> rows, String rowID) {
+        if (rowOrdinals.getOrdinal(rowID) != null) {
+            return;
+        }
+        int rowOrdinal = rowOrdinals.add(rowID);
+        if (rowOrdinal == rows.size()) {
+            rows.add(new BitSet());
+        }
+    }
+
+    /**
+     * Clears the row of a task or member from every column it is set in, then frees its ordinal.
+     */
+    private void removeRow(Ordinals rowOrdinals, ArrayList<BitSet> rows, ArrayList<BitSet> columns, String rowID) {
+        Integer rowOrdinal = rowOrdinals.getOrdinal(rowID);
+        if (rowOrdinal == null) {
+            return;
+        }
+        BitSet row = rows.get(rowOrdinal);
+        for (int columnOrdinal = row.nextSetBit(0); columnOrdinal >= 0;
+                columnOrdinal = row.nextSetBit(columnOrdinal + 1)) {
+            columns.get(columnOrdinal).clear(rowOrdinal);
+        }
+        row.clear();
+        rowOrdinals.remove(rowID);
+    }
+
+    private ArrayList<String> getColumnIDs(Ordinals rowOrdinals, ArrayList<BitSet> rows, Ordinals columnOrdinals,
+                                           String rowID) {
+        ArrayList<String> columnIDs = new ArrayList<>();
+        Integer rowOrdinal = rowOrdinals.getOrdinal(rowID);
+        if (rowOrdinal == null) {
+            return columnIDs;
+        }
+        BitSet row = rows.get(rowOrdinal);
+        for (int columnOrdinal = row.nextSetBit(0); columnOrdinal >= 0;
+                columnOrdinal = row.nextSetBit(columnOrdinal + 1)) {
+            columnIDs.add(columnOrdinals.getID(columnOrdinal));
+        }
+        return columnIDs;
+    }
+
+    private LinkedHashMap<String, ArrayList<String>> getAllColumnIDs(Ordinals rowOrdinals, ArrayList<BitSet> rows,
+                                                                     Ordinals columnOrdinals) {
+        LinkedHashMap<String, ArrayList<String>> allColumnIDs = new LinkedHashMap<>();
+        for (int rowOrdinal = 0; rowOrdinal < rows.size(); rowOrdinal++) {
+            String rowID = rowOrdinals.getID(rowOrdinal);
+            if (rowID != null) {
+                allColumnIDs.put(rowID, getColumnIDs(rowOrdinals, rows, columnOrdinals, rowID));
+            }
+        }
+        return allColumnIDs;
+    }
+
+    /**
+     * Dense numbering of the IDs of either the tasks or the members, reusing the numbers of removed IDs.
+     */
+    private static class Ordinals {
+        private final HashMap<String, Integer> ordinalsByID = new HashMap<>();
+        private final ArrayList<String> idsByOrdinal = new ArrayList<>();
+        private final ArrayDeque<Integer> freeOrdinals = new ArrayDeque<>();
+
+        Integer getOrdinal(String id) {
+            return ordinalsByID.get(id);
+        }
+
+        String getID(int ordinal) {
+            return idsByOrdinal.get(ordinal);
+        }
+
+        int add(String id) {
+            Integer ordinal = freeOrdinals.pollFirst();
+            if (ordinal == null) {
+                ordinal = idsByOrdinal.size();
+                idsByOrdinal.add(id);
+            } else {
+                idsByOrdinal.set(ordinal, id);
+            }
+            ordinalsByID.put(id, ordinal);
+            return ordinal;
+        }
+
+        void remove(String id) {
+            Integer ordinal = ordinalsByID.remove(id);
+            idsByOrdinal.set(ordinal, null);
+            freeOrdinals.addLast(ordinal);
+        }
+    }
+}
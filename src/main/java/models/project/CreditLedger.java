@@ -0,0 +1,127 @@
+package models.project;
+
+import models.task.Task;
+import models.task.TaskState;
+
+import java.util.HashMap;
+import java.util.List;
+
+//@@author Lucria
+/**
+ * Running totals of the credits of each member of a Project, kept up to date as tasks are assigned and changed.
+ * The credit of a task is split equally between the members assigned to it. Each member keeps the total of their
+ * shares of all their tasks, and of their tasks that are done, so the credits of every member are known without
+ * visiting any task.
+ */
+class CreditLedger {
+    private static final double ROUNDING_TOLERANCE = 1e-9;
+    private final HashMap<String, MemberCredits> creditsByMember = new HashMap<>(); //memberID_credits
+
+    /**
+     * Adds a member without any credits. A member that is already in the ledger keeps their credits.
+     * @param memberID ID of the member.
+     */
+    void addMember(String memberID) {
+        creditsByMember.putIfAbsent(memberID, new MemberCredits());
+    }
+
+    /**
+     * Removes a member and their credits. Their shares of their tasks should be moved to the other assigned members
+     * first.
+     * @param memberID ID of the member.
+     */
+    void removeMember(String memberID) {
+        creditsByMember.remove(memberID);
+    }
+
+    /**
+     * Gives each member assigned to a task an equal share of its credit.
+     * @param task The task.
+     * @param memberIDs IDs of all members assigned to the task.
+     */
+    void addTaskShares(Task task, List<String> memberIDs) {
+        changeTaskShares(task, memberIDs, 1);
+    }
+
+    /**
+     * Takes back the shares of a task given by addTaskShares, using the same details and members.
+     * @param task The task.
+     * @param memberIDs IDs of all members assigned to the task.
+     */
+    void removeTaskShares(Task task, List<String> memberIDs) {
+        changeTaskShares(task, memberIDs, -1);
+    }
+
+    /**
+     * Removes every credit, keeping the members.
+     */
+    void clear() {
+        for (String memberID : creditsByMember.keySet()) {
+            creditsByMember.put(memberID, new MemberCredits());
+        }
+    }
+
+    /**
+     * Returns the total of a member's shares of their tasks.
+     * @param memberID ID of the member.
+     */
+    double getAssignedCredits(String memberID) {
+        MemberCredits memberCredits = creditsByMember.get(memberID);
+        return memberCredits == null ? 0 : Math.max(0, memberCredits.assignedCredits);
+    }
+
+    /**
+     * Returns the total of a member's shares of their tasks that are done.
+     * @param memberID ID of the member.
+     */
+    double getCompletedCredits(String memberID) {
+        MemberCredits memberCredits = creditsByMember.get(memberID);
+        return memberCredits == null ? 0 : Math.max(0, memberCredits.completedCredits);
+    }
+
+    /**
+     * Returns the part of a member's credits that is done, between 0 and 1, which is 0 if they have no credits.
+     * Shares are added and taken back in any order, so the totals may be off by a rounding error, which is allowed
+     * for so that a member with every task done is always shown as fully done.
+     * @param memberID ID of the member.
+     */
+    double getCompletedFraction(String memberID) {
+        double assignedCredits = getAssignedCredits(memberID);
+        if (assignedCredits <= ROUNDING_TOLERANCE) {
+            return 0;
+        }
+        return Math.min(1, getCompletedCredits(memberID) / assignedCredits + ROUNDING_TOLERANCE);
+    }
+
+    private void changeTaskShares(Task task, List<String> memberIDs, int sign) {
+        if (memberIDs.isEmpty()) {
+            return;
+        }
+        double share = sign * (double) task.getTaskCredit() / memberIDs.size();
+        boolean isDone = task.getTaskState() == TaskState.DONE;
+        for (String memberID : memberIDs) {
+            MemberCredits memberCredits = creditsByMember.get(memberID);
+            if (memberCredits == null) {
+                continue;
+            }
+            memberCredits.numOfTasks += sign;
+            memberCredits.assignedCredits += share;
+            if (isDone) {
+                memberCredits.completedCredits += share;
+            }
+            if (memberCredits.numOfTasks == 0) {
+                memberCredits.assignedCredits = 0;
+                memberCredits.completedCredits = 0;
+            }
+        }
+    }
+
+    /**
+     * Credits of one member, and the number of tasks they hold a share of.
+     */
+    private static class MemberCredits {
+        private int numOfTasks;
+        private double assignedCredits;
+        private double completedCredits;
+    }
+}
@@ -8,6 +8,7 @@ import models.task.ITask;
 import models.task.Task;
 import models.task.TaskList;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
 
@@ -61,6 +62,10 @@ public interface IProject {
 
     HashMap<String, ArrayList<String>> getTasksAndAssignedMembers();
 
+    ArrayList<String> getAssignedMemberIDs(String taskID);
+
+    ArrayList<String> getAssignedTaskIDs(String memberID);
+
     ITask getTaskFromID(String taskID);
 
     void addReminderToList(Reminder reminder);
@@ -75,6 +80,8 @@ public interface IProject {
 
     int getReminderListSize();
 
+    ArrayList<Reminder> getRemindersDueBetween(LocalDate firstDay, LocalDate lastDay);
+
     IMember getMemberFromID(String memberID);
 
     HashMap<String,ArrayList<Reminder>> getCategoryReminderList();
@@ -8,6 +8,7 @@ import models.task.ITask;
 import models.task.Task;
 import models.task.TaskList;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
 
@@ -155,6 +156,16 @@ public class NullProject implements IProject {
         return null;
     }
 
+    @Override
+    public ArrayList<String> getAssignedMemberIDs(String taskID) {
+        return null;
+    }
+
+    @Override
+    public ArrayList<String> getAssignedTaskIDs(String memberID) {
+        return null;
+    }
+
     @Override
     public IMember getMemberFromID(String memberID) {
         return null;
@@ -206,4 +217,9 @@ public class NullProject implements IProject {
         return -1;
     }
 
+    @Override
+    public ArrayList<Reminder> getRemindersDueBetween(LocalDate firstDay, LocalDate lastDay) {
+        return null;
+    }
+
 }
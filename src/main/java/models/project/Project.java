@@ -7,33 +7,62 @@ import models.member.NullMember;
 import models.reminder.Reminder;
 import models.reminder.ReminderList;
 import models.task.ITask;
+import models.task.ITaskChangeListener;
 import models.task.NullTask;
 import models.task.Task;
 import models.task.TaskList;
-import models.task.TaskState;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 public class Project implements IProject {
+    private String projectID;
     private String name;
     private MemberList memberList;
     private TaskList taskList;
     private ReminderList reminderList;
-    private HashMap<String, ArrayList<String>> taskAndListOfMembersAssigned; //taskID_listOfMemberIDs
-    private HashMap<String, ArrayList<String>> memberAndIndividualListOfTasks; //memberID_listOfTaskIDs
+    private AssignmentMatrix assignments;
+    private CreditLedger creditLedger;
+    private long journalSequence;
+    private transient int modificationCount;
+    private transient HashMap<String, Task> tasksByID; //taskID_task
+    private transient ProjectChangeLog changeLog;
 
     /**
      * Class representing a task in a project.
      * @param name The description of the project.
      */
     public Project(String name) {
+        this.projectID = UUID.randomUUID().toString();
         this.name = name;
         this.memberList = new MemberList();
         this.taskList = new TaskList();
         this.reminderList = new ReminderList();
-        this.taskAndListOfMembersAssigned = new HashMap<>();
-        this.memberAndIndividualListOfTasks = new HashMap<>();
+        this.assignments = new AssignmentMatrix();
+        this.creditLedger = new CreditLedger();
+        this.taskList.setTaskChangeListener(new TaskCreditListener());
+        this.tasksByID = new HashMap<>();
+    }
+
+    /**
+     * Getter for the ID of the project, which stays the same when the project is renamed.
+     * @return : Returns a String representing the project's ID.
+     */
+    public String getProjectID() {
+        return this.projectID;
+    }
+
+    /**
+     * Setter for the ID of the project. Only used when the project is loaded from its save file.
+     * @param projectID : String representing the project's ID.
+     */
+    public void setProjectID(String projectID) {
+        this.projectID = projectID;
     }
 
     /**
@@ -50,6 +79,35 @@ public class Project implements IProject {
      */
     public void setName(String input) {
         this.name = input;
+        this.modificationCount++;
+        recordChange(ProjectChange.renameProject(input));
+    }
+
+    /**
+     * Returns a version number that changes whenever the project, or any of its members, tasks or reminders, changes.
+     * Used to skip saving a project that has not changed since it was last saved.
+     * @return : Returns the current version of the project.
+     */
+    public long getVersion() {
+        return (long) this.modificationCount + this.memberList.getModificationCount()
+                + this.taskList.getModificationCount() + this.reminderList.getModificationCount();
+    }
+
+    /**
+     * Getter for the sequence number of the last journaled command that has been applied to the project.
+     * A saved project includes every journaled command up to this sequence number.
+     * @return : Returns the sequence number of the last applied journal record.
+     */
+    public long getJournalSequence() {
+        return this.journalSequence;
+    }
+
+    /**
+     * Setter for the sequence number of the last journaled command that has been applied to the project.
+     * @param journalSequence : Sequence number of the last applied journal record.
+     */
+    public void setJournalSequence(long journalSequence) {
+        this.journalSequence = journalSequence;
     }
 
     /**
@@ -97,7 +155,8 @@ public class Project implements IProject {
     @Override
     public void addMember(Member newMember) {
         this.memberList.addMember(newMember);
-        this.memberAndIndividualListOfTasks.put(newMember.getMemberID(), new ArrayList<>());
+        this.assignments.addMember(newMember.getMemberID());
+        this.creditLedger.addMember(newMember.getMemberID());
     }
 
     //@@author iamabhishek98
@@ -109,10 +168,12 @@ public class Project implements IProject {
     //@@author iamabhishek98
     @Override
     public void removeMember(Member memberToBeRemoved) {
-        for (String taskID: this.taskAndListOfMembersAssigned.keySet()) {
-            this.taskAndListOfMembersAssigned.get(taskID).remove(memberToBeRemoved.getMemberID());
+        String memberID = memberToBeRemoved.getMemberID();
+        for (String taskID : this.assignments.getTaskIDs(memberID)) {
+            changeTaskAssignments(taskID, () -> this.assignments.unassign(taskID, memberID));
         }
-        this.memberAndIndividualListOfTasks.remove(memberToBeRemoved.getMemberID());
+        this.assignments.removeMember(memberID);
+        this.creditLedger.removeMember(memberID);
         this.memberList.removeMember(memberToBeRemoved);
     }
 
@@ -136,18 +197,32 @@ public class Project implements IProject {
     @Override
     public void addTask(Task newTask) {
         this.taskList.addTask(newTask);
-        this.taskAndListOfMembersAssigned.put(newTask.getTaskID(), new ArrayList<>());
+        getTasksByID().putIfAbsent(newTask.getTaskID(), newTask);
+        this.assignments.addTask(newTask.getTaskID());
+    }
+
+    //@@author Lucria
+    /**
+     * Adds a batch of new tasks to the project, indexing them together rather than one at a time.
+     * @param newTasks : New tasks to be added, in order.
+     */
+    public void addTasks(List<Task> newTasks) {
+        this.taskList.addTasks(newTasks);
+        HashMap<String, Task> tasksByID = getTasksByID();
+        for (Task newTask : newTasks) {
+            tasksByID.putIfAbsent(newTask.getTaskID(), newTask);
+            this.assignments.addTask(newTask.getTaskID());
+        }
     }
+    //@@author
 
     //@@author iamabhishek98
     @Override
     public void removeTask(int taskIndexNumber) {
         Task taskToRemove = this.getTask(taskIndexNumber);
-        for (String memberID : this.memberAndIndividualListOfTasks.keySet()) {
-            this.memberAndIndividualListOfTasks.get(memberID).remove(taskToRemove.getTaskID());
-        }
-        this.taskAndListOfMembersAssigned.remove(taskToRemove.getTaskID());
+        changeTaskAssignments(taskToRemove.getTaskID(), () -> this.assignments.removeTask(taskToRemove.getTaskID()));
         this.taskList.removeTask(taskIndexNumber);
+        getTasksByID().remove(taskToRemove.getTaskID(), taskToRemove);
     }
 
     @Override
@@ -171,40 +246,25 @@ public class Project implements IProject {
     //@@author iamabhishek98
     /**
      * Returns the member names with the credits of their assigned tasks.
+     * The credit of a task is split equally between its assigned members, and the credits of each member are read
+     * from the credit ledger of the project.
      * @return The member names with the credits of their assigned tasks.
      */
     @Override
     public ArrayList<String> getCredits() {
-        /*
-        *
-        *       THIS METHOD IS TO BE REFACTORED
-        *
-         */
         ArrayList<String> allMemberCredits = new ArrayList<>();
         ArrayList<Member> allMembers = this.getMemberList().getMemberList();
-        HashMap<String, ArrayList<String>> memberIDAndTaskIDs = this.getMembersIndividualTaskList(); //memberID_taskIDs
         int count = 1;
         for (Member member : allMembers) {
-            float totalCredits = 0;
-            float doneCredits = 0;
-            for (String taskID : memberIDAndTaskIDs.get(member.getMemberID())) {
-                // credits are split equally between members
-                ITask assignedTask = getTaskFromID(taskID);
-                float taskCredit = (assignedTask.getTaskCredit()) / (float)(memberIDAndTaskIDs.size());
-                totalCredits += taskCredit;
-                // members only get credits if the task is "DONE"
-                if (assignedTask.getTaskState() == TaskState.DONE) {
-                    doneCredits += taskCredit;
-                }
-            }
+            double doneCredits = this.creditLedger.getCompletedCredits(member.getMemberID());
             int scale = 20;
-            int percentDone = (int)((doneCredits / totalCredits) * scale);
-            String progress = "";
+            int percentDone = (int) (this.creditLedger.getCompletedFraction(member.getMemberID()) * scale);
+            StringBuilder progress = new StringBuilder();
             for (int i = 0; i < percentDone; i++) {
-                progress += "#";
+                progress.append("#");
             }
             for (int i = percentDone; i < scale; i++) {
-                progress += ".";
+                progress.append(".");
             }
             allMemberCredits.add(count + ". " + member.getName() + ": "
                     + String.format("%.1f", doneCredits) + " credits");
@@ -216,62 +276,130 @@ public class Project implements IProject {
 
     //@@author sinteary
     /**
-     * This method assigns a task to a member by mapping the task's unique ID to the assigned member's
-     * unique ID. This association is stored in the 2 HashMaps: taskAndListOfMembersAssigned and
-     * memberAndIndividualListOfTasks.
+     * This method assigns a task to a member by marking the task's unique ID and the assigned member's
+     * unique ID as assigned in the assignment matrix of the project.
      * @param task the task which you wish to assign to the member.
      * @param member the member you wish to assign the task to.
      */
     @Override
     public void createAssignment(Task task, Member member) {
-        taskAndListOfMembersAssigned.get(task.getTaskID()).add(member.getMemberID());
-        memberAndIndividualListOfTasks.get(member.getMemberID()).add(task.getTaskID());
+        changeTaskAssignments(task.getTaskID(), () -> assignments.assign(task.getTaskID(), member.getMemberID()));
+        this.modificationCount++;
+        recordChange(ProjectChange.assignTask(task.getTaskID(), member.getMemberID()));
     }
 
     /**
-     * Removes the assignment between a task and member by removing the mapping between the task's unique
-     * ID and the member's unique ID. The association is removed from the 2 HashMaps:
-     * taskAndListOfMembersAssigned and memberAndIndividualListOfTasks.
+     * Removes the assignment between a task and member from the assignment matrix of the project.
      * @param member the member to unassign the task from.
      * @param task the task to be unassigned.
      */
     @Override
     public void removeAssignment(Member member, Task task) {
-        taskAndListOfMembersAssigned.get(task.getTaskID()).remove(member.getMemberID());
-        memberAndIndividualListOfTasks.get(member.getMemberID()).remove(task.getTaskID());
+        changeTaskAssignments(task.getTaskID(), () -> assignments.unassign(task.getTaskID(), member.getMemberID()));
+        this.modificationCount++;
+        recordChange(ProjectChange.unassignTask(task.getTaskID(), member.getMemberID()));
     }
 
     /**
-     * Checks if assignment exists between a member and task by ensuring that the association exists
-     * in the 2 HashMaps: taskAndListOfMembersAssigned and memberAndIndividualListOfTasks.
+     * Checks if assignment exists between a member and task.
      * @param task The task in question.
      * @param member The member in question.
      * @return true task has already been assigned to a member.
      */
     @Override
     public boolean containsAssignment(Task task, Member member) {
-        return memberAndIndividualListOfTasks.get(member.getMemberID()).contains(task.getTaskID())
-            && taskAndListOfMembersAssigned.get(task.getTaskID()).contains(member.getMemberID());
+        return assignments.contains(task.getTaskID(), member.getMemberID());
     }
 
     /**
      * Returns a hashmap with information about each member's task assignment.
+     * The hashmap is a copy built from the assignment matrix, so changing it does not change the project.
      * @return hashmap with member as key and accompanying task list.
      */
     @Override
     public HashMap<String, ArrayList<String>> getMembersIndividualTaskList() {
-        return this.memberAndIndividualListOfTasks;
+        return assignments.getTaskIDsOfAllMembers();
     }
 
     /**
      * Returns a hashmap with information about each task's assignment to members.
+     * The hashmap is a copy built from the assignment matrix, so changing it does not change the project.
      * @return hashmap with task as key and accompanying list of assigned members.
      */
     @Override
     public HashMap<String, ArrayList<String>> getTasksAndAssignedMembers() {
-        return this.taskAndListOfMembersAssigned;
+        return assignments.getMemberIDsOfAllTasks();
+    }
+    //@@author
+
+    //@@author Lucria
+    /**
+     * Returns the IDs of the members assigned to a task, without building the assignments of the other tasks.
+     * @param taskID The task ID associated with a task.
+     * @return The IDs of the assigned members, in the order of their ordinals in the assignment matrix. The ordinal of
+     *         a removed member is reused, so this is not always the order the members were added to the project.
+     */
+    @Override
+    public ArrayList<String> getAssignedMemberIDs(String taskID) {
+        return assignments.getMemberIDs(taskID);
+    }
+
+    /**
+     * Returns the IDs of the tasks assigned to a member, without building the assignments of the other members.
+     * @param memberID The member ID associated with a member.
+     * @return The IDs of the assigned tasks, in the order of their ordinals in the assignment matrix. The ordinal of
+     *         a removed task is reused, so this is not always the order the tasks were added to the project.
+     */
+    @Override
+    public ArrayList<String> getAssignedTaskIDs(String memberID) {
+        return assignments.getTaskIDs(memberID);
+    }
+
+    /**
+     * Restores the assignments of a project loaded from its save file, which stores them in the shape returned by
+     * getTasksAndAssignedMembers and getMembersIndividualTaskList. An assignment found in either map is restored, and
+     * IDs of tasks or members that are not in the project are skipped.
+     * @param tasksAndAssignedMembers The IDs of the members of each task, keyed by task ID.
+     * @param membersIndividualTaskList The IDs of the tasks of each member, keyed by member ID.
+     */
+    public void restoreAssignments(HashMap<String, ArrayList<String>> tasksAndAssignedMembers,
+                                   HashMap<String, ArrayList<String>> membersIndividualTaskList) {
+        for (Map.Entry<String, ArrayList<String>> taskAssignments : tasksAndAssignedMembers.entrySet()) {
+            for (String memberID : taskAssignments.getValue()) {
+                assignments.assign(taskAssignments.getKey(), memberID);
+            }
+        }
+        for (Map.Entry<String, ArrayList<String>> memberAssignments : membersIndividualTaskList.entrySet()) {
+            for (String taskID : memberAssignments.getValue()) {
+                assignments.assign(taskID, memberAssignments.getKey());
+            }
+        }
+        creditLedger.clear();
+        for (Task task : getTasksByID().values()) {
+            creditLedger.addTaskShares(task, assignments.getMemberIDs(task.getTaskID()));
+        }
+    }
+
+    /**
+     * Changes the members assigned to a task, and moves the credit of the task in the credit ledger from the members
+     * assigned before the change to the members assigned after it.
+     * @param taskID The task ID associated with a task.
+     * @param change The change to the assignments of the task.
+     */
+    private void changeTaskAssignments(String taskID, Runnable change) {
+        Task task = getTasksByID().get(taskID);
+        if (task == null) {
+            change.run();
+            return;
+        }
+        creditLedger.removeTaskShares(task, assignments.getMemberIDs(taskID));
+        change.run();
+        creditLedger.addTaskShares(task, assignments.getMemberIDs(taskID));
     }
 
+    //@@author
+
+    //@@author sinteary
     /**
      * Returns a member object based on the unique member ID.
      * @param memberID The member ID associated with a member.
@@ -279,12 +407,11 @@ public class Project implements IProject {
      */
     @Override
     public IMember getMemberFromID(String memberID) {
-        for (Member member : this.memberList.getMemberList()) {
-            if (memberID.equals(member.getMemberID())) {
-                return member;
-            }
+        Member member = this.memberList.getMemberFromID(memberID);
+        if (member == null) {
+            return new NullMember("Unable to find this member.");
         }
-        return new NullMember("Unable to find this member.");
+        return member;
     }
 
     /**
@@ -294,12 +421,28 @@ public class Project implements IProject {
      */
     @Override
     public ITask getTaskFromID(String taskID) {
-        for (Task task : this.taskList.getTaskList()) {
-            if (taskID.equals(task.getTaskID())) {
-                return task;
+        Task task = getTasksByID().get(taskID);
+        if (task == null) {
+            return new NullTask();
+        }
+        return task;
+    }
+    //@@author
+
+    //@@author Lucria
+    /**
+     * Returns the index from task ID to task, which is kept up to date by addTask and removeTask.
+     * A project built without its constructor, such as by a deserialiser, has no index yet, so it is rebuilt from
+     * the task list on first use.
+     */
+    private HashMap<String, Task> getTasksByID() {
+        if (this.tasksByID == null) {
+            this.tasksByID = new HashMap<>();
+            for (Task task : this.taskList.getTaskList()) {
+                this.tasksByID.putIfAbsent(task.getTaskID(), task);
             }
         }
-        return new NullTask();
+        return this.tasksByID;
     }
     //@@author
 
@@ -336,7 +479,7 @@ public class Project implements IProject {
 
     @Override
     public void removeReminder(int index) {
-        reminderList.getReminderList().remove(index - 1);
+        reminderList.removeReminder(index);
     }
 
     @Override
@@ -344,6 +487,19 @@ public class Project implements IProject {
         return reminderList.getReminderList().size();
     }
 
+    //@@author Lucria
+    /**
+     * Get the reminders that are due from one day to another, including both days.
+     * @param firstDay the first day of the range.
+     * @param lastDay the last day of the range.
+     * @return the reminders due within the range, from the earliest day to the latest.
+     */
+    @Override
+    public ArrayList<Reminder> getRemindersDueBetween(LocalDate firstDay, LocalDate lastDay) {
+        return reminderList.getRemindersDueBetween(firstDay, lastDay);
+    }
+    //@@author
+
     @Override
     public HashMap<String,ArrayList<Reminder>> getCategoryReminderList() {
 
@@ -361,4 +517,141 @@ public class Project implements IProject {
 
         return reminderCategoryList;
     }
+
+    //@@author Lucria
+    /**
+     * Starts recording the changes made to the project, its tasks, members and reminders, so that they can be taken
+     * by takeChanges and saved without saving the whole project.
+     */
+    public void startRecordingChanges() {
+        if (this.changeLog == null) {
+            this.changeLog = new ProjectChangeLog();
+            this.taskList.setChangeLog(this.changeLog);
+            this.memberList.setChangeLog(this.changeLog);
+            this.reminderList.setChangeLog(this.changeLog);
+        }
+    }
+
+    /**
+     * Returns the changes made since they were last taken, in the order they were made.
+     * @return The changes, which are none if the project is not recording its changes.
+     */
+    public List<ProjectChange> takeChanges() {
+        if (this.changeLog == null) {
+            return Collections.emptyList();
+        }
+        return this.changeLog.takeChanges();
+    }
+
+    private void recordChange(ProjectChange change) {
+        if (this.changeLog != null) {
+            this.changeLog.record(change);
+        }
+    }
+
+    /**
+     * Applies saved changes to the project, in order, such as the changes journaled since the project was last saved
+     * in full. The tasks and members named by a change are found by their IDs, and a change to a task or member the
+     * project does not have, other than a put, is skipped.
+     * @param changes The changes to be applied.
+     */
+    public void applyChanges(List<ProjectChange> changes) {
+        for (ProjectChange change : changes) {
+            applyChange(change);
+        }
+    }
+
+    private void applyChange(ProjectChange change) {
+        Task task = change.getTaskID() == null ? null : getTasksByID().get(change.getTaskID());
+        Member member = change.getMemberID() == null ? null : this.memberList.getMemberFromID(change.getMemberID());
+        int reminderIndex = change.getReminderIndex();
+        boolean hasReminder = reminderIndex >= 1 && reminderIndex <= getReminderListSize();
+        switch (change.getKind()) {
+        case RENAME_PROJECT:
+            setName(change.getProjectName());
+            break;
+        case PUT_TASK:
+            if (task == null) {
+                addTask(change.getTask());
+            } else {
+                putTaskDetails(task, change.getTask());
+            }
+            break;
+        case REMOVE_TASK:
+            if (task != null) {
+                removeTask(this.taskList.getIndexNumber(task));
+            }
+            break;
+        case PUT_MEMBER:
+            if (member == null) {
+                addMember(change.getMember());
+            } else {
+                Member savedMember = change.getMember();
+                member.updateDetails(savedMember.getName(), savedMember.getPhone(), savedMember.getEmail());
+                member.setRole(savedMember.getRole());
+            }
+            break;
+        case REMOVE_MEMBER:
+            if (member != null) {
+                removeMember(member);
+            }
+            break;
+        case ASSIGN_TASK:
+            if (task != null && member != null) {
+                createAssignment(task, member);
+            }
+            break;
+        case UNASSIGN_TASK:
+            if (task != null && member != null) {
+                removeAssignment(member, task);
+            }
+            break;
+        case ADD_REMINDER:
+            addReminderToList(change.getReminder());
+            break;
+        case PUT_REMINDER:
+            if (hasReminder) {
+                Reminder reminder = getReminder(reminderIndex);
+                Reminder savedReminder = change.getReminder();
+                reminder.setReminderName(savedReminder.getReminderName());
+                reminder.setReminderRemarks(savedReminder.getReminderRemarks());
+                reminder.setReminderDate(savedReminder.getReminderDate());
+                reminder.setIsDone(savedReminder.getIsDone());
+                reminder.setCategory(savedReminder.getCategory());
+            }
+            break;
+        case REMOVE_REMINDER:
+            if (hasReminder) {
+                removeReminder(reminderIndex);
+            }
+            break;
+        default:
+            throw new IllegalStateException("Unknown kind of project change: " + change.getKind());
+        }
+    }
+
+    private void putTaskDetails(Task task, Task savedTask) {
+        task.setTaskName(savedTask.getTaskName());
+        task.setTaskPriority(savedTask.getTaskPriority());
+        task.setDueDate(savedTask.getDueDate());
+        task.setTaskCredit(savedTask.getTaskCredit());
+        task.setTaskState(savedTask.getTaskState().name().toLowerCase());
+        task.setTaskRequirements(savedTask.getUnlabelledTaskRequirements());
+    }
+
+    /**
+     * Keeps the credit ledger up to date when the credit or state of a task changes, by taking back the shares of
+     * the task given out with its old details and giving them out again with its new details.
+     */
+    private class TaskCreditListener implements ITaskChangeListener {
+        @Override
+        public void beforeTaskChange(Task task) {
+            creditLedger.removeTaskShares(task, assignments.getMemberIDs(task.getTaskID()));
+        }
+
+        @Override
+        public void afterTaskChange(Task task) {
+            creditLedger.addTaskShares(task, assignments.getMemberIDs(task.getTaskID()));
+        }
+    }
 }
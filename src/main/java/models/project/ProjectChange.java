@@ -0,0 +1,135 @@
+package models.project;
+
+import models.member.Member;
+import models.reminder.Reminder;
+import models.task.Task;
+
+//@@author Lucria
+/**
+ * One change made to a Project, such as a task being added or edited or a task being assigned to a member.
+ * A change names the tasks and members it touches by their IDs and carries the details they were left with, so it
+ * can be applied to the Project again without running the command that made it. Reminders have no IDs, so they are
+ * named by their index numbers, which are the same when the changes are applied again in order.
+ * The task, member or reminder of a change is the one in the Project, so its details are read when the change is
+ * written, after every change of the command has been made.
+ */
+public final class ProjectChange {
+    /**
+     * Kinds of changes. A put adds the task or member if the Project has none with its ID, and otherwise sets the
+     * details of the one it has.
+     */
+    public enum Kind {
+        RENAME_PROJECT, PUT_TASK, REMOVE_TASK, PUT_MEMBER, REMOVE_MEMBER, ASSIGN_TASK, UNASSIGN_TASK, ADD_REMINDER,
+        PUT_REMINDER, REMOVE_REMINDER
+    }
+
+    private final Kind kind;
+    private final String projectName;
+    private final String taskID;
+    private final String memberID;
+    private final Task task;
+    private final Member member;
+    private final Reminder reminder;
+    private final int reminderIndex;
+
+    private ProjectChange(Kind kind, String projectName, String taskID, String memberID, Task task, Member member,
+                          Reminder reminder, int reminderIndex) {
+        this.kind = kind;
+        this.projectName = projectName;
+        this.taskID = taskID;
+        this.memberID = memberID;
+        this.task = task;
+        this.member = member;
+        this.reminder = reminder;
+        this.reminderIndex = reminderIndex;
+    }
+
+    public static ProjectChange renameProject(String projectName) {
+        return new ProjectChange(Kind.RENAME_PROJECT, projectName, null, null, null, null, null, 0);
+    }
+
+    public static ProjectChange putTask(Task task) {
+        return new ProjectChange(Kind.PUT_TASK, null, task.getTaskID(), null, task, null, null, 0);
+    }
+
+    public static ProjectChange removeTask(String taskID) {
+        return new ProjectChange(Kind.REMOVE_TASK, null, taskID, null, null, null, null, 0);
+    }
+
+    public static ProjectChange putMember(Member member) {
+        return new ProjectChange(Kind.PUT_MEMBER, null, null, member.getMemberID(), null, member, null, 0);
+    }
+
+    public static ProjectChange removeMember(String memberID) {
+        return new ProjectChange(Kind.REMOVE_MEMBER, null, null, memberID, null, null, null, 0);
+    }
+
+    public static ProjectChange assignTask(String taskID, String memberID) {
+        return new ProjectChange(Kind.ASSIGN_TASK, null, taskID, memberID, null, null, null, 0);
+    }
+
+    public static ProjectChange unassignTask(String taskID, String memberID) {
+        return new ProjectChange(Kind.UNASSIGN_TASK, null, taskID, memberID, null, null, null, 0);
+    }
+
+    public static ProjectChange addReminder(Reminder reminder) {
+        return new ProjectChange(Kind.ADD_REMINDER, null, null, null, null, null, reminder, 0);
+    }
+
+    /**
+     * Creates the change of the details of a reminder.
+     * @param reminderIndex : 1 based index number of the reminder when it was changed.
+     * @param reminder : Reminder that was changed.
+     */
+    public static ProjectChange putReminder(int reminderIndex, Reminder reminder) {
+        return new ProjectChange(Kind.PUT_REMINDER, null, null, null, null, null, reminder, reminderIndex);
+    }
+
+    public static ProjectChange removeReminder(int reminderIndex) {
+        return new ProjectChange(Kind.REMOVE_REMINDER, null, null, null, null, null, null, reminderIndex);
+    }
+
+    public Kind getKind() {
+        return this.kind;
+    }
+
+    public String getProjectName() {
+        return this.projectName;
+    }
+
+    public String getTaskID() {
+        return this.taskID;
+    }
+
+    public String getMemberID() {
+        return this.memberID;
+    }
+
+    public Task getTask() {
+        return this.task;
+    }
+
+    public Member getMember() {
+        return this.member;
+    }
+
+    public Reminder getReminder() {
+        return this.reminder;
+    }
+
+    public int getReminderIndex() {
+        return this.reminderIndex;
+    }
+
+    /**
+     * Checks if this change puts the same details as another, so that only one of them needs to be kept. The details
+     * of a put are read when it is written, so a task, member or reminder changed by several setters in a row is
+     * written once.
+     * @param other : Change made before this one.
+     */
+    boolean isSamePutAs(ProjectChange other) {
+        return this.kind == other.kind && this.reminderIndex == other.reminderIndex
+                && (this.kind == Kind.PUT_TASK || this.kind == Kind.PUT_MEMBER || this.kind == Kind.PUT_REMINDER)
+                && this.task == other.task && this.member == other.member && this.reminder == other.reminder;
+    }
+}
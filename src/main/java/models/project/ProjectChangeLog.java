@@ -0,0 +1,33 @@
+package models.project;
+
+import java.util.ArrayList;
+
+//@@author Lucria
+/**
+ * The changes made to a Project since they were last taken, in the order they were made.
+ * The lists of a Project record the changes to their tasks, members and reminders here once the Project starts
+ * recording its changes, so the changes of a command can be saved without saving the whole Project.
+ */
+public class ProjectChangeLog {
+    private ArrayList<ProjectChange> changes = new ArrayList<>();
+
+    /**
+     * Records a change. A put of the same details as the change just before it is left out.
+     * @param change : Change made to the Project.
+     */
+    public void record(ProjectChange change) {
+        if (!changes.isEmpty() && change.isSamePutAs(changes.get(changes.size() - 1))) {
+            return;
+        }
+        changes.add(change);
+    }
+
+    /**
+     * Returns the changes recorded so far and starts recording from scratch.
+     */
+    public ArrayList<ProjectChange> takeChanges() {
+        ArrayList<ProjectChange> takenChanges = changes;
+        changes = new ArrayList<>();
+        return takenChanges;
+    }
+}
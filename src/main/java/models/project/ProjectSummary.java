@@ -0,0 +1,136 @@
+package models.project;
+
+import models.task.Task;
+import models.task.TaskState;
+import util.date.CalendarIndex;
+import util.date.DateTimeHelper;
+
+import java.util.ArrayList;
+import java.util.Date;
+
+//@@author Lucria
+public class ProjectSummary {
+    private String projectID;
+    private String name;
+    private ArrayList<String> memberDetails;
+    private int numOfTasks;
+    private String nextDeadlineTaskName;
+    private long nextDeadlineDay;
+    private int nextDeadlinePriority;
+    private int nextDeadlineCredit;
+    private TaskState nextDeadlineState;
+    private String[] overallProgressDetails;
+
+    /**
+     * Class representing the details of a Project that are shown when listing all projects.
+     * It is small enough to be kept for every Project without loading the Project itself.
+     * @param project : Project to be summarised.
+     */
+    public ProjectSummary(Project project) {
+        this.projectID = project.getProjectID();
+        this.name = project.getName();
+        this.memberDetails = project.getMemberList().getAllMemberDetails();
+        this.numOfTasks = project.getNumOfTasks();
+        Task nextDeadlineTask = project.getTaskList().getNextDeadlineTask();
+        if (nextDeadlineTask != null) {
+            this.nextDeadlineTaskName = nextDeadlineTask.getTaskName();
+            this.nextDeadlineDay = CalendarIndex.toEpochDay(nextDeadlineTask.getDueDate());
+            this.nextDeadlinePriority = nextDeadlineTask.getTaskPriority();
+            this.nextDeadlineCredit = nextDeadlineTask.getTaskCredit();
+            this.nextDeadlineState = nextDeadlineTask.getTaskState();
+        }
+        if (this.numOfTasks == 0) {
+            this.overallProgressDetails = new String[0];
+        } else {
+            this.overallProgressDetails = project.getTaskList().getOverallProgress();
+        }
+    }
+
+    /**
+     * Constructor of ProjectSummary for a summary read back from the manifest.
+     * @param projectID : ID of the Project.
+     * @param name : Name of the Project.
+     * @param memberDetails : Details of each member of the Project.
+     * @param numOfTasks : Number of tasks in the Project.
+     * @param nextDeadlineTaskName : Name of the task with the closest deadline, or null if no deadline is left.
+     * @param nextDeadlineDay : Epoch day the task with the closest deadline is due.
+     * @param nextDeadlinePriority : Priority of the task with the closest deadline.
+     * @param nextDeadlineCredit : Credit of the task with the closest deadline.
+     * @param nextDeadlineState : State of the task with the closest deadline.
+     * @param overallProgressDetails : Overall progress of the tasks of the Project.
+     */
+    public ProjectSummary(String projectID, String name, ArrayList<String> memberDetails, int numOfTasks,
+                          String nextDeadlineTaskName, long nextDeadlineDay, int nextDeadlinePriority,
+                          int nextDeadlineCredit, TaskState nextDeadlineState, String[] overallProgressDetails) {
+        this.projectID = projectID;
+        this.name = name;
+        this.memberDetails = memberDetails;
+        this.numOfTasks = numOfTasks;
+        this.nextDeadlineTaskName = nextDeadlineTaskName;
+        this.nextDeadlineDay = nextDeadlineDay;
+        this.nextDeadlinePriority = nextDeadlinePriority;
+        this.nextDeadlineCredit = nextDeadlineCredit;
+        this.nextDeadlineState = nextDeadlineState;
+        this.overallProgressDetails = overallProgressDetails;
+    }
+
+    public String getProjectID() {
+        return this.projectID;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public ArrayList<String> getMemberDetails() {
+        return this.memberDetails;
+    }
+
+    public int getNumOfMembers() {
+        return this.memberDetails.size();
+    }
+
+    public int getNumOfTasks() {
+        return this.numOfTasks;
+    }
+
+    public String getNextDeadlineTaskName() {
+        return this.nextDeadlineTaskName;
+    }
+
+    public long getNextDeadlineDay() {
+        return this.nextDeadlineDay;
+    }
+
+    public int getNextDeadlinePriority() {
+        return this.nextDeadlinePriority;
+    }
+
+    public int getNextDeadlineCredit() {
+        return this.nextDeadlineCredit;
+    }
+
+    public TaskState getNextDeadlineState() {
+        return this.nextDeadlineState;
+    }
+
+    /**
+     * Returns the details of the task with the closest deadline in the form of TaskList.getClosestDeadlineTask.
+     * The days remaining until the deadline are worked out when this is called, so they are never out of date.
+     * @return : Returns the name of the task followed by its other details, or a message if no deadline is left.
+     */
+    public String[] getNextDeadlineDetails() {
+        if (this.nextDeadlineTaskName == null) {
+            return new String[] {"", "No deadlines left -"};
+        }
+        DateTimeHelper dateTimeHelper = new DateTimeHelper();
+        Date dueDate = CalendarIndex.toDate(this.nextDeadlineDay);
+        return new String[] {this.nextDeadlineTaskName, "Priority: " + this.nextDeadlinePriority,
+            "Due: " + dateTimeHelper.formatDateForDisplay(dueDate) + dateTimeHelper.getDifferenceDays(dueDate),
+            "Credit: " + this.nextDeadlineCredit, "State: " + this.nextDeadlineState};
+    }
+
+    public String[] getOverallProgressDetails() {
+        return this.overallProgressDetails;
+    }
+}
@@ -8,6 +8,7 @@ public class Reminder implements IReminder {
     private Date reminderDate;
     private Boolean isDone;
     private String category;
+    private transient ReminderList reminderList;
 
     /**
      * Class representing a reminder in the project.
@@ -26,26 +27,35 @@ public class Reminder implements IReminder {
     @Override
     public void setReminderName(String reminderName) {
         this.reminderName = reminderName;
+        markModified();
     }
 
     @Override
     public void setReminderRemarks(String reminderRemarks) {
         this.reminderRemarks = reminderRemarks;
+        markModified();
     }
 
     @Override
     public void setReminderDate(Date reminderDate) {
+        final Date oldReminderDate = this.reminderDate;
         this.reminderDate = reminderDate;
+        if (this.reminderList != null) {
+            this.reminderList.changeReminderDate(this, oldReminderDate);
+        }
+        markModified();
     }
 
     @Override
     public void setIsDone(Boolean isDone) {
         this.isDone =  isDone;
+        markModified();
     }
 
     @Override
     public void setCategory(String category) {
         this.category = category;
+        markModified();
     }
 
     @Override
@@ -77,4 +87,18 @@ public class Reminder implements IReminder {
     public String getCategory() {
         return this.category;
     }
+
+    /**
+     * Links this reminder to the ReminderList holding it, so that changes to the reminder are tracked by the list.
+     * @param reminderList ReminderList holding this reminder, or null once the reminder is removed from it.
+     */
+    void setReminderList(ReminderList reminderList) {
+        this.reminderList = reminderList;
+    }
+
+    private void markModified() {
+        if (this.reminderList != null) {
+            this.reminderList.markReminderModified(this);
+        }
+    }
 }
@@ -1,11 +1,20 @@
 package models.reminder;
 
+import models.project.ProjectChange;
+import models.project.ProjectChangeLog;
+import util.date.CalendarIndex;
+
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Date;
 
 public class ReminderList {
 
     //private String reminderListName;
     private ArrayList<Reminder> reminderList;
+    private transient int modificationCount;
+    private transient CalendarIndex<Reminder> remindersByDay;
+    private transient ProjectChangeLog changeLog;
 
     /**
      * Class representing a list with all reminders.
@@ -13,6 +22,7 @@ public class ReminderList {
     public ReminderList() {
         //this.reminderListName= reminderListName;
         this.reminderList = new ArrayList<>();
+        this.remindersByDay = new CalendarIndex<>();
     }
 
     /*public String getReminderListName() {
@@ -29,6 +39,22 @@ public class ReminderList {
      */
     public void addReminderList(Reminder reminder) {
         this.reminderList.add(reminder);
+        reminder.setReminderList(this);
+        this.remindersByDay.add(reminder.getReminderDate(), reminder);
+        recordChange(ProjectChange.addReminder(reminder));
+        markModified();
+    }
+
+    /**
+     * Removes a reminder from the list of this project.
+     * @param index The 1 based index of the reminder to be removed.
+     */
+    public void removeReminder(int index) {
+        Reminder removedReminder = this.reminderList.remove(index - 1);
+        removedReminder.setReminderList(null);
+        this.remindersByDay.remove(removedReminder.getReminderDate(), removedReminder);
+        recordChange(ProjectChange.removeReminder(index));
+        markModified();
     }
 
     public ArrayList<Reminder> getReminderList() {
@@ -39,4 +65,73 @@ public class ReminderList {
         return reminderList.get(index - 1);
     }
 
+    //@@author Lucria
+    /**
+     * Returns the reminders due from one day to another, including both days, from the earliest day to the latest.
+     * @param firstDay First day of the range.
+     * @param lastDay Last day of the range.
+     * @return The reminders due within the range.
+     */
+    public ArrayList<Reminder> getRemindersDueBetween(LocalDate firstDay, LocalDate lastDay) {
+        return this.remindersByDay.getItemsBetween(firstDay, lastDay);
+    }
+
+    /**
+     * Moves a reminder whose date changed to its new day in the calendar index.
+     * @param reminder The reminder whose date changed.
+     * @param oldReminderDate The date of the reminder before it changed.
+     */
+    void changeReminderDate(Reminder reminder, Date oldReminderDate) {
+        this.remindersByDay.remove(oldReminderDate, reminder);
+        this.remindersByDay.add(reminder.getReminderDate(), reminder);
+    }
+    //@@author
+
+    /**
+     * Returns the number of changes made to this list and its reminders so far.
+     * Used to tell whether the list has changed since it was last saved.
+     * @return The modification count of this list.
+     */
+    public int getModificationCount() {
+        return this.modificationCount;
+    }
+
+    /**
+     * Records that this list or one of its reminders has changed.
+     */
+    void markModified() {
+        this.modificationCount++;
+    }
+
+    //@@author Lucria
+    /**
+     * Records that a reminder in this list has changed.
+     * @param reminder The reminder that changed.
+     */
+    void markReminderModified(Reminder reminder) {
+        if (this.changeLog != null) {
+            int reminderIndex = 1;
+            while (this.reminderList.get(reminderIndex - 1) != reminder) {
+                reminderIndex++;
+            }
+            this.changeLog.record(ProjectChange.putReminder(reminderIndex, reminder));
+        }
+        markModified();
+    }
+
+    /**
+     * Sets the log that the reminders added to, changed in or removed from this list are recorded in.
+     * @param changeLog The log of the project holding this list, or null to stop recording changes.
+     */
+    public void setChangeLog(ProjectChangeLog changeLog) {
+        this.changeLog = changeLog;
+    }
+
+    private void recordChange(ProjectChange change) {
+        if (this.changeLog != null) {
+            this.changeLog.record(change);
+        }
+    }
+    //@@author
+
 }
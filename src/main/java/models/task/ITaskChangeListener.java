@@ -0,0 +1,12 @@
+package models.task;
+
+//@@author Lucria
+/**
+ * Listener told by a TaskList before and after a detail of one of its tasks changes through the setters of the task,
+ * so that anything derived from the task can be kept up to date.
+ */
+public interface ITaskChangeListener {
+    void beforeTaskChange(Task task);
+
+    void afterTaskChange(Task task);
+}
@@ -16,6 +16,8 @@ public class Task implements ITask {
     private ArrayList<String> taskRequirements;
     private DateTimeHelper dateTimeHelper;
     private String taskID;
+    private transient TaskList taskList;
+    private transient long indexSequence;
 
     @Override
     public boolean equals(Object obj) {
@@ -56,6 +58,24 @@ public class Task implements ITask {
         this.taskID = UUID.randomUUID().toString();
     }
 
+    /**
+     * Class representing a task that has been saved before, which keeps the unique ID it was saved with.
+     * @param taskID The unique ID of the task. A new ID is generated if it is null.
+     * @param taskName The name of the task.
+     * @param taskPriority The priority value of the task.
+     * @param dueDate The date that the task is due. [Optional]
+     * @param taskCredit The amount of credit a person would receive for completing the task.
+     * @param taskState taskState refers to whether the task is in OPEN, TO-DO, DOING, DONE.
+     * @param taskRequirements ArrayList of Strings containing specific requirements of a task. [Optional]
+     */
+    public Task(String taskID, String taskName, int taskPriority, Date dueDate, int taskCredit, TaskState taskState,
+                ArrayList<String> taskRequirements) {
+        this(taskName, taskPriority, dueDate, taskCredit, taskState, taskRequirements);
+        if (taskID != null) {
+            this.taskID = taskID;
+        }
+    }
+
     public String getTaskName() {
         return taskName;
     }
@@ -127,16 +147,25 @@ public class Task implements ITask {
         return taskRequirements;
     }
 
+    /**
+     * Returns the task requirements as they were entered, without the labels added by getTaskRequirements.
+     * @return ArrayList of String of task requirements, which may be null if the task was created without any.
+     */
+    public ArrayList<String> getUnlabelledTaskRequirements() {
+        return this.taskRequirements;
+    }
+
     public int getNumOfTaskRequirements() {
         return this.taskRequirements.size();
     }
 
     public void setTaskName(String newTaskName) {
         this.taskName = newTaskName;
+        markModified();
     }
 
     public void setTaskPriority(int newTaskPriority) {
-        this.taskPriority = newTaskPriority;
+        changeIndexedDetail(() -> this.taskPriority = newTaskPriority);
     }
 
     /**
@@ -144,7 +173,7 @@ public class Task implements ITask {
      * @param newDueDate Date object of the new dueDate to be set.
      */
     public void setDueDate(Date newDueDate) {
-        this.dueDate = newDueDate;
+        changeIndexedDetail(() -> this.dueDate = newDueDate);
     }
 
     /**
@@ -152,7 +181,7 @@ public class Task implements ITask {
      * @param newTaskCredit new task credit to be set.
      */
     public void setTaskCredit(int newTaskCredit) {
-        this.taskCredit = newTaskCredit;
+        changeIndexedDetail(() -> this.taskCredit = newTaskCredit);
     }
 
     /**
@@ -160,31 +189,87 @@ public class Task implements ITask {
      * @param newTaskStateString String form of new task state.
      */
     public void setTaskState(String newTaskStateString) {
+        TaskState newTaskState;
         switch (newTaskStateString) {
         case "done":
-            this.taskState = TaskState.DONE;
+            newTaskState = TaskState.DONE;
             break;
         case "todo":
-            this.taskState = TaskState.TODO;
+            newTaskState = TaskState.TODO;
             break;
         case "doing":
-            this.taskState = TaskState.DOING;
+            newTaskState = TaskState.DOING;
             break;
         default:
-            this.taskState = TaskState.OPEN;
+            newTaskState = TaskState.OPEN;
             break;
         }
+        changeIndexedDetail(() -> this.taskState = newTaskState);
     }
 
     public void removeTaskRequirement(int indexOfTaskRequirement) {
         this.taskRequirements.remove(indexOfTaskRequirement - 1);
+        markModified();
     }
 
     public void addTaskRequirement(String newTaskRequirement) {
         this.taskRequirements.add(newTaskRequirement);
+        markModified();
+    }
+
+    //@@author Lucria
+    /**
+     * Replaces all task requirements, such as when a saved change to the task is applied again.
+     * @param newTaskRequirements ArrayList of Strings of the new task requirements, which may be null.
+     */
+    public void setTaskRequirements(ArrayList<String> newTaskRequirements) {
+        this.taskRequirements = newTaskRequirements == null ? null : new ArrayList<>(newTaskRequirements);
+        markModified();
     }
+    //@@author
 
     public String getTaskID() {
         return this.taskID;
     }
+
+    /**
+     * Links this task to the TaskList holding it, so that changes made through the setters are tracked by the list.
+     * @param taskList TaskList holding this task, or null once the task is removed from it.
+     */
+    void setTaskList(TaskList taskList) {
+        this.taskList = taskList;
+    }
+
+    //@@author Lucria
+    /**
+     * Returns the position of this task in the order tasks were added to its TaskList, which orders tasks with the
+     * same indexed details.
+     */
+    long getIndexSequence() {
+        return this.indexSequence;
+    }
+
+    void setIndexSequence(long indexSequence) {
+        this.indexSequence = indexSequence;
+    }
+
+    /**
+     * Changes a detail of this task that the TaskList holding it is indexed by, such as its due date, so that the
+     * TaskList can move the task within its indexes.
+     * @param change Change to the detail of the task.
+     */
+    private void changeIndexedDetail(Runnable change) {
+        if (this.taskList != null) {
+            this.taskList.changeIndexedTask(this, change);
+        } else {
+            change.run();
+        }
+    }
+    //@@author
+
+    private void markModified() {
+        if (this.taskList != null) {
+            this.taskList.markTaskModified(this);
+        }
+    }
 }
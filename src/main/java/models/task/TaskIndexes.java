@@ -0,0 +1,196 @@
+package models.task;
+
+import util.date.CalendarIndex;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+//@@author Lucria
+/**
+ * Ordered indexes over the tasks of a TaskList, by due date, priority, credit and state, and of the tasks that are not
+ * done yet by due date. The tasks are also indexed by the day they are due, for calendar views over a month or week.
+ * TaskList keeps the indexes up to date as tasks are added and removed, and as the indexed details of a task change,
+ * so a sorted or filtered view of the tasks only reads the tasks it lists instead of sorting every task.
+ * Tasks with the same indexed detail are kept in the order they were added to the TaskList.
+ * The credits of the tasks in each state are also kept as running totals, so the overall progress of the TaskList is
+ * known without visiting any task.
+ */
+class TaskIndexes {
+    private final TreeSet<Task> tasksByDueDate;
+    private final TreeSet<Task> pendingTasksByDueDate;
+    private final TreeSet<Task> tasksByPriority;
+    private final TreeSet<Task> tasksByCredit;
+    private final EnumMap<TaskState, TreeSet<Task>> tasksByState;
+    private final CalendarIndex<Task> tasksByDay;
+    private final long[] creditsByState;
+    private long totalCredits;
+
+    /**
+     * Constructor of TaskIndexes, which starts with no tasks.
+     */
+    TaskIndexes() {
+        Comparator<Task> byAddition = Comparator.comparingLong(Task::getIndexSequence);
+        Comparator<Task> byDueDate = Comparator.comparing(Task::getDueDate).thenComparing(byAddition);
+        this.tasksByDueDate = new TreeSet<>(byDueDate);
+        this.pendingTasksByDueDate = new TreeSet<>(byDueDate);
+        this.tasksByPriority = new TreeSet<>(Comparator.comparingInt(Task::getTaskPriority).thenComparing(byAddition));
+        this.tasksByCredit = new TreeSet<>(Comparator.comparingInt(Task::getTaskCredit).reversed()
+                .thenComparing(byAddition));
+        this.tasksByState = new EnumMap<>(TaskState.class);
+        for (TaskState taskState : TaskState.values()) {
+            this.tasksByState.put(taskState, new TreeSet<>(byAddition));
+        }
+        this.tasksByDay = new CalendarIndex<>();
+        this.creditsByState = new long[TaskState.values().length];
+    }
+
+    /**
+     * Adds a task to every index. Its indexed details must not change until it is removed again.
+     * @param task Task to be indexed.
+     */
+    void add(Task task) {
+        if (task.getDueDate() != null) {
+            tasksByDueDate.add(task);
+            if (task.getTaskState() != TaskState.DONE) {
+                pendingTasksByDueDate.add(task);
+            }
+            tasksByDay.add(task.getDueDate(), task);
+        }
+        tasksByPriority.add(task);
+        tasksByCredit.add(task);
+        if (task.getTaskState() != null) {
+            tasksByState.get(task.getTaskState()).add(task);
+        }
+        creditsByState[getProgressState(task).ordinal()] += task.getTaskCredit();
+        totalCredits += task.getTaskCredit();
+    }
+
+    /**
+     * Removes a task from every index, using the details it was indexed with.
+     * @param task Task to be removed.
+     */
+    void remove(Task task) {
+        if (task.getDueDate() != null) {
+            tasksByDueDate.remove(task);
+            pendingTasksByDueDate.remove(task);
+            tasksByDay.remove(task.getDueDate(), task);
+        }
+        tasksByPriority.remove(task);
+        tasksByCredit.remove(task);
+        if (task.getTaskState() != null) {
+            tasksByState.get(task.getTaskState()).remove(task);
+        }
+        creditsByState[getProgressState(task).ordinal()] -= task.getTaskCredit();
+        totalCredits -= task.getTaskCredit();
+    }
+
+    /**
+     * Returns the state a task counts towards in the overall progress. A task without a state counts as open.
+     */
+    static TaskState getProgressState(Task task) {
+        return task.getTaskState() == null ? TaskState.OPEN : task.getTaskState();
+    }
+
+    /**
+     * Returns the total credit of the tasks in a state, counting tasks without a state as open.
+     * @param taskState State of the tasks.
+     */
+    long getCredits(TaskState taskState) {
+        return creditsByState[taskState.ordinal()];
+    }
+
+    /**
+     * Returns the total credit of all tasks.
+     */
+    long getTotalCredits() {
+        return totalCredits;
+    }
+
+    /**
+     * Returns the tasks with a due date, from the earliest due date to the latest.
+     */
+    ArrayList<Task> getTasksByDueDate() {
+        return new ArrayList<>(tasksByDueDate);
+    }
+
+    /**
+     * Returns the task with the earliest due date among the tasks that are not done, without visiting the others.
+     * @return The task with the next deadline, or null if every task with a due date is done.
+     */
+    Task getNextDeadlineTask() {
+        return pendingTasksByDueDate.isEmpty() ? null : pendingTasksByDueDate.first();
+    }
+
+    /**
+     * Returns the tasks due from one day to another, including both days, from the earliest day to the latest.
+     * @param firstDay First day of the range.
+     * @param lastDay Last day of the range.
+     */
+    ArrayList<Task> getTasksDueBetween(LocalDate firstDay, LocalDate lastDay) {
+        return tasksByDay.getItemsBetween(firstDay, lastDay);
+    }
+
+    /**
+     * Returns the number of tasks due on each day of a month that has any.
+     * @param month Month of a particular year.
+     */
+    HashMap<Integer, Integer> getNumOfTasksPerDay(YearMonth month) {
+        return tasksByDay.getNumOfItemsPerDay(month);
+    }
+
+    /**
+     * Returns all tasks from the lowest priority value to the highest.
+     */
+    ArrayList<Task> getTasksByPriority() {
+        return new ArrayList<>(tasksByPriority);
+    }
+
+    /**
+     * Returns all tasks from the highest credit to the lowest.
+     */
+    ArrayList<Task> getTasksByCredit() {
+        return new ArrayList<>(tasksByCredit);
+    }
+
+    /**
+     * Returns the tasks in a state, in the order they were added.
+     * @param taskState State of the tasks.
+     */
+    ArrayList<Task> getTasksInState(TaskState taskState) {
+        return new ArrayList<>(tasksByState.get(taskState));
+    }
+
+    /**
+     * Returns a read-only view of the index for an order, so that part of the order can be read without copying the
+     * whole index.
+     * @param taskOrder Order of the tasks.
+     * @return The indexed tasks in the order, or null if the tasks are not indexed in that order.
+     */
+    NavigableSet<Task> getIndex(TaskOrder taskOrder) {
+        switch (taskOrder) {
+        case DUE_DATE:
+            return Collections.unmodifiableNavigableSet(tasksByDueDate);
+        case PRIORITY:
+            return Collections.unmodifiableNavigableSet(tasksByPriority);
+        case CREDIT:
+            return Collections.unmodifiableNavigableSet(tasksByCredit);
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Returns a read-only view of the index of the tasks in a state, in the order they were added.
+     * @param taskState State of the tasks.
+     */
+    NavigableSet<Task> getStateIndex(TaskState taskState) {
+        return Collections.unmodifiableNavigableSet(tasksByState.get(taskState));
+    }
+}
@@ -1,21 +1,39 @@
 package models.task;
 
 import models.project.Project;
+import models.project.ProjectChange;
+import models.project.ProjectChangeLog;
 import util.ParserHelper;
-import util.SortHelper;
 import util.date.DateTimeHelper;
+import util.log.ArchDukeLogger;
+import util.parser.TaskDetails;
+import util.parser.TaskRequirementDetails;
 
 import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
 
 public class TaskList {
     private ArrayList<Task> taskList;
     private ParserHelper parserHelper;
-    private SortHelper sortHelper;
     private DateTimeHelper dateTimeHelper;
+    private transient int modificationCount;
+    private transient TaskIndexes taskIndexes;
+    private transient long nextIndexSequence;
+    private transient HashMap<Task, Integer> taskIndexNumbers; //task_indexNumber
+    private transient ITaskChangeListener taskChangeListener;
+    private transient ProjectChangeLog changeLog;
+    private transient TaskViews taskViews;
 
     /**
      * Class representing a list with all task sort in the project.
@@ -23,8 +41,9 @@ public class TaskList {
     public TaskList() {
         this.taskList = new ArrayList<>();
         this.parserHelper = new ParserHelper();
-        this.sortHelper = new SortHelper();
         this.dateTimeHelper = new DateTimeHelper();
+        this.taskIndexes = new TaskIndexes();
+        this.taskViews = new TaskViews();
     }
 
     /**
@@ -33,14 +52,323 @@ public class TaskList {
      */
     public void addTask(Task task) {
         taskList.add(task);
+        task.setTaskList(this);
+        task.setIndexSequence(this.nextIndexSequence++);
+        this.taskIndexes.add(task);
+        if (this.taskIndexNumbers != null) {
+            this.taskIndexNumbers.putIfAbsent(task, this.taskList.size());
+        }
+        recordChange(ProjectChange.putTask(task));
+        markModified();
     }
 
+    //@@author Lucria
+    /**
+     * Adds a batch of new tasks to the list of this project, such as the tasks of an imported file.
+     * The tasks are indexed together and the list is marked as modified once, so the sorted views of the list are
+     * only thrown away once for the whole batch.
+     * @param tasks New tasks to be added to the project, in order.
+     */
+    public void addTasks(Collection<Task> tasks) {
+        this.taskList.ensureCapacity(this.taskList.size() + tasks.size());
+        for (Task task : tasks) {
+            this.taskList.add(task);
+            task.setTaskList(this);
+            task.setIndexSequence(this.nextIndexSequence++);
+            this.taskIndexes.add(task);
+            if (this.taskIndexNumbers != null) {
+                this.taskIndexNumbers.putIfAbsent(task, this.taskList.size());
+            }
+            recordChange(ProjectChange.putTask(task));
+        }
+        markModified();
+    }
+    //@@author
+
     /**
      * Deletes the task from the list using the index number.
      * @param taskIndexNumber The index number of the task to be deleted.
      */
     public void removeTask(int taskIndexNumber) {
-        this.taskList.remove(taskIndexNumber - 1);
+        Task removedTask = this.taskList.remove(taskIndexNumber - 1);
+        removedTask.setTaskList(null);
+        this.taskIndexes.remove(removedTask);
+        this.taskIndexNumbers = null;
+        recordChange(ProjectChange.removeTask(removedTask.getTaskID()));
+        markModified();
+    }
+
+    //@@author Lucria
+    /**
+     * Changes a detail of a task in this list that the list is indexed by, and moves the task within the indexes.
+     * @param task Task to be changed.
+     * @param change Change to the detail of the task.
+     */
+    void changeIndexedTask(Task task, Runnable change) {
+        if (this.taskChangeListener != null) {
+            this.taskChangeListener.beforeTaskChange(task);
+        }
+        this.taskIndexes.remove(task);
+        change.run();
+        this.taskIndexes.add(task);
+        if (this.taskChangeListener != null) {
+            this.taskChangeListener.afterTaskChange(task);
+        }
+        markTaskModified(task);
+    }
+
+    /**
+     * Sets the listener that is told whenever the due date, priority, credit or state of a task in this list changes.
+     * @param taskChangeListener The listener, or null to stop telling any listener.
+     */
+    public void setTaskChangeListener(ITaskChangeListener taskChangeListener) {
+        this.taskChangeListener = taskChangeListener;
+    }
+
+    /**
+     * Sets the log that the tasks added to, changed in or removed from this list are recorded in.
+     * @param changeLog The log of the project holding this list, or null to stop recording changes.
+     */
+    public void setChangeLog(ProjectChangeLog changeLog) {
+        this.changeLog = changeLog;
+    }
+
+    private void recordChange(ProjectChange change) {
+        if (this.changeLog != null) {
+            this.changeLog.record(change);
+        }
+    }
+
+    /**
+     * Returns all tasks in an order, as a snapshot that is reused until this list changes. The order of this list
+     * itself is never changed. Tasks are read from the task indexes where there is one for the order, and tasks that
+     * are equal in the order are kept in the order of their index numbers.
+     * @param taskOrder The order of the tasks. Only tasks with a due date are returned when ordered by due date.
+     * @return A List with the tasks in the order, which cannot be modified.
+     */
+    public List<Task> getSortedTasks(TaskOrder taskOrder) {
+        return this.taskViews.getTasks(taskOrder.name(), this.modificationCount, () -> {
+            switch (taskOrder) {
+            case DUE_DATE:
+                return this.taskIndexes.getTasksByDueDate();
+            case PRIORITY:
+                return this.taskIndexes.getTasksByPriority();
+            case CREDIT:
+                return this.taskIndexes.getTasksByCredit();
+            default:
+                ArrayList<Task> tasksByName = new ArrayList<>(this.taskList);
+                tasksByName.sort(Comparator.comparing(Task::getTaskName));
+                return tasksByName;
+            }
+        });
+    }
+
+    /**
+     * Returns part of the tasks in an order, without building or sorting the whole order. Tasks are read from the
+     * task index for the order where there is one, skipping the tasks before the part. The tasks of an order without
+     * an index are picked with a heap that holds only the tasks up to the end of the part.
+     * @param taskOrder The order of the tasks.
+     * @param offset The number of tasks in the order before the part.
+     * @param count The greatest number of tasks in the part.
+     * @return An ArrayList with the tasks of the part, in the order.
+     */
+    public ArrayList<Task> getSortedTasks(TaskOrder taskOrder, int offset, int count) {
+        List<Task> builtTasks = this.taskViews.getBuiltTasks(taskOrder.name(), this.modificationCount);
+        if (builtTasks != null) {
+            return getPart(builtTasks, offset, count);
+        }
+        NavigableSet<Task> indexedTasks = this.taskIndexes.getIndex(taskOrder);
+        if (indexedTasks != null) {
+            return getPart(indexedTasks, offset, count);
+        }
+        return selectTasksByName(this.taskList, offset, count);
+    }
+
+    /**
+     * Returns the tasks in a state, in the order of their index numbers, as a snapshot that is reused until this list
+     * changes. Only the tasks in the state are read.
+     * @param taskState The state of the tasks.
+     * @return A List with the tasks in the state, which cannot be modified.
+     */
+    public List<Task> getTasksInState(TaskState taskState) {
+        return this.taskViews.getTasks(TaskState.class.getSimpleName() + taskState, this.modificationCount, () -> {
+            ArrayList<Task> tasksInState = this.taskIndexes.getTasksInState(taskState);
+            tasksInState.sort(Comparator.comparingInt(this::getIndexNumber));
+            return tasksInState;
+        });
+    }
+
+    /**
+     * Returns part of the tasks in a state, in the order of their index numbers, reading only the tasks in the state
+     * up to the end of the part.
+     * @param taskState The state of the tasks.
+     * @param offset The number of tasks in the state before the part.
+     * @param count The greatest number of tasks in the part.
+     * @return An ArrayList with the tasks of the part.
+     */
+    public ArrayList<Task> getTasksInState(TaskState taskState, int offset, int count) {
+        // Tasks are only ever appended to this list, so the order they were added is the order of their index numbers
+        return getPart(this.taskIndexes.getStateIndex(taskState), offset, count);
+    }
+
+    /**
+     * Returns part of some tasks in this list sorted by name, keeping only the tasks up to the end of the part in a
+     * bounded heap instead of sorting all of them. Tasks with the same name are in the order of their index numbers.
+     * @param tasks Tasks in this list, in any order.
+     * @param offset The number of tasks in the order before the part.
+     * @param count The greatest number of tasks in the part.
+     * @return An ArrayList with the tasks of the part, sorted by name.
+     */
+    public ArrayList<Task> selectTasksByName(Collection<Task> tasks, int offset, int count) {
+        Comparator<Task> byName = Comparator.comparing(Task::getTaskName).thenComparingInt(this::getIndexNumber);
+        int numOfTasksToKeep = (int) Math.min((long) offset + count, tasks.size());
+        if (numOfTasksToKeep <= 0) {
+            return new ArrayList<>();
+        }
+        PriorityQueue<Task> tasksToKeep = new PriorityQueue<>(numOfTasksToKeep, byName.reversed());
+        for (Task task : tasks) {
+            if (tasksToKeep.size() < numOfTasksToKeep) {
+                tasksToKeep.add(task);
+            } else if (byName.compare(task, tasksToKeep.peek()) < 0) {
+                tasksToKeep.poll();
+                tasksToKeep.add(task);
+            }
+        }
+        ArrayList<Task> sortedTasks = new ArrayList<>(tasksToKeep);
+        sortedTasks.sort(byName);
+        return getPart(sortedTasks, offset, count);
+    }
+
+    private ArrayList<Task> getPart(Collection<Task> tasks, int offset, int count) {
+        ArrayList<Task> part = new ArrayList<>();
+        if (tasks instanceof List) {
+            List<Task> taskList = (List<Task>) tasks;
+            int fromIndex = Math.min(offset, taskList.size());
+            part.addAll(taskList.subList(fromIndex, (int) Math.min((long) fromIndex + count, taskList.size())));
+            return part;
+        }
+        Iterator<Task> taskIterator = tasks.iterator();
+        for (int skipped = 0; skipped < offset && taskIterator.hasNext(); skipped++) {
+            taskIterator.next();
+        }
+        while (part.size() < count && taskIterator.hasNext()) {
+            part.add(taskIterator.next());
+        }
+        return part;
+    }
+
+    /**
+     * Returns the details of all tasks in an order, each starting with the index number of the task. The details are
+     * reused until this list changes or the day changes.
+     * @param taskOrder The order of the tasks.
+     * @return A List with the details of the tasks, which cannot be modified.
+     */
+    public List<String> getSortedTaskDetails(TaskOrder taskOrder) {
+        return this.taskViews.getDetails(taskOrder.name(), this.modificationCount, () ->
+                getTaskDetails(getSortedTasks(taskOrder)));
+    }
+
+    /**
+     * Returns the details of part of the tasks in an order, formatting only the tasks of the part.
+     * @param taskOrder The order of the tasks.
+     * @param offset The number of tasks in the order before the part.
+     * @param count The greatest number of tasks in the part.
+     * @return An ArrayList with the details of the tasks of the part.
+     */
+    public ArrayList<String> getSortedTaskDetails(TaskOrder taskOrder, int offset, int count) {
+        if (offset == 0 && count == Integer.MAX_VALUE) {
+            return new ArrayList<>(getSortedTaskDetails(taskOrder));
+        }
+        return getTaskDetails(getSortedTasks(taskOrder, offset, count));
+    }
+
+    /**
+     * Returns the details of the tasks in a state, each starting with the index number of the task. The details are
+     * reused until this list changes or the day changes.
+     * @param taskState The state of the tasks.
+     * @return A List with the details of the tasks, which cannot be modified.
+     */
+    public List<String> getTaskDetailsInState(TaskState taskState) {
+        return this.taskViews.getDetails(TaskState.class.getSimpleName() + taskState, this.modificationCount, () ->
+                getTaskDetails(getTasksInState(taskState)));
+    }
+
+    /**
+     * Returns the details of part of the tasks in a state, formatting only the tasks of the part.
+     * @param taskState The state of the tasks.
+     * @param offset The number of tasks in the state before the part.
+     * @param count The greatest number of tasks in the part.
+     * @return An ArrayList with the details of the tasks of the part.
+     */
+    public ArrayList<String> getTaskDetailsInState(TaskState taskState, int offset, int count) {
+        if (offset == 0 && count == Integer.MAX_VALUE) {
+            return new ArrayList<>(getTaskDetailsInState(taskState));
+        }
+        return getTaskDetails(getTasksInState(taskState, offset, count));
+    }
+
+    /**
+     * Returns the details of some tasks in this list, each starting with the index number of the task.
+     * @param tasks Tasks in this list.
+     * @return An ArrayList with the details of the tasks, in the same order as the tasks.
+     */
+    public ArrayList<String> getTaskDetails(List<Task> tasks) {
+        ArrayList<String> taskDetails = new ArrayList<>();
+        for (Task task : tasks) {
+            taskDetails.add(getIndexNumber(task) + ". " + task.getDetails());
+        }
+        return taskDetails;
+    }
+
+    /**
+     * Returns the index number of a task in this list, which is its position in the list starting from 1.
+     * The index numbers are worked out again only after tasks are removed.
+     * @param task A task in this list.
+     * @return The index number of the task, or 0 if the task is not in this list.
+     */
+    public int getIndexNumber(Task task) {
+        if (this.taskIndexNumbers == null) {
+            this.taskIndexNumbers = new HashMap<>();
+            for (int taskIndex = 0; taskIndex < this.taskList.size(); taskIndex++) {
+                this.taskIndexNumbers.putIfAbsent(this.taskList.get(taskIndex), taskIndex + 1);
+            }
+        }
+        return this.taskIndexNumbers.getOrDefault(task, 0);
+    }
+    //@@author
+
+    /**
+     * Returns the number of changes made to this list and its tasks so far.
+     * Used to tell whether the list has changed since it was last saved.
+     * @return The modification count of this list.
+     */
+    public int getModificationCount() {
+        return this.modificationCount;
+    }
+
+    /**
+     * Records that this list or one of its tasks has changed.
+     */
+    void markModified() {
+        this.modificationCount++;
+    }
+
+    /**
+     * Records that a task in this list has changed.
+     * @param task The task that changed.
+     */
+    void markTaskModified(Task task) {
+        recordChange(ProjectChange.putTask(task));
+        markModified();
+    }
+
+    /**
+     * Returns the task details in the order or filter of the given criteria, each starting with the index number of
+     * the task. The order of this list is never changed.
+     */
+    private ArrayList<String> sortTaskDetails(HashMap<String, ArrayList<String>> tasksAndAssignedMembers,
+                                              String sortCriteria, Project project) {
+        return this.parserHelper.parseSortTaskDetails(tasksAndAssignedMembers, this, sortCriteria, project);
     }
 
     /**
@@ -51,7 +379,7 @@ public class TaskList {
     public ArrayList<String> getAllTaskDetails(
         HashMap<String, ArrayList<String>> tasksAndAssignedMembers, Project project) {
         // after implementing task index, change "/PRIORITY" to "/INDEX"
-        return this.parserHelper.parseSortTaskDetails(tasksAndAssignedMembers,taskList,"-priority", project);
+        return sortTaskDetails(tasksAndAssignedMembers, "-priority", project);
     }
 
     /**
@@ -69,12 +397,12 @@ public class TaskList {
             messageForEmptyTaskTable.add(" - There are currently no tasks! -");
             allTaskDetailsForTable.add(messageForEmptyTaskTable);
         } else {
-            ArrayList<String> allTaskDetails = this.parserHelper.parseSortTaskDetails(tasksAndAssignedMembers,
-                    taskList, sortCriteria, project);
-            if (sortCriteria.substring(0, 5).equals("-who ") && allTaskDetails.size() == 0) {
-                messageForEmptyTaskTable.add(" - There are no tasks assigned to " + sortCriteria.substring(5) + "! -");
+            ArrayList<String> allTaskDetails = sortTaskDetails(tasksAndAssignedMembers, sortCriteria, project);
+            final String viewCriteria = this.parserHelper.removeTaskSliceFlags(sortCriteria);
+            if (viewCriteria.startsWith("-who ") && allTaskDetails.size() == 0) {
+                messageForEmptyTaskTable.add(" - There are no tasks assigned to " + viewCriteria.substring(5) + "! -");
                 allTaskDetailsForTable.add(messageForEmptyTaskTable);
-            } else if ("-date".equals(sortCriteria) && allTaskDetails.size() == 0) {
+            } else if ("-date".equals(viewCriteria) && allTaskDetails.size() == 0) {
                 messageForEmptyTaskTable.add(" - There are no tasks with deadlines! -");
                 allTaskDetailsForTable.add(messageForEmptyTaskTable);
             } else {
@@ -103,7 +431,7 @@ public class TaskList {
     public ArrayList<String> getAllSortedTaskDetails(
         HashMap<String, ArrayList<String>> tasksAndAssignedMembers,
                                                      String sortCriteria, Project project) {
-        return this.parserHelper.parseSortTaskDetails(tasksAndAssignedMembers, taskList, sortCriteria, project);
+        return sortTaskDetails(tasksAndAssignedMembers, sortCriteria, project);
     }
 
     /**
@@ -128,18 +456,18 @@ public class TaskList {
      * @return String array containing messages to the user to be printed.
      */
     public String[] editTask(int taskIndexNumber, String updatedTaskDetails) {
-        ArrayList<String> taskDetails = parserHelper.parseTaskDetails(updatedTaskDetails);
-        String taskName = taskDetails.get(0);
+        TaskDetails taskDetails = parserHelper.parseTaskDetails(updatedTaskDetails);
+        String taskName = taskDetails.getTaskName();
         ArrayList<String> messagesForUser = new ArrayList<>();
         ArrayList<String> successMessages = new ArrayList<>();
-        ArrayList<String> errorMessages = new ArrayList<>(parserHelper.getErrorMessages());
+        ArrayList<String> errorMessages = new ArrayList<>(taskDetails.getErrorMessages());
 
         Task task = taskList.get(taskIndexNumber - 1);
         if (!("--".equals(taskName))) {
             task.setTaskName(taskName);
             successMessages.add("The name of this task has been changed to '" + taskName + "'!");
         }
-        String taskPriority = taskDetails.get(1);
+        String taskPriority = taskDetails.getTaskPriority();
         if (!("-1".equals(taskPriority))) {
             try {
                 int newTaskPriority = Integer.parseInt(taskPriority);
@@ -153,7 +481,7 @@ public class TaskList {
                 errorMessages.add("Input for new task priority is not a number!");
             }
         }
-        String taskDueDate = taskDetails.get(2);
+        String taskDueDate = taskDetails.getTaskDueDate();
         if (taskDueDate != null) {
             try {
                 Date newDueDate = dateTimeHelper.formatDate(taskDueDate);
@@ -165,7 +493,7 @@ public class TaskList {
                         + "form 'dd/mm/yyyy'.");
             }
         }
-        String taskCredit = taskDetails.get(3);
+        String taskCredit = taskDetails.getTaskCredit();
         if (!("-1".equals(taskCredit))) {
             try {
                 int newTaskCredit = Integer.parseInt(taskCredit);
@@ -180,7 +508,7 @@ public class TaskList {
             }
 
         }
-        String taskState = taskDetails.get(4);
+        String taskState = taskDetails.getTaskState();
         if (!("NONE".equals(taskState))) {
             String newTaskStateLowerCase = taskState.toLowerCase();
             if ("open".equals(taskState) || "doing".equals(taskState)
@@ -226,12 +554,13 @@ public class TaskList {
         ArrayList<String> errorMessages = new ArrayList<>();
         errorMessages.add("Errors...");
 
-        ArrayList<String> newTaskRequirementDetails = parserHelper.parseTaskRequirementDetails(updatedTaskRequirements);
-        errorMessages.addAll(parserHelper.getErrorMessages());
+        TaskRequirementDetails newTaskRequirementDetails =
+                parserHelper.parseTaskRequirementDetails(updatedTaskRequirements);
+        errorMessages.addAll(newTaskRequirementDetails.getErrorMessages());
 
-        String taskReqIndexesToBeRemoved = newTaskRequirementDetails.get(0);
-        if (!("--").equals(taskReqIndexesToBeRemoved)) {
-            ArrayList<String> results = removeTaskRequirements(taskIndexNumber, taskReqIndexesToBeRemoved);
+        if (!newTaskRequirementDetails.getIndexesToBeRemoved().isEmpty()) {
+            ArrayList<String> results = removeTaskRequirements(taskIndexNumber,
+                    String.join(" ", newTaskRequirementDetails.getIndexesToBeRemoved()));
             if (!results.contains("error start")) {
                 successMessages.addAll(results);
             } else {
@@ -243,10 +572,10 @@ public class TaskList {
                 errorMessages.addAll(results);
             }
         }
-        newTaskRequirementDetails.remove(0);
 
-        if (newTaskRequirementDetails.size() != 0) {
-            successMessages.addAll(addTaskRequirements(taskIndexNumber, newTaskRequirementDetails));
+        if (!newTaskRequirementDetails.getRequirementsToBeAdded().isEmpty()) {
+            successMessages.addAll(addTaskRequirements(taskIndexNumber,
+                    newTaskRequirementDetails.getRequirementsToBeAdded()));
         }
 
         //combining success messages and error messages into one array
@@ -313,7 +642,7 @@ public class TaskList {
      * @return Arraylist of String containing success or error messages
      *
      */
-    private ArrayList<String> addTaskRequirements(int taskIndexNumber, ArrayList<String> newTaskRequirements) {
+    private ArrayList<String> addTaskRequirements(int taskIndexNumber, List<String> newTaskRequirements) {
         ArrayList<String> successMessages = new ArrayList<>();
         for (String s : newTaskRequirements) {
             this.taskList.get(taskIndexNumber - 1).addTaskRequirement(s);
@@ -328,14 +657,13 @@ public class TaskList {
 
     /**
      * Get details of task with closest deadline and return in String array form.
+     * The task is read from the index of tasks that are not done yet, so no other task is sorted or formatted.
      * @return String array of details of task which has the closest deadline.
      */
     public String[] getClosestDeadlineTask() {
-        ArrayList<String> sortedTaskList = sortHelper.sortTaskDueDate(this.taskList);
-        for (String task : sortedTaskList) {
-            if (!task.contains("State: DONE")) {
-                return task.substring(3).split(" [|] ");
-            }
+        Task closestDeadlineTask = getNextDeadlineTask();
+        if (closestDeadlineTask != null) {
+            return closestDeadlineTask.getDetails().split(" [|] ");
         }
         String[] message = new String[2];
         message[0] = "";
@@ -343,53 +671,96 @@ public class TaskList {
         return message;
     }
 
+    //@@author Lucria
+    /**
+     * Returns the task that is not done yet with the closest due date, or null if no such task has a due date.
+     */
+    public Task getNextDeadlineTask() {
+        return this.taskIndexes.getNextDeadlineTask();
+    }
+
+    //@@author seanlimhx
     /**
      * Method to calculate progress and store in presentable String format.
      * @return String array containing output for overall progress to be printed in table.
      */
     public String[] getOverallProgress() {
-        int totalCredits = 0;
-        double creditsOpen = 0;
-        double creditsTodo = 0;
-        double creditsDoing = 0;
-        double creditsDone = 0;
-        for (Task task : this.taskList) {
-            totalCredits += task.getTaskCredit();
-            if (task.getTaskState() == TaskState.DONE) {
-                creditsDone += task.getTaskCredit();
-            } else if (task.getTaskState() == TaskState.DOING) {
-                creditsDoing += task.getTaskCredit();
-            } else if (task.getTaskState() == TaskState.TODO) {
-                creditsTodo += task.getTaskCredit();
-            } else {
-                creditsOpen += task.getTaskCredit();
-            }
-        }
+        long totalCredits = this.taskIndexes.getTotalCredits();
+        double creditsDone = this.taskIndexes.getCredits(TaskState.DONE);
+        double creditsDoing = this.taskIndexes.getCredits(TaskState.DOING);
+        double creditsNotDone = this.taskIndexes.getCredits(TaskState.TODO)
+                + this.taskIndexes.getCredits(TaskState.OPEN);
         ArrayList<String> progressDetails = new ArrayList<>();
-        String percentageDone = Integer.toString((int)(creditsDone / totalCredits * 100));
-        progressDetails.add("Completed: " + percentageDone + "%");
-        String percentageInProgress = Integer.toString((int)(creditsDoing / totalCredits * 100));
-        progressDetails.add("In Progress: " + percentageInProgress + "%");
-        String percentageNotDone = Integer.toString((int)((creditsTodo + creditsOpen) / totalCredits * 100));
-        progressDetails.add("Not Done: " + percentageNotDone + "%");
+        progressDetails.add("Completed: " + getPercentage(creditsDone, totalCredits) + "%");
+        progressDetails.add("In Progress: " + getPercentage(creditsDoing, totalCredits) + "%");
+        progressDetails.add("Not Done: " + getPercentage(creditsNotDone, totalCredits) + "%");
         return progressDetails.toArray(new String[0]);
     }
 
     //@@author Lucria
     /**
-     * Method that will get all tasks that are in the current month.
-     * @return : Returns a hashmap typing the task name with date in the current month.
+     * Returns the share of the total credits as a whole percentage, which is 0 when the tasks have no credits at all.
      */
-    public HashMap<Integer, Integer> getTasksWithinCurrentMonth() {
-        HashMap<Integer, Integer> allTasksWithinCurrentMonth = new HashMap<>();
-        String currentMonth = dateTimeHelper.getCurrentMonth();
+    private String getPercentage(double credits, long totalCredits) {
+        if (totalCredits == 0) {
+            return "0";
+        }
+        return Integer.toString((int) (credits / totalCredits * 100));
+    }
+
+    /**
+     * Checks the running credit totals used by getOverallProgress against a full recount of the tasks, and replaces
+     * them with the recount if they differ. Used when a project is loaded, since the totals are not saved.
+     * @return true if the running totals matched the recount.
+     */
+    public boolean recountOverallProgress() {
+        long[] recountedCredits = new long[TaskState.values().length];
+        long recountedTotalCredits = 0;
         for (Task task : this.taskList) {
-            Date taskDate = task.getDueDate();
-            if (taskDate != null && dateTimeHelper.getMonthFromDateObject(taskDate).equals(currentMonth)) {
-                int dayOfTaskDueDate = dateTimeHelper.getDayFromDateObject(taskDate);
-                allTasksWithinCurrentMonth.merge(dayOfTaskDueDate, 1, Integer::sum);
+            recountedCredits[TaskIndexes.getProgressState(task).ordinal()] += task.getTaskCredit();
+            recountedTotalCredits += task.getTaskCredit();
+        }
+        boolean isConsistent = recountedTotalCredits == this.taskIndexes.getTotalCredits();
+        for (TaskState taskState : TaskState.values()) {
+            isConsistent &= recountedCredits[taskState.ordinal()] == this.taskIndexes.getCredits(taskState);
+        }
+        if (!isConsistent) {
+            ArchDukeLogger.logError(TaskList.class.getName(), "Progress totals did not match the tasks, "
+                    + "so the task indexes were rebuilt");
+            this.taskIndexes = new TaskIndexes();
+            for (Task task : this.taskList) {
+                this.taskIndexes.add(task);
             }
+            this.taskViews = new TaskViews();
         }
-        return allTasksWithinCurrentMonth;
+        return isConsistent;
+    }
+
+    //@@author Lucria
+    /**
+     * Method that will get all tasks that are in the current month.
+     * @return : Returns a hashmap from each day in the current month to the number of tasks due then.
+     */
+    public HashMap<Integer, Integer> getTasksWithinCurrentMonth() {
+        return getTasksWithinMonth(dateTimeHelper.getCurrentYearMonth());
+    }
+
+    /**
+     * Method that will get all tasks that are due in a month of a particular year.
+     * @param month : Month of a particular year.
+     * @return : Returns a hashmap from each day in the month to the number of tasks due then.
+     */
+    public HashMap<Integer, Integer> getTasksWithinMonth(YearMonth month) {
+        return this.taskIndexes.getNumOfTasksPerDay(month);
+    }
+
+    /**
+     * Method that will get all tasks that are due from one day to another, including both days.
+     * @param firstDay : First day of the range.
+     * @param lastDay : Last day of the range.
+     * @return : Returns the tasks due within the range, from the earliest due date to the latest.
+     */
+    public ArrayList<Task> getTasksDueBetween(LocalDate firstDay, LocalDate lastDay) {
+        return this.taskIndexes.getTasksDueBetween(firstDay, lastDay);
     }
 }
@@ -0,0 +1,10 @@
+package models.task;
+
+//@@author Lucria
+/**
+ * Orders in which the tasks of a TaskList can be viewed. Viewing the tasks in any of these orders never changes the
+ * order of the TaskList itself, which the task index numbers refer to.
+ */
+public enum TaskOrder {
+    NAME, DUE_DATE, PRIORITY, CREDIT;
+}
@@ -0,0 +1,81 @@
+package models.task;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Supplier;
+
+//@@author Lucria
+/**
+ * Sorted and filtered views of the tasks of a TaskList, kept as read-only snapshots so that viewing the tasks never
+ * reorders the TaskList.
+ * Each view is built once and then reused until the modification count of the TaskList changes, so viewing the tasks
+ * in the same order again costs nothing. The formatted details of a view are reused the same way, and are also built
+ * again once the day changes, since they count the days left to each due date.
+ */
+class TaskViews {
+    private final HashMap<String, List<Task>> tasksOfViews = new HashMap<>();
+    private final HashMap<String, List<String>> detailsOfViews = new HashMap<>();
+    private int viewedModificationCount;
+    private long viewedDay;
+
+    /**
+     * Returns the tasks of a view, building the view first if the TaskList changed since it was last built.
+     * @param viewName Name of the view, which is unique to the order or filter of the view.
+     * @param modificationCount Current modification count of the TaskList.
+     * @param viewBuilder Builds the tasks of the view from the TaskList.
+     * @return The tasks of the view, which cannot be modified.
+     */
+    List<Task> getTasks(String viewName, int modificationCount, Supplier<List<Task>> viewBuilder) {
+        clearIfChanged(modificationCount);
+        List<Task> tasksOfView = tasksOfViews.get(viewName);
+        if (tasksOfView == null) {
+            tasksOfView = Collections.unmodifiableList(viewBuilder.get());
+            tasksOfViews.put(viewName, tasksOfView);
+        }
+        return tasksOfView;
+    }
+
+    /**
+     * Returns the tasks of a view if the view was built since the TaskList last changed, without building it.
+     * @param viewName Name of the view, which is unique to the order or filter of the view.
+     * @param modificationCount Current modification count of the TaskList.
+     * @return The tasks of the view, or null if the view is not built.
+     */
+    List<Task> getBuiltTasks(String viewName, int modificationCount) {
+        clearIfChanged(modificationCount);
+        return tasksOfViews.get(viewName);
+    }
+
+    /**
+     * Returns the formatted details of the tasks of a view, formatting them first if the TaskList or the day changed
+     * since they were last formatted.
+     * @param viewName Name of the view, which is unique to the order or filter of the view.
+     * @param modificationCount Current modification count of the TaskList.
+     * @param detailsBuilder Formats the details of the tasks of the view.
+     * @return The details of the tasks of the view, which cannot be modified.
+     */
+    List<String> getDetails(String viewName, int modificationCount, Supplier<List<String>> detailsBuilder) {
+        clearIfChanged(modificationCount);
+        long today = LocalDate.now().toEpochDay();
+        if (today != viewedDay) {
+            detailsOfViews.clear();
+            viewedDay = today;
+        }
+        List<String> detailsOfView = detailsOfViews.get(viewName);
+        if (detailsOfView == null) {
+            detailsOfView = Collections.unmodifiableList(detailsBuilder.get());
+            detailsOfViews.put(viewName, detailsOfView);
+        }
+        return detailsOfView;
+    }
+
+    private void clearIfChanged(int modificationCount) {
+        if (modificationCount != viewedModificationCount) {
+            tasksOfViews.clear();
+            detailsOfViews.clear();
+            viewedModificationCount = modificationCount;
+        }
+    }
+}
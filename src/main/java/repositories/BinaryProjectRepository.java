@@ -0,0 +1,18 @@
+package repositories;
+
+import util.storage.BinaryConverter;
+
+//@@author Lucria
+/**
+ * ProjectRepository that stores Projects in the compact binary save file format instead of JSON, for projects that
+ * are too large to save and load quickly as JSON.
+ * Chosen by starting ArchDuke with the system property "archduke.storage" set to "binary".
+ */
+public class BinaryProjectRepository extends ProjectRepository {
+    /**
+     * Constructor of BinaryProjectRepository that saves Projects in the current working directory.
+     */
+    public BinaryProjectRepository() {
+        super(new BinaryConverter());
+    }
+}
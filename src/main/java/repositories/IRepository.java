@@ -15,4 +15,6 @@ public interface IRepository<T> {
     boolean updateItem(T object, String input);
 
     void saveToRepo(T object);
+
+    void flushToRepo();
 }
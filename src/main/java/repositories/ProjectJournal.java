@@ -0,0 +1,212 @@
+package repositories;
+
+import com.google.gson.JsonParseException;
+import models.project.ProjectChange;
+import util.json.JsonConverter;
+import util.log.ArchDukeLogger;
+import util.storage.GroupCommitter;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+//@@author Lucria
+/**
+ * Append-only journal of the changes made to a Project since its last snapshot.
+ * Each record is one line in "[project ID].journal" holding a sequence number, the changes made by one command as a
+ * JSON array, and a CRC-32 checksum of the two. The changes name tasks and members by their IDs and carry the details
+ * they were left with, so applying them again gives the same Project whichever version of ArchDuke reads them.
+ * A Project's snapshot remembers the sequence number of the last record it already includes, so a record is never
+ * replayed twice, and records included in a written snapshot can be dropped from the journal.
+ */
+public class ProjectJournal {
+    private static final String RECORD_SEPARATOR = "\t";
+    private static final String RECORD_TERMINATOR = "\n";
+    private String userDirectory;
+
+    /**
+     * Constructor of ProjectJournal that keeps the journals in the current working directory.
+     */
+    public ProjectJournal() {
+        this(System.getProperty("user.dir"));
+    }
+
+    /**
+     * Constructor of ProjectJournal that keeps the journals in the given directory.
+     * @param userDirectory : Directory holding the journals.
+     */
+    public ProjectJournal(String userDirectory) {
+        this.userDirectory = userDirectory;
+    }
+
+    /**
+     * Appends the changes made by a command to the journal of a Project.
+     * The record is made durable on disk in the next group commit, and this only returns once it is, so a command
+     * is never reported as done before it would survive a crash. The journal is not locked while waiting, so records
+     * appended to other journals in the meantime are synced in the same group commit.
+     * Callers must hold the Project's lock, as the details of the changed tasks, members and reminders are read.
+     * @param projectID : ID of the Project, which is also the name of its journal.
+     * @param sequence : Sequence number of the record, one more than the previous record of the Project.
+     * @param changes : Changes made to the Project by the command.
+     * @return : Returns the size of the journal in bytes after the record is appended.
+     * @throws IOException : Exception thrown when the journal cannot be written or synced to disk.
+     */
+    public long append(String projectID, long sequence, List<ProjectChange> changes) throws IOException {
+        File journalFile = getJournalFile(projectID);
+        GroupCommitter.CommitTicket commitTicket;
+        long journalSize;
+        synchronized (this) {
+            try (Writer fileWriter = Files.newBufferedWriter(journalFile.toPath(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                fileWriter.write(createRecord(sequence, JsonConverter.convertChangesToJson(changes)));
+            }
+            commitTicket = GroupCommitter.getSharedCommitter().syncFile(journalFile.toPath());
+            journalSize = journalFile.length();
+        }
+        if (!commitTicket.await()) {
+            throw new IOException("Journal could not be synced to disk");
+        }
+        return journalSize;
+    }
+
+    /**
+     * Reads the records of a Project's journal that are not yet included in its snapshot, in the order they were
+     * appended. A record that cannot be read, such as one cut short by a crash, ends the journal.
+     * @param projectID : ID of the Project whose journal is to be read.
+     * @param snapshotSequence : Sequence number of the last record included in the Project's snapshot.
+     * @return : Returns the changes of the remaining records, keyed by their sequence numbers.
+     */
+    public synchronized LinkedHashMap<Long, List<ProjectChange>> readRecordsAfter(String projectID,
+                                                                                 long snapshotSequence) {
+        LinkedHashMap<Long, List<ProjectChange>> journalRecords = new LinkedHashMap<>();
+        for (Map.Entry<Long, String> journalRecord : readChangesAfter(projectID, snapshotSequence).entrySet()) {
+            try {
+                List<ProjectChange> changes = JsonConverter.convertJsonToChanges(journalRecord.getValue());
+                journalRecords.put(journalRecord.getKey(), changes);
+            } catch (JsonParseException err) {
+                ArchDukeLogger.logError(ProjectJournal.class.getName(), "Record " + journalRecord.getKey()
+                        + " of the journal of project '" + projectID + "' could not be read: " + err.getMessage());
+                break;
+            }
+        }
+        return journalRecords;
+    }
+
+    /**
+     * Reads the JSON of the changes of the records that are not yet included in a snapshot, checking the checksum of
+     * each record. The records stop at the first one that is cut short or whose checksum does not match.
+     */
+    private LinkedHashMap<Long, String> readChangesAfter(String projectID, long snapshotSequence) {
+        LinkedHashMap<Long, String> journalRecords = new LinkedHashMap<>();
+        File journalFile = getJournalFile(projectID);
+        if (!journalFile.exists()) {
+            return journalRecords;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(journalFile.toPath(), StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                int changesStart = line.indexOf(RECORD_SEPARATOR) + 1;
+                int checksumStart = line.lastIndexOf(RECORD_SEPARATOR) + 1;
+                if (changesStart == 0 || checksumStart == changesStart) {
+                    throw new IOException("Record is cut short");
+                }
+                String recordBody = line.substring(0, checksumStart - 1);
+                if (!getChecksum(recordBody).equals(line.substring(checksumStart))) {
+                    throw new IOException("Checksum of record does not match");
+                }
+                long sequence = Long.parseLong(line.substring(0, changesStart - 1));
+                if (sequence > snapshotSequence) {
+                    journalRecords.put(sequence, line.substring(changesStart, checksumStart - 1));
+                }
+                line = reader.readLine();
+            }
+        } catch (IOException | NumberFormatException err) {
+            ArchDukeLogger.logError(ProjectJournal.class.getName(), "Journal of project '" + projectID
+                    + "' could not be fully read: " + err.getMessage());
+        }
+        return journalRecords;
+    }
+
+    private static String createRecord(long sequence, String changesJson) {
+        String recordBody = sequence + RECORD_SEPARATOR + changesJson;
+        return recordBody + RECORD_SEPARATOR + getChecksum(recordBody) + RECORD_TERMINATOR;
+    }
+
+    private static String getChecksum(String recordBody) {
+        CRC32 checksum = new CRC32();
+        checksum.update(recordBody.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(checksum.getValue());
+    }
+
+    /**
+     * Drops the records that are included in a snapshot which has been written to disk.
+     * The remaining records are written to a temporary file that atomically replaces the journal, so a crash during
+     * compaction never loses a record.
+     * @param projectID : ID of the Project whose journal is to be compacted.
+     * @param snapshotSequence : Sequence number of the last record included in the written snapshot.
+     */
+    public synchronized void compact(String projectID, long snapshotSequence) {
+        File journalFile = getJournalFile(projectID);
+        if (!journalFile.exists()) {
+            return;
+        }
+        LinkedHashMap<Long, String> remainingRecords = readChangesAfter(projectID, snapshotSequence);
+        if (remainingRecords.isEmpty()) {
+            delete(projectID);
+            return;
+        }
+        Path temporaryFile = null;
+        try {
+            temporaryFile = Files.createTempFile(Paths.get(userDirectory), journalFile.getName() + ".", ".tmp");
+            try (Writer fileWriter = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                for (Map.Entry<Long, String> journalRecord : remainingRecords.entrySet()) {
+                    fileWriter.write(createRecord(journalRecord.getKey(), journalRecord.getValue()));
+                }
+            }
+            if (!GroupCommitter.getSharedCommitter().replaceFile(temporaryFile, journalFile.toPath()).await()) {
+                throw new IOException("Compacted journal could not replace the journal");
+            }
+        } catch (IOException err) {
+            ArchDukeLogger.logError(ProjectJournal.class.getName(), "Journal of project '" + projectID
+                    + "' could not be compacted: " + err.getMessage());
+            if (temporaryFile != null) {
+                temporaryFile.toFile().delete();
+            }
+        }
+    }
+
+    /**
+     * Deletes the journal of a Project, if it has one.
+     * @param projectID : ID of the Project whose journal is to be deleted.
+     */
+    public synchronized void delete(String projectID) {
+        File journalFile = getJournalFile(projectID);
+        if (journalFile.exists() && !journalFile.delete()) {
+            ArchDukeLogger.logError(ProjectJournal.class.getName(), "Journal of project '" + projectID
+                    + "' could not be deleted");
+        }
+    }
+
+    /**
+     * Returns the size of the journal of a Project.
+     * @param projectID : ID of the Project whose journal is to be measured.
+     * @return : Returns the size of the journal in bytes, or 0 if the Project has no journal.
+     */
+    public synchronized long getLength(String projectID) {
+        return getJournalFile(projectID).length();
+    }
+
+    private File getJournalFile(String projectID) {
+        return new File(userDirectory + "/" + projectID + ".journal");
+    }
+}
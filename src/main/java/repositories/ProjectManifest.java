@@ -0,0 +1,222 @@
+package repositories;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import models.project.ProjectSummary;
+import util.json.JsonConverter;
+import util.log.ArchDukeLogger;
+import util.storage.ProjectConverter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import static util.constant.ConstantHelper.PROJECT_MANIFEST_FILE_NAME;
+import static util.constant.ConstantHelper.PROJECT_MANIFEST_VERSION;
+
+//@@author Lucria
+/**
+ * Index of the summaries of all saved Projects, so that projects can be listed without loading them.
+ * Each summary is stored with the size and save stamp of the Project's saved data and the size of its journal
+ * when the summary was taken. A summary is only trusted while those still match, so a manifest that was not updated,
+ * such as after a crash, only costs a full load of the Projects it is outdated for.
+ * Each entry also holds the version of the manifest it was written in, so summaries of an earlier version are
+ * replaced rather than read into the fields of the current one.
+ */
+public class ProjectManifest {
+    private static final Gson MANIFEST_GSON = JsonConverter.getCompactGson().newBuilder()
+            .registerTypeAdapter(Entry.class, new EntryTypeAdapter()).create();
+    private String userDirectory;
+    private ProjectConverter projectConverter;
+    private ProjectJournal projectJournal;
+
+    /**
+     * Constructor of ProjectManifest that keeps the manifest in the current working directory.
+     * @param projectConverter : Converter that knows where the save file of each Project is.
+     * @param projectJournal : Journal that knows where the journal of each Project is.
+     */
+    public ProjectManifest(ProjectConverter projectConverter, ProjectJournal projectJournal) {
+        this(System.getProperty("user.dir"), projectConverter, projectJournal);
+    }
+
+    /**
+     * Constructor of ProjectManifest that keeps the manifest in the given directory.
+     * @param userDirectory : Directory holding the manifest.
+     * @param projectConverter : Converter that knows where the save file of each Project is.
+     * @param projectJournal : Journal that knows where the journal of each Project is.
+     */
+    public ProjectManifest(String userDirectory, ProjectConverter projectConverter, ProjectJournal projectJournal) {
+        this.userDirectory = userDirectory;
+        this.projectConverter = projectConverter;
+        this.projectJournal = projectJournal;
+    }
+
+    /**
+     * Reads the manifest.
+     * @return : Returns the summaries in the manifest that still match their Project's files, keyed by project ID.
+     *           Returns no summaries if there is no readable manifest. Summaries written by earlier versions of
+     *           ArchDuke hold other details, so they are never up to date.
+     */
+    public HashMap<String, ProjectSummary> loadUpToDateSummaries() {
+        HashMap<String, ProjectSummary> upToDateSummaries = new HashMap<>();
+        File manifestFile = new File(userDirectory + "/" + PROJECT_MANIFEST_FILE_NAME);
+        if (!manifestFile.exists()) {
+            return upToDateSummaries;
+        }
+        try (Reader fileReader = Files.newBufferedReader(manifestFile.toPath(), StandardCharsets.UTF_8)) {
+            Entry[] entries = MANIFEST_GSON.fromJson(fileReader, Entry[].class);
+            if (entries == null) {
+                throw new JsonParseException("Manifest is empty");
+            }
+            for (Entry entry : entries) {
+                if (entry == null || entry.projectSummary == null
+                        || entry.manifestVersion != PROJECT_MANIFEST_VERSION) {
+                    continue;
+                }
+                String projectID = entry.projectSummary.getProjectID();
+                if (entry.equals(createEntry(entry.projectSummary))) {
+                    upToDateSummaries.put(projectID, entry.projectSummary);
+                }
+            }
+        } catch (IOException | JsonParseException err) {
+            ArchDukeLogger.logError(ProjectManifest.class.getName(), "Manifest could not be read: "
+                    + err.getMessage());
+        }
+        return upToDateSummaries;
+    }
+
+    /**
+     * Replaces the manifest with the given summaries, recording the current state of each Project's files.
+     * Every change to the Projects must already be on disk.
+     * @param projectSummaries : Summaries of all Projects.
+     */
+    public void save(ArrayList<ProjectSummary> projectSummaries) {
+        ArrayList<Entry> entries = new ArrayList<>();
+        for (ProjectSummary projectSummary : projectSummaries) {
+            entries.add(createEntry(projectSummary));
+        }
+        try (Writer fileWriter = Files.newBufferedWriter(new File(userDirectory, PROJECT_MANIFEST_FILE_NAME).toPath(),
+                StandardCharsets.UTF_8)) {
+            MANIFEST_GSON.toJson(entries.toArray(new Entry[0]), Entry[].class, fileWriter);
+        } catch (IOException err) {
+            ArchDukeLogger.logError(ProjectManifest.class.getName(), "Manifest could not be saved: "
+                    + err.getMessage());
+        }
+    }
+
+    private Entry createEntry(ProjectSummary projectSummary) {
+        String projectID = projectSummary.getProjectID();
+        return new Entry(PROJECT_MANIFEST_VERSION, projectSummary, projectConverter.getSavedSize(projectID),
+                projectConverter.getSaveStamp(projectID), projectJournal.getLength(projectID));
+    }
+
+    private static class Entry {
+        private int manifestVersion;
+        private ProjectSummary projectSummary;
+        private long snapshotLength;
+        private long snapshotLastModified;
+        private long journalLength;
+
+        Entry(int manifestVersion, ProjectSummary projectSummary, long snapshotLength, long snapshotLastModified,
+              long journalLength) {
+            this.manifestVersion = manifestVersion;
+            this.projectSummary = projectSummary;
+            this.snapshotLength = snapshotLength;
+            this.snapshotLastModified = snapshotLastModified;
+            this.journalLength = journalLength;
+        }
+
+        /**
+         * Entries are equal if they were taken from the same state of the Project's files.
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            } else if (!(obj instanceof Entry)) {
+                return false;
+            } else {
+                Entry other = (Entry) obj;
+                return this.snapshotLength == other.snapshotLength
+                        && this.snapshotLastModified == other.snapshotLastModified
+                        && this.journalLength == other.journalLength;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(this.snapshotLength + this.snapshotLastModified + this.journalLength);
+        }
+    }
+
+    /**
+     * Streaming TypeAdapter for Entry, which writes the summary with the shared TypeAdapter of ProjectSummary.
+     */
+    private static class EntryTypeAdapter extends TypeAdapter<Entry> {
+        private final TypeAdapter<ProjectSummary> summaryAdapter =
+                JsonConverter.getCompactGson().getAdapter(ProjectSummary.class);
+
+        @Override
+        public void write(JsonWriter writer, Entry entry) throws IOException {
+            if (entry == null) {
+                writer.nullValue();
+                return;
+            }
+            writer.beginObject();
+            writer.name("manifestVersion").value(entry.manifestVersion);
+            writer.name("projectSummary");
+            summaryAdapter.write(writer, entry.projectSummary);
+            writer.name("snapshotLength").value(entry.snapshotLength);
+            writer.name("snapshotLastModified").value(entry.snapshotLastModified);
+            writer.name("journalLength").value(entry.journalLength);
+            writer.endObject();
+        }
+
+        @Override
+        public Entry read(JsonReader reader) throws IOException {
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                return null;
+            }
+            int manifestVersion = 0;
+            ProjectSummary projectSummary = null;
+            long snapshotLength = 0;
+            long snapshotLastModified = 0;
+            long journalLength = 0;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                case "manifestVersion":
+                    manifestVersion = reader.nextInt();
+                    break;
+                case "projectSummary":
+                    projectSummary = summaryAdapter.read(reader);
+                    break;
+                case "snapshotLength":
+                    snapshotLength = reader.nextLong();
+                    break;
+                case "snapshotLastModified":
+                    snapshotLastModified = reader.nextLong();
+                    break;
+                case "journalLength":
+                    journalLength = reader.nextLong();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+                }
+            }
+            reader.endObject();
+            return new Entry(manifestVersion, projectSummary, snapshotLength, snapshotLastModified, journalLength);
+        }
+    }
+}
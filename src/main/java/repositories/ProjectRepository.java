@@ -3,31 +3,229 @@ package repositories;
 import exceptions.DukeException;
 import models.project.IProject;
 import models.project.Project;
+import models.project.ProjectChange;
+import models.project.ProjectSummary;
+import models.reminder.Reminder;
+import models.task.Task;
+import util.date.CalendarIndex;
 import util.factories.ProjectFactory;
 import util.json.JsonConverter;
 import util.log.ArchDukeLogger;
+import util.storage.ProjectConverter;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static util.constant.ConstantHelper.JOURNAL_SNAPSHOT_THRESHOLD_BYTES;
+import static util.constant.ConstantHelper.SAVE_QUEUE_CAPACITY;
+import static util.constant.ConstantHelper.STORAGE_FORMAT_BINARY;
+import static util.constant.ConstantHelper.STORAGE_FORMAT_JSON;
+import static util.constant.ConstantHelper.STORAGE_FORMAT_PROPERTY;
+import static util.constant.ConstantHelper.STORAGE_FORMAT_WORKSPACE;
 
 //@@author Lucria
 public class ProjectRepository implements IRepository<Project> {
     private ArrayList<Project> allProjects;
+    private ArrayList<ProjectSummary> projectSummaries;
     private ProjectFactory projectFactory = new ProjectFactory();
-    private JsonConverter jsonConverter = new JsonConverter();
+    private ProjectConverter projectConverter;
+    private HashMap<Project, Long> savedVersions = new HashMap<>();
+    private ProjectSaveQueue projectSaveQueue;
+    private ProjectManifest projectManifest;
+    private boolean isInBatch;
+    private LinkedHashSet<Project> batchChangedProjects = new LinkedHashSet<>();
+    private static ProjectJournal projectJournal = new ProjectJournal();
+    private static HashMap<String, ProjectSaveQueue> saveQueues = new HashMap<>();
+
+    /**
+     * Constructor of ProjectRepository that saves Projects as JSON.
+     */
+    public ProjectRepository() {
+        this(new JsonConverter());
+    }
 
     /**
      * Constructor of ProjectRepository.
-     * It first gets resources from packaged jar.
-     * Next, it loads any projects data in the current working directory.
+     * It first moves any project saved under its name by an earlier version of ArchDuke to a save file named after
+     * its ID. It then lists the projects saved in the current working directory. A project whose summary in the
+     * manifest is up to date is only loaded once it is managed. Any other project is loaded immediately, with the
+     * save files read in parallel.
      * Lastly, it adds any resources found in packaged jar into the data found in current working directory.
+     * All repositories of a save file format share one save queue, which is flushed first so that saves queued by an
+     * earlier repository are on disk before the projects are listed.
+     * @param projectConverter : Converter for the save file format the Projects are stored in.
      */
-    public ProjectRepository() {
-        allProjects = jsonConverter.loadAllProjectsData();
+    protected ProjectRepository(ProjectConverter projectConverter) {
+        this.projectConverter = projectConverter;
+        this.projectSaveQueue = getSaveQueue(projectConverter);
+        this.projectManifest = new ProjectManifest(projectConverter, projectJournal);
+        projectSaveQueue.flush();
+        migrateLegacyProjects();
+        allProjects = new ArrayList<>();
+        projectSummaries = new ArrayList<>();
+        HashMap<String, ProjectSummary> manifestSummaries = projectManifest.loadUpToDateSummaries();
+        ArrayList<String> savedProjectIDs = projectConverter.getSavedProjectIDs();
+        ArrayList<String> outdatedProjectIDs = new ArrayList<>(savedProjectIDs);
+        outdatedProjectIDs.removeAll(manifestSummaries.keySet());
+        Iterator<Project> outdatedProjects = projectConverter.loadProjects(outdatedProjectIDs).iterator();
+        for (String projectID : savedProjectIDs) {
+            if (manifestSummaries.containsKey(projectID)) {
+                allProjects.add(null);
+                projectSummaries.add(manifestSummaries.get(projectID));
+                continue;
+            }
+            Project savedProject = outdatedProjects.next();
+            if (savedProject != null) {
+                replayJournal(savedProject);
+                allProjects.add(savedProject);
+                projectSummaries.add(new ProjectSummary(savedProject));
+            }
+        }
+        for (Project jarProject : projectConverter.saveMissingResourcesInJar(savedProjectIDs)) {
+            savedVersions.put(jarProject, jarProject.getVersion());
+            jarProject.startRecordingChanges();
+            allProjects.add(jarProject);
+            projectSummaries.add(new ProjectSummary(jarProject));
+        }
+        if (manifestSummaries.size() != allProjects.size()) {
+            projectManifest.save(getAllProjectSummaries());
+        }
+    }
+
+    /**
+     * Creates the repository for the storage format chosen through the "archduke.storage" system property, which is
+     * "json", "binary" or "workspace". Projects are stored as JSON if no format is chosen.
+     * @return : Returns a ProjectRepository storing Projects in the chosen format.
+     */
+    public static ProjectRepository createConfiguredRepository() {
+        String storageFormat = System.getProperty(STORAGE_FORMAT_PROPERTY, STORAGE_FORMAT_JSON);
+        if (STORAGE_FORMAT_BINARY.equals(storageFormat)) {
+            return new BinaryProjectRepository();
+        } else if (STORAGE_FORMAT_WORKSPACE.equals(storageFormat)) {
+            return new WorkspaceProjectRepository();
+        } else if (!STORAGE_FORMAT_JSON.equals(storageFormat)) {
+            ArchDukeLogger.logError(ProjectRepository.class.getName(), "Unknown storage format '" + storageFormat
+                    + "', storing projects as JSON");
+        }
+        return new ProjectRepository();
+    }
+
+    /**
+     * Returns the save queue shared by all repositories that store Projects in the same save file format, creating
+     * it on first use.
+     */
+    private static ProjectSaveQueue getSaveQueue(ProjectConverter projectConverter) {
+        synchronized (saveQueues) {
+            return saveQueues.computeIfAbsent(projectConverter.getFileExtension(), fileExtension ->
+                    new ProjectSaveQueue(projectConverter, projectJournal, SAVE_QUEUE_CAPACITY));
+        }
+    }
+
+    /**
+     * Moves every Project saved under its name by an earlier version of ArchDuke to a save file named after its ID.
+     * The Project is saved under its ID together with its journal before the save file and journal under its name
+     * are deleted. Its ID is derived from its name, so a migration cut short by a crash is simply done again.
+     * A save file that cannot be loaded is left as it is.
+     */
+    private void migrateLegacyProjects() {
+        ArrayList<String> legacyProjectNames = projectConverter.getSavedProjectIDs();
+        legacyProjectNames.removeIf(ProjectConverter::isProjectID);
+        ArrayList<Project> legacyProjects = projectConverter.loadProjects(legacyProjectNames);
+        for (int projectIndex = 0; projectIndex < legacyProjectNames.size(); projectIndex++) {
+            Project legacyProject = legacyProjects.get(projectIndex);
+            String legacyProjectName = legacyProjectNames.get(projectIndex);
+            if (legacyProject == null) {
+                continue;
+            }
+            applyJournal(legacyProject, legacyProjectName);
+            if (!projectConverter.saveConvertedProject(legacyProject.getProjectID(),
+                    projectConverter.convertProject(legacyProject))) {
+                continue;
+            }
+            try {
+                projectConverter.deleteProject(legacyProjectName);
+                projectJournal.delete(legacyProjectName);
+                ArchDukeLogger.logInfo(ProjectRepository.class.getName(), "Project '" + legacyProjectName
+                        + "' moved to save file of ID " + legacyProject.getProjectID());
+            } catch (DukeException err) {
+                ArchDukeLogger.logError(ProjectRepository.class.getName(), "Earlier save file of '"
+                        + legacyProjectName + "' could not be deleted: " + err.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Loads a Project from its snapshot and replays its journal.
+     * @param projectID : ID of the Project to be loaded.
+     * @return : Returns the loaded Project, or null if it cannot be loaded.
+     */
+    private Project loadProject(String projectID) {
+        Project project = projectConverter.loadProject(projectID);
+        if (project != null) {
+            replayJournal(project);
+        }
+        return project;
+    }
+
+    /**
+     * Replays the journaled changes of a Project that are newer than its snapshot.
+     * The Project is then fully on disk, so its current version is recorded as saved, and the Project starts
+     * recording its changes so that they can be journaled.
+     * @param project : Project loaded from its snapshot.
+     */
+    private void replayJournal(Project project) {
+        applyJournal(project, project.getProjectID());
+        savedVersions.put(project, project.getVersion());
+        project.startRecordingChanges();
+    }
+
+    /**
+     * Applies the journaled changes of a Project that are newer than its snapshot to the Project.
+     * @param project : Project loaded from its snapshot.
+     * @param journalName : ID of the Project, or the name its journal was written under by an earlier version.
+     */
+    private void applyJournal(Project project, String journalName) {
+        LinkedHashMap<Long, List<ProjectChange>> journalRecords = projectJournal.readRecordsAfter(journalName,
+                project.getJournalSequence());
+        for (Map.Entry<Long, List<ProjectChange>> journalRecord : journalRecords.entrySet()) {
+            project.applyChanges(journalRecord.getValue());
+            project.setJournalSequence(journalRecord.getKey());
+        }
     }
 
+    /**
+     * Returns the summaries of all Projects. Summaries of loaded Projects are taken again, so they are up to date.
+     * @return : Returns the summary of every Project, in the order of the Projects.
+     */
+    private ArrayList<ProjectSummary> getAllProjectSummaries() {
+        for (int projectIndex = 0; projectIndex < allProjects.size(); projectIndex++) {
+            Project project = allProjects.get(projectIndex);
+            if (project != null) {
+                projectSummaries.set(projectIndex, new ProjectSummary(project));
+            }
+        }
+        return projectSummaries;
+    }
+
+    /**
+     * Returns all Projects, loading any that have not been loaded yet.
+     * Prefer getItem or getAllProjectsDetailsForTable, which do not need every Project to be loaded.
+     */
     @Override
     public ArrayList<Project> getAll() {
+        for (int projectNumber = 1; projectNumber <= allProjects.size(); projectNumber++) {
+            getItem(projectNumber);
+        }
         return allProjects;
     }
 
@@ -40,54 +238,177 @@ public class ProjectRepository implements IRepository<Project> {
             return false;
         }
         Project newlyCreatedProject = (Project) newProject;
+        newlyCreatedProject.startRecordingChanges();
         allProjects.add(newlyCreatedProject);
-        jsonConverter.saveProject(newlyCreatedProject);
+        projectSummaries.add(new ProjectSummary(newlyCreatedProject));
+        queueSave(newlyCreatedProject);
         return true;
     }
 
+    /**
+     * Returns the number of Projects, without loading any of them.
+     */
+    public int getNumOfProjects() {
+        return allProjects.size();
+    }
+
     /**
      * Method to retrieve a Project from ArrayList of Projects.
+     * A Project that has not been loaded yet is loaded first.
      * @param indexNumber : Index of Project that user wishes to retrieve
-     * @return Returns the Project object desired by user
+     * @return Returns the Project object desired by user, or null if its save file cannot be loaded.
      */
     public Project getItem(int indexNumber) {
-        return this.allProjects.get(indexNumber - 1);
+        Project project = this.allProjects.get(indexNumber - 1);
+        if (project == null) {
+            project = loadProject(this.projectSummaries.get(indexNumber - 1).getProjectID());
+            this.allProjects.set(indexNumber - 1, project);
+        }
+        return project;
     }
 
     /**
-     * Method responsible for deleting an old JSON and creating a new JSON file after a Project renames itself.
+     * Method responsible for renaming a Project.
+     * Save files are named after the ID of a Project, so the new name is saved like any other change to the Project,
+     * which the Project records so that it is journaled.
      * @param project : Project that is being renamed.
      * @param input : New name for the Project.
-     * @return : Returns a boolean flag stating whether the deletion and recreation of JSon was successful or not.
+     * @return : Returns a boolean flag stating whether the Project was renamed.
      */
     public boolean updateItem(Project project, String input) {
-        try {
-            jsonConverter.deleteProject(project);
-        } catch (DukeException e) {
-            return false;
-        }
         project.setName(input);
-        jsonConverter.saveProject(project);
         return true;
     }
 
     /**
-     * Method to force save an Object to the Data layer.
+     * Method to save an Object to the Data layer.
+     * The save is queued and written in the background, so repeated saves of the same Project are coalesced.
+     * A Project that has not changed since it was last saved is not saved again, so read-only commands never
+     * cause a write.
      * @param project : Object to be saved.
      */
     public void saveToRepo(Project project) {
-        jsonConverter.saveProject(project);
+        Long savedVersion = savedVersions.get(project);
+        if (savedVersion == null || savedVersion != project.getVersion()) {
+            queueSave(project);
+        }
+    }
+
+    /**
+     * Method to save the changes made by a command to the Data layer.
+     * The changes the Project recorded are appended to its journal instead of saving the whole Project, so the cost
+     * of a save follows the size of the change. Once the journal grows past a threshold, a full snapshot is queued
+     * instead, and the journaled changes included in it are dropped after it is written.
+     * During a batch, the Project is only noted as changed, and is saved in full at the next flush instead.
+     * Callers must hold the Project's lock, so that the journal sequence number matches the state of the Project.
+     * @param project : Project changed by the command.
+     */
+    public void saveChangesToRepo(Project project) {
+        List<ProjectChange> changes = project.takeChanges();
+        if (isInBatch) {
+            batchChangedProjects.add(project);
+            return;
+        }
+        long version = project.getVersion();
+        Long savedVersion = savedVersions.get(project);
+        if (savedVersion == null || changes.isEmpty()) {
+            saveToRepo(project);
+            return;
+        } else if (savedVersion == version) {
+            return;
+        }
+        long sequence = project.getJournalSequence() + 1;
+        try {
+            long journalSize = projectJournal.append(project.getProjectID(), sequence, changes);
+            project.setJournalSequence(sequence);
+            savedVersions.put(project, version);
+            if (journalSize > JOURNAL_SNAPSHOT_THRESHOLD_BYTES) {
+                queueSave(project);
+            }
+        } catch (IOException err) {
+            ArchDukeLogger.logError(ProjectRepository.class.getName(), "Changes could not be journaled, saving '"
+                    + project.getName() + "' in full: " + err.getMessage());
+            // The record may be in the journal even though it is not durable, so the snapshot skips past it.
+            project.setJournalSequence(sequence);
+            queueSave(project);
+        }
+    }
+
+    /**
+     * Records the current version of a Project as saved and queues the save.
+     * The version is read before the save is queued, so a change made while the save is queued is saved again.
+     * The changes the Project recorded are included in the save, so they are dropped rather than journaled.
+     * @param project : Project to be saved.
+     */
+    private void queueSave(Project project) {
+        project.takeChanges();
+        savedVersions.put(project, project.getVersion());
+        projectSaveQueue.enqueue(project);
+    }
+
+    /**
+     * Starts a batch of commands, such as a script, during which changes to Projects are not journaled command by
+     * command. Each changed Project is instead saved once in full whenever the repository is flushed, so a batch
+     * of thousands of commands costs a handful of writes rather than one write per command.
+     */
+    public void beginBatch() {
+        isInBatch = true;
+    }
+
+    /**
+     * Ends the current batch of commands, saving every Project changed during it.
+     */
+    public void endBatch() {
+        flushToRepo();
+        isInBatch = false;
+    }
+
+    /**
+     * Method to wait until every queued save has been written to the Data layer.
+     * Any Project changed during the current batch is saved first. The manifest is then brought up to date with
+     * the saved Projects.
+     */
+    public void flushToRepo() {
+        for (Project changedProject : batchChangedProjects) {
+            synchronized (changedProject) {
+                saveToRepo(changedProject);
+            }
+        }
+        batchChangedProjects.clear();
+        projectSaveQueue.flush();
+        projectManifest.save(getAllProjectSummaries());
+    }
+
+    /**
+     * Drops any queued save of a Project and deletes its save file and journal.
+     * A Project whose first save was still queued has no save file yet, so a missing file is not an error for it.
+     * @param projectID : ID of the Project whose data is to be deleted.
+     * @throws DukeException : Exception thrown when the save file of a previously saved project cannot be found.
+     */
+    private void deleteProjectData(String projectID) throws DukeException {
+        boolean hasUnwrittenSave = projectSaveQueue.discard(projectID);
+        projectJournal.delete(projectID);
+        try {
+            projectConverter.deleteProject(projectID);
+        } catch (DukeException err) {
+            if (!hasUnwrittenSave) {
+                throw err;
+            }
+        }
     }
 
     /**
      * Method for deletion of projects.
+     * The Project is deleted by its ID, so a Project that was never loaded, or whose save file cannot be loaded,
+     * is deleted without loading it.
      * @param indexNumber : Index of project that user wishes to delete
      * @return Returns a boolean that states whether the project is deleted successfully
      */
     public String[] deleteItem(int indexNumber) {
         try {
-            jsonConverter.deleteProject(allProjects.get(indexNumber - 1));
-            this.allProjects.remove(indexNumber - 1);
+            String projectID = this.projectSummaries.get(indexNumber - 1).getProjectID();
+            removeProject(indexNumber);
+            deleteProjectData(projectID);
             return new String[]{"Project " + indexNumber + " has been deleted"};
         } catch (IndexOutOfBoundsException err) {
             return new String[]{
@@ -97,7 +418,6 @@ public class ProjectRepository implements IRepository<Project> {
                 "You could have attempted to delete the default Project loaded immediately. "
                     + "Do not panic if this was you. The default Project is deleted correctly"};
         } catch (DukeException err) {
-            this.allProjects.remove(indexNumber - 1);
             return new String[]{
                 "Error occurred! There could be three possibilities:",
                 "You could have attempted to delete a Project after renaming it's JSON file",
@@ -107,6 +427,13 @@ public class ProjectRepository implements IRepository<Project> {
         }
     }
 
+    private void removeProject(int indexNumber) {
+        Project removedProject = this.allProjects.remove(indexNumber - 1);
+        savedVersions.remove(removedProject);
+        batchChangedProjects.remove(removedProject);
+        this.projectSummaries.remove(indexNumber - 1);
+    }
+
     //@@author seanlimhx
     /**
      * Method to get all project details in a suitable form for CLIView to print in a table form.
@@ -115,23 +442,25 @@ public class ProjectRepository implements IRepository<Project> {
      */
     public ArrayList<ArrayList<String>> getAllProjectsDetailsForTable() {
         ArrayList<ArrayList<String>> responseModel = new ArrayList<>();
-        for (int projNum = 0; projNum < allProjects.size(); projNum++) {
+        ArrayList<ProjectSummary> allProjectSummaries = getAllProjectSummaries();
+        for (int projNum = 0; projNum < allProjectSummaries.size(); projNum++) {
+            ProjectSummary projectSummary = allProjectSummaries.get(projNum);
             ArrayList<String> toPrint = new ArrayList<>();
-            toPrint.add("Project " + (projNum + 1) + ": " + allProjects.get(projNum).getName());
+            toPrint.add("Project " + (projNum + 1) + ": " + projectSummary.getName());
             toPrint.add("Members: ");
-            if (allProjects.get(projNum).getNumOfMembers() == 0) {
+            if (projectSummary.getNumOfMembers() == 0) {
                 toPrint.add(" --");
             } else {
-                for (int memberIndex = 1; memberIndex <= allProjects.get(projNum).getNumOfMembers(); memberIndex++) {
-                    toPrint.add(" " + allProjects.get(projNum).getMemberList().getMember(memberIndex).getDetails());
+                for (String memberDetails : projectSummary.getMemberDetails()) {
+                    toPrint.add(" " + memberDetails);
                 }
                 toPrint.add("");
             }
-            if (allProjects.get(projNum).getNumOfTasks() == 0) {
+            if (projectSummary.getNumOfTasks() == 0) {
                 toPrint.add("Next Deadline: ");
                 toPrint.add(" --");
             } else {
-                String[] detailsClosestDeadlineTask = allProjects.get(projNum).getTaskList().getClosestDeadlineTask();
+                String[] detailsClosestDeadlineTask = projectSummary.getNextDeadlineDetails();
                 toPrint.add("Next Deadline: " + detailsClosestDeadlineTask[0]);
                 for (int i = 1; i < detailsClosestDeadlineTask.length; i++) {
                     toPrint.add(" - " + detailsClosestDeadlineTask[i]);
@@ -139,11 +468,10 @@ public class ProjectRepository implements IRepository<Project> {
                 toPrint.add("");
             }
             toPrint.add("Overall Progress: ");
-            if (allProjects.get(projNum).getNumOfTasks() == 0) {
+            if (projectSummary.getNumOfTasks() == 0) {
                 toPrint.add(" --");
             } else {
-                String[] detailsOverallProgress = allProjects.get(projNum).getTaskList().getOverallProgress();
-                for (String detail : detailsOverallProgress) {
+                for (String detail : projectSummary.getOverallProgressDetails()) {
                     toPrint.add(" - " + detail);
                 }
             }
@@ -202,4 +530,48 @@ public class ProjectRepository implements IRepository<Project> {
     public HashMap<Integer, Integer> getAllTasksInCurrentMonth(Project project) {
         return project.getTaskList().getTasksWithinCurrentMonth();
     }
+
+    public HashMap<Integer, Integer> getAllTasksInMonth(Project project, YearMonth month) {
+        return project.getTaskList().getTasksWithinMonth(month);
+    }
+
+    /**
+     * Method for getting the tasks and reminders due on each day of a week for ProjectInputController.
+     * @param project : current Project that is being managed
+     * @param firstDay : first day of the week
+     * @return : Returns an ArrayList of String for printing in a user friendly format
+     */
+    public ArrayList<String> getAgendaForWeekForTable(Project project, LocalDate firstDay) {
+        DateTimeFormatter dayFormat = DateTimeFormatter.ofPattern("EEE dd MMM yyyy");
+        LocalDate lastDay = firstDay.plusDays(6);
+        ArrayList<Task> weekTasks = project.getTaskList().getTasksDueBetween(firstDay, lastDay);
+        ArrayList<Reminder> weekReminders = project.getRemindersDueBetween(firstDay, lastDay);
+        ArrayList<String> responseModel = new ArrayList<>();
+        responseModel.add("Agenda from " + firstDay.format(dayFormat) + " to " + lastDay.format(dayFormat));
+        int taskIndex = 0;
+        int reminderIndex = 0;
+        for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            responseModel.add("");
+            responseModel.add(day.format(dayFormat) + ":");
+            int numOfLines = responseModel.size();
+            while (taskIndex < weekTasks.size() && isDueOn(weekTasks.get(taskIndex).getDueDate(), day)) {
+                Task task = weekTasks.get(taskIndex);
+                responseModel.add(" - Task: " + task.getTaskName() + " (" + task.getTaskState() + ")");
+                taskIndex++;
+            }
+            while (reminderIndex < weekReminders.size()
+                    && isDueOn(weekReminders.get(reminderIndex).getReminderDate(), day)) {
+                responseModel.add(" - Reminder: " + weekReminders.get(reminderIndex).getReminderName());
+                reminderIndex++;
+            }
+            if (responseModel.size() == numOfLines) {
+                responseModel.add(" --");
+            }
+        }
+        return responseModel;
+    }
+
+    private boolean isDueOn(Date dueDate, LocalDate day) {
+        return CalendarIndex.toLocalDate(dueDate).equals(day);
+    }
 }
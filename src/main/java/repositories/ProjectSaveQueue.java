@@ -0,0 +1,307 @@
+package repositories;
+
+import models.project.Project;
+import util.log.ArchDukeLogger;
+import util.storage.GroupCommitter;
+import util.storage.ProjectConverter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+//@@author Lucria
+/**
+ * Write-behind persistence stage for Projects.
+ * Saves are queued and written by a single background writer so that commands do not wait for the disk.
+ * Repeated saves of the same Project before it is written are coalesced into a single write.
+ * A Project is claimed and converted while holding its lock, so a controller holding that lock while it runs a
+ * command never has a half-applied command written to disk, and never waits on a write that is waiting on it.
+ * The writer starts writing every Project waiting in the queue before it waits for any of them, so that they are made
+ * durable on disk in one group commit. Once a Project is durable, the journal records included in it are dropped.
+ */
+public class ProjectSaveQueue {
+    private final ProjectConverter projectConverter;
+    private final ProjectJournal projectJournal;
+    private final int capacity;
+    private final LinkedHashSet<Project> pendingProjects;
+    private final HashSet<Project> projectsBeingWritten;
+    private final ReentrantLock queueLock;
+    private final Condition hasQueueChanged;
+    private Thread writerThread;
+    private boolean isClosed;
+
+    /**
+     * Constructor of ProjectSaveQueue.
+     * The background writer is only started on the first save, and a shutdown hook is registered so that pending
+     * saves are written before the JVM exits.
+     * @param projectConverter : Converter used to write Projects to disk.
+     * @param projectJournal : Journal that is compacted after a Project is written.
+     * @param capacity : Maximum number of distinct Projects that may be waiting to be written.
+     */
+    public ProjectSaveQueue(ProjectConverter projectConverter, ProjectJournal projectJournal, int capacity) {
+        this.projectConverter = projectConverter;
+        this.projectJournal = projectJournal;
+        this.capacity = capacity;
+        this.pendingProjects = new LinkedHashSet<>();
+        this.projectsBeingWritten = new HashSet<>();
+        this.queueLock = new ReentrantLock();
+        this.hasQueueChanged = queueLock.newCondition();
+        this.isClosed = false;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close));
+    }
+
+    /**
+     * Queues a Project to be written by the background writer.
+     * A Project that is already waiting to be written is not queued twice.
+     * If the queue is full, or the queue has been closed, the caller writes the queued Projects itself.
+     * @param project : Project to be saved.
+     */
+    public void enqueue(Project project) {
+        boolean isWrittenByCaller;
+        queueLock.lock();
+        try {
+            isWrittenByCaller = isClosed
+                    || (!pendingProjects.contains(project) && pendingProjects.size() >= capacity);
+            pendingProjects.add(project);
+            if (!isClosed) {
+                startWriterIfNeeded();
+            }
+            hasQueueChanged.signalAll();
+        } finally {
+            queueLock.unlock();
+        }
+        if (isWrittenByCaller) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes every Project that is currently queued and waits for any write already in progress.
+     * When this method returns, every save queued before the call has reached the disk.
+     */
+    public void flush() {
+        Project project = awaitClaimableProject(false);
+        while (project != null) {
+            writePendingProjects(project);
+            project = awaitClaimableProject(false);
+        }
+        awaitWritesInProgress(null);
+    }
+
+    /**
+     * Removes a Project from the queue without writing it, and waits for any write of it already in progress.
+     * Used before the save file of a Project is deleted, so the Project is found by its ID and need not be loaded.
+     * @param projectID : ID of the Project whose queued save should be dropped.
+     * @return : Returns true if the Project had a save that was not yet written.
+     */
+    public boolean discard(String projectID) {
+        boolean isRemoved;
+        queueLock.lock();
+        try {
+            isRemoved = pendingProjects.removeIf(project -> projectID.equals(project.getProjectID()));
+            hasQueueChanged.signalAll();
+        } finally {
+            queueLock.unlock();
+        }
+        awaitWritesInProgress(projectID);
+        return isRemoved;
+    }
+
+    /**
+     * Writes all pending saves and stops the background writer. Later saves are written on the caller's thread.
+     */
+    public void close() {
+        queueLock.lock();
+        try {
+            isClosed = true;
+            hasQueueChanged.signalAll();
+        } finally {
+            queueLock.unlock();
+        }
+        flush();
+    }
+
+    private void startWriterIfNeeded() {
+        if (writerThread == null) {
+            writerThread = new Thread(this::runWriter, "ArchDuke-ProjectSaveQueue");
+            writerThread.setDaemon(true);
+            writerThread.start();
+        }
+    }
+
+    private void runWriter() {
+        Project project = awaitClaimableProject(true);
+        while (project != null) {
+            writePendingProjects(project);
+            project = awaitClaimableProject(true);
+        }
+    }
+
+    /**
+     * Returns the oldest queued Project that is not already being written.
+     * If every queued Project is being written, waits so that two writes of the same Project never race.
+     * @param isWaitingForSaves : True for the background writer, which also waits while the queue is empty.
+     * @return : Returns the Project to write, or null if there is nothing left for this caller to write.
+     */
+    private Project awaitClaimableProject(boolean isWaitingForSaves) {
+        queueLock.lock();
+        try {
+            while (true) {
+                if (isWaitingForSaves && isClosed) {
+                    return null;
+                }
+                Project project = findClaimableProject();
+                if (project != null) {
+                    return project;
+                }
+                if (pendingProjects.isEmpty() && !isWaitingForSaves) {
+                    return null;
+                }
+                hasQueueChanged.awaitUninterruptibly();
+            }
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    private Project findClaimableProject() {
+        queueLock.lock();
+        try {
+            for (Project project : pendingProjects) {
+                if (!projectsBeingWritten.contains(project)) {
+                    return project;
+                }
+            }
+            return null;
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    /**
+     * Starts writing the given Project and every other queued Project that is not already being written, then waits
+     * for all of them, so that the writes are made durable on disk as one group.
+     * Once a Project is durable, the journal records included in it are dropped.
+     * @param firstProject : Queued Project to start with.
+     */
+    private void writePendingProjects(Project firstProject) {
+        ArrayList<PendingWrite> pendingWrites = new ArrayList<>();
+        Project project = firstProject;
+        while (project != null) {
+            PendingWrite pendingWrite = startWriteIfPending(project);
+            if (pendingWrite != null) {
+                pendingWrites.add(pendingWrite);
+            }
+            project = findClaimableProject();
+        }
+        for (PendingWrite pendingWrite : pendingWrites) {
+            try {
+                if (pendingWrite.commitTicket.await()) {
+                    projectJournal.compact(pendingWrite.projectID, pendingWrite.journalSequence);
+                }
+            } finally {
+                release(pendingWrite.project);
+            }
+        }
+    }
+
+    /**
+     * Claims and converts a queued Project while holding its lock, then starts writing it without holding the lock.
+     * Does nothing if another thread claimed or discarded the Project first.
+     * @return : Returns the started write, which must be waited for and released, or null if nothing was started.
+     */
+    private PendingWrite startWriteIfPending(Project project) {
+        String projectID = null;
+        byte[] projectData = null;
+        long journalSequence = 0;
+        synchronized (project) {
+            if (claim(project)) {
+                try {
+                    projectID = project.getProjectID();
+                    journalSequence = project.getJournalSequence();
+                    projectData = projectConverter.convertProject(project);
+                } catch (RuntimeException err) {
+                    ArchDukeLogger.logError(ProjectSaveQueue.class.getName(), "Project '" + project.getName()
+                            + "' could not be converted: " + err.getMessage());
+                    release(project);
+                }
+            }
+        }
+        if (projectData == null) {
+            return null;
+        }
+        try {
+            return new PendingWrite(project, projectID, journalSequence,
+                    projectConverter.startSavingConvertedProject(projectID, projectData));
+        } catch (RuntimeException err) {
+            release(project);
+            throw err;
+        }
+    }
+
+    private boolean claim(Project project) {
+        queueLock.lock();
+        try {
+            if (projectsBeingWritten.contains(project) || !pendingProjects.remove(project)) {
+                return false;
+            }
+            projectsBeingWritten.add(project);
+            return true;
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    private void release(Project project) {
+        queueLock.lock();
+        try {
+            projectsBeingWritten.remove(project);
+            hasQueueChanged.signalAll();
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    /**
+     * Waits until no Project with the given ID is being written, or until no Project at all is if the ID is null.
+     */
+    private void awaitWritesInProgress(String projectID) {
+        queueLock.lock();
+        try {
+            while (isBeingWritten(projectID)) {
+                hasQueueChanged.awaitUninterruptibly();
+            }
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    private boolean isBeingWritten(String projectID) {
+        if (projectID == null) {
+            return !projectsBeingWritten.isEmpty();
+        }
+        for (Project project : projectsBeingWritten) {
+            if (projectID.equals(project.getProjectID())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class PendingWrite {
+        private final Project project;
+        private final String projectID;
+        private final long journalSequence;
+        private final GroupCommitter.CommitTicket commitTicket;
+
+        PendingWrite(Project project, String projectID, long journalSequence,
+                GroupCommitter.CommitTicket commitTicket) {
+            this.project = project;
+            this.projectID = projectID;
+            this.journalSequence = journalSequence;
+            this.commitTicket = commitTicket;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package repositories;
+
+import util.storage.WorkspaceConverter;
+
+//@@author Lucria
+/**
+ * ProjectRepository that stores all Projects in a single memory-mapped workspace file.
+ * Chosen by starting ArchDuke with the system property "archduke.storage" set to "workspace".
+ */
+public class WorkspaceProjectRepository extends ProjectRepository {
+    /**
+     * Constructor of WorkspaceProjectRepository that keeps the workspace file in the current working directory.
+     */
+    public WorkspaceProjectRepository() {
+        super(new WorkspaceConverter());
+    }
+}
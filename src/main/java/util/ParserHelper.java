@@ -3,302 +3,278 @@ package util;
 
 import models.project.Project;
 import models.task.Task;
+import models.task.TaskList;
 import util.log.ArchDukeLogger;
+import util.parser.AssignmentParams;
+import util.parser.CommandFlags;
+import util.parser.IndexNumbers;
+import util.parser.MemberDetails;
+import util.parser.ReminderDetails;
+import util.parser.ReminderIndex;
+import util.parser.TaskDetails;
+import util.parser.TaskRequirementDetails;
 import util.validation.ValidityHelper;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 
 import static util.constant.ConstantHelper.BLANK;
+import static util.constant.ConstantHelper.COMMAND_VIEW_TASKS_PAGE_FLAG;
+import static util.constant.ConstantHelper.COMMAND_VIEW_TASKS_SIZE_FLAG;
+import static util.constant.ConstantHelper.COMMAND_VIEW_TASKS_TOP_FLAG;
+import static util.constant.ConstantHelper.DEFAULT_TASK_PAGE_SIZE;
 import static util.constant.ConstantHelper.ASSIGNEE_MARKER;
 import static util.constant.ConstantHelper.ASSIGNMENT_INDEX_NUMBER_MARKER;
 import static util.constant.ConstantHelper.ALL_MARKER;
-import static util.constant.ConstantHelper.TASK_FLAG_LENGTH;
-import static util.constant.ConstantHelper.MEMBER_FLAG_LENGTH;
 import static util.constant.ConstantHelper.UNASSIGNEE_MARKER;
 
 public class ParserHelper {
     private SortHelper sortHelper;
-    private ArrayList<String> errorMessages;
 
     public ParserHelper() {
         this.sortHelper = new SortHelper();
-        this.errorMessages = new ArrayList<>();
     }
 
     //@@author iamabhishek98
     /**
-     * Parses the string input to extract the name, phone number and email.
+     * Parses the string input to extract the name, phone number, email, index number and role. Hyphens inside the
+     * details are kept, and each flag that is not -n, -i, -e, -x or -r is reported as an error.
      * @param input Contains the name, phone number and email.
-     * @return An array consisting of name in index 0, phone number in index 1 and email in index 2.
+     * @return The details of the member, with the errors found in the input.
      */
-    public String[] parseMemberDetails(String input) {
-        String[] memberDetails = new String[5];
-        memberDetails[0] = "--";
-        memberDetails[1] = "--";
-        memberDetails[2] = "--";
-        memberDetails[3] = "0";
-        memberDetails[4] = "member";
-
-        String[] newMemberDetails = input.split("-");
-        ArrayList<String> newMemberDetailsA = new ArrayList<>(Arrays.asList(newMemberDetails));
-        newMemberDetailsA.remove(0);
-        for (String s : newMemberDetailsA) {
-            if (s.length() <= 0) {
-                continue;
-            }
-            switch (s.charAt(0)) {
-            case 'n':
-                memberDetails[0] = s.substring(1).trim();
+    public MemberDetails parseMemberDetails(String input) {
+        String name = "--";
+        String phone = "--";
+        String email = "--";
+        String indexNumber = "0";
+        String role = "member";
+        ArrayList<String> parseErrors = new ArrayList<>();
+
+        CommandFlags flags = CommandFlags.parse(input);
+        for (int flagIndex = 0; flagIndex < flags.getNumOfFlags(); flagIndex++) {
+            String value = flags.getValue(flagIndex);
+            switch (flags.getName(flagIndex)) {
+            case "n":
+                name = value;
                 break;
-            case 'i':
-                memberDetails[1] = s.substring(1).trim();
+            case "i":
+                phone = value;
                 break;
-            case 'e':
-                memberDetails[2] = s.substring(1).trim();
+            case "e":
+                email = value;
                 break;
-            case 'x':
-                memberDetails[3] = s.substring(1).trim();
+            case "x":
+                indexNumber = value;
                 break;
-            case 'r':
-                memberDetails[4] = s.substring(1).trim();
+            case "r":
+                role = value;
                 break;
             default:
+                parseErrors.add(getInvalidFlagMessage(flags, flagIndex));
                 break;
             }
         }
-        return memberDetails;
+        return new MemberDetails(name, phone, email, indexNumber, role, parseErrors);
     }
 
     /**
-     * Parses the string input to extract the name, priority, due date, credit and task state.
+     * Parses the string input to extract the name, priority, due date, credit and task state. Hyphens inside the
+     * details are kept, and each flag that is empty or is not -n, -p, -d, -c or -s is reported as an error.
      * @param input Contains the name, priority, due date, credit and task state.
-     * @return An ArrayList consisting of name in index 0, priority in index 1, due date in index 2,
-     *         credit in index 3, task state in index 4.
+     * @return The details of the task, with the errors found in the input.
      */
-    public ArrayList<String> parseTaskDetails(String input) {
-        errorMessages.clear();
-        ArrayList<String> newTask = new ArrayList<>();
+    public TaskDetails parseTaskDetails(String input) {
+        return parseTaskFlags(input, false);
+    }
 
+    //@@author Lucria
+    /**
+     * Parses the string input of a new task, which may also give the requirements of the task with -r flags.
+     * @param input Contains the name, priority, due date, credit, task state and task requirements.
+     * @return The details of the task, with the errors found in the input.
+     */
+    public TaskDetails parseNewTaskDetails(String input) {
+        return parseTaskFlags(input, true);
+    }
+
+    private TaskDetails parseTaskFlags(String input, boolean isRequirementAllowed) {
         String newTaskName = "--";
         String newTaskPriority = "-1";
         String newTaskDate = null;
         String newTaskCredit = "-1";
         String newTaskState = "NONE";
-
-        String [] newTaskDetails = input.split("-");
-        if (newTaskDetails.length == 0) {
-            errorMessages.add("Please input a complete flag! Examples for valid flags include '-n', '-p', '-d', "
-                    + "'-c' and '-s'. Refer to the user guide for more help!");
-        } else {
-            ArrayList<String> newTaskDetailsA = new ArrayList<>(Arrays.asList(newTaskDetails));
-            newTaskDetailsA.remove(0);
-            for (String s : newTaskDetailsA) {
-                String trimmedString = s.trim();
-                if (trimmedString.length() < 2) {
-                    if ("n".equals(trimmedString) || "p".equals(trimmedString) || "d".equals(trimmedString)
-                            || "c".equals(trimmedString) || "s".equals(trimmedString)) {
-                        errorMessages.add("'-" + trimmedString + "' is an empty flag!");
-                    } else {
-                        errorMessages.add("'An invalid flag is used here: -" + trimmedString);
-                    }
-                    continue;
-                }
-                switch (trimmedString.substring(0, 2)) {
-                case "n ":
-                    newTaskName = trimmedString.substring(2);
-                    break;
-                case "p ":
-                    newTaskPriority = trimmedString.substring(2);
-                    break;
-                case "d ":
-                    newTaskDate = trimmedString.substring(2);
-                    break;
-                case "c ":
-                    newTaskCredit = trimmedString.substring(2);
-                    break;
-                case "s ":
-                    newTaskState = trimmedString.substring(2).toLowerCase();
-                    break;
-                default:
-                    errorMessages.add("An invalid flag is used here: -" + trimmedString);
-                    break;
-                }
+        ArrayList<String> newTaskRequirements = new ArrayList<>();
+        ArrayList<String> parseErrors = new ArrayList<>();
+
+        CommandFlags flags = CommandFlags.parse(input);
+        for (int flagIndex = 0; flagIndex < flags.getNumOfFlags(); flagIndex++) {
+            String name = flags.getName(flagIndex);
+            String value = flags.getValue(flagIndex);
+            boolean isTaskFlag = "n".equals(name) || "p".equals(name) || "d".equals(name) || "c".equals(name)
+                    || "s".equals(name) || (isRequirementAllowed && "r".equals(name));
+            if (!isTaskFlag) {
+                parseErrors.add(getInvalidFlagMessage(flags, flagIndex));
+                continue;
+            } else if (value.isEmpty()) {
+                parseErrors.add("'-" + name + "' is an empty flag!");
+                continue;
+            }
+            switch (name) {
+            case "n":
+                newTaskName = value;
+                break;
+            case "p":
+                newTaskPriority = value;
+                break;
+            case "d":
+                newTaskDate = value;
+                break;
+            case "c":
+                newTaskCredit = value;
+                break;
+            case "s":
+                newTaskState = value.toLowerCase();
+                break;
+            default:
+                newTaskRequirements.add(value);
+                break;
             }
         }
-        newTask.add(newTaskName);
-        newTask.add(newTaskPriority);
-        newTask.add(newTaskDate);
-        newTask.add(newTaskCredit);
-        newTask.add(newTaskState);
+        return new TaskDetails(newTaskName, newTaskPriority, newTaskDate, newTaskCredit, newTaskState,
+                newTaskRequirements, parseErrors);
+    }
 
-        return newTask;
+    private String getInvalidFlagMessage(CommandFlags flags, int flagIndex) {
+        String value = flags.getValue(flagIndex);
+        return "An invalid flag is used here: -" + flags.getName(flagIndex) + (value.isEmpty() ? "" : " " + value);
     }
 
+    //@@author
     /**
-     * Parses the string input to extract the name, and reminder date.
+     * Parses the string input to extract the name, remarks, date and category of a reminder. Hyphens inside the
+     * details are kept, and each flag that is not -n, -r, -d or -l is reported as an error.
      * @param input Contains the name, and reminder date
-     * @return An ArrayList consisting of name in index 0,due date in index 1.
+     * @return The details of the reminder, with the errors found in the input.
      */
-    public ArrayList<String> parseReminderDetails(String input) {
-        ArrayList<String> newReminderInfo = new ArrayList<>();
+    public ReminderDetails parseReminderDetails(String input) {
         String newReminderName = "--";
         String newReminderRemarks = "--";
         String newReminderDate = null;
         String newReminderCategory = "DEFAULT";
-        String [] newReminderDetails = input.split("-");
-        ArrayList<String> newReminderInfoInput  =  new ArrayList<>(Arrays.asList(newReminderDetails));
-        newReminderInfoInput.remove(0); // Remove the first empty string in newReminderInfoInput
-        for (String s : newReminderInfoInput) {
-            switch (s.charAt(0)) {
-            case 'n':
-                newReminderName = s.substring(1).trim();
+        ArrayList<String> parseErrors = new ArrayList<>();
+
+        CommandFlags flags = CommandFlags.parse(input);
+        for (int flagIndex = 0; flagIndex < flags.getNumOfFlags(); flagIndex++) {
+            String value = flags.getValue(flagIndex);
+            switch (flags.getName(flagIndex)) {
+            case "n":
+                newReminderName = value;
                 break;
-            case 'r':
-                newReminderRemarks = s.substring(1).trim();
+            case "r":
+                newReminderRemarks = value;
                 break;
-            case 'd':
-                newReminderDate = s.substring(1).trim();
+            case "d":
+                newReminderDate = value;
                 break;
-            case'l':
-                newReminderCategory = s.substring(1).trim().toUpperCase();
+            case "l":
+                newReminderCategory = value.toUpperCase();
                 break;
             default:
+                parseErrors.add(getInvalidFlagMessage(flags, flagIndex));
                 break;
             }
         }
-
-        newReminderInfo.add(newReminderName);
-        newReminderInfo.add(newReminderRemarks);
-        newReminderInfo.add(newReminderDate);
-        newReminderInfo.add(newReminderCategory);
-        return newReminderInfo;
+        return new ReminderDetails(newReminderName, newReminderRemarks, newReminderDate, newReminderCategory,
+                parseErrors);
     }
 
     /**
      * Parse input to extract the index of the reminder specify by the user.
      * @param input Contain the input from the user.
-     * @return index in integer.
+     * @return The index number of the reminder, which is 0 if it is not valid, with the errors found in the input.
      */
-    public int parseDeleteReminder(String input) {
-        errorMessages.clear();
+    public ReminderIndex parseDeleteReminder(String input) {
         String [] deleteReminderDetails = input.split(" ");
         ValidityHelper validityHelper = new ValidityHelper();
-        if (deleteReminderDetails.length > 3 || !validityHelper.digitChecker(deleteReminderDetails[2])) {
-            errorMessages.add("Please input the correct command! Example, delete reminder REMINDER_INDEX");
-            return 0;
+        if (deleteReminderDetails.length != 3 || !validityHelper.digitChecker(deleteReminderDetails[2])) {
+            return new ReminderIndex(0, false, Collections.singletonList(
+                    "Please input the correct command! Example, delete reminder REMINDER_INDEX"));
         } else {
-            return Integer.parseInt(deleteReminderDetails[2]);
+            return new ReminderIndex(Integer.parseInt(deleteReminderDetails[2]), false, Collections.emptyList());
         }
     }
 
     /**
-     * Parse input to extract the index of the reminder specify by the user.
+     * Parse input to extract the index of the reminder specify by the user. The index number is read from the text
+     * before the first flag, so hyphens inside the new details do not change it.
      * @param input Contain the input from the user.
-     * @return index in integer.
+     * @return The index number of the reminder, which is 0 if it is not valid, with the errors found in the input.
      */
-    public int parseEditReminder(String input) {
-        errorMessages.clear();
-        String [] editReminderDetails = input.split("-");
-        String []  editReminderCommand = editReminderDetails[0].split(" ");
+    public ReminderIndex parseEditReminder(String input) {
+        String []  editReminderCommand = CommandFlags.parse(input).getLeadingText().split(" ");
 
         ValidityHelper validityHelper = new ValidityHelper();
-        if (editReminderCommand.length > 3 || !validityHelper.digitChecker(editReminderCommand[2])) {
-            errorMessages.add("Please input the correct command! "
-                    + "Example, edit reminder REMINDER_INDEX -n REMINDER_NAME");
-            return 0;
+        if (editReminderCommand.length != 3 || !validityHelper.digitChecker(editReminderCommand[2])) {
+            return new ReminderIndex(0, false, Collections.singletonList("Please input the correct command! "
+                    + "Example, edit reminder REMINDER_INDEX -n REMINDER_NAME"));
         } else {
-            return Integer.parseInt(editReminderCommand[2]);
+            return new ReminderIndex(Integer.parseInt(editReminderCommand[2]), false, Collections.emptyList());
         }
     }
 
     /**
      * Parses string input to extract information on marking/un-marking Reminder.
      * @param input Contains the command of marking/un-marking reminder.
-     * @return An ArrayList String consisting of the status and indexes to be updated or null.
+     * @return The index number of the reminder, which is 0 if it is not valid, and whether it is to be marked as
+     *         done, with the errors found in the input.
      */
-    public ArrayList<String> parseCheckReminder(String input) {
-        errorMessages.clear();
+    public ReminderIndex parseCheckReminder(String input) {
         String [] checkReminderDetails = input.split(" ");
-        ArrayList<String> newCheckReminderInfo = new ArrayList<>();
-        String booleanString = "";
-        String indexString = "";
         ValidityHelper validityHelper = new ValidityHelper();
-        if (checkReminderDetails.length > 3 || !validityHelper.digitChecker(checkReminderDetails[2])) {
-            errorMessages.add("Please input the correct command! Example, mark reminder REMINDER_INDEX");
-            return null;
-        } else if (checkReminderDetails[0].equals("unmark") && validityHelper.digitChecker(checkReminderDetails[2])) {
-            booleanString = "false";
-            indexString = checkReminderDetails[2];
-        } else if (checkReminderDetails[0].equals("mark") && validityHelper.digitChecker(checkReminderDetails[2])) {
-            booleanString = "true";
-            indexString = checkReminderDetails[2];
+        if (checkReminderDetails.length != 3 || !validityHelper.digitChecker(checkReminderDetails[2])) {
+            return new ReminderIndex(0, false, Collections.singletonList(
+                    "Please input the correct command! Example, mark reminder REMINDER_INDEX"));
         }
-        newCheckReminderInfo.add(booleanString);
-        newCheckReminderInfo.add(indexString);
-
-        return newCheckReminderInfo;
+        return new ReminderIndex(Integer.parseInt(checkReminderDetails[2]), "mark".equals(checkReminderDetails[0]),
+                Collections.emptyList());
     }
 
     /**
      * Parses string input to extract task requirements to be added and indexes of task requirements to be removed.
+     * Each -r flag gives one new requirement, which may contain hyphens, and each -rm flag gives space-separated
+     * index numbers of requirements to be removed.
      * @param input Contains the new task requirements and indexes of task requirements to be removed.
-     * @return An ArrayList consisting of indexes to be removed in index 0, new task requirements and error messages
+     * @return The indexes to be removed and the new task requirements, with the errors found in the input.
      */
-    public ArrayList<String> parseTaskRequirementDetails(String input) {
-        ArrayList<String> taskRequirementDetails = new ArrayList<>();
-
+    public TaskRequirementDetails parseTaskRequirementDetails(String input) {
         ArrayList<String> taskReqIndexesToBeRemoved = new ArrayList<>();
         ArrayList<String> taskRequirementsToBeAdded = new ArrayList<>();
-        errorMessages.clear();
+        ArrayList<String> parseErrors = new ArrayList<>();
 
-        String[] newTaskRequirementsArray = input.split("-");
-        if (newTaskRequirementsArray.length == 0) {
-            errorMessages.add("Please input a complete flag! Examples for valid flags include '-r' and '-rm'."
+        CommandFlags flags = CommandFlags.parse(input);
+        if (flags.getNumOfFlags() == 0) {
+            parseErrors.add("Please input a complete flag! Examples for valid flags include '-r' and '-rm'."
                     + " Refer to the user guide for more help!");
-        } else {
-            ArrayList<String> newTaskRequirementsArrayList = new ArrayList<>(Arrays.asList(newTaskRequirementsArray));
-            newTaskRequirementsArrayList.remove(0);
-            for (String s : newTaskRequirementsArrayList) {
-                String trimmedString = s.trim();
-                if (trimmedString.length() <= 2) {
-                    if ("r".equals(trimmedString) || "rm".equals(trimmedString)) {
-                        errorMessages.add("There is an empty flag '-" + trimmedString + "'");
-                    } else {
-                        errorMessages.add("'-" + trimmedString + "' is an invalid flag");
-                    }
-                    continue;
-                }
-
-                switch (trimmedString.split(" ")[0]) {
-                case "rm":
-                    String[] splitTrimmedString = trimmedString.substring(3).split(" ");
-                    taskReqIndexesToBeRemoved.addAll(Arrays.asList(splitTrimmedString));
-                    break;
-                case "r":
-                    taskRequirementsToBeAdded.add(trimmedString.substring(2));
-                    break;
-                default:
-                    errorMessages.add("Invalid flag is used in this entry: -" + trimmedString);
-                    break;
-                }
-            }
         }
-
-        if (taskReqIndexesToBeRemoved.size() == 0) {
-            taskRequirementDetails.add("--");
-        } else {
-            StringBuilder taskReqIndexesToBeRemovedString = new StringBuilder();
-            for (String s1 : taskReqIndexesToBeRemoved) {
-                taskReqIndexesToBeRemovedString.append(s1);
-                taskReqIndexesToBeRemovedString.append(" ");
+        for (int flagIndex = 0; flagIndex < flags.getNumOfFlags(); flagIndex++) {
+            String name = flags.getName(flagIndex);
+            String value = flags.getValue(flagIndex);
+            boolean isRequirementFlag = "r".equals(name) || "rm".equals(name);
+            if (value.isEmpty()) {
+                parseErrors.add(isRequirementFlag ? "There is an empty flag '-" + name + "'"
+                        : "'-" + name + "' is an invalid flag");
+            } else if ("rm".equals(name)) {
+                taskReqIndexesToBeRemoved.addAll(Arrays.asList(value.split("\\s+")));
+            } else if ("r".equals(name)) {
+                taskRequirementsToBeAdded.add(value);
+            } else {
+                parseErrors.add("Invalid flag is used in this entry: -" + name + " " + value);
             }
-            taskRequirementDetails.add(taskReqIndexesToBeRemovedString.toString().trim());
         }
-
-        taskRequirementDetails.addAll(taskRequirementsToBeAdded);
-        return taskRequirementDetails;
+        return new TaskRequirementDetails(taskReqIndexesToBeRemoved, taskRequirementsToBeAdded, parseErrors);
     }
 
     //@@author iamabhishek98
@@ -306,34 +282,44 @@ public class ParserHelper {
      * Parses the criteria specified by the user to sort the list of tasks.
      * @param tasksAndAssignedMembers HashMap containing tasks with assigned members.
      * @param taskList A list of all tasks in the project.
-     * @param sortCriteria Criteria to sort the list of tasks
+     * @param sortCriteria Criteria to sort the list of tasks, optionally followed by -top N or -page P [-size S] to
+     *                     list only part of the sorted tasks. Tasks are sorted by priority if no criteria is given.
      * @return An ArrayList with String descriptions of task details sorted by the criteria specified by the user.
+     * @throws NumberFormatException if -top, -page or -size is not followed by a positive number.
      */
     public ArrayList<String> parseSortTaskDetails(
-            HashMap<String, ArrayList<String>> tasksAndAssignedMembers, ArrayList<Task> taskList,
-            String sortCriteria, Project project) {
+            HashMap<String, ArrayList<String>> tasksAndAssignedMembers, TaskList taskList,
+            String sortCriteria, Project project) throws NumberFormatException {
         ArrayList<String> taskDetails = new ArrayList<>();
-        if (sortCriteria.length() >= 4) {
-            String[] detailedCriteria = sortCriteria.split(" ",2);
+        int[] taskSlice = parseTaskSlice(sortCriteria);
+        final int offset = taskSlice[0];
+        final int count = taskSlice[1];
+        String criteria = removeTaskSliceFlags(sortCriteria);
+        if (criteria.isEmpty()) {
+            criteria = "-priority";
+        }
+        if (criteria.length() >= 4) {
+            String[] detailedCriteria = criteria.split(" ",2);
             switch (detailedCriteria[0]) {
             case "-name":
-                taskDetails = this.sortHelper.sortTaskName(taskList);
+                taskDetails = this.sortHelper.sortTaskName(taskList, offset, count);
                 break;
             case "-date":
-                taskDetails = this.sortHelper.sortTaskDueDate(taskList);
+                taskDetails = this.sortHelper.sortTaskDueDate(taskList, offset, count);
                 break;
             case "-priority":
-                taskDetails = this.sortHelper.sortTaskPriority(taskList);
+                taskDetails = this.sortHelper.sortTaskPriority(taskList, offset, count);
                 break;
             case "-credits":
-                taskDetails = this.sortHelper.sortTaskCredit(taskList);
+                taskDetails = this.sortHelper.sortTaskCredit(taskList, offset, count);
                 break;
             case "-who":
                 taskDetails = this.sortHelper.sortTaskMember(tasksAndAssignedMembers, taskList,
-                        detailedCriteria[1], project);
+                        detailedCriteria[1], project, offset, count);
                 break;
             case "-state":
-                taskDetails = this.sortHelper.sortTaskState(taskList, detailedCriteria[1].toUpperCase());
+                taskDetails = this.sortHelper.sortTaskState(taskList, detailedCriteria[1].toUpperCase(), offset,
+                        count);
                 break;
             default:
                 break;
@@ -342,67 +328,110 @@ public class ParserHelper {
         return taskDetails;
     }
 
-    //@@author sinteary
+    //@@author Lucria
     /**
-     * Parses input String to get valid task and member index numbers, as well as error messages
-     * for invalid index numbers.
-     * @param input The assignment input from the user.
+     * Parses the part of a sorted list of tasks to be listed, given by -top N for the first N tasks, or by
+     * -page P [-size S] for the P-th page of S tasks each.
+     * @param sortCriteria Criteria to sort the list of tasks, which may contain the flags.
+     * @return An array with the number of tasks before the part in index 0, and the greatest number of tasks in the
+     *         part in index 1. The part is the whole list if neither -top nor -page is given.
+     * @throws NumberFormatException if a flag is not followed by a positive number, or if -top is given with -page.
      */
-    public ArrayList<ArrayList<Integer>> parseAssignmentParams(String input, Project project) {
-        errorMessages.clear();
-        String [] inputParts = input.split("-");
-        String allTaskIndexes = BLANK;
-        String allAssigneeIndexes = BLANK;
-        String allUnassigneeIndexes = BLANK;
-
-        for (String commandPart : inputParts) {
-            String [] part = commandPart.split(" ");
-            if (part.length == 0) {
-                continue;
-            }
-            switch (part[0]) {
-            case ASSIGNMENT_INDEX_NUMBER_MARKER:
-                if (commandPart.length() >= TASK_FLAG_LENGTH) {
-                    allTaskIndexes = commandPart.substring(TASK_FLAG_LENGTH - 1).trim();
-                }
+    public int[] parseTaskSlice(String sortCriteria) throws NumberFormatException {
+        String[] criteriaParts = sortCriteria.trim().split("\\s+");
+        int top = 0;
+        int page = 0;
+        int size = 0;
+        for (int partIndex = 0; partIndex < criteriaParts.length; partIndex++) {
+            switch (criteriaParts[partIndex]) {
+            case COMMAND_VIEW_TASKS_TOP_FLAG:
+                top = parsePositiveNumber(criteriaParts, ++partIndex);
                 break;
-            case ASSIGNEE_MARKER:
-                if (commandPart.length() >= MEMBER_FLAG_LENGTH) {
-                    allAssigneeIndexes = commandPart.substring(MEMBER_FLAG_LENGTH - 1).trim();
-                }
+            case COMMAND_VIEW_TASKS_PAGE_FLAG:
+                page = parsePositiveNumber(criteriaParts, ++partIndex);
                 break;
-            case UNASSIGNEE_MARKER:
-                if (commandPart.length() >= MEMBER_FLAG_LENGTH) {
-                    allUnassigneeIndexes = commandPart.substring(MEMBER_FLAG_LENGTH - 1).trim();
-                }
+            case COMMAND_VIEW_TASKS_SIZE_FLAG:
+                size = parsePositiveNumber(criteriaParts, ++partIndex);
                 break;
             default:
+                break;
             }
         }
+        if (top > 0 && (page > 0 || size > 0)) {
+            throw new NumberFormatException("-top cannot be used with -page or -size");
+        }
+        if (top > 0) {
+            return new int[] {0, top};
+        }
+        if (page > 0) {
+            int pageSize = size > 0 ? size : DEFAULT_TASK_PAGE_SIZE;
+            return new int[] {(int) Math.min((long) (page - 1) * pageSize, Integer.MAX_VALUE), pageSize};
+        }
+        if (size > 0) {
+            throw new NumberFormatException("-size can only be used with -page");
+        }
+        return new int[] {0, Integer.MAX_VALUE};
+    }
 
-        /**
-         * The ArrayList assignmentParams contains 3 ArrayLists: containing valid index numbers of tasks,
-         * assignees and unassignees respectively.
-         */
-        ArrayList<ArrayList<Integer>> assignmentParams = new ArrayList<>();
-        ArrayList<Integer> taskIndexes = parseTasksIndexes(allTaskIndexes, project.getNumOfTasks());
-        ArrayList<Integer> assignees = parseMembersIndexes(allAssigneeIndexes, project.getNumOfMembers());
-        ArrayList<Integer> unassignees = parseMembersIndexes(allUnassigneeIndexes, project.getNumOfMembers());
-        checkForSameMemberIndexes(assignees, unassignees, project);
-        assignmentParams.add(taskIndexes);
-        assignmentParams.add(assignees);
-        assignmentParams.add(unassignees);
-
-        return assignmentParams;
+    /**
+     * Removes -top, -page and -size with their numbers from the criteria to sort the list of tasks.
+     * @param sortCriteria Criteria to sort the list of tasks.
+     * @return The criteria without the flags.
+     */
+    public String removeTaskSliceFlags(String sortCriteria) {
+        return sortCriteria.replaceAll("(^|\\s+)(" + COMMAND_VIEW_TASKS_TOP_FLAG + "|" + COMMAND_VIEW_TASKS_PAGE_FLAG
+                + "|" + COMMAND_VIEW_TASKS_SIZE_FLAG + ")(\\s+\\S+|\\s*$)", "").trim();
+    }
+
+    private int parsePositiveNumber(String[] criteriaParts, int partIndex) throws NumberFormatException {
+        if (partIndex >= criteriaParts.length) {
+            throw new NumberFormatException("Missing number");
+        }
+        int number = Integer.parseInt(criteriaParts[partIndex]);
+        if (number <= 0) {
+            throw new NumberFormatException("Number must be positive: " + number);
+        }
+        return number;
+    }
+
+    //@@author sinteary
+    /**
+     * Parses input String to get valid task and member index numbers, as well as error messages
+     * for invalid index numbers.
+     * @param input The assignment input from the user.
+     * @return The valid task and member index numbers, with the errors found in the input.
+     */
+    public AssignmentParams parseAssignmentParams(String input, Project project) {
+        CommandFlags flags = CommandFlags.parse(input);
+        String allTaskIndexes = flags.getValue(ASSIGNMENT_INDEX_NUMBER_MARKER);
+        String allAssigneeIndexes = flags.getValue(ASSIGNEE_MARKER);
+        String allUnassigneeIndexes = flags.getValue(UNASSIGNEE_MARKER);
+
+        ArrayList<String> parseErrors = new ArrayList<>();
+        ArrayList<Integer> taskIndexes = parseTasksIndexes(allTaskIndexes == null ? BLANK : allTaskIndexes,
+                project.getNumOfTasks(), parseErrors);
+        ArrayList<Integer> assignees = parseMembersIndexes(allAssigneeIndexes == null ? BLANK : allAssigneeIndexes,
+                project.getNumOfMembers(), parseErrors);
+        ArrayList<Integer> unassignees = parseMembersIndexes(
+                allUnassigneeIndexes == null ? BLANK : allUnassigneeIndexes, project.getNumOfMembers(), parseErrors);
+        checkForSameMemberIndexes(assignees, unassignees, project, parseErrors);
+        return new AssignmentParams(taskIndexes, assignees, unassignees, parseErrors);
     }
 
     /**
      * Parses a string containing member index numbers and returns only valid ones.
      * @param input a string containing member index numbers.
      * @param numberOfMembersInProject the total number of members in project.
-     * @return An ArrayList containing only valid member index numbers
+     * @return The valid member index numbers, with the errors found in the input.
      */
-    public ArrayList<Integer> parseMembersIndexes(String input, int numberOfMembersInProject) {
+    public IndexNumbers parseMembersIndexes(String input, int numberOfMembersInProject) {
+        ArrayList<String> parseErrors = new ArrayList<>();
+        ArrayList<Integer> validMembers = parseMembersIndexes(input, numberOfMembersInProject, parseErrors);
+        return new IndexNumbers(validMembers, parseErrors);
+    }
+
+    private ArrayList<Integer> parseMembersIndexes(String input, int numberOfMembersInProject,
+                                                   List<String> errorMessages) {
         ArrayList<Integer> validMembers = new ArrayList<>();
         if (ALL_MARKER.equals(input)) {
             for (int i = 1; i <= numberOfMembersInProject; i++) {
@@ -436,9 +465,16 @@ public class ParserHelper {
      * Returns a list of valid task numbers.
      * @param input List of task index numbers input by user.
      * @param numberOfTasksInProject the total number of tasks in project.
-     * @return An ArrayList containing valid task index numbers to show assigned members.
+     * @return The valid task index numbers, with the errors found in the input.
      */
-    public ArrayList<Integer> parseTasksIndexes(String input, int numberOfTasksInProject) {
+    public IndexNumbers parseTasksIndexes(String input, int numberOfTasksInProject) {
+        ArrayList<String> parseErrors = new ArrayList<>();
+        ArrayList<Integer> validTasks = parseTasksIndexes(input, numberOfTasksInProject, parseErrors);
+        return new IndexNumbers(validTasks, parseErrors);
+    }
+
+    private ArrayList<Integer> parseTasksIndexes(String input, int numberOfTasksInProject,
+                                                 List<String> errorMessages) {
         ArrayList<Integer> tasksToView = new ArrayList<>();
         if (ALL_MARKER.equals(input)) {
             for (int i = 1; i <= numberOfTasksInProject; i++) {
@@ -469,7 +505,7 @@ public class ParserHelper {
     }
 
     private void checkForSameMemberIndexes(ArrayList<Integer> assignees, ArrayList<Integer> unassignees,
-                                           Project project) {
+                                           Project project, List<String> errorMessages) {
         ArrayList<Integer> repeated = new ArrayList<>();
         for (Integer index: assignees) {
             if (unassignees.contains(index)) {
@@ -486,9 +522,5 @@ public class ParserHelper {
             unassignees.remove(index);
         }
     }
-
-    public ArrayList<String> getErrorMessages() {
-        return this.errorMessages;
-    }
     //@@author
 }
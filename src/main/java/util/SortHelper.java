@@ -3,100 +3,79 @@ package util;
 import models.member.IMember;
 import models.project.Project;
 import models.task.Task;
+import models.task.TaskList;
+import models.task.TaskOrder;
+import models.task.TaskState;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 
 public class SortHelper {
     //@@author iamabhishek98
     /**
-     * Sorts the list of tasks by the task name in alphabetical order.
+     * Lists the tasks by the task name in alphabetical order, without changing the order of the task list.
      * @param taskList The list of tasks.
-     * @return The list of tasks sorted by the task name.
+     * @param offset The number of tasks in the order before the tasks to be listed.
+     * @param count The greatest number of tasks to be listed.
+     * @return The details of the tasks sorted by the task name, numbered by their index numbers.
      */
-    public ArrayList<String> sortTaskName(ArrayList<Task> taskList) {
-        ArrayList<String> taskDetails = new ArrayList<>();
-        taskList.sort(Comparator.comparing(Task::getTaskName));
-        int taskIndex = 1;
-        for (Task task : taskList) {
-            taskDetails.add(taskIndex + ". " + task.getDetails());
-            taskIndex++;
-        }
-        return taskDetails;
+    public ArrayList<String> sortTaskName(TaskList taskList, int offset, int count) {
+        return taskList.getSortedTaskDetails(TaskOrder.NAME, offset, count);
     }
 
     //@@author iamabhishek98
     /**
-     * Sorts the list of tasks by the task due date in descending order.
+     * Lists the tasks with a due date from the earliest due date to the latest, as kept by the due date index of the
+     * task list.
      * @param taskList The list of tasks.
-     * @return The list of tasks sorted by the task due date.
+     * @param offset The number of tasks in the order before the tasks to be listed.
+     * @param count The greatest number of tasks to be listed.
+     * @return The details of the tasks sorted by the task due date, numbered by their index numbers.
      */
-    public ArrayList<String> sortTaskDueDate(ArrayList<Task> taskList) {
-        ArrayList<String> taskDetails = new ArrayList<>();
-        ArrayList<Task> sortedTaskList = new ArrayList<>();
-        for (Task task : taskList) {
-            if (task.getDueDate() != null) {
-                sortedTaskList.add(task);
-            }
-        }
-        sortedTaskList.sort((task1, task2) -> task2.getDueDate().compareTo(task1.getDueDate()));
-        Collections.reverse(sortedTaskList);
-        int taskIndex = 1;
-        for (Task task : sortedTaskList) {
-            taskDetails.add(taskIndex + ". " + task.getDetails());
-            taskIndex++;
-        }
-        return taskDetails;
+    public ArrayList<String> sortTaskDueDate(TaskList taskList, int offset, int count) {
+        return taskList.getSortedTaskDetails(TaskOrder.DUE_DATE, offset, count);
     }
 
     //@@author iamabhishek98
     /**
-     * Sorts the list of tasks by the task priority in descending order.
+     * Lists the tasks by the task priority, in the order kept by the priority index of the task list.
      * @param taskList The list of tasks.
-     * @return The list of tasks sorted by the task priority.
+     * @param offset The number of tasks in the order before the tasks to be listed.
+     * @param count The greatest number of tasks to be listed.
+     * @return The details of the tasks sorted by the task priority, numbered by their index numbers.
      */
-    public ArrayList<String> sortTaskPriority(ArrayList<Task> taskList) {
-        ArrayList<String> taskDetails = new ArrayList<>();
-        taskList.sort((task1, task2) -> task1.getTaskPriority() - task2.getTaskPriority());
-        int taskIndex = 1;
-        for (Task task : taskList) {
-            taskDetails.add(taskIndex + ". " + task.getDetails());
-            taskIndex++;
-        }
-        return taskDetails;
+    public ArrayList<String> sortTaskPriority(TaskList taskList, int offset, int count) {
+        return taskList.getSortedTaskDetails(TaskOrder.PRIORITY, offset, count);
     }
 
     //@@author iamabhishek98
     /**
-     * Sorts the list of tasks by the task credit in descending order.
+     * Lists the tasks by the task credit in descending order, in the order kept by the credit index of the task list.
      * @param taskList The list of tasks.
-     * @return The list of tasks sorted by the task credit.
+     * @param offset The number of tasks in the order before the tasks to be listed.
+     * @param count The greatest number of tasks to be listed.
+     * @return The details of the tasks sorted by the task credit, numbered by their index numbers.
      */
-    public ArrayList<String> sortTaskCredit(ArrayList<Task> taskList) {
-        ArrayList<String> taskDetails = new ArrayList<>();
-        taskList.sort((task1, task2) -> task2.getTaskCredit() - task1.getTaskCredit());
-        int taskIndex = 1;
-        for (Task task : taskList) {
-            taskDetails.add(taskIndex + ". " + task.getDetails());
-            taskIndex++;
-        }
-        return taskDetails;
+    public ArrayList<String> sortTaskCredit(TaskList taskList, int offset, int count) {
+        return taskList.getSortedTaskDetails(TaskOrder.CREDIT, offset, count);
     }
 
     //@@author iamabhishek98
     /**
-     * Sorts the list of tasks by the name of the members assigned to the tasks in alphabetical order.
+     * Lists the tasks assigned to a member by the task name in alphabetical order, keeping only the tasks up to the
+     * end of the listed part in a bounded heap instead of sorting every assigned task.
      * @param tasksAndAssignedMembers HashMap containing tasks with assigned members.
      * @param taskList The list of tasks.
-     * @return The list of tasks sorted by the name of the members assigned to the tasks in alphabetical order.
+     * @param offset The number of assigned tasks in the order before the tasks to be listed.
+     * @param count The greatest number of tasks to be listed.
+     * @return The details of the tasks assigned to the member sorted by the task name, numbered by their index
+     *         numbers.
      */
     public ArrayList<String> sortTaskMember(HashMap<String, ArrayList<String>> tasksAndAssignedMembers,
-                                            ArrayList<Task> taskList, String memberName, Project project) {
+                                            TaskList taskList, String memberName, Project project, int offset,
+                                            int count) {
         ArrayList<Task> allAssignedTasks = new ArrayList<>();
-        // to be made more efficient
-        for (Task task: taskList) {
+        for (Task task : taskList.getTaskList()) {
             for (String memberID : tasksAndAssignedMembers.get(task.getTaskID())) {
                 IMember member = project.getMemberFromID(memberID);
                 if (member.getName().equals(memberName)) {
@@ -105,25 +84,25 @@ public class SortHelper {
                 }
             }
         }
-        return this.sortTaskName(allAssignedTasks);
+        return taskList.getTaskDetails(taskList.selectTasksByName(allAssignedTasks, offset, count));
     }
 
     //@@author iamabhishek98
     /**
-     * Filters the list of tasks by the task state.
+     * Filters the list of tasks by the task state, reading only the tasks in that state from the state index of the
+     * task list.
      * @param taskList The List of tasks.
      * @param state The task state required to filter the task list.
-     * @return The list of tasks filtered by the task state.
+     * @param offset The number of tasks in the state before the tasks to be listed.
+     * @param count The greatest number of tasks to be listed.
+     * @return The details of the tasks filtered by the task state, numbered by their index numbers.
      */
-    public ArrayList<String> sortTaskState(ArrayList<Task> taskList, String state) {
-        ArrayList<String> taskDetails = new ArrayList<>();
-        int taskIndex = 1;
-        for (Task task : taskList) {
-            if (state.equals(task.getTaskState().toString())) {
-                taskDetails.add(taskIndex + ". " + task.getDetails());
+    public ArrayList<String> sortTaskState(TaskList taskList, String state, int offset, int count) {
+        for (TaskState taskState : TaskState.values()) {
+            if (state.equals(taskState.toString())) {
+                return taskList.getTaskDetailsInState(taskState, offset, count);
             }
-            taskIndex++;
         }
-        return taskDetails;
+        return new ArrayList<>();
     }
 }
@@ -39,10 +39,6 @@ public class ConstantHelper {
 
     public static final String UNASSIGNEE_MARKER = "rm";
 
-    public static final int MEMBER_FLAG_LENGTH = 4; //"-to " or "-rm "
-
-    public static final int TASK_FLAG_LENGTH = 3; //"-i "
-
     public static final String ALL_MARKER = "all";
 
     public static final String BLANK = "";
@@ -99,6 +95,11 @@ public class ConstantHelper {
         "Input is not a number! Please input a proper project index!"
     };
 
+    public static final String[] COMMAND_MANAGE_PROJECT_NOT_LOADED = new String[] {
+        "The project could not be loaded from its save file!",
+        "Please delete the project, or any corrupted saved data, and try again!"
+    };
+
     public static final String[] COMMAND_MANAGE_PROJECT_REQUEST_INPUT = new String[] {
         "Please enter a new command:"
     };
@@ -145,6 +146,48 @@ public class ConstantHelper {
 
     public static final String PROJECT_COMMAND_HELP = "help";
 
+    public static final String PROJECT_COMMAND_RUN = "run";
+
+    public static final String LAUNCHER_SCRIPT_FLAG = "--script";
+
+    public static final String SCRIPT_COMMENT_PREFIX = "#";
+
+    public static final int SCRIPT_CHECKPOINT_INTERVAL = 1000;
+
+    public static final int MAX_SCRIPT_FAILURES_SHOWN = 50;
+
+    public static final String COMMAND_IMPORT = "import";
+
+    public static final String[] COMMAND_IMPORT_INVALID_COMMAND = new String[] {
+        "Could not understand your command! Please use:",
+        "**\timport tasks FILE, import members FILE or import reminders FILE.",
+        "**\tFILE must be a .csv file whose first line names the columns, or a .jsonl file of JSON objects."
+    };
+
+    public static final String IMPORT_KIND_TASKS = "tasks";
+
+    public static final String IMPORT_KIND_MEMBERS = "members";
+
+    public static final String IMPORT_KIND_REMINDERS = "reminders";
+
+    public static final String IMPORT_LIST_SEPARATOR = ";";
+
+    public static final int IMPORT_BATCH_SIZE = 1000;
+
+    public static final int MAX_IMPORT_ERRORS_SHOWN = 50;
+
+    public static final String COMMAND_EXPORT = "export";
+
+    public static final String[] COMMAND_EXPORT_INVALID_COMMAND = new String[] {
+        "Could not understand your command! Please use:",
+        "**\texport tasks FILE, export members FILE, export assignments FILE or export reminders FILE.",
+        "**\tFILE must end with .csv or .jsonl. Use export calendar FILE with a .ics file for due dates."
+    };
+
+    public static final String EXPORT_KIND_ASSIGNMENTS = "assignments";
+
+    public static final String EXPORT_KIND_CALENDAR = "calendar";
+
     public static final String COMMAND_ADD_MEMBER = "add member ";
 
     public static final String COMMAND_EDIT_MEMBER = "edit member ";
@@ -161,8 +204,34 @@ public class ConstantHelper {
 
     public static final String COMMAND_VIEW_TASKS = "view tasks ";
 
+    public static final String COMMAND_VIEW_TASKS_TOP_FLAG = "-top";
+
+    public static final String COMMAND_VIEW_TASKS_PAGE_FLAG = "-page";
+
+    public static final String COMMAND_VIEW_TASKS_SIZE_FLAG = "-size";
+
+    public static final int DEFAULT_TASK_PAGE_SIZE = 10;
+
+    public static final String[] COMMAND_VIEW_TASKS_INVALID_SLICE = new String[] {
+        "Could not understand your command! Please use:",
+        "**\t-top N for the first N tasks, or -page P [-size S] for page P of S tasks. N, P and S must be positive."
+    };
+
     public static final String COMMAND_ROLE_MEMBER = "role ";
 
+    public static final String COMMAND_AGENDA = "agenda";
+
+    public static final String COMMAND_AGENDA_NEXT_MONTH_FLAG = "-next";
+
+    public static final String COMMAND_AGENDA_PREVIOUS_MONTH_FLAG = "-prev";
+
+    public static final String COMMAND_AGENDA_WEEK_FLAG = "-week";
+
+    public static final String[] COMMAND_AGENDA_INVALID_FLAG = new String[] {
+        "Could not understand your command! Please use:",
+        "**\tagenda for this month, -next for next month, -prev for last month or -week for this week."
+    };
+
     public static final int COMMAND_ROLE_CORRECT_LENGTH = 2;
 
     public static final int NUM_OF_TABLE_COLUMNS_FOR_COMMAND_LIST = 1;
@@ -174,4 +243,26 @@ public class ConstantHelper {
     public static final int NUM_OF_TABLE_COLUMNS_FOR_ASSIGNMENT_RESULTS = 1;
 
     public static final int NUM_OF_TABLE_COLUMNS_FOR_COMMAND_VIEW_REMINDER_CATEGORY = 2;
+
+    public static final int SAVE_QUEUE_CAPACITY = 64;
+
+    public static final long JOURNAL_SNAPSHOT_THRESHOLD_BYTES = 16 * 1024;
+
+    public static final String PROJECT_MANIFEST_FILE_NAME = "ArchDuke.manifest";
+
+    public static final int PROJECT_MANIFEST_VERSION = 2;
+
+    public static final int MAX_PROJECT_LOADING_THREADS = 8;
+
+    public static final String STORAGE_FORMAT_PROPERTY = "archduke.storage";
+
+    public static final String STORAGE_FORMAT_JSON = "json";
+
+    public static final String STORAGE_FORMAT_BINARY = "binary";
+
+    public static final String STORAGE_FORMAT_WORKSPACE = "workspace";
+
+    public static final String WORKSPACE_FILE_NAME = "ArchDuke.workspace";
+
+    public static final long GROUP_COMMIT_WINDOW_MILLIS = 2;
 }
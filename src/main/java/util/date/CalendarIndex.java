@@ -0,0 +1,113 @@
+package util.date;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+//@@author Lucria
+/**
+ * Index of dated items, such as tasks or reminders, by the day they are due.
+ * The items are kept in buckets keyed by epoch day, in the order they were added within each day, so the items due
+ * within any range of days, such as a week or a month of a particular year, are found in O(log n + k) for k items in
+ * the range instead of visiting every item.
+ * @param <T> Type of the items.
+ */
+public class CalendarIndex<T> {
+    private final TreeMap<Long, ArrayList<T>> itemsByDay = new TreeMap<>();
+
+    /**
+     * Converts a date to the number of days since 1 January 1970 in the time zone its day was read in.
+     * @param date : Date to be converted.
+     * @return : Returns the epoch day of the date.
+     */
+    public static long toEpochDay(Date date) {
+        return toLocalDate(date).toEpochDay();
+    }
+
+    /**
+     * Converts a date to the day it falls on in the time zone its day was read in.
+     * @param date : Date to be converted.
+     * @return : Returns the day of the date.
+     */
+    public static LocalDate toLocalDate(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    /**
+     * Converts a number of days since 1 January 1970 to the start of that day in the current time zone.
+     * @param epochDay : Epoch day to be converted.
+     * @return : Returns the date the day starts at.
+     */
+    public static Date toDate(long epochDay) {
+        return Date.from(LocalDate.ofEpochDay(epochDay).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * Adds an item on the day of its date. Items without a date are not indexed.
+     * @param date : Date the item is due.
+     * @param item : Item to be indexed.
+     */
+    public void add(Date date, T item) {
+        if (date != null) {
+            itemsByDay.computeIfAbsent(toEpochDay(date), day -> new ArrayList<>()).add(item);
+        }
+    }
+
+    /**
+     * Removes an item from the day of the date it was added with.
+     * @param date : Date the item was indexed with.
+     * @param item : Item to be removed.
+     */
+    public void remove(Date date, T item) {
+        if (date == null) {
+            return;
+        }
+        long epochDay = toEpochDay(date);
+        ArrayList<T> itemsOnDay = itemsByDay.get(epochDay);
+        if (itemsOnDay != null) {
+            itemsOnDay.removeIf(itemOnDay -> itemOnDay == item);
+            if (itemsOnDay.isEmpty()) {
+                itemsByDay.remove(epochDay);
+            }
+        }
+    }
+
+    /**
+     * Returns the items due from one day to another, including both days, from the earliest day to the latest.
+     * @param firstDay : First day of the range.
+     * @param lastDay : Last day of the range.
+     * @return : Returns the items due within the range.
+     */
+    public ArrayList<T> getItemsBetween(LocalDate firstDay, LocalDate lastDay) {
+        ArrayList<T> items = new ArrayList<>();
+        for (ArrayList<T> itemsOnDay : getDaysBetween(firstDay, lastDay).values()) {
+            items.addAll(itemsOnDay);
+        }
+        return items;
+    }
+
+    /**
+     * Returns the number of items due on each day of a month that has any.
+     * @param month : Month of a particular year.
+     * @return : Returns a map from the day of the month to the number of items due on it.
+     */
+    public HashMap<Integer, Integer> getNumOfItemsPerDay(YearMonth month) {
+        HashMap<Integer, Integer> numOfItemsPerDay = new HashMap<>();
+        for (Map.Entry<Long, ArrayList<T>> day : getDaysBetween(month.atDay(1), month.atEndOfMonth()).entrySet()) {
+            numOfItemsPerDay.put(LocalDate.ofEpochDay(day.getKey()).getDayOfMonth(), day.getValue().size());
+        }
+        return numOfItemsPerDay;
+    }
+
+    private Map<Long, ArrayList<T>> getDaysBetween(LocalDate firstDay, LocalDate lastDay) {
+        if (lastDay.isBefore(firstDay)) {
+            return new TreeMap<>();
+        }
+        return itemsByDay.subMap(firstDay.toEpochDay(), true, lastDay.toEpochDay(), true);
+    }
+}
@@ -5,6 +5,8 @@ import util.log.ArchDukeLogger;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.TimeZone;
@@ -88,6 +90,22 @@ public class DateTimeHelper {
         return Integer.toString(this.calender.get(Calendar.DAY_OF_MONTH));
     }
 
+    /**
+     * Method that returns the current month of the current year.
+     * @return : Returns the current month, on the same calendar as getCurrentMonth and getCurrentYear.
+     */
+    public YearMonth getCurrentYearMonth() {
+        return YearMonth.of(this.calender.get(Calendar.YEAR), this.calender.get(Calendar.MONTH) + 1);
+    }
+
+    /**
+     * Method that returns the current date.
+     * @return : Returns today, on the same calendar as getCurrentDate.
+     */
+    public LocalDate getCurrentLocalDate() {
+        return getCurrentYearMonth().atDay(this.calender.get(Calendar.DAY_OF_MONTH));
+    }
+
     /**
      * Method that gets the day for the first date in a month.
      * @return : Returns an integer that represents the first day in the start of a month.
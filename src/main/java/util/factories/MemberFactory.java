@@ -4,6 +4,7 @@ import models.member.IMember;
 import models.member.Member;
 import models.member.NullMember;
 import util.ParserHelper;
+import util.parser.MemberDetails;
 import util.validation.ValidityHelper;
 
 import static util.constant.ConstantHelper.BLANK;
@@ -24,19 +25,28 @@ public class MemberFactory implements IArchDukeFactory<IMember> {
      * @return Member with the relevant details. Index number is set later when adding to list.
      */
     public IMember create(String input) {
-        String[] memberDetails = this.parserHelper.parseMemberDetails(input);
-        if (input.matches(".*-[^niexr].*")) {
-            return new NullMember("Please ensure your parameters do not have - inside");
+        return create(this.parserHelper.parseMemberDetails(input));
+    }
+
+    //@@author Lucria
+    /**
+     * Method to create a new member from details that are already parsed, such as a row of an imported file.
+     * @param memberDetails : Details of the member.
+     * @return : Returns the member, or a NullMember holding the reason if the details are not valid.
+     */
+    public IMember create(MemberDetails memberDetails) {
+        if (!memberDetails.getErrorMessages().isEmpty()) {
+            return new NullMember(memberDetails.getErrorMessages().get(0));
         }
         boolean isNameCreated = false;
-        String name = memberDetails[0];
+        String name = memberDetails.getName();
         if (!(BLANK_MEMBER_DETAILS).equals(name) && !(BLANK).equals(name)) {
             isNameCreated = true;
         }
-        String phone = memberDetails[1];
-        String email = memberDetails[2];
-        int index = Integer.parseInt(memberDetails[3]);
-        String role = memberDetails[4];
+        String phone = memberDetails.getPhone();
+        String email = memberDetails.getEmail();
+        int index = Integer.parseInt(memberDetails.getIndexNumber());
+        String role = memberDetails.getRole();
         String errorMessage = validityHelper.emailPhoneErrorMessage(email, phone);
         if (!"".equals(errorMessage)) {
             return new NullMember(errorMessage);
@@ -5,9 +5,9 @@ import models.reminder.NullReminder;
 import models.reminder.Reminder;
 import util.ParserHelper;
 import util.date.DateTimeHelper;
+import util.parser.ReminderDetails;
 
 import java.text.ParseException;
-import java.util.ArrayList;
 import java.util.Date;
 
 public class ReminderFactory {
@@ -26,18 +26,27 @@ public class ReminderFactory {
      * @return Reminder as an object
      */
     public IReminder createReminder(String input) throws ParseException {
-        if (!input.contains("-n")) {
+        return createReminder(parserHelper.parseReminderDetails(input));
+    }
+
+    //@@author Lucria
+    /**
+     * Method to create a new reminder from details that are already parsed, such as a row of an imported file.
+     * @param newReminderDetails : Details of the reminder.
+     * @return : Returns the reminder, or a NullReminder if it has no name.
+     * @throws ParseException : Exception thrown when the date of the reminder is not valid.
+     */
+    public IReminder createReminder(ReminderDetails newReminderDetails) throws ParseException {
+        if (newReminderDetails.getReminderName().equals("--")) {
             return new NullReminder();
         }
-
-        ArrayList<String> newReminderDetails = parserHelper.parseReminderDetails(input);
-        String newReminderName = newReminderDetails.get(0);
-        String newReminderRemarks = newReminderDetails.get(1);
+        String newReminderName = newReminderDetails.getReminderName();
+        String newReminderRemarks = newReminderDetails.getReminderRemarks();
         Date newReminderDate = null;
-        if (newReminderDetails.get(2) != null) {
-            newReminderDate = dateTimeHelper.formatDate(newReminderDetails.get(2));
+        if (newReminderDetails.getReminderDate() != null) {
+            newReminderDate = dateTimeHelper.formatDate(newReminderDetails.getReminderDate());
         }
-        String newReminderCategory = newReminderDetails.get(3);
+        String newReminderCategory = newReminderDetails.getReminderCategory();
 
         return new Reminder(newReminderName, newReminderRemarks, newReminderDate,newReminderCategory);
     }
@@ -6,6 +6,7 @@ import models.task.Task;
 import models.task.TaskState;
 import util.ParserHelper;
 import util.date.DateTimeHelper;
+import util.parser.TaskDetails;
 
 import java.text.ParseException;
 import java.util.ArrayList;
@@ -26,51 +27,43 @@ public class TaskFactory implements IArchDukeFactory<ITask> {
      * @return Task as an object
      */
     public ITask create(String input) {
-        if (!input.contains("-n") || !input.contains("-p") || !input.contains("-c")) {
-            return new NullTask();
-        }
+        return create(parserHelper.parseNewTaskDetails(input));
+    }
 
-        String [] taskDetails = input.split("-r");
-        ArrayList<String> taskRequirements = new ArrayList<>();
-        if (taskDetails.length > 1) {
-            taskRequirements = parseTaskRequirements(taskDetails,1);
+    //@@author Lucria
+    /**
+     * Method to create a new task from details that are already parsed, such as a row of an imported file.
+     * @param newTaskDetails : Details of the task.
+     * @return : Returns the task, or a NullTask if the details are not valid.
+     * @throws NumberFormatException : Exception thrown when the priority or credit is not a number.
+     */
+    public ITask create(TaskDetails newTaskDetails) {
+        if ("--".equals(newTaskDetails.getTaskName()) || "-1".equals(newTaskDetails.getTaskPriority())
+                || "-1".equals(newTaskDetails.getTaskCredit())) {
+            return new NullTask();
         }
-
-        ArrayList<String> newTaskDetails = parserHelper.parseTaskDetails(taskDetails[0]);
         Date newTaskDate = null;
-        if (newTaskDetails.get(2) != null) {
+        if (newTaskDetails.getTaskDueDate() != null) {
             try {
-                newTaskDate = dateTimeHelper.formatDate(newTaskDetails.get(2));
+                newTaskDate = dateTimeHelper.formatDate(newTaskDetails.getTaskDueDate());
             } catch (ParseException err) {
                 return new NullTask();
             }
         }
-        int newTaskPriority = Integer.parseInt(newTaskDetails.get(1));
-        int newTaskCredit = Integer.parseInt(newTaskDetails.get(3));
+        int newTaskPriority = Integer.parseInt(newTaskDetails.getTaskPriority());
+        int newTaskCredit = Integer.parseInt(newTaskDetails.getTaskCredit());
         if (newTaskCredit < 0 || newTaskCredit > 100 || newTaskPriority < 1 || newTaskPriority > 5) {
             return new NullTask();
         }
         TaskState newTaskState = TaskState.OPEN;
-        if (!("NONE".equals(newTaskDetails.get(4)))) {
-            newTaskState = convertStringToTaskState(newTaskDetails.get(4));
+        if (!("NONE".equals(newTaskDetails.getTaskState()))) {
+            newTaskState = convertStringToTaskState(newTaskDetails.getTaskState());
         }
-        String newTaskName = newTaskDetails.get(0);
+        String newTaskName = newTaskDetails.getTaskName();
+        ArrayList<String> taskRequirements = new ArrayList<>(newTaskDetails.getTaskRequirements());
         return new Task(newTaskName, newTaskPriority, newTaskDate, newTaskCredit, newTaskState, taskRequirements);
     }
-
-    /**
-     * Creates ArrayList of Strings containing task requirements.
-     * @param taskDetails  Details of new task.
-     * @param startIndexOfTaskRequirements index from which the content in taskDetails will be task requirements.
-     * @return ArrayList of type String containing task requirements.
-     */
-    private ArrayList<String> parseTaskRequirements(String[] taskDetails, int startIndexOfTaskRequirements) {
-        ArrayList<String> taskRequirements = new ArrayList<>();
-        for (int i = startIndexOfTaskRequirements; i < taskDetails.length; i++) {
-            taskRequirements.add(taskDetails[i].trim());
-        }
-        return taskRequirements;
-    }
+    //@@author
 
     /**
      * Converts string input for state into enum TaskState object.
@@ -2,90 +2,134 @@ package util.json;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
-import exceptions.DukeException;
+import models.member.Member;
 import models.project.Project;
-import util.log.ArchDukeLogger;
+import models.project.ProjectChange;
+import models.project.ProjectSummary;
+import models.reminder.Reminder;
+import models.task.Task;
+import util.storage.ProjectConverter;
 
-import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.List;
 
-public class JsonConverter {
-    private String userDirectory = System.getProperty("user.dir");
+public class JsonConverter extends ProjectConverter {
+    private static final Gson PRETTY_PRINTING_GSON = createGsonBuilder().setPrettyPrinting().create();
+    private static final Gson COMPACT_GSON = createGsonBuilder().create();
+    private static final Type CHANGE_LIST_TYPE = new TypeToken<List<ProjectChange>>() {}.getType();
+    private Gson gson;
 
     /**
-     * Method that is responsible for saving Projects Data by using GSON library to convert to a human editable JSON
-     * file.
+     * Constructor of JsonConverter that saves and loads Projects in the current working directory.
      */
-    public void saveProject(Project project) {
-        Gson gson = new GsonBuilder()
-                .enableComplexMapKeySerialization()
-                .setPrettyPrinting()
-                .create();
-        try {
-            ArchDukeLogger.logDebug(JsonConverter.class.getName(), "Saving to file.");
-            FileWriter fileWriter = new FileWriter(userDirectory + "/"
-                                                    + project.getName() + ".json");
-            gson.toJson(project, fileWriter);
-            fileWriter.flush();
-            fileWriter.close();
-            ArchDukeLogger.logDebug(JsonConverter.class.getName(), "File saved.");
-        } catch (IOException err) {
-            ArchDukeLogger.logError(JsonConverter.class.getName(), "Save file is not found or not created");
-        }
+    public JsonConverter() {
+        this(System.getProperty("user.dir"));
     }
 
     /**
-     * Method to delete the relevant json of original Project when user wishes to delete a project.
-     * @param project : selected Project to be deleted
-     * @throws DukeException : Exception thrown when JSON of project cannot be found
+     * Constructor of JsonConverter that saves and loads Projects in the given directory.
+     * @param userDirectory : Directory holding the save files.
      */
-    public void deleteProject(Project project) throws DukeException {
-        String selectedProjectJson = userDirectory + "/" + project.getName() + ".json";
-        File file = new File(selectedProjectJson);
-        if (!file.delete()) {
-            throw new DukeException("JSON of project not found");
-        }
+    public JsonConverter(String userDirectory) {
+        this(userDirectory, true);
     }
 
     /**
-     * Method responsible for loading Projects Data from hard coded directory where savedProjects.json file is located
+     * Constructor of JsonConverter that saves and loads Projects in the given directory.
+     * @param userDirectory : Directory holding the save files.
+     * @param isPrettyPrinting : Whether saved JSON is indented to be easier to edit by hand, at the cost of size.
      */
-    public ArrayList<Project> loadAllProjectsData() {
-        Gson gson = new Gson();
-        ArrayList<Project> allProjects = new ArrayList<>();
-        File directory = new File(userDirectory);
-        File[] allProjectJson = directory.listFiles((file, name) -> name.endsWith(".json"));
-        for (File projectJson : allProjectJson) {
-            try (FileReader fileReader = new FileReader(projectJson)) {
-                ArchDukeLogger.logDebug(JsonConverter.class.getName(), "Loading saved file.");
-                Project newProject = gson.fromJson(fileReader, new TypeToken<Project>(){}.getType());
-                allProjects.add(newProject);
-                ArchDukeLogger.logDebug(JsonConverter.class.getName(), "Saved file loaded.");
-            } catch (IOException err) {
-                ArchDukeLogger.logError(JsonConverter.class.getName(), "Saved file not loaded");
-                return allProjects;
-            }
-        }
-        ArrayList<Project> projectsFromResource = getResourcesInJar();
-        for (Project jsonProject : allProjects) {
-            for (Project jarProject : projectsFromResource) {
-                if (jsonProject.getName().equals(jarProject.getName())) {
-                    projectsFromResource.remove(jarProject);
-                    break;
-                }
-            }
+    public JsonConverter(String userDirectory, boolean isPrettyPrinting) {
+        super(userDirectory);
+        this.gson = isPrettyPrinting ? PRETTY_PRINTING_GSON : COMPACT_GSON;
+    }
+
+    /**
+     * Creates a GsonBuilder with the streaming TypeAdapters of the models registered, so that no model is converted
+     * through reflection. Gson instances are thread safe, so each configuration is only built once.
+     */
+    private static GsonBuilder createGsonBuilder() {
+        return new GsonBuilder()
+                .registerTypeAdapter(Project.class, new ProjectTypeAdapter())
+                .registerTypeAdapter(Task.class, new TaskTypeAdapter())
+                .registerTypeAdapter(Member.class, new MemberTypeAdapter())
+                .registerTypeAdapter(Reminder.class, new ReminderTypeAdapter())
+                .registerTypeAdapter(ProjectChange.class, new ProjectChangeTypeAdapter())
+                .registerTypeAdapter(ProjectSummary.class, new ProjectSummaryTypeAdapter());
+    }
+
+    /**
+     * Returns the shared Gson without pretty printing, for other files of ArchDuke that are written as JSON.
+     */
+    public static Gson getCompactGson() {
+        return COMPACT_GSON;
+    }
+
+    /**
+     * Converts the changes made to a Project into one line of JSON.
+     * Callers should hold the Project's lock, as the details of the changed tasks, members and reminders are read.
+     * @param changes : Changes made to the Project.
+     * @return : Returns the JSON array of the changes.
+     */
+    public static String convertChangesToJson(List<ProjectChange> changes) {
+        return COMPACT_GSON.toJson(changes, CHANGE_LIST_TYPE);
+    }
+
+    /**
+     * Converts JSON written by convertChangesToJson back into changes.
+     * @param json : JSON array of changes.
+     * @return : Returns the changes.
+     * @throws JsonParseException : Exception thrown when the JSON is not a valid array of changes.
+     */
+    public static List<ProjectChange> convertJsonToChanges(String json) {
+        List<ProjectChange> changes = COMPACT_GSON.fromJson(json, CHANGE_LIST_TYPE);
+        if (changes == null || changes.contains(null)) {
+            throw new JsonParseException("Journal record is not an array of changes");
         }
-        for (Project jarProject : projectsFromResource) {
-            saveProject(jarProject);
+        return changes;
+    }
+
+    @Override
+    public String getFileExtension() {
+        return ".json";
+    }
+
+    /**
+     * Converts a Project into its human editable JSON representation without touching the disk.
+     * Callers that need a consistent snapshot should hold the Project's lock while calling this.
+     * @param project : Project to be converted.
+     * @return : Returns the JSON representation of the Project.
+     */
+    public String convertProjectToJson(Project project) {
+        return gson.toJson(project, Project.class);
+    }
+
+    @Override
+    public byte[] convertProject(Project project) {
+        return convertProjectToJson(project).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected Project readProject(FileChannel saveFile) throws IOException {
+        try {
+            Reader reader = Channels.newReader(saveFile, StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE), -1);
+            return gson.fromJson(reader, Project.class);
+        } catch (JsonParseException | NullPointerException err) {
+            throw new IOException("Saved file is not valid JSON of a project", err);
         }
-        allProjects.addAll(projectsFromResource);
-        return allProjects;
     }
 
     /**
@@ -93,6 +137,7 @@ public class JsonConverter {
      * Resources are hardcoded in.
      * @return : Returns an ArrayList of Project representing all Projects packaged in the jar file.
      */
+    @Override
     public ArrayList<Project> getResourcesInJar() {
         ArrayList<Project> allProjects = new ArrayList<>();
         try {
@@ -109,9 +154,8 @@ public class JsonConverter {
      * @param nameOfJsonFile : name of JSON file you wish to pull from resources/initdata folder.
      */
     private Project getProjectJsonFromJar(String nameOfJsonFile) {
-        Gson gson = new Gson();
         InputStream is = getClass().getResourceAsStream("/initdata/" + nameOfJsonFile);
         InputStreamReader isr = new InputStreamReader(is);
-        return gson.fromJson(isr, new TypeToken<Project>(){}.getType());
+        return gson.fromJson(isr, Project.class);
     }
 }
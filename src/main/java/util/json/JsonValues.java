@@ -0,0 +1,111 @@
+package util.json;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+
+//@@author Lucria
+/**
+ * Reading and writing of the plain values shared by the TypeAdapters.
+ */
+final class JsonValues {
+    private static final TypeAdapter<Date> LEGACY_DATE_ADAPTER = new Gson().getAdapter(Date.class);
+
+    private JsonValues() {
+    }
+
+    static String readString(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+
+    static ArrayList<String> readStringList(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        ArrayList<String> values = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            values.add(readString(reader));
+        }
+        reader.endArray();
+        return values;
+    }
+
+    static void writeStringList(JsonWriter writer, ArrayList<String> values) throws IOException {
+        if (values == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginArray();
+        for (String value : values) {
+            writer.value(value);
+        }
+        writer.endArray();
+    }
+
+    /**
+     * Reads a date written as milliseconds since the epoch. Dates in the formatted text written by earlier versions
+     * of ArchDuke are also accepted.
+     */
+    static Date readDate(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        } else if (token == JsonToken.STRING) {
+            return LEGACY_DATE_ADAPTER.read(reader);
+        }
+        return new Date(reader.nextLong());
+    }
+
+    static void writeDate(JsonWriter writer, Date date) throws IOException {
+        if (date == null) {
+            writer.nullValue();
+        } else {
+            writer.value(date.getTime());
+        }
+    }
+
+    /**
+     * Steps into the list stored under a field. Earlier versions of ArchDuke saved a list as an object holding the
+     * list under the same field name, next to helper fields, so such an object is stepped into as well.
+     * @return : Returns true if the list was wrapped in an object, which must then be left with leaveList.
+     */
+    static boolean enterList(JsonReader reader, String fieldName) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.beginArray();
+            return false;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (fieldName.equals(reader.nextName())) {
+                reader.beginArray();
+                return true;
+            }
+            reader.skipValue();
+        }
+        throw new IOException("Saved " + fieldName + " is missing its list");
+    }
+
+    static void leaveList(JsonReader reader, boolean isWrapped) throws IOException {
+        reader.endArray();
+        if (isWrapped) {
+            while (reader.hasNext()) {
+                reader.nextName();
+                reader.skipValue();
+            }
+            reader.endObject();
+        }
+    }
+}
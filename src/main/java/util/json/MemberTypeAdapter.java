@@ -0,0 +1,73 @@
+package util.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import models.member.Member;
+
+import java.io.IOException;
+
+//@@author Lucria
+/**
+ * Streaming TypeAdapter for Member that only writes the details of the member.
+ */
+public class MemberTypeAdapter extends TypeAdapter<Member> {
+    @Override
+    public void write(JsonWriter writer, Member member) throws IOException {
+        if (member == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        writer.name("memberID").value(member.getMemberID());
+        writer.name("name").value(member.getName());
+        writer.name("phone").value(member.getPhone());
+        writer.name("email").value(member.getEmail());
+        writer.name("indexNumber").value(member.getIndexNumber());
+        writer.name("role").value(member.getRole());
+        writer.endObject();
+    }
+
+    @Override
+    public Member read(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        String memberID = null;
+        String name = null;
+        String phone = null;
+        String email = null;
+        int indexNumber = 0;
+        String role = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "memberID":
+                memberID = JsonValues.readString(reader);
+                break;
+            case "name":
+                name = JsonValues.readString(reader);
+                break;
+            case "phone":
+                phone = JsonValues.readString(reader);
+                break;
+            case "email":
+                email = JsonValues.readString(reader);
+                break;
+            case "indexNumber":
+                indexNumber = reader.nextInt();
+                break;
+            case "role":
+                role = JsonValues.readString(reader);
+                break;
+            default:
+                reader.skipValue();
+                break;
+            }
+        }
+        reader.endObject();
+        return new Member(memberID, name, phone, email, indexNumber, role);
+    }
+}
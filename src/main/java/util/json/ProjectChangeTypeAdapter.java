@@ -0,0 +1,153 @@
+package util.json;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import models.member.Member;
+import models.project.ProjectChange;
+import models.reminder.Reminder;
+import models.task.Task;
+
+import java.io.IOException;
+
+//@@author Lucria
+/**
+ * Streaming TypeAdapter for ProjectChange that writes the kind of the change and only the fields that kind uses.
+ * Tasks, members and reminders are written with their own TypeAdapters, so a change holds their full details.
+ */
+public class ProjectChangeTypeAdapter extends TypeAdapter<ProjectChange> {
+    private final TaskTypeAdapter taskTypeAdapter = new TaskTypeAdapter();
+    private final MemberTypeAdapter memberTypeAdapter = new MemberTypeAdapter();
+    private final ReminderTypeAdapter reminderTypeAdapter = new ReminderTypeAdapter();
+
+    @Override
+    public void write(JsonWriter writer, ProjectChange change) throws IOException {
+        if (change == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        writer.name("kind").value(change.getKind().name());
+        switch (change.getKind()) {
+        case RENAME_PROJECT:
+            writer.name("projectName").value(change.getProjectName());
+            break;
+        case PUT_TASK:
+            writer.name("task");
+            taskTypeAdapter.write(writer, change.getTask());
+            break;
+        case PUT_MEMBER:
+            writer.name("member");
+            memberTypeAdapter.write(writer, change.getMember());
+            break;
+        case ADD_REMINDER:
+            writer.name("reminder");
+            reminderTypeAdapter.write(writer, change.getReminder());
+            break;
+        case PUT_REMINDER:
+            writer.name("reminderIndex").value(change.getReminderIndex());
+            writer.name("reminder");
+            reminderTypeAdapter.write(writer, change.getReminder());
+            break;
+        case REMOVE_REMINDER:
+            writer.name("reminderIndex").value(change.getReminderIndex());
+            break;
+        default:
+            writer.name("taskID").value(change.getTaskID());
+            writer.name("memberID").value(change.getMemberID());
+            break;
+        }
+        writer.endObject();
+    }
+
+    @Override
+    public ProjectChange read(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        String kind = null;
+        String projectName = null;
+        String taskID = null;
+        String memberID = null;
+        Task task = null;
+        Member member = null;
+        Reminder reminder = null;
+        int reminderIndex = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "kind":
+                kind = JsonValues.readString(reader);
+                break;
+            case "projectName":
+                projectName = JsonValues.readString(reader);
+                break;
+            case "taskID":
+                taskID = JsonValues.readString(reader);
+                break;
+            case "memberID":
+                memberID = JsonValues.readString(reader);
+                break;
+            case "task":
+                task = taskTypeAdapter.read(reader);
+                break;
+            case "member":
+                member = memberTypeAdapter.read(reader);
+                break;
+            case "reminder":
+                reminder = reminderTypeAdapter.read(reader);
+                break;
+            case "reminderIndex":
+                reminderIndex = reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+                break;
+            }
+        }
+        reader.endObject();
+        return createChange(kind, projectName, taskID, memberID, task, member, reminder, reminderIndex);
+    }
+
+    private ProjectChange createChange(String kind, String projectName, String taskID, String memberID, Task task,
+                                       Member member, Reminder reminder, int reminderIndex) {
+        ProjectChange.Kind changeKind;
+        try {
+            changeKind = ProjectChange.Kind.valueOf(String.valueOf(kind));
+        } catch (IllegalArgumentException err) {
+            throw new JsonSyntaxException("Unknown kind of change: " + kind, err);
+        }
+        switch (changeKind) {
+        case RENAME_PROJECT:
+            return ProjectChange.renameProject(projectName);
+        case PUT_TASK:
+            return ProjectChange.putTask(requireDetails(task, kind));
+        case REMOVE_TASK:
+            return ProjectChange.removeTask(requireDetails(taskID, kind));
+        case PUT_MEMBER:
+            return ProjectChange.putMember(requireDetails(member, kind));
+        case REMOVE_MEMBER:
+            return ProjectChange.removeMember(requireDetails(memberID, kind));
+        case ASSIGN_TASK:
+            return ProjectChange.assignTask(requireDetails(taskID, kind), requireDetails(memberID, kind));
+        case UNASSIGN_TASK:
+            return ProjectChange.unassignTask(requireDetails(taskID, kind), requireDetails(memberID, kind));
+        case ADD_REMINDER:
+            return ProjectChange.addReminder(requireDetails(reminder, kind));
+        case PUT_REMINDER:
+            return ProjectChange.putReminder(reminderIndex, requireDetails(reminder, kind));
+        default:
+            return ProjectChange.removeReminder(reminderIndex);
+        }
+    }
+
+    private <T> T requireDetails(T details, String kind) {
+        if (details == null) {
+            throw new JsonSyntaxException("Change of kind " + kind + " is missing its details");
+        }
+        return details;
+    }
+}
@@ -0,0 +1,120 @@
+package util.json;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import models.project.ProjectSummary;
+import models.task.TaskState;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+//@@author Lucria
+/**
+ * Streaming TypeAdapter for ProjectSummary, which is written to the manifest of all saved Projects.
+ */
+public class ProjectSummaryTypeAdapter extends TypeAdapter<ProjectSummary> {
+    @Override
+    public void write(JsonWriter writer, ProjectSummary projectSummary) throws IOException {
+        if (projectSummary == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        writer.name("projectID").value(projectSummary.getProjectID());
+        writer.name("name").value(projectSummary.getName());
+        writer.name("memberDetails");
+        JsonValues.writeStringList(writer, projectSummary.getMemberDetails());
+        writer.name("numOfTasks").value(projectSummary.getNumOfTasks());
+        if (projectSummary.getNextDeadlineTaskName() != null) {
+            writer.name("nextDeadlineTaskName").value(projectSummary.getNextDeadlineTaskName());
+            writer.name("nextDeadlineDay").value(projectSummary.getNextDeadlineDay());
+            writer.name("nextDeadlinePriority").value(projectSummary.getNextDeadlinePriority());
+            writer.name("nextDeadlineCredit").value(projectSummary.getNextDeadlineCredit());
+            TaskState nextDeadlineState = projectSummary.getNextDeadlineState();
+            writer.name("nextDeadlineState").value(nextDeadlineState == null ? null : nextDeadlineState.name());
+        }
+        writer.name("overallProgressDetails");
+        String[] overallProgressDetails = projectSummary.getOverallProgressDetails();
+        JsonValues.writeStringList(writer,
+                overallProgressDetails == null ? null : new ArrayList<>(Arrays.asList(overallProgressDetails)));
+        writer.endObject();
+    }
+
+    @Override
+    public ProjectSummary read(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        String projectID = null;
+        String name = null;
+        ArrayList<String> memberDetails = null;
+        int numOfTasks = 0;
+        String nextDeadlineTaskName = null;
+        long nextDeadlineDay = 0;
+        int nextDeadlinePriority = 0;
+        int nextDeadlineCredit = 0;
+        TaskState nextDeadlineState = null;
+        ArrayList<String> overallProgressDetails = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "projectID":
+                projectID = JsonValues.readString(reader);
+                break;
+            case "name":
+                name = JsonValues.readString(reader);
+                break;
+            case "memberDetails":
+                memberDetails = JsonValues.readStringList(reader);
+                break;
+            case "numOfTasks":
+                numOfTasks = reader.nextInt();
+                break;
+            case "nextDeadlineTaskName":
+                nextDeadlineTaskName = JsonValues.readString(reader);
+                break;
+            case "nextDeadlineDay":
+                nextDeadlineDay = reader.nextLong();
+                break;
+            case "nextDeadlinePriority":
+                nextDeadlinePriority = reader.nextInt();
+                break;
+            case "nextDeadlineCredit":
+                nextDeadlineCredit = reader.nextInt();
+                break;
+            case "nextDeadlineState":
+                nextDeadlineState = readTaskState(JsonValues.readString(reader));
+                break;
+            case "overallProgressDetails":
+                overallProgressDetails = JsonValues.readStringList(reader);
+                break;
+            default:
+                reader.skipValue();
+                break;
+            }
+        }
+        reader.endObject();
+        if (projectID == null || memberDetails == null || overallProgressDetails == null) {
+            throw new JsonSyntaxException("Project summary is missing its details");
+        }
+        return new ProjectSummary(projectID, name, memberDetails, numOfTasks, nextDeadlineTaskName, nextDeadlineDay,
+                nextDeadlinePriority, nextDeadlineCredit, nextDeadlineState,
+                overallProgressDetails.toArray(new String[0]));
+    }
+
+    private TaskState readTaskState(String taskState) {
+        if (taskState == null) {
+            return null;
+        }
+        try {
+            return TaskState.valueOf(taskState);
+        } catch (IllegalArgumentException err) {
+            throw new JsonSyntaxException("Unknown task state: " + taskState);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package util.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import models.member.Member;
+import models.project.Project;
+import models.reminder.Reminder;
+import models.task.Task;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+//@@author Lucria
+/**
+ * Streaming TypeAdapter for Project that writes the members, tasks, reminders and assignments of the project, and
+ * none of the helpers held by its lists.
+ * A Project is read back through its own methods, so its lists are linked up as if the project had just been built.
+ * Save files written by earlier versions of ArchDuke, where each list was wrapped in an object, can also be read.
+ */
+public class ProjectTypeAdapter extends TypeAdapter<Project> {
+    private final MemberTypeAdapter memberTypeAdapter = new MemberTypeAdapter();
+    private final TaskTypeAdapter taskTypeAdapter = new TaskTypeAdapter();
+    private final ReminderTypeAdapter reminderTypeAdapter = new ReminderTypeAdapter();
+
+    @Override
+    public void write(JsonWriter writer, Project project) throws IOException {
+        if (project == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        writer.name("name").value(project.getName());
+        writer.name("journalSequence").value(project.getJournalSequence());
+        writer.name("memberList").beginArray();
+        for (Member member : project.getMemberList().getMemberList()) {
+            memberTypeAdapter.write(writer, member);
+        }
+        writer.endArray();
+        writer.name("taskList").beginArray();
+        for (Task task : project.getTaskList().getTaskList()) {
+            taskTypeAdapter.write(writer, task);
+        }
+        writer.endArray();
+        writer.name("reminderList").beginArray();
+        for (Reminder reminder : project.getReminderList()) {
+            reminderTypeAdapter.write(writer, reminder);
+        }
+        writer.endArray();
+        writer.name("taskAndListOfMembersAssigned");
+        writeAssignments(writer, project.getTasksAndAssignedMembers());
+        writer.name("memberAndIndividualListOfTasks");
+        writeAssignments(writer, project.getMembersIndividualTaskList());
+        writer.endObject();
+    }
+
+    @Override
+    public Project read(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        String name = null;
+        long journalSequence = 0;
+        ArrayList<Member> members = new ArrayList<>();
+        ArrayList<Task> tasks = new ArrayList<>();
+        ArrayList<Reminder> reminders = new ArrayList<>();
+        HashMap<String, ArrayList<String>> taskAndListOfMembersAssigned = new HashMap<>();
+        HashMap<String, ArrayList<String>> memberAndIndividualListOfTasks = new HashMap<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "name":
+                name = JsonValues.readString(reader);
+                break;
+            case "journalSequence":
+                journalSequence = reader.nextLong();
+                break;
+            case "memberList":
+                readList(reader, "memberList", memberTypeAdapter, members);
+                break;
+            case "taskList":
+                readList(reader, "taskList", taskTypeAdapter, tasks);
+                break;
+            case "reminderList":
+                readList(reader, "reminderList", reminderTypeAdapter, reminders);
+                break;
+            case "taskAndListOfMembersAssigned":
+                readAssignments(reader, taskAndListOfMembersAssigned);
+                break;
+            case "memberAndIndividualListOfTasks":
+                readAssignments(reader, memberAndIndividualListOfTasks);
+                break;
+            default:
+                reader.skipValue();
+                break;
+            }
+        }
+        reader.endObject();
+
+        Project project = new Project(name);
+        for (Member member : members) {
+            project.addMember(member);
+        }
+        for (Task task : tasks) {
+            project.addTask(task);
+        }
+        for (Reminder reminder : reminders) {
+            project.addReminderToList(reminder);
+        }
+        project.restoreAssignments(taskAndListOfMembersAssigned, memberAndIndividualListOfTasks);
+        project.setJournalSequence(journalSequence);
+        return project;
+    }
+
+    private <T> void readList(JsonReader reader, String fieldName, TypeAdapter<T> typeAdapter, ArrayList<T> items)
+            throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return;
+        }
+        boolean isWrapped = JsonValues.enterList(reader, fieldName);
+        while (reader.hasNext()) {
+            T item = typeAdapter.read(reader);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        JsonValues.leaveList(reader, isWrapped);
+    }
+
+    private void writeAssignments(JsonWriter writer, HashMap<String, ArrayList<String>> assignments)
+            throws IOException {
+        writer.beginObject();
+        for (Map.Entry<String, ArrayList<String>> assignment : assignments.entrySet()) {
+            writer.name(assignment.getKey());
+            JsonValues.writeStringList(writer, assignment.getValue());
+        }
+        writer.endObject();
+    }
+
+    private void readAssignments(JsonReader reader, HashMap<String, ArrayList<String>> assignments)
+            throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String id = reader.nextName();
+            ArrayList<String> assignedIDs = JsonValues.readStringList(reader);
+            assignments.put(id, assignedIDs == null ? new ArrayList<>() : assignedIDs);
+        }
+        reader.endObject();
+    }
+}
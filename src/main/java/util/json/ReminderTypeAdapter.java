@@ -0,0 +1,72 @@
+package util.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import models.reminder.Reminder;
+
+import java.io.IOException;
+import java.util.Date;
+
+//@@author Lucria
+/**
+ * Streaming TypeAdapter for Reminder.
+ */
+public class ReminderTypeAdapter extends TypeAdapter<Reminder> {
+    @Override
+    public void write(JsonWriter writer, Reminder reminder) throws IOException {
+        if (reminder == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        writer.name("reminderName").value(reminder.getReminderName());
+        writer.name("reminderRemarks").value(reminder.getReminderRemarks());
+        writer.name("reminderDate");
+        JsonValues.writeDate(writer, reminder.getReminderDate());
+        writer.name("isDone").value(reminder.getIsDone());
+        writer.name("category").value(reminder.getCategory());
+        writer.endObject();
+    }
+
+    @Override
+    public Reminder read(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        String reminderName = null;
+        String reminderRemarks = null;
+        Date reminderDate = null;
+        boolean isDone = false;
+        String category = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "reminderName":
+                reminderName = JsonValues.readString(reader);
+                break;
+            case "reminderRemarks":
+                reminderRemarks = JsonValues.readString(reader);
+                break;
+            case "reminderDate":
+                reminderDate = JsonValues.readDate(reader);
+                break;
+            case "isDone":
+                isDone = reader.nextBoolean();
+                break;
+            case "category":
+                category = JsonValues.readString(reader);
+                break;
+            default:
+                reader.skipValue();
+                break;
+            }
+        }
+        reader.endObject();
+        Reminder reminder = new Reminder(reminderName, reminderRemarks, reminderDate, category);
+        reminder.setIsDone(isDone);
+        return reminder;
+    }
+}
@@ -0,0 +1,95 @@
+package util.json;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import models.task.Task;
+import models.task.TaskState;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+
+//@@author Lucria
+/**
+ * Streaming TypeAdapter for Task that only writes the fields of the task itself, and not its helpers.
+ */
+public class TaskTypeAdapter extends TypeAdapter<Task> {
+    @Override
+    public void write(JsonWriter writer, Task task) throws IOException {
+        if (task == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        writer.name("taskID").value(task.getTaskID());
+        writer.name("taskName").value(task.getTaskName());
+        writer.name("taskPriority").value(task.getTaskPriority());
+        writer.name("dueDate");
+        JsonValues.writeDate(writer, task.getDueDate());
+        writer.name("taskCredit").value(task.getTaskCredit());
+        writer.name("taskState").value(task.getTaskState() == null ? null : task.getTaskState().name());
+        writer.name("taskRequirements");
+        JsonValues.writeStringList(writer, task.getUnlabelledTaskRequirements());
+        writer.endObject();
+    }
+
+    @Override
+    public Task read(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        String taskID = null;
+        String taskName = null;
+        int taskPriority = 0;
+        Date dueDate = null;
+        int taskCredit = 0;
+        TaskState taskState = TaskState.OPEN;
+        ArrayList<String> taskRequirements = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "taskID":
+                taskID = JsonValues.readString(reader);
+                break;
+            case "taskName":
+                taskName = JsonValues.readString(reader);
+                break;
+            case "taskPriority":
+                taskPriority = reader.nextInt();
+                break;
+            case "dueDate":
+                dueDate = JsonValues.readDate(reader);
+                break;
+            case "taskCredit":
+                taskCredit = reader.nextInt();
+                break;
+            case "taskState":
+                taskState = readTaskState(JsonValues.readString(reader));
+                break;
+            case "taskRequirements":
+                taskRequirements = JsonValues.readStringList(reader);
+                break;
+            default:
+                reader.skipValue();
+                break;
+            }
+        }
+        reader.endObject();
+        return new Task(taskID, taskName, taskPriority, dueDate, taskCredit, taskState, taskRequirements);
+    }
+
+    private TaskState readTaskState(String taskState) {
+        if (taskState == null) {
+            return null;
+        }
+        try {
+            return TaskState.valueOf(taskState);
+        } catch (IllegalArgumentException err) {
+            throw new JsonSyntaxException("Unknown task state: " + taskState);
+        }
+    }
+}
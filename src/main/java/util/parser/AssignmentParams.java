@@ -0,0 +1,48 @@
+package util.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+//@@author Lucria
+/**
+ * Valid task and member index numbers parsed from an assignment command, with the errors found while parsing them.
+ * An AssignmentParams cannot be changed once it is created.
+ */
+public final class AssignmentParams {
+    private final List<Integer> taskIndexes;
+    private final List<Integer> assignees;
+    private final List<Integer> unassignees;
+    private final List<String> errorMessages;
+
+    /**
+     * Constructor of AssignmentParams.
+     * @param taskIndexes : Index numbers of the tasks to be assigned or unassigned.
+     * @param assignees : Index numbers of the members to be assigned to the tasks.
+     * @param unassignees : Index numbers of the members to be unassigned from the tasks.
+     * @param errorMessages : Errors found while parsing the command.
+     */
+    public AssignmentParams(List<Integer> taskIndexes, List<Integer> assignees, List<Integer> unassignees,
+                            List<String> errorMessages) {
+        this.taskIndexes = Collections.unmodifiableList(new ArrayList<>(taskIndexes));
+        this.assignees = Collections.unmodifiableList(new ArrayList<>(assignees));
+        this.unassignees = Collections.unmodifiableList(new ArrayList<>(unassignees));
+        this.errorMessages = Collections.unmodifiableList(new ArrayList<>(errorMessages));
+    }
+
+    public List<Integer> getTaskIndexes() {
+        return taskIndexes;
+    }
+
+    public List<Integer> getAssignees() {
+        return assignees;
+    }
+
+    public List<Integer> getUnassignees() {
+        return unassignees;
+    }
+
+    public List<String> getErrorMessages() {
+        return errorMessages;
+    }
+}
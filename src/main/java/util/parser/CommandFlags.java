@@ -0,0 +1,137 @@
+package util.parser;
+
+import java.util.Arrays;
+
+//@@author Lucria
+/**
+ * The flags of a command, such as "-n Thor -e thor@avengers.com", found in one scan of the command.
+ * A flag starts with a hyphen at the start of the command or after a space, followed by a letter or by nothing.
+ * Its name runs up to the next space, and its value is the rest of the command up to the next flag, without the
+ * spaces around it. Hyphens inside a value, as in "-n Mary-Jane" or "-e mary-jane@avengers.com", or in front of a
+ * number, as in "-x -1", do not start a flag, so they are kept in the value.
+ * Only the positions of the names and values are kept, and the text of a name or value is read from the command when
+ * it is asked for. A CommandFlags cannot be changed once it is created, so it can be shared between threads.
+ */
+public final class CommandFlags {
+    private static final int SPAN_LENGTH = 4;
+    private static final int NAME_START = 0;
+    private static final int NAME_END = 1;
+    private static final int VALUE_START = 2;
+    private static final int VALUE_END = 3;
+
+    private final String command;
+    private final int[] spans;
+    private final int numOfFlags;
+    private final int leadingTextEnd;
+
+    private CommandFlags(String command, int[] spans, int numOfFlags, int leadingTextEnd) {
+        this.command = command;
+        this.spans = spans;
+        this.numOfFlags = numOfFlags;
+        this.leadingTextEnd = leadingTextEnd;
+    }
+
+    /**
+     * Finds the flags of a command.
+     * @param command : Command to be read.
+     * @return : Returns the flags of the command, in the order they appear in it.
+     */
+    public static CommandFlags parse(String command) {
+        int[] spans = new int[SPAN_LENGTH * 4];
+        int numOfFlags = 0;
+        int leadingTextEnd = command.length();
+        for (int charIndex = 0; charIndex < command.length(); charIndex++) {
+            if (!isFlagStart(command, charIndex)) {
+                continue;
+            }
+            if (numOfFlags == 0) {
+                leadingTextEnd = charIndex;
+            } else {
+                spans[(numOfFlags - 1) * SPAN_LENGTH + VALUE_END] = charIndex;
+            }
+            if ((numOfFlags + 1) * SPAN_LENGTH > spans.length) {
+                spans = Arrays.copyOf(spans, spans.length * 2);
+            }
+            int span = numOfFlags * SPAN_LENGTH;
+            int nameEnd = charIndex + 1;
+            while (nameEnd < command.length() && !Character.isWhitespace(command.charAt(nameEnd))) {
+                nameEnd++;
+            }
+            spans[span + NAME_START] = charIndex + 1;
+            spans[span + NAME_END] = nameEnd;
+            spans[span + VALUE_START] = nameEnd;
+            spans[span + VALUE_END] = command.length();
+            numOfFlags++;
+            charIndex = nameEnd;
+        }
+        return new CommandFlags(command, spans, numOfFlags, leadingTextEnd);
+    }
+
+    private static boolean isFlagStart(String command, int charIndex) {
+        if (command.charAt(charIndex) != '-') {
+            return false;
+        } else if (charIndex > 0 && !Character.isWhitespace(command.charAt(charIndex - 1))) {
+            return false;
+        }
+        int nextCharIndex = charIndex + 1;
+        return nextCharIndex == command.length() || Character.isWhitespace(command.charAt(nextCharIndex))
+                || Character.isLetter(command.charAt(nextCharIndex));
+    }
+
+    /**
+     * Returns the text of the command before its first flag, such as the index number in "edit task 1 -n Name".
+     */
+    public String getLeadingText() {
+        return command.substring(0, leadingTextEnd).trim();
+    }
+
+    /**
+     * Returns the number of flags in the command.
+     */
+    public int getNumOfFlags() {
+        return numOfFlags;
+    }
+
+    /**
+     * Returns the name of a flag without its hyphen, such as "n" for "-n Thor". A hyphen on its own has an empty name.
+     * @param flagIndex : Position of the flag among the flags of the command, starting from 0.
+     */
+    public String getName(int flagIndex) {
+        int span = flagIndex * SPAN_LENGTH;
+        return command.substring(spans[span + NAME_START], spans[span + NAME_END]);
+    }
+
+    /**
+     * Returns the value of a flag, such as "Thor" for "-n Thor", or an empty String if the flag has no value.
+     * @param flagIndex : Position of the flag among the flags of the command, starting from 0.
+     */
+    public String getValue(int flagIndex) {
+        int span = flagIndex * SPAN_LENGTH;
+        return command.substring(spans[span + VALUE_START], spans[span + VALUE_END]).trim();
+    }
+
+    /**
+     * Returns the value of the last flag with a name, since a flag given again replaces the earlier value.
+     * @param name : Name of the flag without its hyphen.
+     * @return : Returns the value of the flag, or null if the command has no flag with the name.
+     */
+    public String getValue(String name) {
+        for (int flagIndex = numOfFlags - 1; flagIndex >= 0; flagIndex--) {
+            if (isNamed(flagIndex, name)) {
+                return getValue(flagIndex);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks if a flag is named, without reading the name out of the command.
+     * @param flagIndex : Position of the flag among the flags of the command, starting from 0.
+     * @param name : Name of the flag without its hyphen.
+     */
+    public boolean isNamed(int flagIndex, String name) {
+        int span = flagIndex * SPAN_LENGTH;
+        int nameLength = spans[span + NAME_END] - spans[span + NAME_START];
+        return nameLength == name.length() && command.startsWith(name, spans[span + NAME_START]);
+    }
+}
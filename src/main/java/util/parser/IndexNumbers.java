@@ -0,0 +1,33 @@
+package util.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+//@@author Lucria
+/**
+ * Valid index numbers of tasks or members parsed from a command, with the errors found while parsing them.
+ * An IndexNumbers cannot be changed once it is created.
+ */
+public final class IndexNumbers {
+    private final List<Integer> indexNumbers;
+    private final List<String> errorMessages;
+
+    /**
+     * Constructor of IndexNumbers.
+     * @param indexNumbers : Valid index numbers, in the order they were given.
+     * @param errorMessages : Errors found while parsing the index numbers.
+     */
+    public IndexNumbers(List<Integer> indexNumbers, List<String> errorMessages) {
+        this.indexNumbers = Collections.unmodifiableList(new ArrayList<>(indexNumbers));
+        this.errorMessages = Collections.unmodifiableList(new ArrayList<>(errorMessages));
+    }
+
+    public List<Integer> getIndexNumbers() {
+        return indexNumbers;
+    }
+
+    public List<String> getErrorMessages() {
+        return errorMessages;
+    }
+}
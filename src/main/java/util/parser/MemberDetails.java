@@ -0,0 +1,63 @@
+package util.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+//@@author Lucria
+/**
+ * Details of a member parsed from the flags of a command, with the errors found while parsing them.
+ * A detail that is not given keeps its placeholder: "--" for the name, phone and email, "0" for the index number and
+ * "member" for the role. A MemberDetails cannot be changed once it is created.
+ */
+public final class MemberDetails {
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String indexNumber;
+    private final String role;
+    private final List<String> errorMessages;
+
+    /**
+     * Constructor of MemberDetails.
+     * @param name : Name of the member, or "--".
+     * @param phone : Phone number of the member, or "--".
+     * @param email : Email of the member, or "--".
+     * @param indexNumber : Index number of the member, or "0".
+     * @param role : Role of the member, or "member".
+     * @param errorMessages : Errors found while parsing the details.
+     */
+    public MemberDetails(String name, String phone, String email, String indexNumber, String role,
+                         List<String> errorMessages) {
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.indexNumber = indexNumber;
+        this.role = role;
+        this.errorMessages = Collections.unmodifiableList(new ArrayList<>(errorMessages));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getIndexNumber() {
+        return indexNumber;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public List<String> getErrorMessages() {
+        return errorMessages;
+    }
+}
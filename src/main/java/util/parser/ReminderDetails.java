@@ -0,0 +1,56 @@
+package util.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+//@@author Lucria
+/**
+ * Details of a reminder parsed from the flags of a command, with the errors found while parsing them.
+ * A detail that is not given keeps its placeholder: "--" for the name and remarks, null for the date and "DEFAULT" for
+ * the category. A ReminderDetails cannot be changed once it is created.
+ */
+public final class ReminderDetails {
+    private final String reminderName;
+    private final String reminderRemarks;
+    private final String reminderDate;
+    private final String reminderCategory;
+    private final List<String> errorMessages;
+
+    /**
+     * Constructor of ReminderDetails.
+     * @param reminderName : Name of the reminder, or "--".
+     * @param reminderRemarks : Remarks of the reminder, or "--".
+     * @param reminderDate : Date of the reminder, or null.
+     * @param reminderCategory : Category of the reminder in upper case, or "DEFAULT".
+     * @param errorMessages : Errors found while parsing the details.
+     */
+    public ReminderDetails(String reminderName, String reminderRemarks, String reminderDate, String reminderCategory,
+                           List<String> errorMessages) {
+        this.reminderName = reminderName;
+        this.reminderRemarks = reminderRemarks;
+        this.reminderDate = reminderDate;
+        this.reminderCategory = reminderCategory;
+        this.errorMessages = Collections.unmodifiableList(new ArrayList<>(errorMessages));
+    }
+
+    public String getReminderName() {
+        return reminderName;
+    }
+
+    public String getReminderRemarks() {
+        return reminderRemarks;
+    }
+
+    public String getReminderDate() {
+        return reminderDate;
+    }
+
+    public String getReminderCategory() {
+        return reminderCategory;
+    }
+
+    public List<String> getErrorMessages() {
+        return errorMessages;
+    }
+}
@@ -0,0 +1,40 @@
+package util.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+//@@author Lucria
+/**
+ * Index number of the reminder a command acts on, with the errors found while parsing it. The index number is 0 if
+ * the command has no valid index number. A ReminderIndex cannot be changed once it is created.
+ */
+public final class ReminderIndex {
+    private final int indexNumber;
+    private final boolean isDone;
+    private final List<String> errorMessages;
+
+    /**
+     * Constructor of ReminderIndex.
+     * @param indexNumber : 1 based index number of the reminder, or 0.
+     * @param isDone : Whether the reminder is to be marked as done, for a command that marks or unmarks it.
+     * @param errorMessages : Errors found while parsing the command.
+     */
+    public ReminderIndex(int indexNumber, boolean isDone, List<String> errorMessages) {
+        this.indexNumber = indexNumber;
+        this.isDone = isDone;
+        this.errorMessages = Collections.unmodifiableList(new ArrayList<>(errorMessages));
+    }
+
+    public int getIndexNumber() {
+        return indexNumber;
+    }
+
+    public boolean isDone() {
+        return isDone;
+    }
+
+    public List<String> getErrorMessages() {
+        return errorMessages;
+    }
+}
@@ -0,0 +1,70 @@
+package util.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+//@@author Lucria
+/**
+ * Details of a task parsed from the flags of a command, with the errors found while parsing them.
+ * A detail that is not given keeps its placeholder: "--" for the name, "-1" for the priority and credit, null for the
+ * due date and "NONE" for the state. A TaskDetails cannot be changed once it is created.
+ */
+public final class TaskDetails {
+    private final String taskName;
+    private final String taskPriority;
+    private final String taskDueDate;
+    private final String taskCredit;
+    private final String taskState;
+    private final List<String> taskRequirements;
+    private final List<String> errorMessages;
+
+    /**
+     * Constructor of TaskDetails.
+     * @param taskName : Name of the task, or "--".
+     * @param taskPriority : Priority of the task, or "-1".
+     * @param taskDueDate : Due date of the task, or null.
+     * @param taskCredit : Credit of the task, or "-1".
+     * @param taskState : State of the task in lower case, or "NONE".
+     * @param taskRequirements : Requirements of the task.
+     * @param errorMessages : Errors found while parsing the details.
+     */
+    public TaskDetails(String taskName, String taskPriority, String taskDueDate, String taskCredit, String taskState,
+                       List<String> taskRequirements, List<String> errorMessages) {
+        this.taskName = taskName;
+        this.taskPriority = taskPriority;
+        this.taskDueDate = taskDueDate;
+        this.taskCredit = taskCredit;
+        this.taskState = taskState;
+        this.taskRequirements = Collections.unmodifiableList(new ArrayList<>(taskRequirements));
+        this.errorMessages = Collections.unmodifiableList(new ArrayList<>(errorMessages));
+    }
+
+    public String getTaskName() {
+        return taskName;
+    }
+
+    public String getTaskPriority() {
+        return taskPriority;
+    }
+
+    public String getTaskDueDate() {
+        return taskDueDate;
+    }
+
+    public String getTaskCredit() {
+        return taskCredit;
+    }
+
+    public String getTaskState() {
+        return taskState;
+    }
+
+    public List<String> getTaskRequirements() {
+        return taskRequirements;
+    }
+
+    public List<String> getErrorMessages() {
+        return errorMessages;
+    }
+}
@@ -0,0 +1,41 @@
+package util.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+//@@author Lucria
+/**
+ * Changes to the requirements of a task parsed from the -rm and -r flags of a command, with the errors found while
+ * parsing them. A TaskRequirementDetails cannot be changed once it is created.
+ */
+public final class TaskRequirementDetails {
+    private final List<String> indexesToBeRemoved;
+    private final List<String> requirementsToBeAdded;
+    private final List<String> errorMessages;
+
+    /**
+     * Constructor of TaskRequirementDetails.
+     * @param indexesToBeRemoved : Index numbers of the requirements to be removed, as given in the command.
+     * @param requirementsToBeAdded : New requirements, in the order they were given.
+     * @param errorMessages : Errors found while parsing the command.
+     */
+    public TaskRequirementDetails(List<String> indexesToBeRemoved, List<String> requirementsToBeAdded,
+                                  List<String> errorMessages) {
+        this.indexesToBeRemoved = Collections.unmodifiableList(new ArrayList<>(indexesToBeRemoved));
+        this.requirementsToBeAdded = Collections.unmodifiableList(new ArrayList<>(requirementsToBeAdded));
+        this.errorMessages = Collections.unmodifiableList(new ArrayList<>(errorMessages));
+    }
+
+    public List<String> getIndexesToBeRemoved() {
+        return indexesToBeRemoved;
+    }
+
+    public List<String> getRequirementsToBeAdded() {
+        return requirementsToBeAdded;
+    }
+
+    public List<String> getErrorMessages() {
+        return errorMessages;
+    }
+}
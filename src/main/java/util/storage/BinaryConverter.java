@@ -0,0 +1,93 @@
+package util.storage;
+
+import models.project.Project;
+import util.json.JsonConverter;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+
+//@@author Lucria
+/**
+ * Saves and loads Projects in a compact binary format, which is smaller and faster to read and write than JSON but
+ * cannot be edited by hand.
+ * A save file starts with a magic number, the version of the format and the length of the rest of the file. Strings
+ * and lists are prefixed with their length, dates are stored as days since the epoch, task states as a byte, and IDs
+ * as 128-bit values.
+ */
+public class BinaryConverter extends ProjectConverter {
+    static final int FORMAT_MAGIC_NUMBER = 0x41524344;
+    static final short FORMAT_VERSION = 1;
+    static final int NULL_LENGTH = -1;
+    static final int NULL_DATE = Integer.MIN_VALUE;
+    static final byte ID_NULL = 0;
+    static final byte ID_UUID = 1;
+    static final byte ID_TEXT = 2;
+
+    /**
+     * Constructor of BinaryConverter that saves and loads Projects in the current working directory.
+     */
+    public BinaryConverter() {
+        this(System.getProperty("user.dir"));
+    }
+
+    /**
+     * Constructor of BinaryConverter that saves and loads Projects in the given directory.
+     * @param userDirectory : Directory holding the save files.
+     */
+    public BinaryConverter(String userDirectory) {
+        super(userDirectory);
+    }
+
+    @Override
+    public String getFileExtension() {
+        return ".archduke";
+    }
+
+    @Override
+    public byte[] convertProject(Project project) {
+        return new BinaryProjectWriter().writeProject(project);
+    }
+
+    /**
+     * Reads the whole save file into a buffer through its channel, then decodes the Project from the buffer.
+     */
+    @Override
+    protected Project readProject(FileChannel saveFile) throws IOException {
+        long fileSize = saveFile.size();
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IOException("Saved file is too large");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) fileSize);
+        while (buffer.hasRemaining()) {
+            if (saveFile.read(buffer) < 0) {
+                throw new IOException("Saved file is incomplete");
+            }
+        }
+        buffer.flip();
+        return decodeProject(buffer);
+    }
+
+    /**
+     * Decodes the Project held by the contents of a save file.
+     * @param buffer : Contents of the save file, positioned at its start.
+     * @throws IOException : Exception thrown when the contents are not a complete save file of a known version.
+     */
+    protected Project decodeProject(ByteBuffer buffer) throws IOException {
+        try {
+            return new BinaryProjectReader(buffer).readProject();
+        } catch (BufferUnderflowException err) {
+            throw new IOException("Saved file is incomplete", err);
+        }
+    }
+
+    /**
+     * Projects in the jar file are packaged as JSON, so they are read as JSON and saved in the binary format.
+     */
+    @Override
+    public ArrayList<Project> getResourcesInJar() {
+        return new JsonConverter(userDirectory).getResourcesInJar();
+    }
+}
@@ -0,0 +1,193 @@
+package util.storage;
+
+import models.member.Member;
+import models.project.Project;
+import models.reminder.Reminder;
+import models.task.Task;
+import models.task.TaskState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.UUID;
+
+import static util.storage.BinaryConverter.FORMAT_MAGIC_NUMBER;
+import static util.storage.BinaryConverter.FORMAT_VERSION;
+import static util.storage.BinaryConverter.ID_NULL;
+import static util.storage.BinaryConverter.ID_TEXT;
+import static util.storage.BinaryConverter.ID_UUID;
+import static util.storage.BinaryConverter.NULL_DATE;
+import static util.storage.BinaryConverter.NULL_LENGTH;
+
+//@@author Lucria
+/**
+ * Decodes a Project from the binary save file format described in BinaryConverter.
+ * A Project is rebuilt through its own methods, so its lists are linked up as if the project had just been built.
+ */
+final class BinaryProjectReader {
+    private static final TaskState[] TASK_STATES = TaskState.values();
+    private final ByteBuffer buffer;
+
+    /**
+     * Constructor of BinaryProjectReader.
+     * @param buffer : Contents of a save file, positioned at its start.
+     */
+    BinaryProjectReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Decodes the Project held by the save file.
+     * @throws IOException : Exception thrown when the contents are not a complete save file of a known version.
+     */
+    Project readProject() throws IOException {
+        if (buffer.remaining() < Integer.BYTES + Short.BYTES + Integer.BYTES
+                || buffer.getInt() != FORMAT_MAGIC_NUMBER) {
+            throw new IOException("Saved file is not a binary save file of a project");
+        }
+        short version = buffer.getShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Saved file has unsupported format version " + version);
+        }
+        if (buffer.getInt() != buffer.remaining()) {
+            throw new IOException("Saved file is incomplete");
+        }
+        Project project = new Project(readString());
+        final long journalSequence = buffer.getLong();
+        int numOfMembers = readLength();
+        for (int memberIndex = 0; memberIndex < numOfMembers; memberIndex++) {
+            project.addMember(readMember());
+        }
+        int numOfTasks = readLength();
+        for (int taskIndex = 0; taskIndex < numOfTasks; taskIndex++) {
+            project.addTask(readTask());
+        }
+        int numOfReminders = readLength();
+        for (int reminderIndex = 0; reminderIndex < numOfReminders; reminderIndex++) {
+            project.addReminderToList(readReminder());
+        }
+        HashMap<String, ArrayList<String>> tasksAndAssignedMembers = readAssignments();
+        project.restoreAssignments(tasksAndAssignedMembers, readAssignments());
+        project.setJournalSequence(journalSequence);
+        return project;
+    }
+
+    private Member readMember() throws IOException {
+        String memberID = readId();
+        String name = readString();
+        String phone = readString();
+        String email = readString();
+        int indexNumber = buffer.getInt();
+        return new Member(memberID, name, phone, email, indexNumber, readString());
+    }
+
+    private Task readTask() throws IOException {
+        String taskID = readId();
+        String taskName = readString();
+        int taskPriority = buffer.getInt();
+        Date dueDate = readDate();
+        int taskCredit = buffer.getInt();
+        TaskState taskState = readTaskState();
+        return new Task(taskID, taskName, taskPriority, dueDate, taskCredit, taskState, readStringList());
+    }
+
+    private Reminder readReminder() throws IOException {
+        String reminderName = readString();
+        String reminderRemarks = readString();
+        Date reminderDate = readDate();
+        boolean isDone = buffer.get() != 0;
+        Reminder reminder = new Reminder(reminderName, reminderRemarks, reminderDate, readString());
+        reminder.setIsDone(isDone);
+        return reminder;
+    }
+
+    private HashMap<String, ArrayList<String>> readAssignments() throws IOException {
+        HashMap<String, ArrayList<String>> assignments = new HashMap<>();
+        int numOfAssignments = readLength();
+        for (int assignmentIndex = 0; assignmentIndex < numOfAssignments; assignmentIndex++) {
+            String id = readId();
+            int numOfAssignedIDs = readLength();
+            ArrayList<String> assignedIDs = new ArrayList<>(numOfAssignedIDs);
+            for (int assignedIndex = 0; assignedIndex < numOfAssignedIDs; assignedIndex++) {
+                assignedIDs.add(readId());
+            }
+            assignments.put(id, assignedIDs);
+        }
+        return assignments;
+    }
+
+    private TaskState readTaskState() throws IOException {
+        byte taskState = buffer.get();
+        if (taskState == NULL_LENGTH) {
+            return null;
+        } else if (taskState < 0 || taskState >= TASK_STATES.length) {
+            throw new IOException("Unknown task state: " + taskState);
+        }
+        return TASK_STATES[taskState];
+    }
+
+    private String readId() throws IOException {
+        byte idType = buffer.get();
+        switch (idType) {
+        case ID_NULL:
+            return null;
+        case ID_UUID:
+            long mostSignificantBits = buffer.getLong();
+            return new UUID(mostSignificantBits, buffer.getLong()).toString();
+        case ID_TEXT:
+            return readString();
+        default:
+            throw new IOException("Unknown ID type: " + idType);
+        }
+    }
+
+    private Date readDate() {
+        int epochDay = buffer.getInt();
+        if (epochDay == NULL_DATE) {
+            return null;
+        }
+        return Date.from(LocalDate.ofEpochDay(epochDay).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private ArrayList<String> readStringList() throws IOException {
+        int numOfValues = buffer.getInt();
+        if (numOfValues == NULL_LENGTH) {
+            return null;
+        }
+        ArrayList<String> values = new ArrayList<>(checkLength(numOfValues));
+        for (int valueIndex = 0; valueIndex < numOfValues; valueIndex++) {
+            values.add(readString());
+        }
+        return values;
+    }
+
+    private String readString() throws IOException {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] encodedValue = new byte[checkLength(length)];
+        buffer.get(encodedValue);
+        return new String(encodedValue, StandardCharsets.UTF_8);
+    }
+
+    private int readLength() throws IOException {
+        return checkLength(buffer.getInt());
+    }
+
+    /**
+     * Checks that a length read from the save file is possible, so that a damaged save file cannot make the reader
+     * allocate more than the size of the file.
+     */
+    private int checkLength(int length) throws IOException {
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("Saved file has an invalid length: " + length);
+        }
+        return length;
+    }
+}
@@ -0,0 +1,205 @@
+package util.storage;
+
+import models.member.Member;
+import models.project.Project;
+import models.reminder.Reminder;
+import models.task.Task;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static util.storage.BinaryConverter.FORMAT_MAGIC_NUMBER;
+import static util.storage.BinaryConverter.FORMAT_VERSION;
+import static util.storage.BinaryConverter.ID_NULL;
+import static util.storage.BinaryConverter.ID_TEXT;
+import static util.storage.BinaryConverter.ID_UUID;
+import static util.storage.BinaryConverter.NULL_DATE;
+import static util.storage.BinaryConverter.NULL_LENGTH;
+
+//@@author Lucria
+/**
+ * Encodes a Project into the binary save file format described in BinaryConverter.
+ * A writer is used for a single Project, and is not thread safe.
+ */
+final class BinaryProjectWriter {
+    private static final int INITIAL_CAPACITY = 4096;
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+    /**
+     * Encodes a Project together with the header of the save file.
+     * @param project : Project to be encoded.
+     * @return : Returns the contents of the save file.
+     */
+    byte[] writeProject(Project project) {
+        writeInt(FORMAT_MAGIC_NUMBER);
+        writeShort(FORMAT_VERSION);
+        final int bodyLengthPosition = buffer.position();
+        writeInt(0);
+        writeString(project.getName());
+        writeLong(project.getJournalSequence());
+        ArrayList<Member> members = project.getMemberList().getMemberList();
+        writeInt(members.size());
+        for (Member member : members) {
+            writeMember(member);
+        }
+        ArrayList<Task> tasks = project.getTaskList().getTaskList();
+        writeInt(tasks.size());
+        for (Task task : tasks) {
+            writeTask(task);
+        }
+        ArrayList<Reminder> reminders = project.getReminderList();
+        writeInt(reminders.size());
+        for (Reminder reminder : reminders) {
+            writeReminder(reminder);
+        }
+        writeAssignments(project.getTasksAndAssignedMembers());
+        writeAssignments(project.getMembersIndividualTaskList());
+        buffer.putInt(bodyLengthPosition, buffer.position() - bodyLengthPosition - Integer.BYTES);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private void writeMember(Member member) {
+        writeId(member.getMemberID());
+        writeString(member.getName());
+        writeString(member.getPhone());
+        writeString(member.getEmail());
+        writeInt(member.getIndexNumber());
+        writeString(member.getRole());
+    }
+
+    private void writeTask(Task task) {
+        writeId(task.getTaskID());
+        writeString(task.getTaskName());
+        writeInt(task.getTaskPriority());
+        writeDate(task.getDueDate());
+        writeInt(task.getTaskCredit());
+        writeByte(task.getTaskState() == null ? NULL_LENGTH : task.getTaskState().ordinal());
+        writeStringList(task.getUnlabelledTaskRequirements());
+    }
+
+    private void writeReminder(Reminder reminder) {
+        writeString(reminder.getReminderName());
+        writeString(reminder.getReminderRemarks());
+        writeDate(reminder.getReminderDate());
+        writeByte(reminder.getIsDone() ? 1 : 0);
+        writeString(reminder.getCategory());
+    }
+
+    private void writeAssignments(HashMap<String, ArrayList<String>> assignments) {
+        writeInt(assignments.size());
+        for (Map.Entry<String, ArrayList<String>> assignment : assignments.entrySet()) {
+            writeId(assignment.getKey());
+            ArrayList<String> assignedIDs = assignment.getValue();
+            writeInt(assignedIDs == null ? 0 : assignedIDs.size());
+            if (assignedIDs != null) {
+                for (String assignedID : assignedIDs) {
+                    writeId(assignedID);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes an ID as a 128-bit value. An ID that is not in the standard form of a UUID, such as one edited by hand
+     * into a JSON save file, is written as text instead so that it is kept as it is.
+     */
+    private void writeId(String id) {
+        if (id == null) {
+            writeByte(ID_NULL);
+            return;
+        }
+        UUID uuid = parseUuid(id);
+        if (uuid == null) {
+            writeByte(ID_TEXT);
+            writeString(id);
+        } else {
+            writeByte(ID_UUID);
+            writeLong(uuid.getMostSignificantBits());
+            writeLong(uuid.getLeastSignificantBits());
+        }
+    }
+
+    private UUID parseUuid(String id) {
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException err) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes a date as the number of days since the epoch in the default time zone.
+     * Dates in ArchDuke are only ever entered to the day, so no time of day is kept.
+     */
+    private void writeDate(Date date) {
+        if (date == null) {
+            writeInt(NULL_DATE);
+        } else {
+            writeInt((int) date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay());
+        }
+    }
+
+    private void writeStringList(ArrayList<String> values) {
+        if (values == null) {
+            writeInt(NULL_LENGTH);
+            return;
+        }
+        writeInt(values.size());
+        for (String value : values) {
+            writeString(value);
+        }
+    }
+
+    private void writeString(String value) {
+        if (value == null) {
+            writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] encodedValue = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(encodedValue.length);
+        ensureCapacity(encodedValue.length);
+        buffer.put(encodedValue);
+    }
+
+    private void writeByte(int value) {
+        ensureCapacity(Byte.BYTES);
+        buffer.put((byte) value);
+    }
+
+    private void writeShort(int value) {
+        ensureCapacity(Short.BYTES);
+        buffer.putShort((short) value);
+    }
+
+    private void writeInt(int value) {
+        ensureCapacity(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    private void writeLong(long value) {
+        ensureCapacity(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    /**
+     * Grows the buffer by at least doubling it, so that encoding a Project takes amortised constant time per byte.
+     */
+    private void ensureCapacity(int numOfBytes) {
+        if (buffer.remaining() >= numOfBytes) {
+            return;
+        }
+        ByteBuffer grownBuffer = ByteBuffer.allocate(Math.max(buffer.capacity() * 2,
+                buffer.position() + numOfBytes));
+        buffer.flip();
+        grownBuffer.put(buffer);
+        buffer = grownBuffer;
+    }
+}
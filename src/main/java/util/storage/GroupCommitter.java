@@ -0,0 +1,327 @@
+package util.storage;
+
+import util.log.ArchDukeLogger;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static util.constant.ConstantHelper.GROUP_COMMIT_WINDOW_MILLIS;
+
+//@@author Lucria
+/**
+ * Makes writes to files durable in groups, so that one round of disk syncs covers every save and journal record that
+ * arrived together, instead of syncing the disk once per command.
+ * A background committer waits for the window to pass after the first request of a group, or for the group before it
+ * to be committed, then syncs every file in the group, atomically renames each temporary file over the file it
+ * replaces, and syncs the directories of the renamed files. A file is only ever renamed over another once its
+ * contents are on disk, so a crash leaves either the old or the new contents of the file, and never a mix of both.
+ */
+public class GroupCommitter {
+    private static final GroupCommitter sharedCommitter = new GroupCommitter(GROUP_COMMIT_WINDOW_MILLIS);
+    private final long commitWindowMillis;
+    private final ReentrantLock commitLock;
+    private final Condition hasGroupChanged;
+    private Group openGroup;
+    private Group committingGroup;
+    private Thread committerThread;
+    private long numOfGroupsCommitted;
+    private long numOfRequestsCommitted;
+
+    /**
+     * Constructor of GroupCommitter. The background committer is only started on the first request.
+     * @param commitWindowMillis : Time in milliseconds that a group waits for more requests before it is committed.
+     */
+    public GroupCommitter(long commitWindowMillis) {
+        this.commitWindowMillis = commitWindowMillis;
+        this.commitLock = new ReentrantLock();
+        this.hasGroupChanged = commitLock.newCondition();
+        this.openGroup = new Group();
+    }
+
+    /**
+     * Returns the GroupCommitter shared by all save files and journals, so that their syncs are grouped together.
+     */
+    public static GroupCommitter getSharedCommitter() {
+        return sharedCommitter;
+    }
+
+    /**
+     * Requests that the contents written to a file so far are made durable in the next group.
+     * @param file : File to be synced.
+     * @return : Returns a ticket that can be awaited until the file is synced.
+     */
+    public CommitTicket syncFile(Path file) {
+        commitLock.lock();
+        try {
+            openGroup.filesToSync.add(file);
+            return submit(file);
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * Requests that a fully written temporary file is made durable and then atomically replaces another file in the
+     * next group. The temporary file must be in the same directory as the file it replaces.
+     * @param temporaryFile : File holding the new contents.
+     * @param targetFile : File to be replaced.
+     * @return : Returns a ticket that can be awaited until the file is replaced.
+     */
+    public CommitTicket replaceFile(Path temporaryFile, Path targetFile) {
+        commitLock.lock();
+        try {
+            openGroup.filesToReplace.put(temporaryFile, targetFile);
+            return submit(temporaryFile);
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * Waits until every request made before the call is committed.
+     */
+    public void awaitCommitted() {
+        commitLock.lock();
+        try {
+            while (committingGroup != null || openGroup.numOfRequests > 0) {
+                hasGroupChanged.awaitUninterruptibly();
+            }
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of groups committed so far.
+     */
+    public long getNumOfGroupsCommitted() {
+        commitLock.lock();
+        try {
+            return numOfGroupsCommitted;
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of requests committed so far, across all groups.
+     */
+    public long getNumOfRequestsCommitted() {
+        commitLock.lock();
+        try {
+            return numOfRequestsCommitted;
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    private CommitTicket submit(Path file) {
+        openGroup.numOfRequests++;
+        if (committerThread == null) {
+            committerThread = new Thread(this::runCommitter, "ArchDuke-GroupCommitter");
+            committerThread.setDaemon(true);
+            committerThread.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(this::awaitCommitted));
+        }
+        hasGroupChanged.signalAll();
+        return new CommitTicket(this, openGroup, file);
+    }
+
+    private void runCommitter() {
+        while (true) {
+            Group group = awaitGroup();
+            try {
+                commitGroup(group);
+            } finally {
+                commitLock.lock();
+                try {
+                    group.isCommitted = true;
+                    committingGroup = null;
+                    numOfGroupsCommitted++;
+                    numOfRequestsCommitted += group.numOfRequests;
+                    hasGroupChanged.signalAll();
+                } finally {
+                    commitLock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for the first request of the open group, then for the commit window to pass, and takes the group.
+     * With no commit window, the group is taken at once, and requests that arrive while it is being committed form
+     * the next group.
+     */
+    private Group awaitGroup() {
+        commitLock.lock();
+        try {
+            while (openGroup.numOfRequests == 0) {
+                hasGroupChanged.awaitUninterruptibly();
+            }
+            long remainingWindow = TimeUnit.MILLISECONDS.toNanos(commitWindowMillis);
+            while (remainingWindow > 0) {
+                try {
+                    remainingWindow = hasGroupChanged.awaitNanos(remainingWindow);
+                } catch (InterruptedException err) {
+                    break;
+                }
+            }
+            committingGroup = openGroup;
+            openGroup = new Group();
+            return committingGroup;
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    private void commitGroup(Group group) {
+        for (Path file : group.filesToSync) {
+            syncToDisk(group, file, false);
+        }
+        for (Path temporaryFile : group.filesToReplace.keySet()) {
+            syncToDisk(group, temporaryFile, true);
+        }
+        LinkedHashSet<Path> directoriesToSync = new LinkedHashSet<>();
+        for (Map.Entry<Path, Path> replacement : group.filesToReplace.entrySet()) {
+            Path temporaryFile = replacement.getKey();
+            if (group.failedFiles.contains(temporaryFile)) {
+                continue;
+            }
+            try {
+                Files.move(temporaryFile, replacement.getValue(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+                directoriesToSync.add(replacement.getValue().toAbsolutePath().getParent());
+            } catch (IOException err) {
+                group.failedFiles.add(temporaryFile);
+                ArchDukeLogger.logError(GroupCommitter.class.getName(), "File '" + replacement.getValue()
+                        + "' could not be replaced: " + err.getMessage());
+            }
+        }
+        for (Path directory : directoriesToSync) {
+            syncDirectory(directory);
+        }
+        for (Path temporaryFile : group.filesToReplace.keySet()) {
+            if (group.failedFiles.contains(temporaryFile)) {
+                deleteFailedFile(temporaryFile);
+            }
+        }
+    }
+
+    private void deleteFailedFile(Path temporaryFile) {
+        try {
+            Files.deleteIfExists(temporaryFile);
+        } catch (IOException err) {
+            ArchDukeLogger.logError(GroupCommitter.class.getName(), "Temporary file '" + temporaryFile
+                    + "' could not be deleted");
+        }
+    }
+
+    /**
+     * Syncs the contents of a file to disk. A file that was only to be synced may have been deleted or replaced since
+     * the request, in which case there is nothing left to sync.
+     */
+    private void syncToDisk(Group group, Path file, boolean isRequired) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(false);
+        } catch (NoSuchFileException err) {
+            if (isRequired) {
+                group.failedFiles.add(file);
+            }
+        } catch (IOException err) {
+            group.failedFiles.add(file);
+            ArchDukeLogger.logError(GroupCommitter.class.getName(), "File '" + file + "' could not be synced: "
+                    + err.getMessage());
+        }
+    }
+
+    /**
+     * Syncs a directory so that renames within it are durable. Not every platform allows a directory to be opened,
+     * in which case the rename is left to be made durable by the file system.
+     */
+    private void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException err) {
+            ArchDukeLogger.logDebug(GroupCommitter.class.getName(), "Directory '" + directory
+                    + "' could not be synced: " + err.getMessage());
+        }
+    }
+
+    private void awaitGroupCommitted(Group group) {
+        commitLock.lock();
+        try {
+            while (!group.isCommitted) {
+                hasGroupChanged.awaitUninterruptibly();
+            }
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * Requests made within one commit window.
+     */
+    private static class Group {
+        private final LinkedHashSet<Path> filesToSync = new LinkedHashSet<>();
+        private final LinkedHashMap<Path, Path> filesToReplace = new LinkedHashMap<>();
+        private final HashSet<Path> failedFiles = new HashSet<>();
+        private int numOfRequests;
+        private boolean isCommitted;
+    }
+
+    /**
+     * Handle to a request, which can be awaited until the group holding the request is committed.
+     */
+    public static class CommitTicket {
+        private final GroupCommitter groupCommitter;
+        private final Group group;
+        private final Path file;
+        private final boolean isDurable;
+
+        private CommitTicket(GroupCommitter groupCommitter, Group group, Path file) {
+            this.groupCommitter = groupCommitter;
+            this.group = group;
+            this.file = file;
+            this.isDurable = false;
+        }
+
+        private CommitTicket(boolean isDurable) {
+            this.groupCommitter = null;
+            this.group = null;
+            this.file = null;
+            this.isDurable = isDurable;
+        }
+
+        /**
+         * Returns a ticket for a write that was already made durable, or that failed, without a group commit.
+         * @param isDurable : Whether the write is durable on disk.
+         */
+        public static CommitTicket completed(boolean isDurable) {
+            return new CommitTicket(isDurable);
+        }
+
+        /**
+         * Waits until the request is committed.
+         * @return : Returns true if the request is durable on disk.
+         */
+        public boolean await() {
+            if (group == null) {
+                return isDurable;
+            }
+            groupCommitter.awaitGroupCommitted(group);
+            return !group.failedFiles.contains(file);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package util.storage;
+
+import exceptions.DukeException;
+import models.project.Project;
+import util.log.ArchDukeLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static util.constant.ConstantHelper.MAX_PROJECT_LOADING_THREADS;
+
+//@@author Lucria
+/**
+ * Saves and loads Projects as one save file per Project in a directory.
+ * Subclasses decide how a Project is encoded in its save file, and which file extension marks a save file.
+ * A save file is named after the ID of its Project, so renaming a Project never renames its save file, and the
+ * name of a Project may hold characters that are not allowed in file names. The ID is taken from the file name when
+ * the Project is loaded, so it is not stored in the save file.
+ * Save files written by earlier versions of ArchDuke are named after their Project instead. Such a Project is given
+ * an ID derived from its name, so it keeps the same ID until it is saved under that ID.
+ */
+public abstract class ProjectConverter {
+    protected String userDirectory;
+
+    /**
+     * Constructor of ProjectConverter.
+     * @param userDirectory : Directory holding the save files.
+     */
+    protected ProjectConverter(String userDirectory) {
+        this.userDirectory = userDirectory;
+    }
+
+    /**
+     * Returns the file extension of the save files written by this converter, including the leading dot.
+     */
+    public abstract String getFileExtension();
+
+    /**
+     * Converts a Project into the contents of its save file without touching the disk.
+     * Callers that need a consistent snapshot should hold the Project's lock while calling this.
+     * @param project : Project to be converted.
+     * @return : Returns the contents of the save file of the Project.
+     */
+    public abstract byte[] convertProject(Project project);
+
+    /**
+     * Reads a Project from an open save file.
+     * @param saveFile : Channel positioned at the start of the save file.
+     * @return : Returns the Project held by the save file.
+     * @throws IOException : Exception thrown when the save file cannot be read or is not a valid save file.
+     */
+    protected abstract Project readProject(FileChannel saveFile) throws IOException;
+
+    /**
+     * Returns the Projects packaged in the jar file, which new users start with.
+     */
+    public abstract ArrayList<Project> getResourcesInJar();
+
+    /**
+     * Method that is responsible for saving a Project to its save file.
+     */
+    public void saveProject(Project project) {
+        saveConvertedProject(project.getProjectID(), convertProject(project));
+    }
+
+    /**
+     * Checks whether the name of a save file is the ID of a Project, rather than the name of a Project saved by an
+     * earlier version of ArchDuke.
+     * @param savedKey : Name of the save file without its extension.
+     */
+    public static boolean isProjectID(String savedKey) {
+        try {
+            return UUID.fromString(savedKey).toString().equals(savedKey);
+        } catch (IllegalArgumentException err) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the ID of a Project that was saved under its name by an earlier version of ArchDuke, or packaged in the
+     * jar file. The same name always gives the same ID.
+     * @param projectName : Name the Project was saved under.
+     */
+    public static String getLegacyProjectID(String projectName) {
+        return UUID.nameUUIDFromBytes(projectName.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    /**
+     * Gives a loaded Project the ID that its save file is named after.
+     * @param project : Project that was loaded.
+     * @param savedKey : Name of the save file without its extension.
+     */
+    protected void identifyProject(Project project, String savedKey) {
+        project.setProjectID(isProjectID(savedKey) ? savedKey : getLegacyProjectID(savedKey));
+    }
+
+    /**
+     * Writes an already converted Project into the Project's save file, and waits until it is durable on disk.
+     * @param projectID : ID of the Project, which is also the name of its save file.
+     * @param projectData : Contents of the save file, as returned by convertProject.
+     * @return : Returns true if the save file was written.
+     */
+    public boolean saveConvertedProject(String projectID, byte[] projectData) {
+        return startSavingConvertedProject(projectID, projectData).await();
+    }
+
+    /**
+     * Writes an already converted Project into a temporary file next to its save file, and requests that the
+     * temporary file atomically replaces the save file once it is durable. The live save file is never written to
+     * directly, so a crash during a save leaves the previous save intact.
+     * Saves started within a short window are made durable together.
+     * @param projectID : ID of the Project, which is also the name of its save file.
+     * @param projectData : Contents of the save file, as returned by convertProject.
+     * @return : Returns a ticket to await until the save file is replaced.
+     */
+    public GroupCommitter.CommitTicket startSavingConvertedProject(String projectID, byte[] projectData) {
+        ArchDukeLogger.logDebug(ProjectConverter.class.getName(), "Saving to file.");
+        Path projectFile = getProjectFile(projectID).toPath();
+        Path temporaryFile = null;
+        try {
+            temporaryFile = Files.createTempFile(projectFile.toAbsolutePath().getParent(),
+                    projectFile.getFileName().toString() + ".", ".tmp");
+            try (FileChannel saveFile = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(projectData);
+                while (buffer.hasRemaining()) {
+                    saveFile.write(buffer);
+                }
+            }
+            return GroupCommitter.getSharedCommitter().replaceFile(temporaryFile, projectFile);
+        } catch (IOException err) {
+            ArchDukeLogger.logError(ProjectConverter.class.getName(), "Save file is not found or not created");
+            deleteTemporaryFile(temporaryFile);
+            return GroupCommitter.CommitTicket.completed(false);
+        }
+    }
+
+    private void deleteTemporaryFile(Path temporaryFile) {
+        try {
+            if (temporaryFile != null) {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (IOException err) {
+            ArchDukeLogger.logError(ProjectConverter.class.getName(), "Temporary file '" + temporaryFile
+                    + "' could not be deleted");
+        }
+    }
+
+    /**
+     * Method to delete the save file of original Project when user wishes to delete a project.
+     * @param projectID : ID of the Project to be deleted, or the name of a Project saved by an earlier version.
+     * @throws DukeException : Exception thrown when the save file of project cannot be found
+     */
+    public void deleteProject(String projectID) throws DukeException {
+        File file = getProjectFile(projectID);
+        if (!file.delete()) {
+            throw new DukeException("Save file of project not found");
+        }
+    }
+
+    /**
+     * Method responsible for loading the data of all Projects saved in the directory, and of any Project packaged in
+     * the jar file that is not saved yet.
+     */
+    public ArrayList<Project> loadAllProjectsData() {
+        ArrayList<Project> allProjects = new ArrayList<>();
+        ArrayList<String> savedProjectIDs = getSavedProjectIDs();
+        for (Project savedProject : loadProjects(savedProjectIDs)) {
+            if (savedProject != null) {
+                allProjects.add(savedProject);
+            }
+        }
+        allProjects.addAll(saveMissingResourcesInJar(savedProjectIDs));
+        return allProjects;
+    }
+
+    /**
+     * Loads several saved Projects at once, reading the save files in parallel on a bounded pool of threads.
+     * A save file that cannot be read does not stop the others from loading.
+     * @param projectIDs : IDs of the Projects to be loaded, as returned by getSavedProjectIDs.
+     * @return : Returns the loaded Projects in the same order as their IDs, with null for any Project that could
+     *           not be loaded.
+     */
+    public ArrayList<Project> loadProjects(List<String> projectIDs) {
+        ArrayList<Project> loadedProjects = new ArrayList<>();
+        if (projectIDs.isEmpty()) {
+            return loadedProjects;
+        }
+        ExecutorService projectLoaders = Executors.newFixedThreadPool(Math.min(projectIDs.size(),
+                MAX_PROJECT_LOADING_THREADS));
+        try {
+            ArrayList<Callable<Project>> loadingTasks = new ArrayList<>();
+            for (String projectID : projectIDs) {
+                loadingTasks.add(() -> loadProject(projectID));
+            }
+            for (Future<Project> loadingResult : projectLoaders.invokeAll(loadingTasks)) {
+                loadedProjects.add(getLoadedProject(loadingResult));
+            }
+        } catch (InterruptedException err) {
+            Thread.currentThread().interrupt();
+            ArchDukeLogger.logError(ProjectConverter.class.getName(), "Loading of saved files was interrupted");
+            while (loadedProjects.size() < projectIDs.size()) {
+                loadedProjects.add(null);
+            }
+        } finally {
+            projectLoaders.shutdownNow();
+        }
+        return loadedProjects;
+    }
+
+    private Project getLoadedProject(Future<Project> loadingResult) throws InterruptedException {
+        try {
+            return loadingResult.get();
+        } catch (ExecutionException err) {
+            ArchDukeLogger.logError(ProjectConverter.class.getName(), "Saved file not loaded: "
+                    + err.getCause().getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Lists the IDs of all Projects saved in the directory without loading them. A Project saved by an earlier
+     * version of ArchDuke is listed by the name it was saved under instead, which isProjectID tells apart.
+     * The IDs are sorted, so the order of the Projects does not depend on the file system.
+     * @return : Returns the IDs of all saved Projects.
+     */
+    public ArrayList<String> getSavedProjectIDs() {
+        ArrayList<String> savedProjectIDs = new ArrayList<>();
+        String fileExtension = getFileExtension();
+        File directory = new File(userDirectory);
+        File[] allSaveFiles = directory.listFiles((file, name) -> name.endsWith(fileExtension));
+        for (File saveFile : allSaveFiles) {
+            String fileName = saveFile.getName();
+            savedProjectIDs.add(fileName.substring(0, fileName.length() - fileExtension.length()));
+        }
+        Collections.sort(savedProjectIDs);
+        return savedProjectIDs;
+    }
+
+    /**
+     * Returns the save file of a Project.
+     * @param projectID : ID of the Project.
+     * @return : Returns the save file, which may not exist yet.
+     */
+    public File getProjectFile(String projectID) {
+        return new File(userDirectory + "/" + projectID + getFileExtension());
+    }
+
+    /**
+     * Returns the size in bytes of the saved data of a Project, or 0 if it is not saved.
+     * @param projectID : ID of the Project.
+     */
+    public long getSavedSize(String projectID) {
+        return getProjectFile(projectID).length();
+    }
+
+    /**
+     * Returns a value that changes whenever the saved data of a Project is written again, which is the modification
+     * time of its save file.
+     * @param projectID : ID of the Project.
+     */
+    public long getSaveStamp(String projectID) {
+        return getProjectFile(projectID).lastModified();
+    }
+
+    /**
+     * Loads a single saved Project.
+     * @param projectID : ID of the Project to be loaded, as returned by getSavedProjectIDs.
+     * @return : Returns the Project, or null if its save file cannot be read.
+     */
+    public Project loadProject(String projectID) {
+        try (FileChannel saveFile = FileChannel.open(getProjectFile(projectID).toPath(),
+                StandardOpenOption.READ)) {
+            ArchDukeLogger.logDebug(ProjectConverter.class.getName(), "Loading saved file.");
+            Project savedProject = readProject(saveFile);
+            if (savedProject != null) {
+                identifyProject(savedProject, projectID);
+                savedProject.getTaskList().recountOverallProgress();
+            }
+            ArchDukeLogger.logDebug(ProjectConverter.class.getName(), "Saved file loaded.");
+            return savedProject;
+        } catch (IOException err) {
+            ArchDukeLogger.logError(ProjectConverter.class.getName(), "Saved file of '" + projectID
+                    + "' not loaded");
+            return null;
+        }
+    }
+
+    /**
+     * Saves every Project packaged in the jar file that is not saved in the directory yet.
+     * A Project from the jar file is identified by its name, so it is only saved once.
+     * @param savedProjectIDs : IDs of the Projects that are already saved.
+     * @return : Returns the Projects from the jar file that were saved.
+     */
+    public ArrayList<Project> saveMissingResourcesInJar(ArrayList<String> savedProjectIDs) {
+        ArrayList<Project> projectsFromResource = getResourcesInJar();
+        for (Project jarProject : projectsFromResource) {
+            jarProject.setProjectID(getLegacyProjectID(jarProject.getName()));
+        }
+        projectsFromResource.removeIf(jarProject -> savedProjectIDs.contains(jarProject.getProjectID()));
+        for (Project jarProject : projectsFromResource) {
+            saveProject(jarProject);
+        }
+        return projectsFromResource;
+    }
+}
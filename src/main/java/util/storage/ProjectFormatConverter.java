@@ -0,0 +1,86 @@
+package util.storage;
+
+import models.project.Project;
+import util.json.JsonConverter;
+import util.log.ArchDukeLogger;
+
+import java.util.ArrayList;
+
+import static util.constant.ConstantHelper.STORAGE_FORMAT_BINARY;
+import static util.constant.ConstantHelper.STORAGE_FORMAT_JSON;
+import static util.constant.ConstantHelper.STORAGE_FORMAT_WORKSPACE;
+
+//@@author Lucria
+/**
+ * Converts saved Projects from one save file format to another, such as before switching the storage format of
+ * ArchDuke. The save files in the original format are kept.
+ * Journals do not depend on the save file format, so commands not yet included in a save file are still replayed
+ * after the conversion.
+ */
+public class ProjectFormatConverter {
+    private ProjectConverter sourceConverter;
+    private ProjectConverter targetConverter;
+
+    /**
+     * Constructor of ProjectFormatConverter.
+     * @param sourceConverter : Converter that reads the save files to be converted.
+     * @param targetConverter : Converter that writes the converted save files.
+     */
+    public ProjectFormatConverter(ProjectConverter sourceConverter, ProjectConverter targetConverter) {
+        this.sourceConverter = sourceConverter;
+        this.targetConverter = targetConverter;
+    }
+
+    /**
+     * Converts every Project saved in the source format.
+     * A Project saved by an earlier version of ArchDuke is converted to a save file named after its ID.
+     * @return : Returns the IDs of the Projects that could not be loaded, and so were not converted.
+     */
+    public ArrayList<String> convertAllProjects() {
+        ArrayList<String> savedProjectIDs = sourceConverter.getSavedProjectIDs();
+        ArrayList<Project> savedProjects = sourceConverter.loadProjects(savedProjectIDs);
+        ArrayList<String> unconvertedProjectIDs = new ArrayList<>();
+        for (int projectIndex = 0; projectIndex < savedProjectIDs.size(); projectIndex++) {
+            Project savedProject = savedProjects.get(projectIndex);
+            if (savedProject == null) {
+                unconvertedProjectIDs.add(savedProjectIDs.get(projectIndex));
+            } else {
+                targetConverter.saveProject(savedProject);
+            }
+        }
+        ArchDukeLogger.logInfo(ProjectFormatConverter.class.getName(), "Converted "
+                + (savedProjectIDs.size() - unconvertedProjectIDs.size()) + " saved projects");
+        return unconvertedProjectIDs;
+    }
+
+    /**
+     * Converts the Projects saved in the current working directory from one format to another.
+     * Usage: java -cp ArchDuke.jar util.storage.ProjectFormatConverter FROM_FORMAT TO_FORMAT
+     * @param args : Names of the format to convert from and the format to convert to, each one of "json", "binary"
+     *             and "workspace".
+     */
+    public static void main(String[] args) {
+        ProjectConverter sourceConverter = args.length == 2 ? createConverter(args[0]) : null;
+        ProjectConverter targetConverter = args.length == 2 ? createConverter(args[1]) : null;
+        if (sourceConverter == null || targetConverter == null) {
+            System.out.println("Usage: ProjectFormatConverter json|binary|workspace json|binary|workspace");
+            return;
+        }
+        for (String projectID : new ProjectFormatConverter(sourceConverter, targetConverter).convertAllProjects()) {
+            System.out.println("Project '" + projectID + "' could not be loaded and was not converted");
+        }
+    }
+
+    private static ProjectConverter createConverter(String storageFormat) {
+        switch (storageFormat) {
+        case STORAGE_FORMAT_JSON:
+            return new JsonConverter();
+        case STORAGE_FORMAT_BINARY:
+            return new BinaryConverter();
+        case STORAGE_FORMAT_WORKSPACE:
+            return new WorkspaceConverter();
+        default:
+            return null;
+        }
+    }
+}
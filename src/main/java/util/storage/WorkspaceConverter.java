@@ -0,0 +1,142 @@
+package util.storage;
+
+import exceptions.DukeException;
+import models.project.Project;
+import util.log.ArchDukeLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+import static util.constant.ConstantHelper.WORKSPACE_FILE_NAME;
+
+//@@author Lucria
+/**
+ * Saves and loads all Projects in a single memory-mapped workspace file, in the binary format of BinaryConverter.
+ * The workspace file indexes the saved data of each Project by project ID, so listing the saved Projects or loading
+ * one Project never reads the data of the others, and a crash during a save never leaves a half-written Project.
+ */
+public class WorkspaceConverter extends BinaryConverter {
+    private final WorkspaceFile workspaceFile;
+
+    /**
+     * Constructor of WorkspaceConverter that keeps the workspace file in the current working directory.
+     */
+    public WorkspaceConverter() {
+        this(System.getProperty("user.dir"));
+    }
+
+    /**
+     * Constructor of WorkspaceConverter that keeps the workspace file in the given directory.
+     * @param userDirectory : Directory holding the workspace file.
+     */
+    public WorkspaceConverter(String userDirectory) {
+        super(userDirectory);
+        this.workspaceFile = new WorkspaceFile(Paths.get(userDirectory, WORKSPACE_FILE_NAME));
+    }
+
+    @Override
+    public String getFileExtension() {
+        return ".workspace";
+    }
+
+    /**
+     * Every Project is saved in the workspace file.
+     */
+    @Override
+    public File getProjectFile(String projectID) {
+        return new File(userDirectory + "/" + WORKSPACE_FILE_NAME);
+    }
+
+    /**
+     * Saves a Project into the workspace file, which makes the save durable before the call returns.
+     */
+    @Override
+    public GroupCommitter.CommitTicket startSavingConvertedProject(String projectID, byte[] projectData) {
+        try {
+            workspaceFile.writeRecord(projectID, projectData);
+            ArchDukeLogger.logDebug(WorkspaceConverter.class.getName(), "Project saved to workspace.");
+            return GroupCommitter.CommitTicket.completed(true);
+        } catch (IOException err) {
+            ArchDukeLogger.logError(WorkspaceConverter.class.getName(), "Project '" + projectID
+                    + "' not saved to workspace: " + err.getMessage());
+            return GroupCommitter.CommitTicket.completed(false);
+        }
+    }
+
+    @Override
+    public void deleteProject(String projectID) throws DukeException {
+        try {
+            if (!workspaceFile.deleteRecord(projectID)) {
+                throw new DukeException("Saved project not found in workspace");
+            }
+        } catch (IOException err) {
+            throw new DukeException("Workspace could not be updated: " + err.getMessage());
+        }
+    }
+
+    @Override
+    public ArrayList<String> getSavedProjectIDs() {
+        try {
+            return workspaceFile.getRecordNames();
+        } catch (IOException err) {
+            ArchDukeLogger.logError(WorkspaceConverter.class.getName(), "Workspace could not be read: "
+                    + err.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    @Override
+    public long getSavedSize(String projectID) {
+        try {
+            return workspaceFile.getRecordLength(projectID);
+        } catch (IOException err) {
+            return 0;
+        }
+    }
+
+    /**
+     * Each save of a Project is appended to the workspace file, so the position of its saved data changes with
+     * every save.
+     */
+    @Override
+    public long getSaveStamp(String projectID) {
+        try {
+            return workspaceFile.getRecordOffset(projectID);
+        } catch (IOException err) {
+            return 0;
+        }
+    }
+
+    @Override
+    public Project loadProject(String projectID) {
+        try {
+            ByteBuffer projectData = workspaceFile.readRecord(projectID);
+            if (projectData == null) {
+                throw new IOException("Project is not in workspace");
+            }
+            Project savedProject = decodeProject(projectData);
+            identifyProject(savedProject, projectID);
+            savedProject.getTaskList().recountOverallProgress();
+            return savedProject;
+        } catch (IOException err) {
+            ArchDukeLogger.logError(WorkspaceConverter.class.getName(), "Saved project '" + projectID
+                    + "' not loaded: " + err.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Closes the workspace file. It is opened again when it is next used.
+     */
+    public void close() {
+        try {
+            workspaceFile.close();
+        } catch (IOException err) {
+            ArchDukeLogger.logError(WorkspaceConverter.class.getName(), "Workspace not closed: "
+                    + err.getMessage());
+        }
+    }
+}
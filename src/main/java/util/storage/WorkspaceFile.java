@@ -0,0 +1,322 @@
+package util.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+//@@author Lucria
+/**
+ * Single file holding the save records of many Projects, read through a memory mapping.
+ * The file starts with a header holding two slots, each pointing at an index of the records. Records and indexes are
+ * only ever appended. An update appends the new record and a new index, forces them to disk, and only then writes
+ * the pointer to the new index into the slot that is not in use. The slot with the highest sequence number and a
+ * valid checksum is the current one, so a crash at any point leaves either the old or the new index in use, and never
+ * a half-written record.
+ * Once most of the file is taken up by replaced records, the live records are copied into a new file that then
+ * atomically replaces the old one.
+ */
+class WorkspaceFile {
+    private static final int WORKSPACE_MAGIC_NUMBER = 0x41524357;
+    private static final short WORKSPACE_VERSION = 1;
+    private static final int SLOT_SIZE = 32;
+    private static final int FIRST_SLOT_OFFSET = 8;
+    private static final int HEADER_SIZE = FIRST_SLOT_OFFSET + 2 * SLOT_SIZE;
+    private static final long MIN_COMPACTION_SIZE = 1024 * 1024;
+    private final Path path;
+    private FileChannel channel;
+    private MappedByteBuffer mapping;
+    private HashMap<String, Record> index;
+    private long indexSequence;
+    private int currentSlot;
+
+    /**
+     * Constructor of WorkspaceFile. The file is only opened on first use.
+     * @param path : Path of the workspace file, which is created if it does not exist.
+     */
+    WorkspaceFile(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Returns the names of all records in the workspace, sorted.
+     */
+    synchronized ArrayList<String> getRecordNames() throws IOException {
+        open();
+        ArrayList<String> recordNames = new ArrayList<>(index.keySet());
+        Collections.sort(recordNames);
+        return recordNames;
+    }
+
+    /**
+     * Returns a read-only view of the bytes of a record without copying them.
+     * The view stays valid after the record is replaced.
+     * @param name : Name of the record.
+     * @return : Returns the bytes of the record, or null if there is no such record.
+     */
+    synchronized ByteBuffer readRecord(String name) throws IOException {
+        open();
+        Record record = index.get(name);
+        if (record == null) {
+            return null;
+        }
+        if (record.offset + record.length > mapping.capacity()) {
+            mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        ByteBuffer recordBytes = mapping.duplicate();
+        recordBytes.position((int) record.offset).limit((int) (record.offset + record.length));
+        return recordBytes.slice();
+    }
+
+    /**
+     * Returns the offset of a record in the workspace file, which changes every time the record is written.
+     * @return : Returns the offset, or 0 if there is no such record.
+     */
+    synchronized long getRecordOffset(String name) throws IOException {
+        open();
+        Record record = index.get(name);
+        return record == null ? 0 : record.offset;
+    }
+
+    /**
+     * Returns the length of a record in bytes, or 0 if there is no such record.
+     */
+    synchronized long getRecordLength(String name) throws IOException {
+        open();
+        Record record = index.get(name);
+        return record == null ? 0 : record.length;
+    }
+
+    /**
+     * Appends a record, replacing any earlier record of the same name once the new index is in use.
+     * @param name : Name of the record.
+     * @param recordBytes : Contents of the record.
+     */
+    synchronized void writeRecord(String name, byte[] recordBytes) throws IOException {
+        open();
+        long recordOffset = channel.size();
+        writeFully(channel, ByteBuffer.wrap(recordBytes), recordOffset);
+        HashMap<String, Record> updatedIndex = new HashMap<>(index);
+        updatedIndex.put(name, new Record(recordOffset, recordBytes.length));
+        swapIndex(updatedIndex);
+        compactIfNeeded();
+    }
+
+    /**
+     * Removes a record from the index. Its bytes are dropped when the workspace file is next compacted.
+     * @return : Returns true if there was such a record.
+     */
+    synchronized boolean deleteRecord(String name) throws IOException {
+        open();
+        if (!index.containsKey(name)) {
+            return false;
+        }
+        HashMap<String, Record> updatedIndex = new HashMap<>(index);
+        updatedIndex.remove(name);
+        swapIndex(updatedIndex);
+        return true;
+    }
+
+    /**
+     * Closes the workspace file. It is opened again on next use.
+     */
+    synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+            mapping = null;
+            index = null;
+        }
+    }
+
+    private void open() throws IOException {
+        if (channel != null) {
+            return;
+        }
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE);
+        try {
+            if (channel.size() == 0) {
+                writeHeader(channel);
+            }
+            mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            readCurrentIndex();
+        } catch (IOException err) {
+            channel.close();
+            channel = null;
+            throw err;
+        }
+    }
+
+    private void readCurrentIndex() throws IOException {
+        if (mapping.capacity() < HEADER_SIZE || mapping.getInt(0) != WORKSPACE_MAGIC_NUMBER) {
+            throw new IOException("File is not a workspace file");
+        } else if (mapping.getShort(Integer.BYTES) != WORKSPACE_VERSION) {
+            throw new IOException("Workspace file has unsupported version " + mapping.getShort(Integer.BYTES));
+        }
+        index = new HashMap<>();
+        indexSequence = 0;
+        currentSlot = 1;
+        for (int slot = 0; slot < 2; slot++) {
+            int slotOffset = FIRST_SLOT_OFFSET + slot * SLOT_SIZE;
+            ByteBuffer slotBytes = mapping.duplicate();
+            slotBytes.position(slotOffset);
+            long sequence = slotBytes.getLong();
+            long indexOffset = slotBytes.getLong();
+            int indexLength = slotBytes.getInt();
+            int indexChecksum = slotBytes.getInt();
+            int slotChecksum = slotBytes.getInt();
+            if (sequence > indexSequence && slotChecksum == checksum(mapping, slotOffset, 3 * Long.BYTES)
+                    && isWithinFile(indexOffset, indexLength)
+                    && indexChecksum == checksum(mapping, (int) indexOffset, indexLength)) {
+                index = decodeIndex(indexOffset, indexLength);
+                indexSequence = sequence;
+                currentSlot = slot;
+            }
+        }
+    }
+
+    private boolean isWithinFile(long offset, int length) {
+        return offset >= HEADER_SIZE && length >= Integer.BYTES && offset + length <= mapping.capacity();
+    }
+
+    private HashMap<String, Record> decodeIndex(long indexOffset, int indexLength) {
+        ByteBuffer indexBytes = mapping.duplicate();
+        indexBytes.position((int) indexOffset).limit((int) indexOffset + indexLength);
+        HashMap<String, Record> decodedIndex = new HashMap<>();
+        int numOfRecords = indexBytes.getInt();
+        for (int recordIndex = 0; recordIndex < numOfRecords; recordIndex++) {
+            byte[] name = new byte[indexBytes.getInt()];
+            indexBytes.get(name);
+            long recordOffset = indexBytes.getLong();
+            decodedIndex.put(new String(name, StandardCharsets.UTF_8), new Record(recordOffset,
+                    indexBytes.getInt()));
+        }
+        return decodedIndex;
+    }
+
+    /**
+     * Appends an index, forces it and every record before it to disk, then points the unused slot at it.
+     */
+    private void swapIndex(HashMap<String, Record> updatedIndex) throws IOException {
+        byte[] indexBytes = encodeIndex(updatedIndex);
+        long indexOffset = channel.size();
+        writeFully(channel, ByteBuffer.wrap(indexBytes), indexOffset);
+        channel.force(false);
+        int nextSlot = 1 - currentSlot;
+        writeSlot(channel, nextSlot, indexSequence + 1, indexOffset, indexBytes);
+        channel.force(false);
+        index = updatedIndex;
+        indexSequence++;
+        currentSlot = nextSlot;
+    }
+
+    private byte[] encodeIndex(HashMap<String, Record> indexToEncode) {
+        ArrayList<byte[]> encodedNames = new ArrayList<>();
+        ArrayList<Record> records = new ArrayList<>();
+        int indexLength = Integer.BYTES;
+        for (Map.Entry<String, Record> entry : indexToEncode.entrySet()) {
+            byte[] encodedName = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            encodedNames.add(encodedName);
+            records.add(entry.getValue());
+            indexLength += Integer.BYTES + encodedName.length + Long.BYTES + Integer.BYTES;
+        }
+        ByteBuffer indexBytes = ByteBuffer.allocate(indexLength);
+        indexBytes.putInt(records.size());
+        for (int recordIndex = 0; recordIndex < records.size(); recordIndex++) {
+            byte[] encodedName = encodedNames.get(recordIndex);
+            Record record = records.get(recordIndex);
+            indexBytes.putInt(encodedName.length).put(encodedName).putLong(record.offset).putInt(record.length);
+        }
+        return indexBytes.array();
+    }
+
+    /**
+     * Copies the live records into a new workspace file and atomically replaces the old file with it, once more than
+     * half of the old file is taken up by replaced records and indexes.
+     */
+    private void compactIfNeeded() throws IOException {
+        long liveLength = HEADER_SIZE;
+        for (Record record : index.values()) {
+            liveLength += record.length;
+        }
+        long fileLength = channel.size();
+        if (fileLength < MIN_COMPACTION_SIZE || fileLength < 2 * liveLength) {
+            return;
+        }
+        Path compactedPath = path.resolveSibling(path.getFileName() + ".compacting");
+        HashMap<String, Record> compactedIndex = new HashMap<>();
+        try (FileChannel compactedChannel = FileChannel.open(compactedPath, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeHeader(compactedChannel);
+            long recordOffset = HEADER_SIZE;
+            for (Map.Entry<String, Record> entry : index.entrySet()) {
+                ByteBuffer recordBytes = readRecord(entry.getKey());
+                writeFully(compactedChannel, recordBytes, recordOffset);
+                compactedIndex.put(entry.getKey(), new Record(recordOffset, entry.getValue().length));
+                recordOffset += entry.getValue().length;
+            }
+            byte[] indexBytes = encodeIndex(compactedIndex);
+            writeFully(compactedChannel, ByteBuffer.wrap(indexBytes), recordOffset);
+            writeSlot(compactedChannel, 0, indexSequence + 1, recordOffset, indexBytes);
+            compactedChannel.force(true);
+        }
+        close();
+        Files.move(compactedPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeHeader(FileChannel targetChannel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(WORKSPACE_MAGIC_NUMBER).putShort(WORKSPACE_VERSION);
+        header.rewind();
+        writeFully(targetChannel, header, 0);
+        targetChannel.force(true);
+    }
+
+    private static void writeSlot(FileChannel targetChannel, int slot, long sequence, long indexOffset,
+            byte[] indexBytes) throws IOException {
+        CRC32 indexChecksum = new CRC32();
+        indexChecksum.update(indexBytes);
+        ByteBuffer slotBytes = ByteBuffer.allocate(SLOT_SIZE);
+        slotBytes.putLong(sequence).putLong(indexOffset).putInt(indexBytes.length)
+                .putInt((int) indexChecksum.getValue());
+        slotBytes.putInt(checksum(slotBytes, 0, 3 * Long.BYTES));
+        slotBytes.rewind();
+        writeFully(targetChannel, slotBytes, FIRST_SLOT_OFFSET + slot * SLOT_SIZE);
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset, int length) {
+        ByteBuffer checkedBytes = buffer.duplicate();
+        checkedBytes.position(offset).limit(offset + length);
+        CRC32 crc = new CRC32();
+        crc.update(checkedBytes);
+        return (int) crc.getValue();
+    }
+
+    private static void writeFully(FileChannel targetChannel, ByteBuffer source, long position) throws IOException {
+        long writePosition = position;
+        while (source.hasRemaining()) {
+            writePosition += targetChannel.write(source, writePosition);
+        }
+    }
+
+    private static class Record {
+        private final long offset;
+        private final int length;
+
+        Record(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
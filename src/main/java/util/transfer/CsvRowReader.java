@@ -0,0 +1,123 @@
+package util.transfer;
+
+import exceptions.DukeException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+//@@author Lucria
+/**
+ * Reads the rows of a CSV file, whose first line names the columns. A value holding a comma, a quote or a line break
+ * is quoted with double quotes, and a quote inside it is written twice, as in "Tony ""Ironman"" Stark".
+ * Spaces around a value that is not quoted are dropped.
+ */
+public class CsvRowReader implements IRowReader {
+    private final BufferedReader fileReader;
+    private final ArrayList<String> columnNames = new ArrayList<>();
+    private int nextLineNumber = 1;
+    private int lineNumber;
+
+    /**
+     * Constructor of CsvRowReader, which reads the column names from the first line of the file.
+     * @param fileReader : Reader of the file, which is closed when this reader is closed.
+     * @throws IOException : Exception thrown when the file cannot be read.
+     * @throws DukeException : Exception thrown when the first line is not well formed.
+     */
+    public CsvRowReader(BufferedReader fileReader) throws IOException, DukeException {
+        this.fileReader = fileReader;
+        ArrayList<String> header = readValues();
+        if (header != null) {
+            for (String columnName : header) {
+                columnNames.add(columnName.toLowerCase());
+            }
+        }
+    }
+
+    @Override
+    public HashMap<String, String> readRow() throws IOException, DukeException {
+        ArrayList<String> values = readValues();
+        if (values == null) {
+            return null;
+        } else if (values.size() != columnNames.size()) {
+            throw new DukeException("Expected " + columnNames.size() + " values but found " + values.size() + ".");
+        }
+        HashMap<String, String> row = new HashMap<>();
+        for (int columnIndex = 0; columnIndex < values.size(); columnIndex++) {
+            if (!values.get(columnIndex).isEmpty()) {
+                row.put(columnNames.get(columnIndex), values.get(columnIndex));
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Reads the values of the next line that is not blank, carrying on into the lines after it while a quoted value
+     * is open.
+     * @return : Returns the values, or null if there are no more lines.
+     */
+    private ArrayList<String> readValues() throws IOException, DukeException {
+        String line;
+        do {
+            line = fileReader.readLine();
+            lineNumber = nextLineNumber++;
+        } while (line != null && line.trim().isEmpty());
+        if (line == null) {
+            return null;
+        }
+        ArrayList<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean isQuoted = false;
+        boolean wasQuoted = false;
+        int charIndex = 0;
+        while (true) {
+            if (charIndex == line.length()) {
+                if (!isQuoted) {
+                    break;
+                }
+                line = fileReader.readLine();
+                nextLineNumber++;
+                if (line == null) {
+                    throw new DukeException("A quoted value is never closed.");
+                }
+                value.append('\n');
+                charIndex = 0;
+                continue;
+            }
+            char character = line.charAt(charIndex++);
+            if (isQuoted) {
+                if (character != '"') {
+                    value.append(character);
+                } else if (charIndex < line.length() && line.charAt(charIndex) == '"') {
+                    value.append('"');
+                    charIndex++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (character == ',') {
+                values.add(wasQuoted ? value.toString() : value.toString().trim());
+                value.setLength(0);
+                wasQuoted = false;
+            } else if (character == '"' && value.toString().trim().isEmpty()) {
+                value.setLength(0);
+                isQuoted = true;
+                wasQuoted = true;
+            } else if (!wasQuoted || !Character.isWhitespace(character)) {
+                value.append(character);
+            }
+        }
+        values.add(wasQuoted ? value.toString() : value.toString().trim());
+        return values;
+    }
+
+    @Override
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileReader.close();
+    }
+}
@@ -0,0 +1,62 @@
+package util.transfer;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+//@@author Lucria
+/**
+ * Writes rows to a CSV file in the form CsvRowReader reads, starting with a line naming the columns. A value is only
+ * quoted when it holds a comma, a quote or a line break, or starts or ends with a space. The values of a list are
+ * joined by ";", with any ";" or "\" within a value escaped by a "\".
+ */
+public class CsvRowWriter implements IRowWriter {
+    private final Writer fileWriter;
+
+    /**
+     * Constructor of CsvRowWriter, which writes the names of the columns first.
+     * @param fileWriter : Buffered writer of the file, which is closed when this writer is closed.
+     * @param columnNames : Names of the columns.
+     * @throws IOException : Exception thrown when the file cannot be written.
+     */
+    public CsvRowWriter(Writer fileWriter, List<String> columnNames) throws IOException {
+        this.fileWriter = fileWriter;
+        writeRow(columnNames.toArray());
+    }
+
+    @Override
+    public void writeRow(Object... values) throws IOException {
+        for (int valueIndex = 0; valueIndex < values.length; valueIndex++) {
+            if (valueIndex > 0) {
+                fileWriter.write(',');
+            }
+            Object value = values[valueIndex];
+            if (value instanceof List) {
+                writeValue(ListValues.join((List<?>) value));
+            } else if (value != null) {
+                writeValue(value.toString());
+            }
+        }
+        fileWriter.write('\n');
+    }
+
+    private void writeValue(String value) throws IOException {
+        boolean isQuoted = !value.trim().equals(value);
+        for (int charIndex = 0; charIndex < value.length() && !isQuoted; charIndex++) {
+            char character = value.charAt(charIndex);
+            isQuoted = character == ',' || character == '"' || character == '\n' || character == '\r';
+        }
+        if (!isQuoted) {
+            fileWriter.write(value);
+            return;
+        }
+        fileWriter.write('"');
+        fileWriter.write(value.replace("\"", "\"\""));
+        fileWriter.write('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileWriter.close();
+    }
+}
@@ -0,0 +1,29 @@
+package util.transfer;
+
+import exceptions.DukeException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+
+//@@author Lucria
+/**
+ * Reader of the rows of a file being imported into a Project. Rows are read one at a time as they are needed, so a
+ * file of any size is never held in memory.
+ */
+public interface IRowReader extends Closeable {
+    /**
+     * Reads the next row of the file. A row that is not well formed is skipped, so the rows after it can still be
+     * read.
+     * @return : Returns the values of the row by their column names in lower case, leaving out empty values, or null
+     *         if there are no more rows.
+     * @throws IOException : Exception thrown when the file cannot be read.
+     * @throws DukeException : Exception thrown when the row is not well formed.
+     */
+    HashMap<String, String> readRow() throws IOException, DukeException;
+
+    /**
+     * Returns the number of the line of the file that the last row read starts on, starting from 1.
+     */
+    int getLineNumber();
+}
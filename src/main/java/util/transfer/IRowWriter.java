@@ -0,0 +1,19 @@
+package util.transfer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+//@@author Lucria
+/**
+ * Writer of the rows of a file a Project is exported to. Each row is written out as soon as it is given, through a
+ * buffer, so the whole file is never held in memory.
+ */
+public interface IRowWriter extends Closeable {
+    /**
+     * Writes a row, with one value for each column, in the order of the columns.
+     * A value is a String, an Integer, a List of Strings, or null for a value that is left empty.
+     * @param values : Values of the row.
+     * @throws IOException : Exception thrown when the file cannot be written.
+     */
+    void writeRow(Object... values) throws IOException;
+}
@@ -0,0 +1,109 @@
+package util.transfer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+//@@author Lucria
+/**
+ * Writes an iCalendar (.ics) file of all-day events, which calendar applications can import.
+ * Text is escaped and long lines are folded as iCalendar requires, and each event is written out as soon as it is
+ * given.
+ */
+public class IcsCalendarWriter implements Closeable {
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private final Writer fileWriter;
+    private final String timestamp;
+
+    /**
+     * Constructor of IcsCalendarWriter, which starts the calendar.
+     * @param fileWriter : Buffered writer of the file, which is closed when this writer is closed.
+     * @param calendarName : Name of the calendar.
+     * @throws IOException : Exception thrown when the file cannot be written.
+     */
+    public IcsCalendarWriter(Writer fileWriter, String calendarName) throws IOException {
+        this.fileWriter = fileWriter;
+        this.timestamp = ZonedDateTime.now(ZoneOffset.UTC).format(TIMESTAMP_FORMAT);
+        writeLine("BEGIN:VCALENDAR");
+        writeLine("VERSION:2.0");
+        writeLine("PRODID:-//ArchDuke//ArchDuke//EN");
+        writeLine("X-WR-CALNAME:" + escapeText(calendarName));
+    }
+
+    /**
+     * Writes an event that lasts the whole of a day.
+     * @param uid : Identifier of the event, which stays the same when the calendar is exported again.
+     * @param day : Day of the event.
+     * @param summary : Title of the event.
+     * @param description : Details of the event.
+     * @throws IOException : Exception thrown when the file cannot be written.
+     */
+    public void writeEvent(String uid, LocalDate day, String summary, String description) throws IOException {
+        writeLine("BEGIN:VEVENT");
+        writeLine("UID:" + escapeText(uid));
+        writeLine("DTSTAMP:" + timestamp);
+        writeLine("DTSTART;VALUE=DATE:" + day.format(DateTimeFormatter.BASIC_ISO_DATE));
+        writeLine("DTEND;VALUE=DATE:" + day.plusDays(1).format(DateTimeFormatter.BASIC_ISO_DATE));
+        writeLine("SUMMARY:" + escapeText(summary));
+        writeLine("DESCRIPTION:" + escapeText(description));
+        writeLine("END:VEVENT");
+    }
+
+    private String escapeText(String text) {
+        return text.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,").replace("\r\n", "\\n")
+            .replace("\n", "\\n");
+    }
+
+    /**
+     * Writes a line ending in CRLF, folding it onto lines starting with a space when it is longer than 75 octets of
+     * UTF-8, which is how the file is written. A line is only folded between characters, so neither a character of
+     * several octets nor a pair of surrogate characters is ever split across two lines.
+     */
+    private void writeLine(String line) throws IOException {
+        int lineStart = 0;
+        int maxOctets = MAX_LINE_OCTETS;
+        int numOfOctets = 0;
+        int charIndex = 0;
+        while (charIndex < line.length()) {
+            int codePoint = line.codePointAt(charIndex);
+            int codePointOctets = getUtf8Length(codePoint);
+            if (numOfOctets + codePointOctets > maxOctets) {
+                fileWriter.write(line, lineStart, charIndex - lineStart);
+                fileWriter.write("\r\n ");
+                lineStart = charIndex;
+                maxOctets = MAX_LINE_OCTETS - 1;
+                numOfOctets = 0;
+            }
+            numOfOctets += codePointOctets;
+            charIndex += Character.charCount(codePoint);
+        }
+        fileWriter.write(line, lineStart, line.length() - lineStart);
+        fileWriter.write("\r\n");
+    }
+
+    private int getUtf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        } else if (codePoint < 0x800) {
+            return 2;
+        } else if (codePoint < 0x10000) {
+            return 3;
+        }
+        return 4;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writeLine("END:VCALENDAR");
+        } finally {
+            fileWriter.close();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package util.transfer;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import exceptions.DukeException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//@@author Lucria
+/**
+ * Reads the rows of a JSON-lines file, in which each line is a JSON object, such as
+ * {"name": "Kill Thanos", "priority": 1, "credit": 100, "requirements": ["Find Thanos", "Snap"]}.
+ * The values of an array are joined into one value, separated the way a list is in a CSV file.
+ */
+public class JsonLinesRowReader implements IRowReader {
+    private final BufferedReader fileReader;
+    private int lineNumber;
+
+    /**
+     * Constructor of JsonLinesRowReader.
+     * @param fileReader : Reader of the file, which is closed when this reader is closed.
+     */
+    public JsonLinesRowReader(BufferedReader fileReader) {
+        this.fileReader = fileReader;
+    }
+
+    @Override
+    public HashMap<String, String> readRow() throws IOException, DukeException {
+        String line;
+        do {
+            line = fileReader.readLine();
+            lineNumber++;
+        } while (line != null && line.trim().isEmpty());
+        if (line == null) {
+            return null;
+        }
+        JsonObject rowObject;
+        try {
+            JsonElement rowElement = JsonParser.parseString(line);
+            if (!rowElement.isJsonObject()) {
+                throw new DukeException("The line is not a JSON object.");
+            }
+            rowObject = rowElement.getAsJsonObject();
+        } catch (JsonParseException err) {
+            throw new DukeException("The line is not a valid JSON object.");
+        }
+        HashMap<String, String> row = new HashMap<>();
+        for (Map.Entry<String, JsonElement> field : rowObject.entrySet()) {
+            String value = getValue(field.getKey(), field.getValue());
+            if (!value.isEmpty()) {
+                row.put(field.getKey().toLowerCase(), value);
+            }
+        }
+        return row;
+    }
+
+    private String getValue(String fieldName, JsonElement fieldValue) throws DukeException {
+        if (fieldValue.isJsonNull()) {
+            return "";
+        } else if (fieldValue.isJsonPrimitive()) {
+            return fieldValue.getAsString().trim();
+        } else if (!fieldValue.isJsonArray()) {
+            throw new DukeException("The value of '" + fieldName + "' cannot be an object.");
+        }
+        List<String> values = new ArrayList<>();
+        for (JsonElement value : fieldValue.getAsJsonArray()) {
+            if (!value.isJsonPrimitive()) {
+                throw new DukeException("The values of '" + fieldName + "' must be text or numbers.");
+            }
+            values.add(value.getAsString().trim());
+        }
+        return ListValues.join(values);
+    }
+
+    @Override
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileReader.close();
+    }
+}
@@ -0,0 +1,62 @@
+package util.transfer;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+//@@author Lucria
+/**
+ * Writes rows to a JSON-lines file in the form JsonLinesRowReader reads, with each row as a JSON object on a line of
+ * its own. Numbers are written as JSON numbers and lists as JSON arrays, and empty values are left out.
+ * One JsonWriter writes every row straight to the file, so no row is built as a tree or a String first. It holds no
+ * buffer of its own, so closing the file is enough to finish it.
+ */
+public class JsonLinesRowWriter implements IRowWriter {
+    private final Writer fileWriter;
+    private final JsonWriter jsonWriter;
+    private final List<String> columnNames;
+
+    /**
+     * Constructor of JsonLinesRowWriter.
+     * @param fileWriter : Buffered writer of the file, which is closed when this writer is closed.
+     * @param columnNames : Names of the columns, which are the names of the values in each object.
+     */
+    public JsonLinesRowWriter(Writer fileWriter, List<String> columnNames) {
+        this.fileWriter = fileWriter;
+        this.jsonWriter = new JsonWriter(fileWriter);
+        this.jsonWriter.setLenient(true);
+        this.columnNames = columnNames;
+    }
+
+    @Override
+    public void writeRow(Object... values) throws IOException {
+        jsonWriter.beginObject();
+        for (int valueIndex = 0; valueIndex < values.length; valueIndex++) {
+            Object value = values[valueIndex];
+            if (value == null) {
+                continue;
+            }
+            jsonWriter.name(columnNames.get(valueIndex));
+            if (value instanceof Number) {
+                jsonWriter.value((Number) value);
+            } else if (value instanceof List) {
+                jsonWriter.beginArray();
+                for (Object listValue : (List<?>) value) {
+                    jsonWriter.value(String.valueOf(listValue));
+                }
+                jsonWriter.endArray();
+            } else {
+                jsonWriter.value(value.toString());
+            }
+        }
+        jsonWriter.endObject();
+        fileWriter.write('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileWriter.close();
+    }
+}
@@ -0,0 +1,54 @@
+package util.transfer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static util.constant.ConstantHelper.IMPORT_LIST_SEPARATOR;
+
+//@@author Lucria
+/**
+ * Joining and splitting of the values of a list held in a single field, such as the requirements of a task.
+ * Values are joined by ";", and a ";" or "\" within a value is escaped by a "\", so every value is split back out
+ * unchanged. A "\" followed by any other character is read as it is.
+ */
+final class ListValues {
+    private static final char ESCAPE_CHARACTER = '\\';
+
+    private ListValues() {
+    }
+
+    static String join(List<?> values) {
+        StringBuilder joinedValues = new StringBuilder();
+        for (Object value : values) {
+            if (joinedValues.length() > 0) {
+                joinedValues.append(IMPORT_LIST_SEPARATOR);
+            }
+            joinedValues.append(String.valueOf(value).replace("\\", "\\\\")
+                    .replace(IMPORT_LIST_SEPARATOR, ESCAPE_CHARACTER + IMPORT_LIST_SEPARATOR));
+        }
+        return joinedValues.toString();
+    }
+
+    static List<String> split(String joinedValues) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        int charIndex = 0;
+        while (charIndex < joinedValues.length()) {
+            char character = joinedValues.charAt(charIndex);
+            if (character == ESCAPE_CHARACTER && (joinedValues.startsWith("\\", charIndex + 1)
+                    || joinedValues.startsWith(IMPORT_LIST_SEPARATOR, charIndex + 1))) {
+                value.append(joinedValues.charAt(charIndex + 1));
+                charIndex += 2;
+            } else if (joinedValues.startsWith(IMPORT_LIST_SEPARATOR, charIndex)) {
+                values.add(value.toString());
+                value.setLength(0);
+                charIndex += IMPORT_LIST_SEPARATOR.length();
+            } else {
+                value.append(character);
+                charIndex++;
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
@@ -0,0 +1,202 @@
+package util.transfer;
+
+import exceptions.DukeException;
+import models.member.IMember;
+import models.member.Member;
+import models.project.Project;
+import models.reminder.Reminder;
+import models.task.Task;
+import util.date.CalendarIndex;
+import util.log.ArchDukeLogger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+import static util.constant.ConstantHelper.EXPORT_KIND_ASSIGNMENTS;
+import static util.constant.ConstantHelper.EXPORT_KIND_CALENDAR;
+import static util.constant.ConstantHelper.IMPORT_KIND_MEMBERS;
+import static util.constant.ConstantHelper.IMPORT_KIND_REMINDERS;
+import static util.constant.ConstantHelper.IMPORT_KIND_TASKS;
+
+//@@author Lucria
+/**
+ * Exports the tasks, members, assignments or reminders of a Project to a CSV or JSON-lines file, or the due dates of
+ * its tasks and the dates of its reminders to an iCalendar file.
+ * Each row is written through a buffered Writer as the Project is read, so exporting a Project of any size never holds
+ * more than one row in memory. Tasks, members and reminders are written with the columns ProjectImporter reads, so
+ * an exported file can be imported into another Project.
+ */
+public class ProjectExporter {
+    private static final List<String> TASK_COLUMNS =
+            Arrays.asList("name", "priority", "due", "credit", "state", "requirements");
+    private static final List<String> MEMBER_COLUMNS = Arrays.asList("name", "phone", "email", "role");
+    private static final List<String> ASSIGNMENT_COLUMNS = Arrays.asList("task", "member");
+    private static final List<String> REMINDER_COLUMNS = Arrays.asList("name", "remarks", "date", "category");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    /**
+     * Exports part of a Project to a file, replacing the file if it exists.
+     * @param project : Project to be exported.
+     * @param exportKind : What is exported, which is "tasks", "members", "assignments" or "reminders" for a .csv,
+     *                     .jsonl or .json file, or "calendar" for a .ics file.
+     * @param file : Path of the file.
+     * @return : Returns the number of rows exported and their throughput.
+     * @throws IOException : Exception thrown when the file cannot be written.
+     * @throws DukeException : Exception thrown when the kind of export or the extension of the file is not known.
+     */
+    public String[] exportRows(Project project, String exportKind, Path file) throws IOException, DukeException {
+        ArchDukeLogger.logInfo(ProjectExporter.class.getName(), "Exporting " + exportKind + " to " + file);
+        final long startTime = System.nanoTime();
+        String fileName = file.getFileName().toString().toLowerCase();
+        int numOfRows;
+        if (EXPORT_KIND_CALENDAR.equals(exportKind)) {
+            if (!fileName.endsWith(".ics")) {
+                throw new DukeException("A calendar can only be exported to a .ics file.");
+            }
+            try (IcsCalendarWriter calendarWriter = new IcsCalendarWriter(Files.newBufferedWriter(file),
+                    project.getName())) {
+                numOfRows = exportCalendar(project, calendarWriter);
+            }
+        } else {
+            List<String> columns = getColumns(exportKind);
+            try (IRowWriter rowWriter = openRowWriter(file, fileName, columns)) {
+                numOfRows = writeRows(project, exportKind, rowWriter);
+            }
+        }
+        double secondsTaken = (System.nanoTime() - startTime) / 1e9;
+        String exportReport = String.format("Exported %d %s to %s in %.2f s (%.0f rows/s).", numOfRows,
+            EXPORT_KIND_CALENDAR.equals(exportKind) ? "dates" : exportKind, file, secondsTaken,
+            numOfRows / Math.max(secondsTaken, 1e-9));
+        ArchDukeLogger.logInfo(ProjectExporter.class.getName(), exportReport);
+        return new String[] {exportReport};
+    }
+
+    private List<String> getColumns(String exportKind) throws DukeException {
+        switch (exportKind) {
+        case IMPORT_KIND_TASKS:
+            return TASK_COLUMNS;
+        case IMPORT_KIND_MEMBERS:
+            return MEMBER_COLUMNS;
+        case EXPORT_KIND_ASSIGNMENTS:
+            return ASSIGNMENT_COLUMNS;
+        case IMPORT_KIND_REMINDERS:
+            return REMINDER_COLUMNS;
+        default:
+            throw new DukeException("Only tasks, members, assignments, reminders and calendar can be exported.");
+        }
+    }
+
+    private IRowWriter openRowWriter(Path file, String fileName, List<String> columns)
+            throws IOException, DukeException {
+        if (fileName.endsWith(".csv")) {
+            BufferedWriter fileWriter = Files.newBufferedWriter(file);
+            try {
+                return new CsvRowWriter(fileWriter, columns);
+            } catch (IOException err) {
+                fileWriter.close();
+                throw err;
+            }
+        } else if (fileName.endsWith(".jsonl") || fileName.endsWith(".json")) {
+            return new JsonLinesRowWriter(Files.newBufferedWriter(file), columns);
+        }
+        throw new DukeException("Only .csv, .jsonl and .json files can be exported to.");
+    }
+
+    /**
+     * Writes the rows of a Project.
+     * @return : Returns the number of rows written.
+     */
+    private int writeRows(Project project, String exportKind, IRowWriter rowWriter) throws IOException {
+        int numOfRows = 0;
+        switch (exportKind) {
+        case IMPORT_KIND_TASKS:
+            for (Task task : project.getTaskList().getTaskList()) {
+                rowWriter.writeRow(task.getTaskName(), task.getTaskPriority(), formatDate(task.getDueDate()),
+                    task.getTaskCredit(), task.getTaskState() == null ? null : task.getTaskState().name().toLowerCase(),
+                    task.getUnlabelledTaskRequirements());
+                numOfRows++;
+            }
+            break;
+        case IMPORT_KIND_MEMBERS:
+            for (Member member : project.getMemberList().getMemberList()) {
+                rowWriter.writeRow(member.getName(), getDetail(member.getPhone()), getDetail(member.getEmail()),
+                    member.getRole());
+                numOfRows++;
+            }
+            break;
+        case EXPORT_KIND_ASSIGNMENTS:
+            for (Task task : project.getTaskList().getTaskList()) {
+                for (String memberID : project.getAssignedMemberIDs(task.getTaskID())) {
+                    IMember member = project.getMemberFromID(memberID);
+                    rowWriter.writeRow(task.getTaskName(), member.getName());
+                    numOfRows++;
+                }
+            }
+            break;
+        default:
+            for (Reminder reminder : project.getReminderList()) {
+                rowWriter.writeRow(reminder.getReminderName(), getDetail(reminder.getReminderRemarks()),
+                    formatDate(reminder.getReminderDate()), reminder.getCategory());
+                numOfRows++;
+            }
+            break;
+        }
+        return numOfRows;
+    }
+
+    /**
+     * Writes an event for the due date of each task and the date of each reminder of a Project.
+     * Reminders have no ID, so the UID of a reminder's event is derived from its name, date and category, which do
+     * not change when other reminders are added or removed. Reminders alike in all three are told apart by their
+     * order among each other.
+     * @return : Returns the number of events written.
+     */
+    private int exportCalendar(Project project, IcsCalendarWriter calendarWriter) throws IOException {
+        int numOfEvents = 0;
+        HashMap<String, Integer> numOfAlikeReminders = new HashMap<>();
+        for (Task task : project.getTaskList().getTaskList()) {
+            if (task.getDueDate() != null) {
+                calendarWriter.writeEvent(task.getTaskID() + "@archduke", CalendarIndex.toLocalDate(task.getDueDate()),
+                    "Task: " + task.getTaskName(), "Priority: " + task.getTaskPriority() + ", Credit: "
+                        + task.getTaskCredit() + ", State: " + task.getTaskState());
+                numOfEvents++;
+            }
+        }
+        for (Reminder reminder : project.getReminderList()) {
+            if (reminder.getReminderDate() != null) {
+                LocalDate reminderDay = CalendarIndex.toLocalDate(reminder.getReminderDate());
+                String reminderKey = project.getProjectID() + "\n" + reminder.getReminderName() + "\n" + reminderDay
+                    + "\n" + reminder.getCategory();
+                int numOfAlikeBefore = numOfAlikeReminders.merge(reminderKey, 1, Integer::sum) - 1;
+                String uid = UUID.nameUUIDFromBytes(reminderKey.getBytes(StandardCharsets.UTF_8))
+                    + (numOfAlikeBefore == 0 ? "" : "-" + (numOfAlikeBefore + 1));
+                String remarks = getDetail(reminder.getReminderRemarks());
+                calendarWriter.writeEvent(uid + "-reminder@archduke", reminderDay,
+                    "Reminder: " + reminder.getReminderName(), remarks == null ? reminder.getCategory() : remarks);
+                numOfEvents++;
+            }
+        }
+        return numOfEvents;
+    }
+
+    private String formatDate(Date date) {
+        return date == null ? null : CalendarIndex.toLocalDate(date).format(DATE_FORMAT);
+    }
+
+    /**
+     * Returns a detail of a member or reminder, or null if it is "--", which stands for a detail that was not given.
+     */
+    private String getDetail(String detail) {
+        return detail == null || "--".equals(detail) ? null : detail;
+    }
+}
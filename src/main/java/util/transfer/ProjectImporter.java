@@ -0,0 +1,235 @@
+package util.transfer;
+
+import exceptions.DukeException;
+import models.member.IMember;
+import models.member.Member;
+import models.project.Project;
+import models.reminder.IReminder;
+import models.reminder.Reminder;
+import models.task.ITask;
+import models.task.NullTask;
+import models.task.Task;
+import util.factories.MemberFactory;
+import util.factories.ReminderFactory;
+import util.factories.TaskFactory;
+import util.log.ArchDukeLogger;
+import util.parser.MemberDetails;
+import util.parser.ReminderDetails;
+import util.parser.TaskDetails;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import static util.constant.ConstantHelper.IMPORT_BATCH_SIZE;
+import static util.constant.ConstantHelper.IMPORT_KIND_MEMBERS;
+import static util.constant.ConstantHelper.IMPORT_KIND_REMINDERS;
+import static util.constant.ConstantHelper.IMPORT_KIND_TASKS;
+import static util.constant.ConstantHelper.MAX_IMPORT_ERRORS_SHOWN;
+
+//@@author Lucria
+/**
+ * Imports the tasks, members or reminders of a CSV or JSON-lines file into a Project.
+ * The file is read one row at a time, and each row is built straight into a Task, Member or Reminder through the
+ * details it would otherwise be parsed into from a command, so the same checks apply as when it is added by hand.
+ * A row that is not valid is skipped and reported with its line number, and the rows after it are still imported.
+ * Tasks are added to the Project in batches of IMPORT_BATCH_SIZE, so the indexes of the TaskList are updated once per
+ * batch, while no more than one batch of tasks is held outside the Project.
+ */
+public class ProjectImporter {
+    private static final List<String> TASK_COLUMNS =
+            Arrays.asList("name", "priority", "due", "credit", "state", "requirements");
+    private static final List<String> MEMBER_COLUMNS = Arrays.asList("name", "phone", "email", "role");
+    private static final List<String> REMINDER_COLUMNS = Arrays.asList("name", "remarks", "date", "category");
+
+    private final TaskFactory taskFactory = new TaskFactory();
+    private final MemberFactory memberFactory = new MemberFactory();
+    private final ReminderFactory reminderFactory = new ReminderFactory();
+    private final ArrayList<Task> pendingTasks = new ArrayList<>();
+
+    /**
+     * Opens a reader of the rows of a file, chosen by its extension: ".csv" for CSV, and ".jsonl" or ".json" for
+     * JSON-lines.
+     * @param file : Path of the file.
+     * @return : Returns the reader of the rows of the file.
+     * @throws IOException : Exception thrown when the file cannot be opened.
+     * @throws DukeException : Exception thrown when the extension of the file is not known.
+     */
+    public static IRowReader openRowReader(Path file) throws IOException, DukeException {
+        String fileName = file.getFileName().toString().toLowerCase();
+        if (fileName.endsWith(".csv")) {
+            BufferedReader fileReader = Files.newBufferedReader(file);
+            try {
+                return new CsvRowReader(fileReader);
+            } catch (IOException | DukeException err) {
+                fileReader.close();
+                throw err;
+            }
+        } else if (fileName.endsWith(".jsonl") || fileName.endsWith(".json")) {
+            return new JsonLinesRowReader(Files.newBufferedReader(file));
+        }
+        throw new DukeException("Only .csv, .jsonl and .json files can be imported.");
+    }
+
+    /**
+     * Imports the rows of a file into a Project.
+     * @param project : Project the rows are imported into.
+     * @param importKind : What the rows are, which is "tasks", "members" or "reminders".
+     * @param file : Path of the file.
+     * @return : Returns the number of rows imported, their throughput, and the rows that were skipped.
+     * @throws IOException : Exception thrown when the file cannot be read.
+     * @throws DukeException : Exception thrown when the kind of rows or the extension of the file is not known.
+     */
+    public String[] importRows(Project project, String importKind, Path file) throws IOException, DukeException {
+        List<String> columns = getColumns(importKind);
+        ArchDukeLogger.logInfo(ProjectImporter.class.getName(), "Importing " + importKind + " from " + file);
+        final long startTime = System.nanoTime();
+        ArrayList<String> skippedRows = new ArrayList<>();
+        int numOfRows = 0;
+        int numOfSkippedRows = 0;
+        try (IRowReader rowReader = openRowReader(file)) {
+            while (true) {
+                String errorMessage;
+                try {
+                    HashMap<String, String> row = rowReader.readRow();
+                    if (row == null) {
+                        break;
+                    }
+                    errorMessage = importRow(project, importKind, columns, row);
+                } catch (DukeException err) {
+                    errorMessage = err.getMessage();
+                }
+                numOfRows++;
+                if (errorMessage != null) {
+                    numOfSkippedRows++;
+                    if (skippedRows.size() < MAX_IMPORT_ERRORS_SHOWN) {
+                        skippedRows.add("Line " + rowReader.getLineNumber() + ": " + errorMessage);
+                    }
+                }
+            }
+        } finally {
+            addPendingTasks(project);
+        }
+        double secondsTaken = (System.nanoTime() - startTime) / 1e9;
+        ArrayList<String> importReport = new ArrayList<>();
+        importReport.add(String.format("Imported %d of %d %s from %s in %.2f s (%.0f rows/s).",
+            numOfRows - numOfSkippedRows, numOfRows, importKind, file, secondsTaken,
+            numOfRows / Math.max(secondsTaken, 1e-9)));
+        if (numOfSkippedRows > 0) {
+            importReport.add(numOfSkippedRows + " rows were skipped:");
+            importReport.addAll(skippedRows);
+            if (numOfSkippedRows > skippedRows.size()) {
+                importReport.add("... and " + (numOfSkippedRows - skippedRows.size()) + " more.");
+            }
+        }
+        ArchDukeLogger.logInfo(ProjectImporter.class.getName(), importReport.get(0));
+        return importReport.toArray(new String[0]);
+    }
+
+    private List<String> getColumns(String importKind) throws DukeException {
+        switch (importKind) {
+        case IMPORT_KIND_TASKS:
+            return TASK_COLUMNS;
+        case IMPORT_KIND_MEMBERS:
+            return MEMBER_COLUMNS;
+        case IMPORT_KIND_REMINDERS:
+            return REMINDER_COLUMNS;
+        default:
+            throw new DukeException("Only tasks, members and reminders can be imported.");
+        }
+    }
+
+    /**
+     * Imports one row into a Project.
+     * @return : Returns null if the row is imported, or the reason it is skipped.
+     */
+    private String importRow(Project project, String importKind, List<String> columns, HashMap<String, String> row) {
+        for (String columnName : row.keySet()) {
+            if (!columns.contains(columnName)) {
+                return "Unknown column '" + columnName + "'. The columns of " + importKind + " are "
+                    + String.join(", ", columns) + ".";
+            }
+        }
+        switch (importKind) {
+        case IMPORT_KIND_TASKS:
+            return importTask(project, row);
+        case IMPORT_KIND_MEMBERS:
+            return importMember(project, row);
+        default:
+            return importReminder(project, row);
+        }
+    }
+
+    private String importTask(Project project, HashMap<String, String> row) {
+        List<String> taskRequirements = new ArrayList<>();
+        if (row.containsKey("requirements")) {
+            for (String taskRequirement : ListValues.split(row.get("requirements"))) {
+                if (!taskRequirement.trim().isEmpty()) {
+                    taskRequirements.add(taskRequirement.trim());
+                }
+            }
+        }
+        TaskDetails taskDetails = new TaskDetails(row.getOrDefault("name", "--"), row.getOrDefault("priority", "-1"),
+            row.get("due"), row.getOrDefault("credit", "-1"), row.getOrDefault("state", "NONE").toLowerCase(),
+            taskRequirements, Collections.emptyList());
+        ITask newTask;
+        try {
+            newTask = taskFactory.create(taskDetails);
+        } catch (NumberFormatException err) {
+            newTask = null;
+        }
+        if (newTask == null || newTask.getClass() == NullTask.class) {
+            return "A task needs a name, a priority from 1 to 5 and a credit from 0 to 100, and its due date must be "
+                + "a valid date.";
+        }
+        pendingTasks.add((Task) newTask);
+        if (pendingTasks.size() == IMPORT_BATCH_SIZE) {
+            addPendingTasks(project);
+        }
+        return null;
+    }
+
+    private void addPendingTasks(Project project) {
+        if (!pendingTasks.isEmpty()) {
+            project.addTasks(pendingTasks);
+            pendingTasks.clear();
+        }
+    }
+
+    private String importMember(Project project, HashMap<String, String> row) {
+        MemberDetails memberDetails = new MemberDetails(row.getOrDefault("name", "--"), row.getOrDefault("phone", "--"),
+            row.getOrDefault("email", "--"), "0", row.getOrDefault("role", "member"), Collections.emptyList());
+        IMember newMember = memberFactory.create(memberDetails);
+        if (newMember.getName() == null) {
+            return newMember.getDetails().replaceAll("\\s*\\n\\s*", " ");
+        } else if (project.memberExists(newMember)) {
+            return "A member named '" + newMember.getName() + "' already exists.";
+        }
+        project.addMember((Member) newMember);
+        return null;
+    }
+
+    private String importReminder(Project project, HashMap<String, String> row) {
+        ReminderDetails reminderDetails = new ReminderDetails(row.getOrDefault("name", "--"),
+            row.getOrDefault("remarks", "--"), row.get("date"), row.getOrDefault("category", "DEFAULT").toUpperCase(),
+            Collections.emptyList());
+        IReminder newReminder;
+        try {
+            newReminder = reminderFactory.createReminder(reminderDetails);
+        } catch (ParseException err) {
+            return "The date of the reminder must be a valid date.";
+        }
+        if (newReminder.getReminderName() == null) {
+            return "A reminder needs a name.";
+        }
+        project.addReminderToList((Reminder) newReminder);
+        return null;
+    }
+}
@@ -12,13 +12,14 @@ import static util.constant.ConstantHelper.VIEW_ASSIGNMENTS_NO_MEMBERS_MESSAGE;
 import static util.constant.ConstantHelper.VIEW_ASSIGNMENTS_NO_TASKS_MESSAGE;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.List;
 import models.member.IMember;
 import models.project.Project;
 import models.task.ITask;
 import models.task.Task;
 import util.ParserHelper;
 import util.log.ArchDukeLogger;
+import util.parser.IndexNumbers;
 
 //@@author sinteary
 public class AssignmentViewHelper {
@@ -64,16 +65,16 @@ public class AssignmentViewHelper {
     private String[] viewMembersAssignments(Project projectToManage, String projectCommand) {
         ArchDukeLogger.logDebug(AssignmentViewHelper.class.getName(),
             "[projectViewMembersAssignments] User input: '" + projectCommand + "'");
-        ArrayList<Integer> validMembers = parserHelper.parseMembersIndexes(projectCommand,
+        IndexNumbers validMembers = parserHelper.parseMembersIndexes(projectCommand,
                 projectToManage.getNumOfMembers());
-        if (!parserHelper.getErrorMessages().isEmpty()) {
-            return parserHelper.getErrorMessages().toArray(new String[0]);
+        if (!validMembers.getErrorMessages().isEmpty()) {
+            return validMembers.getErrorMessages().toArray(new String[0]);
         }
-        HashMap<String, ArrayList<String>> memberAndIndividualTasks = projectToManage.getMembersIndividualTaskList();
-        if (memberAndIndividualTasks.keySet().isEmpty()) {
+        if (projectToManage.getNumOfMembers() == 0) {
             return VIEW_ASSIGNMENTS_NO_MEMBERS_MESSAGE;
         }
-        ArrayList<ArrayList<String>> memberAssignmentInfo = getMemberOutput(validMembers, projectToManage);
+        ArrayList<ArrayList<String>> memberAssignmentInfo = getMemberOutput(validMembers.getIndexNumbers(),
+                projectToManage);
         return getFormattedOutputForMember(memberAssignmentInfo);
     }
 
@@ -83,19 +84,19 @@ public class AssignmentViewHelper {
      * @param project THe project being managed.
      * @return An array containing information requested by the user.
      */
-    private static ArrayList<ArrayList<String>> getMemberOutput(ArrayList<Integer> membersToView,
+    private static ArrayList<ArrayList<String>> getMemberOutput(List<Integer> membersToView,
                                                                 Project project) {
-        HashMap<String, ArrayList<String>> memberAndIndividualTasks = project.getMembersIndividualTaskList();
         ArrayList<ArrayList<String>> totalMemberOutputToPrint = new ArrayList<>();
         for (Integer index : membersToView) {
             ArrayList<String> outputToPrint = new ArrayList<>();
             IMember member = project.getMember(index);
             outputToPrint.add(member.getName());
-            if (memberAndIndividualTasks.get(member.getMemberID()).size() == 0) {
+            ArrayList<String> assignedTaskIDs = project.getAssignedTaskIDs(member.getMemberID());
+            if (assignedTaskIDs.isEmpty()) {
                 outputToPrint.add("No tasks assigned yet.");
             } else {
                 int currentNumber = 1;
-                for (String taskID : memberAndIndividualTasks.get(member.getMemberID())) {
+                for (String taskID : assignedTaskIDs) {
                     ITask task = project.getTaskFromID(taskID);
                     outputToPrint.add(currentNumber + ". " + task.getDetailsForAssignmentTable());
                     outputToPrint.add("");
@@ -122,16 +123,16 @@ public class AssignmentViewHelper {
         ArchDukeLogger.logDebug(AssignmentViewHelper.class.getName(),
             "[projectViewTasksAssignments] User input: '" + projectCommand + "[viewTasksAssignments]");
 
-        ArrayList<Integer> validTasks = parserHelper.parseTasksIndexes(projectCommand,
+        IndexNumbers validTasks = parserHelper.parseTasksIndexes(projectCommand,
                 projectToManage.getNumOfTasks());
-        if (!parserHelper.getErrorMessages().isEmpty()) {
-            return parserHelper.getErrorMessages().toArray(new String[0]);
+        if (!validTasks.getErrorMessages().isEmpty()) {
+            return validTasks.getErrorMessages().toArray(new String[0]);
         }
-        HashMap<String, ArrayList<String>> tasksAndAssignedMembers = projectToManage.getTasksAndAssignedMembers();
-        if (tasksAndAssignedMembers.keySet().isEmpty()) {
+        if (projectToManage.getNumOfTasks() == 0) {
             return VIEW_ASSIGNMENTS_NO_TASKS_MESSAGE;
         }
-        ArrayList<ArrayList<String>> taskAssignmentInfo = getTaskOutput(validTasks, projectToManage);
+        ArrayList<ArrayList<String>> taskAssignmentInfo = getTaskOutput(validTasks.getIndexNumbers(),
+                projectToManage);
         return getFormattedOutputForTask(taskAssignmentInfo);
     }
 
@@ -141,18 +142,18 @@ public class AssignmentViewHelper {
      * @param project Project to be managed.
      * @return An Array containing information requested by the user.
      */
-    private static ArrayList<ArrayList<String>> getTaskOutput(ArrayList<Integer> tasksToView, Project project) {
-        HashMap<String, ArrayList<String>> tasksAndAssignedMembers = project.getTasksAndAssignedMembers();
+    private static ArrayList<ArrayList<String>> getTaskOutput(List<Integer> tasksToView, Project project) {
         ArrayList<ArrayList<String>> totalTaskOutputToPrint = new ArrayList<>();
         for (Integer index : tasksToView) {
             Task task = project.getTask(index);
             ArrayList<String> outputToPrint = new ArrayList<>();
             outputToPrint.add(task.getDetailsForAssignmentTable());
-            if (tasksAndAssignedMembers.get(task.getTaskID()).size() == 0) {
+            ArrayList<String> assignedMemberIDs = project.getAssignedMemberIDs(task.getTaskID());
+            if (assignedMemberIDs.isEmpty()) {
                 outputToPrint.add("No members assigned yet.");
             } else {
                 int currentNumber = 1;
-                for (String memberID : tasksAndAssignedMembers.get(task.getTaskID())) {
+                for (String memberID : assignedMemberIDs) {
                     IMember member = project.getMemberFromID(memberID);
                     outputToPrint.add(currentNumber + ". " + member.getName());
                     currentNumber++;
@@ -24,6 +24,9 @@ public class CommandHelper {
         helpList.add(" - manage PROJECT_INDEX");
         helpList.add("Selects the specified project to manage.");
         helpList.add("");
+        helpList.add(" - run SCRIPT_FILE");
+        helpList.add("Runs the commands in the specified file, one command per line.");
+        helpList.add("");
         helpList.add(" - bye");
         helpList.add("Saves your data and exits ArchDuke.");
         helpList.add("");
@@ -54,8 +57,9 @@ public class CommandHelper {
         helpList.add(" - delete member INDEX");
         helpList.add("Deletes specified member from project.");
         helpList.add("");
-        helpList.add(" - view tasks [-MODIFIER]");
+        helpList.add(" - view tasks [-MODIFIER] [-top N | -page P [-size S]]");
         helpList.add("Displays existing tasks in sorted order specified by modifier. Default sorting is by priority.");
+        helpList.add("Use -top to show only the first N tasks, or -page to show page P of S tasks (10 by default).");
         helpList.add("");
         helpList.add(" - add task -t TASK_NAME -p TASK_PRIORITY -c TASK_CREDIT [-d TASK_DUEDATE-(dd/mm/yyyy)] "
                 + "[-s STATE] [-r TASK_REQUIREMENT1] [-r TASK_REQUIREMENT2]");
@@ -100,6 +104,9 @@ public class CommandHelper {
         helpList.add(" - view credits");
         helpList.add("Displays credits assigned to each member and the percentage of it that is done.");
         helpList.add("");
+        helpList.add(" - agenda [-next | -prev | -week]");
+        helpList.add("Displays the days with tasks due this month, next or last month, or what is due this week.");
+        helpList.add("");
         helpList.add(" - view");
         helpList.add("Displays overview of current project.");
         helpList.add("");
@@ -109,6 +116,12 @@ public class CommandHelper {
         helpList.add(" - rename PROJECT_NAME");
         helpList.add("Renames the current project being managed.");
         helpList.add("");
+        helpList.add(" - import tasks|members|reminders FILE");
+        helpList.add("Imports the tasks, members or reminders of a .csv or .jsonl file.");
+        helpList.add("");
+        helpList.add(" - export tasks|members|assignments|reminders|calendar FILE");
+        helpList.add("Exports the project to a .csv or .jsonl file, or its due dates to a .ics file.");
+        helpList.add("");
         helpList.add(" - bye");
         helpList.add("Saves your data and exits ArchDuke.");
         helpList.add("");
@@ -2,6 +2,7 @@ package util.uiformatter;
 
 import util.date.DateTimeHelper;
 
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -209,26 +210,40 @@ public class ViewHelper {
 
     //@@author Lucria
     /**
-     * Method that returns an array of strings representing a calender for printing to the console line.
+     * Method that returns an array of strings representing a calender of the current month for printing to the
+     * console line.
      * @param currentMonthTasks : All dates in the current month and the number of tasks that are due then
      * @return : Returns an array of strings for View layer to print to the console line.
      */
     public String[] consolePrintCalender(HashMap<Integer, Integer> currentMonthTasks) {
+        return consolePrintCalender(new DateTimeHelper().getCurrentYearMonth(), currentMonthTasks);
+    }
+
+    /**
+     * Method that returns an array of strings representing a calender of a month for printing to the console line.
+     * @param month : Month of a particular year to be shown.
+     * @param monthTasks : All dates in the month and the number of tasks that are due then
+     * @return : Returns an array of strings for View layer to print to the console line.
+     */
+    public String[] consolePrintCalender(YearMonth month, HashMap<Integer, Integer> monthTasks) {
         StringBuilder dateLine = new StringBuilder();
         StringBuilder taskLine = new StringBuilder();
         ArrayList<String> consoleCalender = new ArrayList<>();
         DateTimeHelper dateTimeHelper = new DateTimeHelper();
-        consoleCalender.add("    Today's date is " + dateTimeHelper.getCurrentDate() + " "
-                            + dateTimeHelper.getCurrentMonth() + " " + dateTimeHelper.getCurrentYear());
+        if (month.equals(dateTimeHelper.getCurrentYearMonth())) {
+            consoleCalender.add("    Today's date is " + dateTimeHelper.getCurrentDate() + " "
+                                + dateTimeHelper.getCurrentMonth() + " " + dateTimeHelper.getCurrentYear());
+        } else {
+            consoleCalender.add("    Agenda for " + month.getMonthValue() + " " + month.getYear());
+        }
         consoleCalender.add("        U        M        T        W        R        F        S");
-        int emptySpaces = dateTimeHelper.getDayAtStartOfMonth();
-        for (int i = 1; i < emptySpaces; i++) {
+        int emptySpaces = month.atDay(1).getDayOfWeek().getValue() % 7;
+        for (int i = 0; i < emptySpaces; i++) {
             dateLine.append(SPACING).append("  ");
             taskLine.append(SPACING).append("  ");
         }
 
-        int [] daysPerMonth = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
-        for (int i = 1; i <= daysPerMonth[Integer.parseInt(dateTimeHelper.getCurrentMonth()) - 1]; i++) {
+        for (int i = 1; i <= month.lengthOfMonth(); i++) {
             if (dateLine.length() == 63) {
                 consoleCalender.add(dateLine.toString());
                 consoleCalender.add(taskLine.toString());
@@ -240,18 +255,10 @@ public class ViewHelper {
             } else {
                 dateLine.append(SPACING).append(i);
             }
-            if (currentMonthTasks.get(i) != null) {
-                if (i / 10 == 0) {
-                    taskLine.append(SPACING).append(" ").append("X");
-                } else {
-                    taskLine.append(SPACING).append(" ").append("X");
-                }
+            if (monthTasks.get(i) != null) {
+                taskLine.append(SPACING).append(" ").append("X");
             } else {
-                if (i / 10 == 0) {
-                    taskLine.append(SPACING).append("  ");
-                } else {
-                    taskLine.append(SPACING).append("  ");
-                }
+                taskLine.append(SPACING).append("  ");
             }
         }
         consoleCalender.add(dateLine.toString());
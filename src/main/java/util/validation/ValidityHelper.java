@@ -3,6 +3,10 @@ package util.validation;
 import java.util.regex.Pattern;
 
 public class ValidityHelper {
+    private static final Pattern VALID_EMAIL_ADDRESS_REGEX =
+            Pattern.compile("^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,6}$", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DIGIT_REGEX = Pattern.compile("-?\\d+(\\.\\d+)?");
+
     //@@author iamabhishek98
     /**
      * Checks validity of the email address.
@@ -10,9 +14,7 @@ public class ValidityHelper {
      * @return Boolean value indicating validity of email address.
      */
     private boolean emailChecker(String email) {
-        Pattern validEmailAddressRegex =
-                Pattern.compile("^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,6}$", Pattern.CASE_INSENSITIVE);
-        return validEmailAddressRegex.matcher(email).find();
+        return VALID_EMAIL_ADDRESS_REGEX.matcher(email).find();
     }
 
     //@@author iamabhishek98
@@ -62,6 +64,6 @@ public class ValidityHelper {
      * @return Boolean value indicating validity of phoneNumber.
      */
     public Boolean digitChecker(String number) {
-        return number.matches("-?\\d+(\\.\\d+)?");
+        return DIGIT_REGEX.matcher(number).matches();
     }
 }
@@ -3,6 +3,8 @@ package views;
 import controllers.ConsoleInputController;
 import util.log.ArchDukeLogger;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Scanner;
 
 import static util.constant.ConstantHelper.HELLO_MESSAGE;
@@ -51,6 +53,24 @@ public class CLIView {
         System.exit(0);
     }
 
+    //@@author Lucria
+    /**
+     * Method to call when ArchDuke is started with a script, which runs the commands in the script and then exits.
+     * @param scriptPath : Path of the script file.
+     */
+    public void runScript(Path scriptPath) {
+        ArchDukeLogger.logInfo(CLIView.class.getName(), "ArchDuke have started with script: " + scriptPath);
+        int exitStatus = 0;
+        try {
+            consolePrint(consoleInputController.runScript(scriptPath));
+        } catch (IOException err) {
+            consolePrint("The script file \"" + scriptPath + "\" could not be read: " + err.getMessage());
+            exitStatus = 1;
+        }
+        System.exit(exitStatus);
+    }
+
+    //@@author
     /**
      * Prints an indented and formatted message with a top and bottom border.
      * @param lines The lines to be printed in between the border.
@@ -0,0 +1,75 @@
+package benchmarks;
+
+import models.member.Member;
+import models.project.Project;
+import models.reminder.Reminder;
+import models.task.Task;
+import models.task.TaskState;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+//@@author Lucria
+/**
+ * Helpers shared by the benchmarks for building projects of a given size and timing operations on them.
+ */
+final class BenchmarkProjects {
+    private static final long DAY_IN_MILLISECONDS = TimeUnit.DAYS.toMillis(1);
+    private static final TaskState[] TASK_STATES = TaskState.values();
+
+    private BenchmarkProjects() {
+    }
+
+    /**
+     * Builds a Project with the given number of members and tasks. Every task has a due date, a requirement and is
+     * assigned to one member, and every tenth task has a reminder.
+     * @param name : Name of the Project.
+     * @param numOfMembers : Number of members to be added.
+     * @param numOfTasks : Number of tasks to be added.
+     * @return : Returns the built Project.
+     */
+    static Project createProject(String name, int numOfMembers, int numOfTasks) {
+        Project project = new Project(name);
+        for (int memberIndex = 1; memberIndex <= numOfMembers; memberIndex++) {
+            project.addMember(new Member("Member " + memberIndex, "9123456" + (memberIndex % 10),
+                    "member" + memberIndex + "@archduke.com", memberIndex, "member"));
+        }
+        long firstDueDate = System.currentTimeMillis();
+        for (int taskIndex = 1; taskIndex <= numOfTasks; taskIndex++) {
+            ArrayList<String> taskRequirements = new ArrayList<>();
+            taskRequirements.add("Requirement of task " + taskIndex);
+            Date dueDate = new Date(firstDueDate + (taskIndex % 365) * DAY_IN_MILLISECONDS);
+            Task task = new Task("Task " + taskIndex, taskIndex % 5 + 1, dueDate, taskIndex % 100,
+                    TASK_STATES[taskIndex % TASK_STATES.length], taskRequirements);
+            project.addTask(task);
+            if (numOfMembers > 0) {
+                project.createAssignment(task, project.getMember(taskIndex % numOfMembers + 1));
+            }
+            if (taskIndex % 10 == 0) {
+                project.addReminderToList(new Reminder("Reminder " + taskIndex, "--", dueDate, "default"));
+            }
+        }
+        return project;
+    }
+
+    /**
+     * Runs an operation a number of times after warming it up, and returns the fastest run.
+     * @param warmUpRuns : Number of untimed runs.
+     * @param timedRuns : Number of timed runs.
+     * @param operation : Operation to be timed.
+     * @return : Returns the fastest timed run in milliseconds.
+     */
+    static double timeFastestRun(int warmUpRuns, int timedRuns, Runnable operation) {
+        for (int run = 0; run < warmUpRuns; run++) {
+            operation.run();
+        }
+        long fastestRun = Long.MAX_VALUE;
+        for (int run = 0; run < timedRuns; run++) {
+            long startTime = System.nanoTime();
+            operation.run();
+            fastestRun = Math.min(fastestRun, System.nanoTime() - startTime);
+        }
+        return fastestRun / 1e6;
+    }
+}
@@ -0,0 +1,49 @@
+package benchmarks;
+
+import models.project.Project;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import util.json.JsonConverter;
+import util.storage.BinaryConverter;
+import util.storage.ProjectConverter;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//@@author Lucria
+/**
+ * Compares the file size and the save and load times of a large project saved as JSON against the binary format.
+ * Run with "gradlew benchmark".
+ */
+@Tag("benchmark")
+class BinarySnapshotBenchmark {
+    private static final int NUM_OF_TASKS = 50000;
+    private static final int NUM_OF_MEMBERS = 20;
+    @TempDir
+    File directory;
+
+    @Test
+    void saveAndLoad_largeProject_jsonComparedToBinary() {
+        Project project = BenchmarkProjects.createProject("Large Project", NUM_OF_MEMBERS, NUM_OF_TASKS);
+        System.out.println("Format                    | File size (KB) | Save (ms) | Load (ms)");
+        benchmarkConverter(project, "JSON, pretty", new JsonConverter(directory.getPath(), true));
+        benchmarkConverter(project, "JSON, compact", new JsonConverter(directory.getPath(), false));
+        benchmarkConverter(project, "Binary", new BinaryConverter(directory.getPath()));
+    }
+
+    /**
+     * Garbage left by the previous format is collected first, so that it does not slow down the format after it.
+     */
+    private void benchmarkConverter(Project project, String format, ProjectConverter projectConverter) {
+        System.gc();
+        double saveTime = BenchmarkProjects.timeFastestRun(3, 10, () -> projectConverter.saveProject(project));
+        double loadTime = BenchmarkProjects.timeFastestRun(3, 10, () ->
+                projectConverter.loadProject(project.getProjectID()));
+        File projectFile = projectConverter.getProjectFile(project.getProjectID());
+        System.out.printf("%-25s | %14d | %9.1f | %9.1f%n", format, projectFile.length() / 1024, saveTime, loadTime);
+        assertEquals(NUM_OF_TASKS, projectConverter.loadProject(project.getProjectID()).getNumOfTasks());
+        projectFile.delete();
+    }
+}
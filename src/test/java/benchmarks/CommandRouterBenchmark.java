@@ -0,0 +1,72 @@
+package benchmarks;
+
+import controllers.CommandRouter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//@@author Lucria
+/**
+ * Times finding the handler of each project command, comparing the chain of String.matches calls the project
+ * commands used to be dispatched with against the CommandRouter that dispatches them now. Each String.matches call
+ * compiles its pattern again, so the chain costs more the later a command comes in it, while the router only reads
+ * the characters of the command.
+ * Run with "gradlew benchmark".
+ */
+@Tag("benchmark")
+class CommandRouterBenchmark {
+    private static final int NUM_OF_DISPATCHES = 10000;
+    private static final String[] PATTERNS = {
+        "exit", "add member.*", "edit member.*", "delete member.*", "view members.*", "role.*", "view credits.*",
+        "add task.*", "view tasks.*", "view assignments.*", "view task requirements.*", "edit task requirements.*",
+        "edit task.*", "delete task.*", "assign task.*", "add reminder.*", "view reminders", "view reminders by list",
+        "edit reminder.*", "delete reminder.*", ".*mark reminder.*", "view", "rename.*", "agenda.*", "help", "bye"
+    };
+    private static final String[] COMMANDS = {
+        "exit", "add member -n Thor -i 91234567 -e thor@avengers.com", "view tasks -name -top 10",
+        "edit task requirements 1 -r Sacrifice Ironman", "mark reminder 1", "agenda -next", "help", "bye",
+        "not a command"
+    };
+
+    @Test
+    void commandDispatch_commandsLaterInChain_routerTimeFollowsCommandLength() {
+        CommandRouter<Integer> commandRouter = new CommandRouter<>();
+        for (int patternIndex = 0; patternIndex < PATTERNS.length; patternIndex++) {
+            String pattern = PATTERNS[patternIndex];
+            if (pattern.equals(".*mark reminder.*")) {
+                commandRouter.addPrefixCommand("mark reminder", patternIndex);
+                commandRouter.addPrefixCommand("unmark reminder", patternIndex);
+            } else if (pattern.endsWith(".*")) {
+                commandRouter.addPrefixCommand(pattern.substring(0, pattern.length() - 2), patternIndex);
+            } else {
+                commandRouter.addExactCommand(pattern, patternIndex);
+            }
+        }
+        System.out.println("Command                                             | matches chain (ns) | Router (ns)");
+        for (String command : COMMANDS) {
+            double chainTime = BenchmarkProjects.timeFastestRun(3, 10, () -> {
+                for (int dispatch = 0; dispatch < NUM_OF_DISPATCHES; dispatch++) {
+                    matchChain(command);
+                }
+            }) * 1000000 / NUM_OF_DISPATCHES;
+            double routerTime = BenchmarkProjects.timeFastestRun(3, 10, () -> {
+                for (int dispatch = 0; dispatch < NUM_OF_DISPATCHES; dispatch++) {
+                    commandRouter.route(command);
+                }
+            }) * 1000000 / NUM_OF_DISPATCHES;
+            System.out.printf("%-51s | %18.1f | %11.1f%n", command, chainTime, routerTime);
+            Integer routedPattern = commandRouter.route(command);
+            assertEquals(matchChain(command), routedPattern == null ? -1 : routedPattern);
+        }
+    }
+
+    private static int matchChain(String command) {
+        for (int patternIndex = 0; patternIndex < PATTERNS.length; patternIndex++) {
+            if (command.matches(PATTERNS[patternIndex])) {
+                return patternIndex;
+            }
+        }
+        return -1;
+    }
+}
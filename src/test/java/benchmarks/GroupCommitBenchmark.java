@@ -0,0 +1,121 @@
+package benchmarks;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import util.storage.GroupCommitter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//@@author Lucria
+/**
+ * Compares the throughput of durable saves when every save syncs the disk on its own against saves that are synced
+ * together by a GroupCommitter, for an increasing number of threads saving at once.
+ * Run with "gradlew benchmark".
+ */
+@Tag("benchmark")
+class GroupCommitBenchmark {
+    private static final int NUM_OF_SAVES_PER_THREAD = 50;
+    private static final int SAVE_SIZE = 16 * 1024;
+    private static final int[] NUM_OF_THREADS = {1, 4, 16};
+    private static final long[] COMMIT_WINDOWS_MILLIS = {0, 2};
+    @TempDir
+    File directory;
+
+    @Test
+    void durableSaves_manyThreads_syncPerSaveComparedToGroupCommit() throws Exception {
+        System.out.println("Threads | Commit                | Saves/s | Groups | Saves");
+        for (int numOfThreads : NUM_OF_THREADS) {
+            double syncPerSaveRate = timeSaves(numOfThreads, this::saveWithOwnSync);
+            System.out.printf("%7d | %-21s | %7.0f | %6d | %5d%n", numOfThreads, "Sync per save", syncPerSaveRate,
+                    numOfThreads * NUM_OF_SAVES_PER_THREAD, numOfThreads * NUM_OF_SAVES_PER_THREAD);
+            for (long commitWindowMillis : COMMIT_WINDOWS_MILLIS) {
+                benchmarkGroupCommit(numOfThreads, commitWindowMillis);
+            }
+        }
+    }
+
+    private void benchmarkGroupCommit(int numOfThreads, long commitWindowMillis) throws Exception {
+        GroupCommitter groupCommitter = new GroupCommitter(commitWindowMillis);
+        double groupCommitRate = timeSaves(numOfThreads, (Path temporaryFile, Path targetFile) ->
+                groupCommitter.replaceFile(temporaryFile, targetFile).await());
+        System.out.printf("%7d | %-21s | %7.0f | %6d | %5d%n", numOfThreads, "Group, " + commitWindowMillis
+                + " ms window", groupCommitRate, groupCommitter.getNumOfGroupsCommitted(),
+                groupCommitter.getNumOfRequestsCommitted());
+        assertEquals(numOfThreads * NUM_OF_SAVES_PER_THREAD, groupCommitter.getNumOfRequestsCommitted());
+    }
+
+    /**
+     * Has each thread save its own file repeatedly, and returns the number of saves per second.
+     */
+    private double timeSaves(int numOfThreads, SaveCommitter saveCommitter) throws Exception {
+        ExecutorService savers = Executors.newFixedThreadPool(numOfThreads);
+        try {
+            ArrayList<Callable<Void>> savingTasks = new ArrayList<>();
+            for (int threadIndex = 0; threadIndex < numOfThreads; threadIndex++) {
+                Path targetFile = directory.toPath().resolve("Project " + threadIndex + ".json");
+                savingTasks.add(() -> {
+                    for (int save = 0; save < NUM_OF_SAVES_PER_THREAD; save++) {
+                        saveCommitter.commit(writeTemporaryFile(targetFile), targetFile);
+                    }
+                    return null;
+                });
+            }
+            long startTime = System.nanoTime();
+            for (Future<Void> savingResult : savers.invokeAll(savingTasks)) {
+                savingResult.get();
+            }
+            double elapsedSeconds = (System.nanoTime() - startTime) / 1e9;
+            return numOfThreads * NUM_OF_SAVES_PER_THREAD / elapsedSeconds;
+        } catch (ExecutionException err) {
+            throw (Exception) err.getCause();
+        } finally {
+            savers.shutdownNow();
+        }
+    }
+
+    private Path writeTemporaryFile(Path targetFile) throws IOException {
+        Path temporaryFile = Files.createTempFile(directory.toPath(), targetFile.getFileName() + ".", ".tmp");
+        try (FileChannel saveFile = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(SAVE_SIZE);
+            while (buffer.hasRemaining()) {
+                saveFile.write(buffer);
+            }
+        }
+        return temporaryFile;
+    }
+
+    private void saveWithOwnSync(Path temporaryFile, Path targetFile) {
+        try {
+            try (FileChannel saveFile = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+                saveFile.force(false);
+            }
+            Files.move(temporaryFile, targetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            try (FileChannel parentDirectory = FileChannel.open(directory.toPath(), StandardOpenOption.READ)) {
+                parentDirectory.force(true);
+            }
+        } catch (IOException err) {
+            throw new UncheckedIOException(err);
+        }
+    }
+
+    private interface SaveCommitter {
+        void commit(Path temporaryFile, Path targetFile);
+    }
+}
@@ -0,0 +1,77 @@
+package benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import models.project.Project;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import util.json.JsonConverter;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//@@author Lucria
+/**
+ * Compares saving and loading a large project through reflective Gson binding, as JsonConverter used to, against the
+ * streaming TypeAdapters, with and without pretty printing.
+ * Run with "gradlew benchmark".
+ */
+@Tag("benchmark")
+class JsonSerialisationBenchmark {
+    private static final int NUM_OF_TASKS = 50000;
+    private static final int NUM_OF_MEMBERS = 20;
+    @TempDir
+    File directory;
+
+    @Test
+    void saveAndLoad_largeProject_reflectiveComparedToTypeAdapters() {
+        Project project = BenchmarkProjects.createProject("Large Project", NUM_OF_MEMBERS, NUM_OF_TASKS);
+        System.out.println("Format                    | File size (KB) | Save (ms) | Load (ms)");
+
+        Gson reflectiveGson = new GsonBuilder().enableComplexMapKeySerialization().setPrettyPrinting().create();
+        File reflectiveFile = new File(directory, "Reflective.json");
+        double reflectiveSaveTime = BenchmarkProjects.timeFastestRun(2, 5, () ->
+                writeFile(reflectiveFile, reflectiveGson.toJson(project)));
+        double reflectiveLoadTime = BenchmarkProjects.timeFastestRun(2, 5, () -> {
+            try (FileReader fileReader = new FileReader(reflectiveFile)) {
+                reflectiveGson.fromJson(fileReader, new TypeToken<Project>(){}.getType());
+            } catch (IOException err) {
+                throw new UncheckedIOException(err);
+            }
+        });
+        printResult("Reflective, pretty", reflectiveFile, reflectiveSaveTime, reflectiveLoadTime);
+
+        benchmarkJsonConverter(project, "TypeAdapters, pretty", true);
+        benchmarkJsonConverter(project, "TypeAdapters, compact", false);
+    }
+
+    private void benchmarkJsonConverter(Project project, String format, boolean isPrettyPrinting) {
+        File formatDirectory = new File(directory, format);
+        formatDirectory.mkdir();
+        JsonConverter jsonConverter = new JsonConverter(formatDirectory.getPath(), isPrettyPrinting);
+        double saveTime = BenchmarkProjects.timeFastestRun(2, 5, () -> jsonConverter.saveProject(project));
+        double loadTime = BenchmarkProjects.timeFastestRun(2, 5, () ->
+                jsonConverter.loadProject(project.getProjectID()));
+        printResult(format, jsonConverter.getProjectFile(project.getProjectID()), saveTime, loadTime);
+        assertEquals(NUM_OF_TASKS, jsonConverter.loadProject(project.getProjectID()).getNumOfTasks());
+    }
+
+    private void writeFile(File file, String contents) {
+        try (FileWriter fileWriter = new FileWriter(file)) {
+            fileWriter.write(contents);
+        } catch (IOException err) {
+            throw new UncheckedIOException(err);
+        }
+    }
+
+    private void printResult(String format, File savedFile, double saveTime, double loadTime) {
+        System.out.printf("%-25s | %14d | %9.1f | %9.1f%n", format, savedFile.length() / 1024, saveTime, loadTime);
+    }
+}
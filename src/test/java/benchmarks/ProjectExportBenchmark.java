@@ -0,0 +1,70 @@
+package benchmarks;
+
+import exceptions.DukeException;
+import models.project.Project;
+import models.task.Task;
+import models.task.TaskState;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import util.transfer.ProjectExporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//@@author Lucria
+/**
+ * Measures exporting the tasks of a growing project to CSV, JSON-lines and iCalendar, where each row is streamed to
+ * the file as it is written, and checks that an exported CSV file has one line per task.
+ * Run with "gradlew benchmark".
+ */
+@Tag("benchmark")
+class ProjectExportBenchmark {
+    private static final int[] NUM_OF_TASKS = {1000, 10000, 100000};
+    private static final long ONE_DAY = 24L * 60 * 60 * 1000;
+    @TempDir
+    File directory;
+
+    @Test
+    void exportRows_growingNumberOfTasks_rowsStreamedToEachFormat() throws IOException, DukeException {
+        System.out.println("Tasks  | CSV (ms) | JSON-lines (ms) | iCalendar (ms) | CSV (rows/s)");
+        ProjectExporter projectExporter = new ProjectExporter();
+        long firstDueDate = System.currentTimeMillis();
+        for (int numOfTasks : NUM_OF_TASKS) {
+            Project project = new Project("Export");
+            List<Task> tasks = new ArrayList<>();
+            for (int taskIndex = 1; taskIndex <= numOfTasks; taskIndex++) {
+                tasks.add(new Task("Task " + taskIndex, taskIndex % 5 + 1,
+                    new Date(firstDueDate + taskIndex % 365 * ONE_DAY), 10, TaskState.TODO, new ArrayList<>()));
+            }
+            project.addTasks(tasks);
+
+            Path csvFile = directory.toPath().resolve("tasks" + numOfTasks + ".csv");
+            double csvTime = timeExport(projectExporter, project, "tasks", csvFile);
+            double jsonLinesTime = timeExport(projectExporter, project, "tasks",
+                directory.toPath().resolve("tasks" + numOfTasks + ".jsonl"));
+            double calendarTime = timeExport(projectExporter, project, "calendar",
+                directory.toPath().resolve("tasks" + numOfTasks + ".ics"));
+            System.out.printf("%6d | %8.0f | %15.0f | %14.0f | %12.0f%n", numOfTasks, csvTime, jsonLinesTime,
+                calendarTime, numOfTasks / csvTime * 1000);
+            try (Stream<String> csvLines = Files.lines(csvFile)) {
+                assertEquals(numOfTasks + 1, csvLines.count());
+            }
+        }
+    }
+
+    private double timeExport(ProjectExporter projectExporter, Project project, String exportKind, Path file)
+            throws IOException, DukeException {
+        long startTime = System.nanoTime();
+        projectExporter.exportRows(project, exportKind, file);
+        return (System.nanoTime() - startTime) / 1e6;
+    }
+}
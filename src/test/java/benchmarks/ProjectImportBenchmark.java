@@ -0,0 +1,80 @@
+package benchmarks;
+
+import exceptions.DukeException;
+import models.project.Project;
+import models.task.ITask;
+import models.task.Task;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import util.factories.TaskFactory;
+import util.transfer.ProjectImporter;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//@@author Lucria
+/**
+ * Compares adding tasks one "add task" command at a time, where each command is parsed from its flags and checked
+ * against every task already in the project, against importing the same tasks from a CSV file, where each row is built
+ * straight into a task and the tasks are indexed in batches.
+ * Run with "gradlew benchmark".
+ */
+@Tag("benchmark")
+class ProjectImportBenchmark {
+    private static final int[] NUM_OF_TASKS = {1000, 10000, 100000};
+    private static final int MAX_TASKS_ADDED_ONE_BY_ONE = 10000;
+    @TempDir
+    File directory;
+
+    @Test
+    void addTasks_growingNumberOfTasks_importComparedToCommands() throws IOException, DukeException {
+        System.out.println("Tasks  | Commands (ms) | Import (ms) | Import (rows/s)");
+        TaskFactory taskFactory = new TaskFactory();
+        for (int numOfTasks : NUM_OF_TASKS) {
+            Path file = directory.toPath().resolve("tasks" + numOfTasks + ".csv");
+            ArrayList<String> commands = new ArrayList<>();
+            try (BufferedWriter fileWriter = Files.newBufferedWriter(file)) {
+                fileWriter.write("name,priority,due,credit,state");
+                fileWriter.newLine();
+                for (int taskIndex = 1; taskIndex <= numOfTasks; taskIndex++) {
+                    String dueDate = (taskIndex % 28 + 1) + "/" + (taskIndex % 12 + 1) + "/2020";
+                    fileWriter.write("Task " + taskIndex + "," + (taskIndex % 5 + 1) + "," + dueDate + ",10,todo");
+                    fileWriter.newLine();
+                    if (numOfTasks <= MAX_TASKS_ADDED_ONE_BY_ONE) {
+                        commands.add("-n Task " + taskIndex + " -p " + (taskIndex % 5 + 1) + " -d " + dueDate
+                                + " -c 10 -s todo");
+                    }
+                }
+            }
+
+            String commandTime = "--";
+            if (!commands.isEmpty()) {
+                Project project = new Project("Commands");
+                long startTime = System.nanoTime();
+                for (String command : commands) {
+                    ITask newTask = taskFactory.create(command);
+                    if (!project.taskExists(newTask)) {
+                        project.addTask((Task) newTask);
+                    }
+                }
+                commandTime = String.format("%.0f", (System.nanoTime() - startTime) / 1e6);
+                assertEquals(numOfTasks, project.getNumOfTasks());
+            }
+
+            Project project = new Project("Import");
+            long startTime = System.nanoTime();
+            new ProjectImporter().importRows(project, "tasks", file);
+            double importTime = (System.nanoTime() - startTime) / 1e6;
+            System.out.printf("%6d | %13s | %11.0f | %15.0f%n", numOfTasks, commandTime, importTime,
+                    numOfTasks / importTime * 1000);
+            assertEquals(numOfTasks, project.getNumOfTasks());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package benchmarks;
+
+import models.project.Project;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import util.json.JsonConverter;
+
+import java.io.File;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//@@author Lucria
+/**
+ * Compares loading every saved project one file after another against loading them in parallel on startup.
+ * Run with "gradlew benchmark".
+ */
+@Tag("benchmark")
+class ProjectLoadingBenchmark {
+    private static final int[] NUM_OF_PROJECT_FILES = {25, 100, 400};
+    private static final int NUM_OF_TASKS_PER_PROJECT = 50;
+    @TempDir
+    File directory;
+    private JsonConverter jsonConverter;
+
+    @BeforeEach
+    void createConverter() {
+        jsonConverter = new JsonConverter(directory.getPath());
+    }
+
+    @Test
+    void loadProjects_growingNumberOfFiles_parallelComparedToSequential() {
+        System.out.println("Project files | Sequential (ms) | Parallel (ms) | Speedup");
+        int numOfSavedProjects = 0;
+        for (int numOfProjectFiles : NUM_OF_PROJECT_FILES) {
+            while (numOfSavedProjects < numOfProjectFiles) {
+                numOfSavedProjects++;
+                jsonConverter.saveProject(BenchmarkProjects.createProject("Project " + numOfSavedProjects, 5,
+                        NUM_OF_TASKS_PER_PROJECT));
+            }
+            ArrayList<String> savedProjectIDs = jsonConverter.getSavedProjectIDs();
+            double sequentialTime = BenchmarkProjects.timeFastestRun(2, 5, () -> {
+                for (String projectID : savedProjectIDs) {
+                    jsonConverter.loadProject(projectID);
+                }
+            });
+            double parallelTime = BenchmarkProjects.timeFastestRun(2, 5, () ->
+                    jsonConverter.loadProjects(savedProjectIDs));
+            System.out.printf("%13d | %15.1f | %13.1f | %6.2fx%n", numOfProjectFiles, sequentialTime, parallelTime,
+                    sequentialTime / parallelTime);
+
+            ArrayList<Project> loadedProjects = jsonConverter.loadProjects(savedProjectIDs);
+            assertEquals(numOfProjectFiles, loadedProjects.size());
+            assertEquals(savedProjectIDs.get(0), loadedProjects.get(0).getName());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package benchmarks;
+
+import models.project.Project;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import util.uiformatter.AssignmentViewHelper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//@@author Lucria
+/**
+ * Times the views that look up tasks and members by ID for growing projects, up to 10000 tasks and 500 members.
+ * With constant time lookups, the time per task stays about the same as the project grows.
+ * Run with "gradlew benchmark".
+ */
+@Tag("benchmark")
+class ProjectLookupBenchmark {
+    private static final int[] NUM_OF_TASKS = {2500, 5000, 10000};
+    private static final int TASKS_PER_MEMBER = 20;
+
+    @Test
+    void creditsAndAssignmentViews_growingProject_timePerTaskConstant() {
+        System.out.println("Tasks | Members | Credits (ms) | Member view (ms) | Task view (ms) | Per task (us)");
+        for (int numOfTasks : NUM_OF_TASKS) {
+            int numOfMembers = numOfTasks / TASKS_PER_MEMBER;
+            Project project = BenchmarkProjects.createProject("Lookup Project", numOfMembers, numOfTasks);
+            AssignmentViewHelper assignmentViewHelper = new AssignmentViewHelper();
+            double creditsTime = BenchmarkProjects.timeFastestRun(5, 10, project::getCredits);
+            double memberViewTime = BenchmarkProjects.timeFastestRun(5, 10, () ->
+                    assignmentViewHelper.viewAssignments("view assignments -m all", project));
+            double taskViewTime = BenchmarkProjects.timeFastestRun(5, 10, () ->
+                    assignmentViewHelper.viewAssignments("view assignments -t all", project));
+            double timePerTask = (creditsTime + memberViewTime + taskViewTime) * 1000 / numOfTasks;
+            System.out.printf("%5d | %7d | %12.1f | %16.1f | %14.1f | %13.2f%n", numOfTasks, numOfMembers,
+                    creditsTime, memberViewTime, taskViewTime, timePerTask);
+            assertEquals(2 * numOfMembers, project.getCredits().size());
+        }
+    }
+}
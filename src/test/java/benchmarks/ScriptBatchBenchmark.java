@@ -0,0 +1,78 @@
+package benchmarks;
+
+import controllers.ConsoleInputController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import repositories.ProjectRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//@@author Lucria
+/**
+ * Compares onboarding a project by entering its commands one at a time, where every command that changes the
+ * project is journaled, against running the same commands as a script, where the project is saved once at the end.
+ * Run with "gradlew benchmark".
+ */
+@Tag("benchmark")
+class ScriptBatchBenchmark {
+    private static final int[] NUM_OF_TASKS = {250, 1000, 4000};
+    private static final int NUM_OF_MEMBERS = 50;
+    private final ProjectRepository projectRepository = new ProjectRepository();
+    private final ConsoleInputController consoleInputController = new ConsoleInputController(projectRepository);
+
+    @AfterEach
+    void deleteProjects() {
+        while (projectRepository.getNumOfProjects() != 0) {
+            projectRepository.deleteItem(1);
+        }
+    }
+
+    @Test
+    void onboardProject_growingNumberOfCommands_scriptComparedToCommandByCommand() throws IOException {
+        System.out.println("Commands | One by one (cmd/s) | Script (cmd/s) | Speedup");
+        for (int numOfTasks : NUM_OF_TASKS) {
+            deleteProjects();
+            ArrayList<String> commands = new ArrayList<>();
+            for (int memberIndex = 1; memberIndex <= NUM_OF_MEMBERS; memberIndex++) {
+                commands.add("add member -n Member " + memberIndex);
+            }
+            for (int taskIndex = 1; taskIndex <= numOfTasks; taskIndex++) {
+                commands.add("add task -n Task " + taskIndex + " -p " + (taskIndex % 5 + 1) + " -c 10 -s todo");
+                commands.add("assign task -i " + taskIndex + " -to " + (taskIndex % NUM_OF_MEMBERS + 1));
+            }
+
+            consoleInputController.onCommandReceived("create One By One");
+            consoleInputController.onCommandReceived("manage 1");
+            long startTime = System.nanoTime();
+            for (String command : commands) {
+                consoleInputController.manageProject(command);
+            }
+            consoleInputController.manageProject("exit");
+            final double oneByOneTime = (System.nanoTime() - startTime) / 1e9;
+
+            consoleInputController.onCommandReceived("create Script");
+            ArrayList<String> script = new ArrayList<>();
+            script.add("manage 2");
+            script.addAll(commands);
+            script.add("exit");
+            Path scriptFile = Files.createTempFile("archduke", ".txt");
+            Files.write(scriptFile, script);
+            startTime = System.nanoTime();
+            String[] scriptReport = consoleInputController.runScript(scriptFile);
+            final double scriptTime = (System.nanoTime() - startTime) / 1e9;
+            Files.delete(scriptFile);
+
+            System.out.printf("%8d | %18.0f | %14.0f | %6.2fx%n", commands.size(), commands.size() / oneByOneTime,
+                    commands.size() / scriptTime, oneByOneTime / scriptTime);
+            assertEquals("All commands succeeded.", scriptReport[1]);
+            assertEquals(numOfTasks, projectRepository.getItem(2).getNumOfTasks());
+            assertEquals(numOfTasks, projectRepository.getItem(1).getNumOfTasks());
+        }
+    }
+}
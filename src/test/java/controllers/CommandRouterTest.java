@@ -0,0 +1,42 @@
+package controllers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CommandRouterTest {
+    @Test
+    void route_registeredCommands_longestPrefixOrExactCommandWins() {
+        CommandRouter<String> commandRouter = new CommandRouter<>();
+        commandRouter.addPrefixCommand("edit task", "edit task");
+        commandRouter.addPrefixCommand("edit task requirements", "edit task requirements");
+        commandRouter.addExactCommand("view", "view");
+        commandRouter.addPrefixCommand("view tasks", "view tasks");
+        commandRouter.addExactCommand("view reminders", "view reminders");
+        commandRouter.addExactCommand("view reminders by list", "view reminders by list");
+
+        assertEquals("edit task", commandRouter.route("edit task 1 -n New name"));
+        assertEquals("edit task", commandRouter.route("edit task"));
+        assertEquals("edit task requirements", commandRouter.route("edit task requirements 1 -r New requirement"));
+        assertEquals("view", commandRouter.route("view"));
+        assertEquals("view tasks", commandRouter.route("view tasks -name -top 5"));
+        assertEquals("view reminders", commandRouter.route("view reminders"));
+        assertEquals("view reminders by list", commandRouter.route("view reminders by list"));
+    }
+
+    @Test
+    void route_unregisteredCommands_returnsNull() {
+        CommandRouter<String> commandRouter = new CommandRouter<>();
+        commandRouter.addExactCommand("view", "view");
+        commandRouter.addExactCommand("view reminders", "view reminders");
+        commandRouter.addPrefixCommand("view tasks", "view tasks");
+
+        assertNull(commandRouter.route(""));
+        assertNull(commandRouter.route("vie"));
+        assertNull(commandRouter.route("view "));
+        assertNull(commandRouter.route("view reminders 1"));
+        assertNull(commandRouter.route("view task"));
+        assertNull(commandRouter.route("delete everything"));
+    }
+}
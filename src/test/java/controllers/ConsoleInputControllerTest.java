@@ -1,11 +1,21 @@
 package controllers;
 
 
+import models.project.Project;
 import org.junit.jupiter.api.Test;
 import repositories.ProjectRepository;
+import util.json.JsonConverter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 public class ConsoleInputControllerTest {
@@ -190,4 +200,83 @@ public class ConsoleInputControllerTest {
         String[] actualOutput2 = consoleInputController.onCommandReceived("create ");
         assertArrayEquals(expectedOutput, actualOutput2);
     }
+
+    //@@author Lucria
+    private Path writeScript(String... commands) throws IOException {
+        Path script = Files.createTempFile("archduke", ".txt");
+        script.toFile().deleteOnExit();
+        return Files.write(script, Arrays.asList(commands));
+    }
+
+    @Test
+    void runScript_allCommandsSucceed_savedOnceAtEnd() throws IOException {
+        while (projectRepository.getAll().size() != 0) {
+            projectRepository.deleteItem(1);
+        }
+        Path script = writeScript("# Onboarding", "create Avengers", "", "manage 1", "add member -n Thor",
+            "add task -n task1 -p 1 -c 10 -s doing", "view members", "exit", "list");
+        String[] actualOutput = consoleInputController.runScript(script);
+        assertEquals(2, actualOutput.length);
+        assertTrue(actualOutput[0].matches("Ran 7 commands from .* in .* s \\(\\d+ commands/s\\)\\."));
+        assertEquals("All commands succeeded.", actualOutput[1]);
+
+        Project savedProject = new ProjectRepository().getItem(1);
+        assertEquals("Avengers", savedProject.getName());
+        assertEquals(1, savedProject.getNumOfMembers());
+        assertEquals(1, savedProject.getNumOfTasks());
+    }
+
+    @Test
+    void runScript_failedCommands_reportedWithoutAborting() throws IOException {
+        while (projectRepository.getAll().size() != 0) {
+            projectRepository.deleteItem(1);
+        }
+        Path script = writeScript("create Avengers", "manage 1", "add member", "fly", "add member -n Thor", "exit",
+            "manage 9");
+        String[] expectedOutput = new String[] {
+            "3 commands failed:",
+            "Line 3: add member",
+            "  Add member command minimum usage must be \"add member -n NAME\"!",
+            "Line 4: fly",
+            "  Invalid command. Try again!",
+            "Line 7: manage 9",
+            "  Please enter the correct index of an existing Project!"};
+        String[] actualOutput = consoleInputController.runScript(script);
+        assertArrayEquals(expectedOutput, Arrays.copyOfRange(actualOutput, 1, actualOutput.length));
+        assertEquals(1, projectRepository.getItem(1).getNumOfMembers());
+    }
+
+    @Test
+    void commandRunTest_wrongInputs() {
+        String[] expectedOutput = new String[] {"Please enter the name of the script file to run!"};
+        assertArrayEquals(expectedOutput, consoleInputController.onCommandReceived("run"));
+        expectedOutput = new String[] {"The script file \"missing-script.txt\" could not be read!",
+            "Please ensure that the file exists and that its path is correct."};
+        assertArrayEquals(expectedOutput, consoleInputController.onCommandReceived("run missing-script.txt"));
+    }
+
+    @Test
+    void commandManage_saveFileListedInManifestCorrupted_errorReturned() throws IOException {
+        while (projectRepository.getAll().size() != 0) {
+            projectRepository.deleteItem(1);
+        }
+        projectRepository.addToRepo("create Avengers");
+        projectRepository.flushToRepo();
+        File saveFile = new JsonConverter().getProjectFile(projectRepository.getItem(1).getProjectID());
+        long lastModified = saveFile.lastModified();
+        byte[] corruptedData = new byte[(int) saveFile.length()];
+        Arrays.fill(corruptedData, (byte) '{');
+        Files.write(saveFile.toPath(), corruptedData);
+        assertTrue(saveFile.setLastModified(lastModified));
+
+        ProjectRepository reloadedRepository = new ProjectRepository();
+        String[] expectedOutput = new String[] {"The project could not be loaded from its save file!",
+            "Please delete the project, or any corrupted saved data, and try again!"};
+        assertArrayEquals(expectedOutput, new ConsoleInputController(reloadedRepository).onCommandReceived("manage 1"));
+        ProjectInputController projectInputController = new ProjectInputController(reloadedRepository);
+        assertArrayEquals(expectedOutput, projectInputController.onCommandReceived("1"));
+        assertFalse(projectInputController.getIsManagingAProject());
+        reloadedRepository.deleteItem(1);
+        assertFalse(saveFile.exists());
+    }
 }
@@ -1,15 +1,26 @@
 package controllers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import models.member.Member;
 import models.project.Project;
 import models.task.Task;
 import models.task.TaskState;
 import org.junit.jupiter.api.Test;
 import util.ParserHelper;
+import util.parser.AssignmentParams;
+import util.parser.IndexNumbers;
+import util.parser.MemberDetails;
+import util.parser.ReminderDetails;
+import util.parser.ReminderIndex;
+import util.parser.TaskDetails;
+import util.parser.TaskRequirementDetails;
 
 //@@author sinteary
 public class ParserHelperTest {
@@ -40,71 +51,72 @@ public class ParserHelperTest {
     public void testParseAssignmentParams() {
         simulatedUserInput = "-i 1 2 -to 3 4";
         ParserHelper parserHelper = new ParserHelper();
-        ArrayList<ArrayList<Integer>> parsedCommands = parserHelper.parseAssignmentParams(simulatedUserInput, project);
-        assertTrue(2 == parsedCommands.get(0).size());
-        assertTrue(1 == parsedCommands.get(1).size());
-        assertTrue(0 == parsedCommands.get(2).size());
-        assertTrue(parsedCommands.get(0).contains(1));
-        assertTrue(parsedCommands.get(0).contains(2));
-        assertTrue(parsedCommands.get(1).contains(3));
-        assertTrue(1 == parserHelper.getErrorMessages().size());
-        assertEquals("Member with index 4 does not exist.", parserHelper.getErrorMessages().get(0));
+        AssignmentParams parsedCommands = parserHelper.parseAssignmentParams(simulatedUserInput, project);
+        assertTrue(2 == parsedCommands.getTaskIndexes().size());
+        assertTrue(1 == parsedCommands.getAssignees().size());
+        assertTrue(0 == parsedCommands.getUnassignees().size());
+        assertTrue(parsedCommands.getTaskIndexes().contains(1));
+        assertTrue(parsedCommands.getTaskIndexes().contains(2));
+        assertTrue(parsedCommands.getAssignees().contains(3));
+        assertTrue(1 == parsedCommands.getErrorMessages().size());
+        assertEquals("Member with index 4 does not exist.", parsedCommands.getErrorMessages().get(0));
 
         simulatedUserInput = "-i 3 -to 1 2 -rm 3";
         parsedCommands = parserHelper.parseAssignmentParams(simulatedUserInput, project);
-        assertEquals(0, parsedCommands.get(0).size());
-        assertEquals(2, parsedCommands.get(1).size());
-        assertEquals(1, parsedCommands.get(2).size());
-        assertTrue(parsedCommands.get(1).contains(1));
-        assertTrue(parsedCommands.get(1).contains(2));
-        assertTrue(parsedCommands.get(2).contains(3));
-        assertEquals("Task with index 3 does not exist.", parserHelper.getErrorMessages().get(0));
+        assertEquals(0, parsedCommands.getTaskIndexes().size());
+        assertEquals(2, parsedCommands.getAssignees().size());
+        assertEquals(1, parsedCommands.getUnassignees().size());
+        assertTrue(parsedCommands.getAssignees().contains(1));
+        assertTrue(parsedCommands.getAssignees().contains(2));
+        assertTrue(parsedCommands.getUnassignees().contains(3));
+        assertEquals("Task with index 3 does not exist.", parsedCommands.getErrorMessages().get(0));
 
         simulatedUserInput = "-i 1 -to 1 -rm 1";
         parsedCommands = parserHelper.parseAssignmentParams(simulatedUserInput, project);
-        assertEquals(1, parsedCommands.get(0).size());
-        assertEquals(0, parsedCommands.get(1).size());
-        assertEquals(0, parsedCommands.get(2).size());
+        assertEquals(1, parsedCommands.getTaskIndexes().size());
+        assertEquals(0, parsedCommands.getAssignees().size());
+        assertEquals(0, parsedCommands.getUnassignees().size());
         assertEquals("Cannot assign and unassign task to member 1 (Tom) at the same time",
-            parserHelper.getErrorMessages().get(0));
+            parsedCommands.getErrorMessages().get(0));
 
         simulatedUserInput = "-i abc -to 1 -rm 2";
         parsedCommands = parserHelper.parseAssignmentParams(simulatedUserInput, project);
-        assertEquals(0, parsedCommands.get(0).size());
-        assertEquals(1, parsedCommands.get(1).size());
-        assertEquals(1, parsedCommands.get(2).size());
+        assertEquals(0, parsedCommands.getTaskIndexes().size());
+        assertEquals(1, parsedCommands.getAssignees().size());
+        assertEquals(1, parsedCommands.getUnassignees().size());
         assertEquals("Could not recognise task abc, please ensure it is an integer.",
-            parserHelper.getErrorMessages().get(0));
+            parsedCommands.getErrorMessages().get(0));
 
         simulatedUserInput = "-i 1 -to ";
         parsedCommands = parserHelper.parseAssignmentParams(simulatedUserInput, project);
-        assertEquals(1, parsedCommands.get(0).size());
-        assertEquals(0, parsedCommands.get(1).size());
+        assertEquals(1, parsedCommands.getTaskIndexes().size());
+        assertEquals(0, parsedCommands.getAssignees().size());
 
         simulatedUserInput = "-i 5 -to ";
         parsedCommands = parserHelper.parseAssignmentParams(simulatedUserInput, project);
-        assertEquals(0, parsedCommands.get(0).size());
-        assertEquals(0, parsedCommands.get(1).size());
-        assertEquals(0, parsedCommands.get(2).size());
-        assertEquals("Task with index 5 does not exist.", parserHelper.getErrorMessages().get(0));
+        assertEquals(0, parsedCommands.getTaskIndexes().size());
+        assertEquals(0, parsedCommands.getAssignees().size());
+        assertEquals(0, parsedCommands.getUnassignees().size());
+        assertEquals("Task with index 5 does not exist.", parsedCommands.getErrorMessages().get(0));
 
         simulatedUserInput = "-i";
         parsedCommands = parserHelper.parseAssignmentParams(simulatedUserInput, project);
-        assertEquals(0, parsedCommands.get(0).size());
-        assertEquals(0, parsedCommands.get(1).size());
-        assertEquals(0, parsedCommands.get(2).size());
+        assertEquals(0, parsedCommands.getTaskIndexes().size());
+        assertEquals(0, parsedCommands.getAssignees().size());
+        assertEquals(0, parsedCommands.getUnassignees().size());
     }
 
     @Test
     public void testParseMembersIndex() {
         simulatedUserInput = "0 1 2 abc 3 4 -1 9999999999999999999";
         ParserHelper parserHelper = new ParserHelper();
-        ArrayList<Integer> validMemberIndexes = parserHelper.parseMembersIndexes(simulatedUserInput, 3);
+        IndexNumbers indexNumbers = parserHelper.parseMembersIndexes(simulatedUserInput, 3);
+        List<Integer> validMemberIndexes = indexNumbers.getIndexNumbers();
         assertTrue(validMemberIndexes.size() == 3);
         assertTrue(validMemberIndexes.contains(1));
         assertTrue(validMemberIndexes.contains(2));
         assertTrue(validMemberIndexes.contains(3));
-        ArrayList<String> errorMessages = parserHelper.getErrorMessages();
+        List<String> errorMessages = indexNumbers.getErrorMessages();
         assertTrue(errorMessages.contains("Could not recognise member abc, please ensure it is an integer."));
         assertTrue(errorMessages.contains("Member with index 0 does not exist."));
         assertTrue(errorMessages.contains("Member with index 4 does not exist."));
@@ -117,12 +129,13 @@ public class ParserHelperTest {
     public void testParseTasksIndex() {
         simulatedUserInput = "0 1 2 def 3 4 -1 9999999999999999999";
         ParserHelper parserHelper = new ParserHelper();
-        ArrayList<Integer> validTaskIndexes = parserHelper.parseTasksIndexes(simulatedUserInput, 3);
+        IndexNumbers indexNumbers = parserHelper.parseTasksIndexes(simulatedUserInput, 3);
+        List<Integer> validTaskIndexes = indexNumbers.getIndexNumbers();
         assertTrue(validTaskIndexes.size() == 3);
         assertTrue(validTaskIndexes.contains(1));
         assertTrue(validTaskIndexes.contains(2));
         assertTrue(validTaskIndexes.contains(3));
-        ArrayList<String> errorMessages = parserHelper.getErrorMessages();
+        List<String> errorMessages = indexNumbers.getErrorMessages();
         assertTrue(errorMessages.contains("Could not recognise task def, please ensure it is an integer."));
         assertTrue(errorMessages.contains("Task with index 0 does not exist."));
         assertTrue(errorMessages.contains("Task with index 4 does not exist."));
@@ -130,4 +143,72 @@ public class ParserHelperTest {
             + "please ensure it is an integer."));
         assertTrue(errorMessages.contains("Task with index -1 does not exist."));
     }
+
+    //@@author Lucria
+    @Test
+    public void testParseDetails_hyphensInsideValues_keptInValues() {
+        ParserHelper parserHelper = new ParserHelper();
+        TaskDetails taskDetails = parserHelper.parseNewTaskDetails(
+                "-n Re-do the check-in -p 2 -c 10 -d 01/01/2020 -r Sign-off -r Hand-over");
+        assertEquals("Re-do the check-in", taskDetails.getTaskName());
+        assertEquals("2", taskDetails.getTaskPriority());
+        assertEquals("10", taskDetails.getTaskCredit());
+        assertEquals("01/01/2020", taskDetails.getTaskDueDate());
+        assertEquals(Arrays.asList("Sign-off", "Hand-over"), taskDetails.getTaskRequirements());
+        assertTrue(taskDetails.getErrorMessages().isEmpty());
+
+        MemberDetails memberDetails = parserHelper.parseMemberDetails(
+                "add member -n Mary-Jane Watson -i 91234567 -e mary-jane@daily-bugle.com -x -1");
+        assertEquals("Mary-Jane Watson", memberDetails.getName());
+        assertEquals("mary-jane@daily-bugle.com", memberDetails.getEmail());
+        assertEquals("-1", memberDetails.getIndexNumber());
+        assertTrue(memberDetails.getErrorMessages().isEmpty());
+
+        ReminderDetails reminderDetails = parserHelper.parseReminderDetails(
+                "edit reminder 1 -n Follow-up -r Check e-mail -l Stand-up");
+        assertEquals("Follow-up", reminderDetails.getReminderName());
+        assertEquals("Check e-mail", reminderDetails.getReminderRemarks());
+        assertEquals("STAND-UP", reminderDetails.getReminderCategory());
+    }
+
+    @Test
+    public void testParseTaskDetails_invalidAndEmptyFlags_errorsKeptInEachResult() {
+        ParserHelper parserHelper = new ParserHelper();
+        TaskDetails invalidTaskDetails = parserHelper.parseTaskDetails("edit task 1 -n New name -q 3 -p");
+        TaskDetails validTaskDetails = parserHelper.parseTaskDetails("edit task 1 -s doing");
+        assertEquals("New name", invalidTaskDetails.getTaskName());
+        assertEquals(Arrays.asList("An invalid flag is used here: -q 3", "'-p' is an empty flag!"),
+                invalidTaskDetails.getErrorMessages());
+        assertEquals("doing", validTaskDetails.getTaskState());
+        assertTrue(validTaskDetails.getErrorMessages().isEmpty());
+        assertEquals(Arrays.asList("An invalid flag is used here: -r Requirement"),
+                parserHelper.parseTaskDetails("-r Requirement").getErrorMessages());
+    }
+
+    @Test
+    public void testParseTaskRequirementDetails_hyphensInsideRequirements_keptInRequirements() {
+        ParserHelper parserHelper = new ParserHelper();
+        TaskRequirementDetails requirementDetails =
+                parserHelper.parseTaskRequirementDetails("-rm 1 3 -r Sign-off -r Hand-over -q 2 -r");
+        assertEquals(Arrays.asList("1", "3"), requirementDetails.getIndexesToBeRemoved());
+        assertEquals(Arrays.asList("Sign-off", "Hand-over"), requirementDetails.getRequirementsToBeAdded());
+        assertEquals(Arrays.asList("Invalid flag is used in this entry: -q 2", "There is an empty flag '-r'"),
+                requirementDetails.getErrorMessages());
+    }
+
+    @Test
+    public void testParseReminderIndexes_eachResultKeepsItsOwnErrors() {
+        ParserHelper parserHelper = new ParserHelper();
+        ReminderIndex invalidIndex = parserHelper.parseDeleteReminder("delete reminder one");
+        ReminderIndex editIndex = parserHelper.parseEditReminder("edit reminder 2 -n Follow-up");
+        final ReminderIndex unmarkIndex = parserHelper.parseCheckReminder("unmark reminder 3");
+        assertEquals(0, invalidIndex.getIndexNumber());
+        assertEquals(Collections.singletonList("Please input the correct command! Example, delete reminder "
+                + "REMINDER_INDEX"), invalidIndex.getErrorMessages());
+        assertEquals(2, editIndex.getIndexNumber());
+        assertTrue(editIndex.getErrorMessages().isEmpty());
+        assertEquals(3, unmarkIndex.getIndexNumber());
+        assertFalse(unmarkIndex.isDone());
+        assertTrue(parserHelper.parseCheckReminder("mark reminder 3").isDone());
+    }
 }
@@ -5,8 +5,21 @@ import org.junit.jupiter.api.Test;
 import repositories.ProjectRepository;
 import util.date.DateTimeHelper;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static util.constant.ConstantHelper.COMMAND_EXPORT_INVALID_COMMAND;
+import static util.constant.ConstantHelper.COMMAND_IMPORT_INVALID_COMMAND;
+import static util.constant.ConstantHelper.COMMAND_VIEW_TASKS_INVALID_SLICE;
 
 class ProjectInputControllerManageTest {
     private ProjectInputController projectInputController;
@@ -160,7 +173,7 @@ class ProjectInputControllerManageTest {
             "|Tasks of Avengers Testing:                                            |",
             "+----------------------------------------------------------------------+",
             "| +-------------------------------+ +-------------------------------+  |",
-            "| |1. ATest                       | |2. BTest                       |  |",
+            "| |2. ATest                       | |3. BTest                       |  |",
             "| +-------------------------------+ +-------------------------------+  |",
             "| | - Priority: 1                 | | - Priority: 1                 |  |",
             "| | - Due: --                     | | - Due: --                     |  |",
@@ -168,7 +181,25 @@ class ProjectInputControllerManageTest {
             "| | - State: OPEN                 | | - State: OPEN                 |  |",
             "| +-------------------------------+ +-------------------------------+  |",
             "| +-------------------------------+                                    |",
-            "| |3. Kill Thanos                 |                                    |",
+            "| |1. Kill Thanos                 |                                    |",
+            "| +-------------------------------+                                    |",
+            "| | - Priority: 1                 |                                    |",
+            "| | - Due: --                     |                                    |",
+            "| | - Credit: 100                 |                                    |",
+            "| | - State: OPEN                 |                                    |",
+            "| +-------------------------------+                                    |",
+            "+----------------------------------------------------------------------+"
+        };
+        assertArrayEquals(expectedOutput, simulatedOutput);
+
+        simulatedUserInput = "view tasks -name -page 2 -size 2";
+        simulatedOutput = projectInputController.manageProject(simulatedUserInput);
+        expectedOutput = new String[] {
+            "+----------------------------------------------------------------------+",
+            "|Tasks of Avengers Testing:                                            |",
+            "+----------------------------------------------------------------------+",
+            "| +-------------------------------+                                    |",
+            "| |1. Kill Thanos                 |                                    |",
             "| +-------------------------------+                                    |",
             "| | - Priority: 1                 |                                    |",
             "| | - Due: --                     |                                    |",
@@ -178,6 +209,15 @@ class ProjectInputControllerManageTest {
             "+----------------------------------------------------------------------+"
         };
         assertArrayEquals(expectedOutput, simulatedOutput);
+
+        simulatedUserInput = "view tasks -name -top 1";
+        simulatedOutput = projectInputController.manageProject(simulatedUserInput);
+        assertEquals("| |2. ATest                       |                                    |", simulatedOutput[4]);
+        assertEquals(expectedOutput.length, simulatedOutput.length);
+
+        simulatedUserInput = "view tasks -name -top -1";
+        simulatedOutput = projectInputController.manageProject(simulatedUserInput);
+        assertArrayEquals(COMMAND_VIEW_TASKS_INVALID_SLICE, simulatedOutput);
     }
 
     @Test
@@ -206,4 +246,64 @@ class ProjectInputControllerManageTest {
         expectedOutput[1] = resetDate;
         assertArrayEquals(expectedOutput, simulatedOutput);
     }
+
+    //@@author Lucria
+    @Test
+    void manageProject_agendaWithFlags_executionSuccess() {
+        YearMonth nextMonth = dateTimeHelper.getCurrentYearMonth().plusMonths(1);
+        simulatedOutput = projectInputController.manageProject("agenda -next");
+        assertTrue(simulatedOutput[1].startsWith("|    Agenda for " + nextMonth.getMonthValue() + " "
+                + nextMonth.getYear() + " "));
+
+        String today = dateTimeHelper.getCurrentLocalDate().format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+        projectInputController.manageProject("add task -n Stop Thanos -p 1 -c 10 -d " + today);
+        simulatedOutput = projectInputController.manageProject("agenda -week");
+        assertTrue(Arrays.stream(simulatedOutput).anyMatch(line -> line.contains(" - Task: Stop Thanos (OPEN)")));
+
+        simulatedOutput = projectInputController.manageProject("agenda -month");
+        expectedOutput = new String[] {"Could not understand your command! Please use:",
+            "**\tagenda for this month, -next for next month, -prev for last month or -week for this week."};
+        assertArrayEquals(expectedOutput, simulatedOutput);
+    }
+
+    //@@author Lucria
+    @Test
+    void manageProject_importTasks_savedWithoutJournalingFile() throws IOException {
+        Path file = Files.createTempFile("archduke", ".csv");
+        Files.write(file, Arrays.asList("name,priority,credit", "Kill Thanos,1,100", "Snap,9,10"));
+        simulatedOutput = projectInputController.manageProject("import tasks " + file);
+        Files.delete(file);
+        assertTrue(simulatedOutput[0].startsWith("Imported 1 of 2 tasks from " + file));
+        assertEquals("1 rows were skipped:", simulatedOutput[1]);
+        projectInputController.manageProject("exit");
+        assertEquals(1, new ProjectRepository().getItem(1).getNumOfTasks());
+
+        assertArrayEquals(COMMAND_IMPORT_INVALID_COMMAND, projectInputController.manageProject("import tasks"));
+        simulatedOutput = projectInputController.manageProject("import tasks missing-file.csv");
+        expectedOutput = new String[] {"The file \"missing-file.csv\" could not be read!",
+            "Please ensure that the file exists and that its path is correct."};
+        assertArrayEquals(expectedOutput, simulatedOutput);
+    }
+
+    //@@author Lucria
+    @Test
+    void manageProject_exportTasks_fileWrittenWithoutChangingProject() throws IOException {
+        projectInputController.manageProject("add task -n Kill Thanos -p 1 -c 100");
+        Path file = Files.createTempFile("archduke", ".csv");
+        simulatedOutput = projectInputController.manageProject("export tasks " + file);
+        List<String> exportedLines = Files.readAllLines(file);
+        Files.delete(file);
+        assertTrue(simulatedOutput[0].startsWith("Exported 1 tasks to " + file));
+        assertEquals(Arrays.asList("name,priority,due,credit,state,requirements", "Kill Thanos,1,,100,open,"),
+            exportedLines);
+        assertFalse(projectInputController.hasLastCommandFailed());
+
+        assertArrayEquals(COMMAND_EXPORT_INVALID_COMMAND, projectInputController.manageProject("export tasks"));
+        simulatedOutput = projectInputController.manageProject("export tasks tasks.txt");
+        assertEquals("Only .csv, .jsonl and .json files can be exported to.", simulatedOutput[0]);
+        simulatedOutput = projectInputController.manageProject("export tasks missing-folder/tasks.csv");
+        expectedOutput = new String[] {"The file \"missing-folder/tasks.csv\" could not be written!",
+            "Please ensure that its folder exists and that its path is correct."};
+        assertArrayEquals(expectedOutput, simulatedOutput);
+    }
 }
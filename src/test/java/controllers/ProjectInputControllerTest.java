@@ -199,9 +199,9 @@ class ProjectInputControllerTest {
         for (String message : project.getCredits().toArray(new String[0])) {
             actualOutput += message;
         }
-        expectedOutput = "1. Dillen: 3.3 credits   Progress: ##########.......... (50%)"
+        expectedOutput = "1. Dillen: 5.0 credits   Progress: ##########.......... (50%)"
                 + "2. Jerry: 0.0 credits   Progress: .................... (0%)"
-                + "3. Sean: 3.3 credits   Progress: #################### (100%)";
+                + "3. Sean: 5.0 credits   Progress: #################### (100%)";
         assertEquals(expectedOutput, actualOutput);
 
         simulatedUserInput = "edit task 1 -c 45";
@@ -211,9 +211,9 @@ class ProjectInputControllerTest {
         for (String message : project.getCredits().toArray(new String[0])) {
             actualOutput += message;
         }
-        expectedOutput = "1. Dillen: 3.3 credits   Progress: ###................. (15%)"
+        expectedOutput = "1. Dillen: 5.0 credits   Progress: ###................. (15%)"
                 + "2. Jerry: 0.0 credits   Progress: .................... (0%)"
-                + "3. Sean: 3.3 credits   Progress: #################### (100%)";
+                + "3. Sean: 5.0 credits   Progress: #################### (100%)";
         assertEquals(expectedOutput, actualOutput);
 
         simulatedUserInput = "edit task 1 -s done";
@@ -223,9 +223,9 @@ class ProjectInputControllerTest {
         for (String message : project.getCredits().toArray(new String[0])) {
             actualOutput += message;
         }
-        expectedOutput = "1. Dillen: 18.3 credits   Progress: #################### (100%)"
-                + "2. Jerry: 15.0 credits   Progress: #################### (100%)"
-                + "3. Sean: 3.3 credits   Progress: #################### (100%)";
+        expectedOutput = "1. Dillen: 27.5 credits   Progress: #################### (100%)"
+                + "2. Jerry: 22.5 credits   Progress: #################### (100%)"
+                + "3. Sean: 5.0 credits   Progress: #################### (100%)";
         assertEquals(expectedOutput, actualOutput);
 
     }
@@ -378,13 +378,13 @@ class ProjectInputControllerTest {
                     project.getTasksAndAssignedMembers(), project).toArray(new String[0])) {
                 actualOutput += message;
             }
-            expectedOutput = "1. task3 | Priority: 1 | Due: 01 Jan 2020"
+            expectedOutput = "3. task3 | Priority: 1 | Due: 01 Jan 2020"
                     + dateTimeHelper.getDifferenceDays(dueDate2)
                     + " | Credit: 50 | State: DONE"
-                    + "2. task1 | Priority: 5 | Due: 12 Dec 2021"
+                    + "1. task1 | Priority: 5 | Due: 12 Dec 2021"
                     + dateTimeHelper.getDifferenceDays(dueDate1)
                     + " | Credit: 10 | State: TODO"
-                    + "3. task2 | Priority: 5 | Due: -- | Credit: 100 | State: DOING";
+                    + "2. task2 | Priority: 5 | Due: -- | Credit: 100 | State: DOING";
             assertEquals(expectedOutput, actualOutput);
 
             actualOutput = "";
@@ -392,13 +392,13 @@ class ProjectInputControllerTest {
                     project.getTasksAndAssignedMembers(), "-priority", project).toArray(new String[0])) {
                 actualOutput += message;
             }
-            expectedOutput = "1. task3 | Priority: 1 | Due: 01 Jan 2020"
+            expectedOutput = "3. task3 | Priority: 1 | Due: 01 Jan 2020"
                     + dateTimeHelper.getDifferenceDays(dueDate2)
                     + " | Credit: 50 | State: DONE"
-                    + "2. task1 | Priority: 5 | Due: 12 Dec 2021"
+                    + "1. task1 | Priority: 5 | Due: 12 Dec 2021"
                     + dateTimeHelper.getDifferenceDays(dueDate1)
                     + " | Credit: 10 | State: TODO"
-                    + "3. task2 | Priority: 5 | Due: -- | Credit: 100 | State: DOING";
+                    + "2. task2 | Priority: 5 | Due: -- | Credit: 100 | State: DOING";
             assertEquals(expectedOutput, actualOutput);
 
             actualOutput = "";
@@ -420,10 +420,10 @@ class ProjectInputControllerTest {
                     project.getTasksAndAssignedMembers(), "-date", project).toArray(new String[0])) {
                 actualOutput += message;
             }
-            expectedOutput = "1. task3 | Priority: 1 | Due: 01 Jan 2020"
+            expectedOutput = "3. task3 | Priority: 1 | Due: 01 Jan 2020"
                     + dateTimeHelper.getDifferenceDays(dueDate2)
                     + " | Credit: 50 | State: DONE"
-                    + "2. task1 | Priority: 5 | Due: 12 Dec 2021"
+                    + "1. task1 | Priority: 5 | Due: 12 Dec 2021"
                     + dateTimeHelper.getDifferenceDays(dueDate1)
                     + " | Credit: 10 | State: TODO";
             assertEquals(expectedOutput, actualOutput);
@@ -433,11 +433,11 @@ class ProjectInputControllerTest {
                     project.getTasksAndAssignedMembers(), "-credits", project).toArray(new String[0])) {
                 actualOutput += message;
             }
-            expectedOutput = "1. task2 | Priority: 5 | Due: -- | Credit: 100 | State: DOING"
-                    + "2. task3 | Priority: 1 | Due: 01 Jan 2020"
+            expectedOutput = "2. task2 | Priority: 5 | Due: -- | Credit: 100 | State: DOING"
+                    + "3. task3 | Priority: 1 | Due: 01 Jan 2020"
                     + dateTimeHelper.getDifferenceDays(dueDate2)
                     + " | Credit: 50 | State: DONE"
-                    + "3. task1 | Priority: 5 | Due: 12 Dec 2021"
+                    + "1. task1 | Priority: 5 | Due: 12 Dec 2021"
                     + dateTimeHelper.getDifferenceDays(dueDate1)
                     + " | Credit: 10 | State: TODO";
             assertEquals(expectedOutput, actualOutput);
@@ -474,6 +474,20 @@ class ProjectInputControllerTest {
         assertEquals(expectedOutput,actualOutput);
     }
 
+    //@@author Lucria
+    @Test
+    void projectEditTaskRequirements_hyphenatedRequirement_sameRequirementAsAddTask() {
+        Project project = new Project("Infinity_Gauntlet");
+        projectInputController.projectAddTask(project, "add task -n Documentation -p 2 -c 40 -r Sign-off");
+        String[] outputMessages = projectInputController.projectEditTaskRequirements(project,
+                "edit task requirements 1 -r Hand-over");
+        assertArrayEquals(new String[] {"Success!",
+            "'Hand-over' has been successfully added as a new requirement of this task!"}, outputMessages);
+        assertArrayEquals(new String[] {"Requirements for the task 'Documentation':", "1. Sign-off", "2. Hand-over"},
+                project.getTask(1).getTaskRequirements().toArray(new String[0]));
+    }
+
+    //@@author
     @Test
     void testProjectEditTaskRequirements() {
         try {
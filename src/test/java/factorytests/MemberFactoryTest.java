@@ -85,7 +85,7 @@ public class MemberFactoryTest {
     void memberCreation_missingFlags_exceptionCaught() {
         simulatedFactoryInput = "- -x 0";
         IMember simulatedMember = memberFactory.create(simulatedFactoryInput);
-        NullMember expectedMember =  new NullMember("Please ensure your parameters do not have - inside");
+        NullMember expectedMember =  new NullMember("An invalid flag is used here: -");
         assertEquals(expectedMember.getDetails(), simulatedMember.getDetails());
         assertEquals(expectedMember.getIndexNumber(), simulatedMember.getIndexNumber());
         assertEquals(expectedMember.getName(), simulatedMember.getName());
@@ -35,6 +35,9 @@ class CommandHelperTest {
             " - manage PROJECT_INDEX",
             "Selects the specified project to manage.",
             "",
+            " - run SCRIPT_FILE",
+            "Runs the commands in the specified file, one command per line.",
+            "",
             " - bye",
             "Saves your data and exits ArchDuke.",
             "",
@@ -63,8 +66,9 @@ class CommandHelperTest {
             " - delete member INDEX",
             "Deletes specified member from project.",
             "",
-            " - view tasks [-MODIFIER]",
+            " - view tasks [-MODIFIER] [-top N | -page P [-size S]]",
             "Displays existing tasks in sorted order specified by modifier. Default sorting is by priority.",
+            "Use -top to show only the first N tasks, or -page to show page P of S tasks (10 by default).",
             "",
             " - add task -t TASK_NAME -p TASK_PRIORITY -c TASK_CREDIT [-d TASK_DUEDATE-(dd/mm/yyyy)] "
                     + "[-s STATE] [-r TASK_REQUIREMENT1] [-r TASK_REQUIREMENT2]",
@@ -109,6 +113,9 @@ class CommandHelperTest {
             " - view credits",
             "Displays credits assigned to each member and the percentage of it that is done.",
             "",
+            " - agenda [-next | -prev | -week]",
+            "Displays the days with tasks due this month, next or last month, or what is due this week.",
+            "",
             " - view",
             "Displays overview of current project.",
             "",
@@ -118,6 +125,12 @@ class CommandHelperTest {
             " - rename PROJECT_NAME",
             "Renames the current project being managed.",
             "",
+            " - import tasks|members|reminders FILE",
+            "Imports the tasks, members or reminders of a .csv or .jsonl file.",
+            "",
+            " - export tasks|members|assignments|reminders|calendar FILE",
+            "Exports the project to a .csv or .jsonl file, or its due dates to a .ics file.",
+            "",
             " - bye",
             "Saves your data and exits ArchDuke.",
             "",
@@ -6,6 +6,10 @@ import models.member.Member;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ListOfMembersInProjectTest {
     @Test
@@ -52,4 +56,44 @@ class ListOfMembersInProjectTest {
         listOfMembersInProject.removeMember((Member)toBeRemoved);
         assertEquals(0, listOfMembersInProject.getNumOfMembers());
     }
-}
\ No newline at end of file
+
+    //@@author Lucria
+    @Test
+    void testRemoveMember_memberInMiddleRemoved_laterMembersRenumbered() {
+        MemberList listOfMembersInProject = new MemberList();
+        Member tom = new Member("Tom","91198766", "tom@gmail.com",1, "member");
+        Member john = new Member("John","91177777", "john@gmail.com",2, "member");
+        Member matthew = new Member("Matthew","91188888", "matthew@gmail.com",3, "member");
+        listOfMembersInProject.addMember(tom);
+        listOfMembersInProject.addMember(john);
+        listOfMembersInProject.addMember(matthew);
+        listOfMembersInProject.removeMember(john);
+        assertEquals(1, tom.getIndexNumber());
+        assertEquals(2, matthew.getIndexNumber());
+        assertEquals(matthew, listOfMembersInProject.getMember(2));
+        assertEquals("2. Matthew (Phone: 91188888 | Email: matthew@gmail.com | Role: member)",
+                listOfMembersInProject.getMember(2).getDetails());
+        assertNull(listOfMembersInProject.getMemberFromID(john.getMemberID()));
+        assertEquals(matthew, listOfMembersInProject.getMemberFromID(matthew.getMemberID()));
+    }
+
+    @Test
+    void testContains_memberRenamed_nameIndexFollowsRename() {
+        MemberList listOfMembersInProject = new MemberList();
+        listOfMembersInProject.addMember(new Member("Tom","91198766", "tom@gmail.com",1, "member"));
+        listOfMembersInProject.editMember(1,"-n John");
+        assertTrue(listOfMembersInProject.contains(new Member("John","--", "--",0, "member")));
+        assertFalse(listOfMembersInProject.contains(new Member("Tom","--", "--",0, "member")));
+        assertEquals(1, listOfMembersInProject.getMembersByName("John").size());
+        assertTrue(listOfMembersInProject.getMembersByName("Tom").isEmpty());
+    }
+
+    @Test
+    void testEquals_membersWithSameName_equalOnlyWhenSameMember() {
+        Member tom = new Member("Tom","91198766", "tom@gmail.com",1, "member");
+        Member anotherTom = new Member("Tom","91198766", "tom@gmail.com",1, "member");
+        assertNotEquals(tom, anotherTom);
+        assertEquals(tom, tom);
+        assertEquals(tom.hashCode(), tom.hashCode());
+    }
+}
@@ -1,14 +1,17 @@
 package modeltests.reminder;
 
 import models.reminder.Reminder;
+import models.reminder.ReminderList;
 import org.junit.jupiter.api.Test;
 import util.date.DateTimeHelper;
 
 
 import java.text.ParseException;
+import java.time.LocalDate;
 import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ReminderTest {
     private DateTimeHelper dateTimeHelper = new DateTimeHelper();
@@ -35,4 +38,28 @@ public class ReminderTest {
             System.out.println("Parsing error");
         }
     }
+
+    //@@author Lucria
+    @Test
+    void getRemindersDueBetween_reminderDateChangedAndRemoved_rangeFollowsChanges() throws ParseException {
+        ReminderList reminderList = new ReminderList();
+        reminderList.addReminderList(new Reminder("Buy snacks", "", dateTimeHelper.formatDate("10/10/2019"),
+                "DEFAULT"));
+        reminderList.addReminderList(new Reminder("Book room", "", dateTimeHelper.formatDate("12/10/2019"),
+                "DEFAULT"));
+        reminderList.addReminderList(new Reminder("Call client", "", null, "DEFAULT"));
+        LocalDate firstDay = LocalDate.of(2019, 10, 11);
+        LocalDate lastDay = LocalDate.of(2019, 10, 17);
+        assertEquals(1, reminderList.getRemindersDueBetween(firstDay, lastDay).size());
+
+        reminderList.getReminder(1).setReminderDate(dateTimeHelper.formatDate("17/10/2019"));
+        reminderList.getReminder(3).setReminderDate(dateTimeHelper.formatDate("11/10/2019"));
+        assertEquals("Call client", reminderList.getRemindersDueBetween(firstDay, lastDay).get(0).getReminderName());
+        assertEquals(3, reminderList.getRemindersDueBetween(firstDay, lastDay).size());
+
+        reminderList.removeReminder(2);
+        reminderList.removeReminder(1);
+        assertEquals(1, reminderList.getRemindersDueBetween(firstDay, lastDay).size());
+        assertTrue(reminderList.getRemindersDueBetween(lastDay, firstDay).isEmpty());
+    }
 }
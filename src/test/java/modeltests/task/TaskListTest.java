@@ -5,16 +5,27 @@ import models.member.Member;
 import models.project.Project;
 import models.task.Task;
 import models.task.TaskList;
+import models.task.TaskOrder;
 import models.task.TaskState;
 import org.junit.jupiter.api.Test;
 import util.date.DateTimeHelper;
 
 import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TaskListTest {
     private Project project;
@@ -119,27 +130,27 @@ class TaskListTest {
                     project.getTasksAndAssignedMembers(),"-priority", project).toString());
 
             String testNameTaskListString = "["
-                    + "1. taskEight | Priority: 3 | Due: 21 Jan 2020" + dateTimeHelper.getDifferenceDays(dueDate3)
+                    + "3. taskEight | Priority: 3 | Due: 21 Jan 2020" + dateTimeHelper.getDifferenceDays(dueDate3)
                     + " | Credit: 80 | State: OPEN, "
-                    + "2. taskFive | Priority: 5 | Due: -- | Credit: 60 | State: OPEN, "
-                    + "3. taskOne | Priority: 1 | Due: 31 Oct 2019" + dateTimeHelper.getDifferenceDays(dueDate1)
+                    + "5. taskFive | Priority: 5 | Due: -- | Credit: 60 | State: OPEN, "
+                    + "1. taskOne | Priority: 1 | Due: 31 Oct 2019" + dateTimeHelper.getDifferenceDays(dueDate1)
                     + " | Credit: 100 | State: OPEN, "
                     + "4. taskSix | Priority: 4 | Due: 21 Dec 1920" + dateTimeHelper.getDifferenceDays(dueDate4)
                     + " | Credit: 70 | State: DONE, "
-                    + "5. taskTwo | Priority: 2 | Due: 21 Sep 2019" + dateTimeHelper.getDifferenceDays(dueDate2)
+                    + "2. taskTwo | Priority: 2 | Due: 21 Sep 2019" + dateTimeHelper.getDifferenceDays(dueDate2)
                     + " | Credit: 90 | State: DONE"
                     + "]";
             assertEquals(testNameTaskListString,taskList.getAllSortedTaskDetails(
                     project.getTasksAndAssignedMembers(),"-name", project).toString());
 
             String testDueDateTaskListString = "["
-                    + "1. taskSix | Priority: 4 | Due: 21 Dec 1920" + dateTimeHelper.getDifferenceDays(dueDate4)
+                    + "4. taskSix | Priority: 4 | Due: 21 Dec 1920" + dateTimeHelper.getDifferenceDays(dueDate4)
                     + " | Credit: 70 | State: DONE, "
                     + "2. taskTwo | Priority: 2 | Due: 21 Sep 2019" + dateTimeHelper.getDifferenceDays(dueDate2)
                     + " | Credit: 90 | State: DONE, "
-                    + "3. taskOne | Priority: 1 | Due: 31 Oct 2019" + dateTimeHelper.getDifferenceDays(dueDate1)
+                    + "1. taskOne | Priority: 1 | Due: 31 Oct 2019" + dateTimeHelper.getDifferenceDays(dueDate1)
                     + " | Credit: 100 | State: OPEN, "
-                    + "4. taskEight | Priority: 3 | Due: 21 Jan 2020" + dateTimeHelper.getDifferenceDays(dueDate3)
+                    + "3. taskEight | Priority: 3 | Due: 21 Jan 2020" + dateTimeHelper.getDifferenceDays(dueDate3)
                     + " | Credit: 80 | State: OPEN"
                     + "]";
             assertEquals(testDueDateTaskListString,taskList.getAllSortedTaskDetails(
@@ -194,4 +205,225 @@ class TaskListTest {
             e.printStackTrace();
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetAllSortedTaskDetails_tasksEditedAndRemoved_viewsFollowChanges() throws ParseException {
+        TaskList taskList = new TaskList();
+        Date dueDate1 = dateTimeHelper.formatDate("31/10/2019");
+        Date dueDate2 = dateTimeHelper.formatDate("21/09/2019");
+        taskList.addTask(new Task("taskOne", 1, dueDate1, 100, TaskState.OPEN, new ArrayList<>()));
+        taskList.addTask(new Task("taskTwo", 2, null, 90, TaskState.DONE, new ArrayList<>()));
+        taskList.addTask(new Task("taskThree", 3, null, 80, TaskState.OPEN, new ArrayList<>()));
+
+        taskList.editTask(3, "-p 1 -d 21/09/2019 -s done");
+        taskList.editTask(2, "-c 5 -s todo");
+        String testPriorityTaskListString = "["
+                + "1. taskOne | Priority: 1 | Due: 31 Oct 2019" + dateTimeHelper.getDifferenceDays(dueDate1)
+                + " | Credit: 100 | State: OPEN, "
+                + "3. taskThree | Priority: 1 | Due: 21 Sep 2019" + dateTimeHelper.getDifferenceDays(dueDate2)
+                + " | Credit: 80 | State: DONE, "
+                + "2. taskTwo | Priority: 2 | Due: -- | Credit: 5 | State: TODO"
+                + "]";
+        assertEquals(testPriorityTaskListString, taskList.getAllSortedTaskDetails(
+                project.getTasksAndAssignedMembers(), "-priority", project).toString());
+        String testDueDateTaskListString = "["
+                + "3. taskThree | Priority: 1 | Due: 21 Sep 2019" + dateTimeHelper.getDifferenceDays(dueDate2)
+                + " | Credit: 80 | State: DONE, "
+                + "1. taskOne | Priority: 1 | Due: 31 Oct 2019" + dateTimeHelper.getDifferenceDays(dueDate1)
+                + " | Credit: 100 | State: OPEN"
+                + "]";
+        assertEquals(testDueDateTaskListString, taskList.getAllSortedTaskDetails(
+                project.getTasksAndAssignedMembers(), "-date", project).toString());
+
+        taskList.removeTask(2);
+        assertEquals("[]", taskList.getAllSortedTaskDetails(
+                project.getTasksAndAssignedMembers(), "-state todo", project).toString());
+        assertEquals("[2. taskThree | Priority: 1 | Due: 21 Sep 2019" + dateTimeHelper.getDifferenceDays(dueDate2)
+                + " | Credit: 80 | State: DONE]",
+                taskList.getAllSortedTaskDetails(project.getTasksAndAssignedMembers(), "-state done", project)
+                        .toString());
+    }
+
+    @Test
+    void testGetClosestDeadlineTask_closestTaskDoneOrMoved_nextPendingTaskReturned() throws ParseException {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task("taskOne", 1, dateTimeHelper.formatDate("31/10/2019"), 100, TaskState.OPEN,
+                new ArrayList<>()));
+        taskList.addTask(new Task("taskTwo", 2, dateTimeHelper.formatDate("21/09/2019"), 90, TaskState.TODO,
+                new ArrayList<>()));
+        taskList.addTask(new Task("taskThree", 3, null, 80, TaskState.OPEN, new ArrayList<>()));
+        assertEquals("taskTwo", taskList.getClosestDeadlineTask()[0]);
+
+        taskList.getTask(2).setTaskState("done");
+        assertEquals("taskOne", taskList.getClosestDeadlineTask()[0]);
+
+        taskList.getTask(3).setDueDate(dateTimeHelper.formatDate("01/01/2019"));
+        assertEquals("taskThree", taskList.getClosestDeadlineTask()[0]);
+
+        taskList.removeTask(3);
+        taskList.removeTask(1);
+        assertEquals("No deadlines left -", taskList.getClosestDeadlineTask()[1]);
+    }
+
+    @Test
+    void testGetOverallProgress_tasksChangedAndRemoved_progressFollowsChanges() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task("taskOne", 1, null, 50, TaskState.OPEN, new ArrayList<>()));
+        taskList.addTask(new Task("taskTwo", 2, null, 30, TaskState.DOING, new ArrayList<>()));
+        taskList.addTask(new Task("taskThree", 3, null, 20, TaskState.DONE, new ArrayList<>()));
+        assertArrayEquals(new String[] {"Completed: 20%", "In Progress: 30%", "Not Done: 50%"},
+                taskList.getOverallProgress());
+
+        taskList.getTask(1).setTaskState("done");
+        taskList.getTask(2).setTaskCredit(80);
+        assertArrayEquals(new String[] {"Completed: 46%", "In Progress: 53%", "Not Done: 0%"},
+                taskList.getOverallProgress());
+
+        taskList.removeTask(2);
+        assertArrayEquals(new String[] {"Completed: 100%", "In Progress: 0%", "Not Done: 0%"},
+                taskList.getOverallProgress());
+        assertTrue(taskList.recountOverallProgress());
+    }
+
+    @Test
+    void testGetOverallProgress_noCredits_zeroPercent() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task("taskOne", 1, null, 0, TaskState.DONE, new ArrayList<>()));
+        assertArrayEquals(new String[] {"Completed: 0%", "In Progress: 0%", "Not Done: 0%"},
+                taskList.getOverallProgress());
+    }
+
+    @Test
+    void testGetTasksWithinMonth_tasksDueInOtherYears_onlyTasksOfThatYearCounted() throws ParseException {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task("taskOne", 1, dateTimeHelper.formatDate("05/03/2019"), 10, TaskState.OPEN,
+                new ArrayList<>()));
+        taskList.addTask(new Task("taskTwo", 1, dateTimeHelper.formatDate("05/03/2020"), 10, TaskState.OPEN,
+                new ArrayList<>()));
+        taskList.addTask(new Task("taskThree", 1, dateTimeHelper.formatDate("29/02/2020"), 10, TaskState.DONE,
+                new ArrayList<>()));
+        taskList.addTask(new Task("taskFour", 1, dateTimeHelper.formatDate("20/03/2020"), 10, TaskState.OPEN,
+                new ArrayList<>()));
+        HashMap<Integer, Integer> expectedTasksPerDay = new HashMap<>();
+        expectedTasksPerDay.put(5, 1);
+        expectedTasksPerDay.put(20, 1);
+        assertEquals(expectedTasksPerDay, taskList.getTasksWithinMonth(YearMonth.of(2020, 3)));
+
+        taskList.getTask(1).setDueDate(dateTimeHelper.formatDate("20/03/2020"));
+        taskList.removeTask(2);
+        expectedTasksPerDay.remove(5);
+        expectedTasksPerDay.put(20, 2);
+        assertEquals(expectedTasksPerDay, taskList.getTasksWithinMonth(YearMonth.of(2020, 3)));
+        assertTrue(taskList.getTasksWithinMonth(YearMonth.of(2019, 3)).isEmpty());
+    }
+
+    @Test
+    void testGetTasksDueBetween_rangeAcrossMonths_tasksInRangeByDueDate() throws ParseException {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task("taskOne", 1, dateTimeHelper.formatDate("02/03/2020"), 10, TaskState.OPEN,
+                new ArrayList<>()));
+        taskList.addTask(new Task("taskTwo", 1, dateTimeHelper.formatDate("29/02/2020"), 10, TaskState.OPEN,
+                new ArrayList<>()));
+        taskList.addTask(new Task("taskThree", 1, dateTimeHelper.formatDate("03/03/2020"), 10, TaskState.OPEN,
+                new ArrayList<>()));
+        taskList.addTask(new Task("taskFour", 1, null, 10, TaskState.OPEN, new ArrayList<>()));
+        ArrayList<Task> tasksDue = taskList.getTasksDueBetween(LocalDate.of(2020, 2, 29), LocalDate.of(2020, 3, 2));
+        assertEquals(2, tasksDue.size());
+        assertEquals("taskTwo", tasksDue.get(0).getTaskName());
+        assertEquals("taskOne", tasksDue.get(1).getTaskName());
+    }
+
+    @Test
+    void testGetSortedTasks_viewedInOtherOrders_taskListOrderUnchanged() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Task("taskCharlie", 3, null, 10, TaskState.OPEN, new ArrayList<>()));
+        taskList.addTask(new Task("taskAlpha", 2, null, 30, TaskState.OPEN, new ArrayList<>()));
+        taskList.addTask(new Task("taskBravo", 1, null, 20, TaskState.OPEN, new ArrayList<>()));
+        for (String sortCriteria : new String[] {"-name", "-priority", "-credits", "-date", "-state open"}) {
+            taskList.getAllSortedTaskDetails(project.getTasksAndAssignedMembers(), sortCriteria, project);
+        }
+        assertEquals("taskCharlie", taskList.getTask(1).getTaskName());
+        assertEquals("taskAlpha", taskList.getTask(2).getTaskName());
+        assertEquals("taskBravo", taskList.getTask(3).getTaskName());
+
+        List<Task> tasksByPriority = taskList.getSortedTasks(TaskOrder.PRIORITY);
+        assertEquals("taskBravo", tasksByPriority.get(0).getTaskName());
+        assertSame(tasksByPriority, taskList.getSortedTasks(TaskOrder.PRIORITY));
+        assertSame(taskList.getSortedTaskDetails(TaskOrder.PRIORITY),
+                taskList.getSortedTaskDetails(TaskOrder.PRIORITY));
+        assertThrows(UnsupportedOperationException.class, () -> tasksByPriority.remove(0));
+
+        taskList.getTask(1).setTaskPriority(1);
+        assertNotSame(tasksByPriority, taskList.getSortedTasks(TaskOrder.PRIORITY));
+        assertEquals("taskCharlie", taskList.getSortedTasks(TaskOrder.PRIORITY).get(0).getTaskName());
+        assertEquals("1. taskCharlie | Priority: 1 | Due: -- | Credit: 10 | State: OPEN",
+                taskList.getSortedTaskDetails(TaskOrder.PRIORITY).get(0));
+    }
+
+    @Test
+    void testGetAllSortedTaskDetails_topAndPages_sameAsPartOfFullView() {
+        TaskList taskList = new TaskList();
+        for (int taskIndex = 1; taskIndex <= 25; taskIndex++) {
+            TaskState taskState = taskIndex % 2 == 0 ? TaskState.DONE : TaskState.OPEN;
+            taskList.addTask(new Task("task" + (char) ('a' + (taskIndex * 7) % 26), taskIndex % 5, null,
+                    taskIndex * 3 % 11, taskState, new ArrayList<>()));
+        }
+        HashMap<String, ArrayList<String>> tasksAndAssignedMembers = project.getTasksAndAssignedMembers();
+        for (String sortCriteria : new String[] {"-name", "-priority", "-credits", "-state done"}) {
+            ArrayList<String> allTaskDetails =
+                    taskList.getAllSortedTaskDetails(tasksAndAssignedMembers, sortCriteria, project);
+            assertEquals(allTaskDetails.subList(0, 3),
+                    taskList.getAllSortedTaskDetails(tasksAndAssignedMembers, sortCriteria + " -top 3", project));
+            assertEquals(allTaskDetails.subList(10, 12), taskList.getAllSortedTaskDetails(
+                    tasksAndAssignedMembers, sortCriteria + " -page 6 -size 2", project));
+            assertEquals(allTaskDetails.subList(10, Math.min(20, allTaskDetails.size())),
+                    taskList.getAllSortedTaskDetails(tasksAndAssignedMembers, sortCriteria + " -page 2", project));
+            assertEquals(0, taskList.getAllSortedTaskDetails(
+                    tasksAndAssignedMembers, sortCriteria + " -page 30", project).size());
+        }
+        assertEquals(taskList.getAllSortedTaskDetails(tasksAndAssignedMembers, "-priority", project).subList(0, 4),
+                taskList.getAllSortedTaskDetails(tasksAndAssignedMembers, "-top 4", project));
+        assertThrows(NumberFormatException.class, () ->
+                taskList.getAllSortedTaskDetails(tasksAndAssignedMembers, "-name -top 0", project));
+        assertThrows(NumberFormatException.class, () ->
+                taskList.getAllSortedTaskDetails(tasksAndAssignedMembers, "-name -top 3 -page 2", project));
+        assertThrows(NumberFormatException.class, () ->
+                taskList.getAllSortedTaskDetails(tasksAndAssignedMembers, "-name -page", project));
+    }
+
+    @Test
+    void testGetSortedTasks_manyTasksEdited_sameOrderAsSortingTaskList() {
+        TaskList taskList = new TaskList();
+        long firstDueDate = System.currentTimeMillis();
+        for (int taskIndex = 1; taskIndex <= 300; taskIndex++) {
+            Date dueDate = taskIndex % 4 == 0 ? null : new Date(firstDueDate + (taskIndex * 7 % 30) * 86400000L);
+            taskList.addTask(new Task("task" + taskIndex, taskIndex % 5 + 1, dueDate, taskIndex % 100,
+                    TaskState.values()[taskIndex % TaskState.values().length], new ArrayList<>()));
+        }
+        for (TaskOrder taskOrder : TaskOrder.values()) {
+            taskList.getSortedTasks(taskOrder);
+        }
+        for (int taskIndex = 1; taskIndex <= 100; taskIndex++) {
+            Task task = taskList.getTask(taskIndex);
+            task.setTaskPriority(task.getTaskPriority() % 5 + 1);
+            task.setTaskCredit((task.getTaskCredit() + 37) % 100);
+            task.setDueDate(new Date(firstDueDate + (taskIndex * 11 % 30) * 86400000L));
+            task.setTaskState(taskIndex % 3 == 0 ? "done" : "open");
+        }
+        taskList.removeTask(150);
+        taskList.removeTask(1);
+
+        ArrayList<Task> tasksByPriority = new ArrayList<>(taskList.getTaskList());
+        tasksByPriority.sort(Comparator.comparingInt(Task::getTaskPriority));
+        assertEquals(tasksByPriority, new ArrayList<>(taskList.getSortedTasks(TaskOrder.PRIORITY)));
+        ArrayList<Task> tasksByCredit = new ArrayList<>(taskList.getTaskList());
+        tasksByCredit.sort(Comparator.comparingInt(Task::getTaskCredit).reversed());
+        assertEquals(tasksByCredit, new ArrayList<>(taskList.getSortedTasks(TaskOrder.CREDIT)));
+        ArrayList<Task> tasksByDueDate = new ArrayList<>(taskList.getTaskList());
+        tasksByDueDate.removeIf(task -> task.getDueDate() == null);
+        tasksByDueDate.sort(Comparator.comparing(Task::getDueDate));
+        assertEquals(tasksByDueDate, new ArrayList<>(taskList.getSortedTasks(TaskOrder.DUE_DATE)));
+        tasksByDueDate.removeIf(task -> task.getTaskState() == TaskState.DONE);
+        assertSame(tasksByDueDate.get(0), taskList.getNextDeadlineTask());
+    }
+}
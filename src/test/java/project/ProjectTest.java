@@ -3,12 +3,16 @@ package project;
 import models.member.IMember;
 import models.member.Member;
 import models.project.Project;
+import models.project.ProjectChange;
+import models.reminder.Reminder;
 import models.task.ITask;
 import models.task.Task;
 import models.task.TaskState;
 import org.junit.jupiter.api.Test;
+import util.json.JsonConverter;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -111,13 +115,48 @@ public class ProjectTest {
         testProject.createAssignment(testTask, testMember2);
         ArrayList<String> actualOutput = testProject.getCredits();
         String[] expectedOutput = new String[] {
-            "1. Test Member: 10.0 credits",
-            "   Progress: #############....... (65%)",
+            "1. Test Member: 20.0 credits",
+            "   Progress: ################.... (80%)",
             "2. Test Member 2: 0.0 credits",
             "   Progress: .................... (0%)"};
         assertArrayEquals(expectedOutput, actualOutput.toArray(new String[0]));
     }
 
+    @Test
+    void getCreditsTest_assigneesAndTaskChanged_creditsSplitBetweenAssignees() {
+        Project testProject = new Project("Test Project");
+        Task testTask = new Task("Test Task", 1, null, 30, TaskState.OPEN, null);
+        testProject.addTask(testTask);
+        Member testMember = new Member("Test Member", "--", "--", 1, "member");
+        Member testMember2 = new Member("Test Member 2", "--", "--", 2, "member");
+        Member testMember3 = new Member("Test Member 3", "--", "--", 3, "member");
+        testProject.addMember(testMember);
+        testProject.addMember(testMember2);
+        testProject.addMember(testMember3);
+        testProject.createAssignment(testTask, testMember);
+        testProject.createAssignment(testTask, testMember2);
+        testProject.createAssignment(testTask, testMember3);
+        testProject.createAssignment(testTask, testMember3);
+        testTask.setTaskState("done");
+        assertEquals("1. Test Member: 10.0 credits", testProject.getCredits().get(0));
+
+        testProject.removeAssignment(testMember3, testTask);
+        assertEquals("1. Test Member: 15.0 credits", testProject.getCredits().get(0));
+
+        testProject.removeMember(testMember2);
+        testTask.setTaskCredit(12);
+        String[] expectedOutput = new String[] {
+            "1. Test Member: 12.0 credits",
+            "   Progress: #################### (100%)",
+            "2. Test Member 3: 0.0 credits",
+            "   Progress: .................... (0%)"};
+        assertArrayEquals(expectedOutput, testProject.getCredits().toArray(new String[0]));
+
+        testProject.removeTask(1);
+        assertEquals("1. Test Member: 0.0 credits", testProject.getCredits().get(0));
+        assertEquals("   Progress: .................... (0%)", testProject.getCredits().get(1));
+    }
+
     @Test
     void getMemberFromIDTest_memberExist() {
         Project testProject = new Project("Test Project");
@@ -157,4 +196,224 @@ public class ProjectTest {
         ITask outputTask = testProject.getTaskFromID(taskID);
         assertNotEquals(testTask, outputTask);
     }
+
+    @Test
+    void getTaskFromIDTest_taskRemoved_taskNotFound() {
+        Project testProject = new Project("Test Project");
+        Task testTask = new Task("Test Task", 1, null, 10, TaskState.OPEN, null);
+        testProject.addTask(testTask);
+        testProject.removeTask(1);
+        assertNotEquals(testTask, testProject.getTaskFromID(testTask.getTaskID()));
+    }
+
+    @Test
+    void getMemberFromIDTest_memberRemoved_memberNotFound() {
+        Project testProject = new Project("Test Project");
+        Member testMember = new Member("Test Member", "--", "--", 1, "member");
+        testProject.addMember(testMember);
+        testProject.removeMember(testMember);
+        assertNotEquals(testMember, testProject.getMemberFromID(testMember.getMemberID()));
+    }
+
+    @Test
+    void removeTaskTest_assignedTask_removedFromMemberAssignments() {
+        Project testProject = new Project("Test Project");
+        Member testMember = new Member("Test Member", "--", "--", 1, "member");
+        Task firstTask = new Task("First Task", 1, null, 10, TaskState.OPEN, new ArrayList<>());
+        Task secondTask = new Task("Second Task", 1, null, 10, TaskState.OPEN, new ArrayList<>());
+        testProject.addMember(testMember);
+        testProject.addTask(firstTask);
+        testProject.addTask(secondTask);
+        testProject.createAssignment(firstTask, testMember);
+        testProject.createAssignment(secondTask, testMember);
+        testProject.removeTask(1);
+        ArrayList<String> expectedTaskIDs = new ArrayList<>();
+        expectedTaskIDs.add(secondTask.getTaskID());
+        assertEquals(expectedTaskIDs, testProject.getAssignedTaskIDs(testMember.getMemberID()));
+        assertEquals(expectedTaskIDs, testProject.getMembersIndividualTaskList().get(testMember.getMemberID()));
+        assertFalse(testProject.getTasksAndAssignedMembers().containsKey(firstTask.getTaskID()));
+    }
+
+    @Test
+    void removeMemberTest_memberAddedAfterRemoval_noAssignmentsInherited() {
+        Project testProject = new Project("Test Project");
+        Member removedMember = new Member("Removed Member", "--", "--", 1, "member");
+        Task testTask = new Task("Test Task", 1, null, 10, TaskState.OPEN, new ArrayList<>());
+        testProject.addMember(removedMember);
+        testProject.addTask(testTask);
+        testProject.createAssignment(testTask, removedMember);
+        testProject.removeMember(removedMember);
+        Member newMember = new Member("New Member", "--", "--", 1, "member");
+        testProject.addMember(newMember);
+        assertFalse(testProject.containsAssignment(testTask, newMember));
+        assertTrue(testProject.getAssignedMemberIDs(testTask.getTaskID()).isEmpty());
+        testProject.createAssignment(testTask, newMember);
+        assertTrue(testProject.containsAssignment(testTask, newMember));
+        assertEquals(newMember.getMemberID(), testProject.getAssignedMemberIDs(testTask.getTaskID()).get(0));
+    }
+
+    @Test
+    void getTasksAndAssignedMembersTest_snapshotChanged_projectUnchanged() {
+        Project testProject = new Project("Test Project");
+        Member testMember = new Member("Test Member", "--", "--", 1, "member");
+        Task testTask = new Task("Test Task", 1, null, 10, TaskState.OPEN, new ArrayList<>());
+        testProject.addMember(testMember);
+        testProject.addTask(testTask);
+        testProject.getTasksAndAssignedMembers().get(testTask.getTaskID()).add(testMember.getMemberID());
+        assertFalse(testProject.containsAssignment(testTask, testMember));
+    }
+
+    @Test
+    void getVersionTest_readOnlyCalls_versionUnchanged() {
+        Project testProject = new Project("Test Project");
+        testProject.addMember(new Member("Test Member", "--", "--", 1, "member"));
+        testProject.addTask(new Task("Test Task", 1, null, 10, TaskState.OPEN, new ArrayList<>()));
+        final long version = testProject.getVersion();
+        testProject.getMemberList().getAllMemberDetailsForTable();
+        testProject.getTaskList().getAllTaskDetails(testProject.getTasksAndAssignedMembers(), testProject);
+        testProject.getTasksAndAssignedMembers();
+        assertEquals(version, testProject.getVersion());
+    }
+
+    @Test
+    void getVersionTest_changesThroughMembersAndTasks_versionChanged() {
+        Project testProject = new Project("Test Project");
+        Member testMember = new Member("Test Member", "--", "--", 1, "member");
+        Task testTask = new Task("Test Task", 1, null, 10, TaskState.OPEN, new ArrayList<>());
+        testProject.addMember(testMember);
+        testProject.addTask(testTask);
+        long version = testProject.getVersion();
+        testMember.setRole("leader");
+        assertNotEquals(version, testProject.getVersion());
+        version = testProject.getVersion();
+        testTask.setTaskState("DONE");
+        assertNotEquals(version, testProject.getVersion());
+        version = testProject.getVersion();
+        testProject.createAssignment(testTask, testMember);
+        assertNotEquals(version, testProject.getVersion());
+    }
+
+    //@@author Lucria
+    @Test
+    void applyChanges_changesTakenThroughJson_sameProjectWithSameIds() {
+        JsonConverter jsonConverter = new JsonConverter();
+        Project testProject = new Project("Test Project");
+        testProject.addReminderToList(new Reminder("First", "--", null, "DEFAULT"));
+        testProject.addReminderToList(new Reminder("Second", "--", null, "DEFAULT"));
+        final String snapshotJson = jsonConverter.convertProjectToJson(testProject);
+        testProject.startRecordingChanges();
+
+        Task testTask = new Task("Test Task", 1, null, 1, TaskState.OPEN, new ArrayList<>());
+        Member testMember = new Member("Test Member", "--", "--", 1, "member");
+        testProject.addTask(testTask);
+        testProject.addMember(testMember);
+        testProject.createAssignment(testTask, testMember);
+        testProject.getTask(1).setTaskState("done");
+        testProject.getTask(1).addTaskRequirement("Requirement");
+        testProject.removeReminder(1);
+        testProject.getReminder(1).setIsDone(true);
+        testProject.setName("New Test Name");
+        String changesJson = JsonConverter.convertChangesToJson(testProject.takeChanges());
+        assertTrue(testProject.takeChanges().isEmpty());
+
+        Project reloadedProject = JsonConverter.getCompactGson().fromJson(snapshotJson, Project.class);
+        reloadedProject.applyChanges(JsonConverter.convertJsonToChanges(changesJson));
+        assertEquals("New Test Name", reloadedProject.getName());
+        assertEquals(testTask.getTaskID(), reloadedProject.getTask(1).getTaskID());
+        assertEquals(TaskState.DONE, reloadedProject.getTask(1).getTaskState());
+        assertEquals(testTask.getUnlabelledTaskRequirements(),
+            reloadedProject.getTask(1).getUnlabelledTaskRequirements());
+        assertEquals(testMember.getMemberID(), reloadedProject.getMember(1).getMemberID());
+        assertTrue(reloadedProject.containsAssignment(reloadedProject.getTask(1), reloadedProject.getMember(1)));
+        assertEquals(1, reloadedProject.getReminderListSize());
+        assertEquals("Second", reloadedProject.getReminder(1).getReminderName());
+        assertTrue(reloadedProject.getReminder(1).getIsDone());
+    }
+
+    @Test
+    void removeMember_memberOfRecordingProject_onlyRemovalRecorded() {
+        Project testProject = new Project("Test Project");
+        Member testMember = new Member("Test Member", "--", "--", 1, "member");
+        testProject.addMember(new Member("First Member", "--", "--", 1, "member"));
+        testProject.addMember(testMember);
+        testProject.startRecordingChanges();
+        testProject.removeMember(testMember);
+        List<ProjectChange> changes = testProject.takeChanges();
+        assertEquals(1, changes.size());
+        assertEquals(ProjectChange.Kind.REMOVE_MEMBER, changes.get(0).getKind());
+        assertEquals(testMember.getMemberID(), changes.get(0).getMemberID());
+        assertEquals(2, testMember.getIndexNumber());
+    }
+
+    @Test
+    void createAssignment_manyMembersAndTasks_assignmentsKeptWhenMembersRemoved() {
+        Project testProject = new Project("Test Project");
+        ArrayList<Member> members = new ArrayList<>();
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int memberIndex = 1; memberIndex <= 150; memberIndex++) {
+            Member member = new Member("Member " + memberIndex, "--", "--", memberIndex, "member");
+            members.add(member);
+            testProject.addMember(member);
+        }
+        for (int taskIndex = 1; taskIndex <= 40; taskIndex++) {
+            Task task = new Task("Task " + taskIndex, 1, null, 10, TaskState.OPEN, new ArrayList<>());
+            tasks.add(task);
+            testProject.addTask(task);
+            for (int memberIndex = 0; memberIndex < members.size(); memberIndex++) {
+                if ((taskIndex + memberIndex) % 7 == 0) {
+                    testProject.createAssignment(task, members.get(memberIndex));
+                }
+            }
+        }
+        for (int memberIndex = 0; memberIndex < members.size(); memberIndex += 10) {
+            testProject.removeMember(members.get(memberIndex));
+        }
+        testProject.removeAssignment(members.get(2), tasks.get(4));
+
+        for (int taskIndex = 1; taskIndex <= tasks.size(); taskIndex++) {
+            Task task = tasks.get(taskIndex - 1);
+            ArrayList<String> expectedMemberIDs = new ArrayList<>();
+            for (int memberIndex = 0; memberIndex < members.size(); memberIndex++) {
+                boolean isAssigned = memberIndex % 10 != 0 && (taskIndex + memberIndex) % 7 == 0
+                        && !(memberIndex == 2 && taskIndex == 5);
+                if (memberIndex % 10 != 0) {
+                    assertEquals(isAssigned, testProject.containsAssignment(task, members.get(memberIndex)));
+                }
+                if (isAssigned) {
+                    expectedMemberIDs.add(members.get(memberIndex).getMemberID());
+                }
+            }
+            assertEquals(expectedMemberIDs, testProject.getAssignedMemberIDs(task.getTaskID()));
+        }
+        assertEquals(5, testProject.getAssignedTaskIDs(members.get(2).getMemberID()).size());
+    }
+
+    @Test
+    void removeMember_manyMembersRemovedFromFront_membersFoundAndRenumbered() {
+        Project testProject = new Project("Test Project");
+        ArrayList<Member> members = new ArrayList<>();
+        for (int memberIndex = 1; memberIndex <= 200; memberIndex++) {
+            Member member = new Member("Member " + memberIndex, "--", "--", memberIndex, "member");
+            members.add(member);
+            testProject.addMember(member);
+        }
+        members.get(150).updateDetails("Renamed Member", "--", "--");
+        for (int removal = 0; removal < 50; removal++) {
+            testProject.removeMember(testProject.getMember(1));
+        }
+
+        assertEquals(150, testProject.getNumOfMembers());
+        for (int memberIndex = 1; memberIndex <= 150; memberIndex++) {
+            Member member = members.get(memberIndex + 49);
+            assertEquals(member, testProject.getMember(memberIndex));
+            assertEquals(memberIndex, member.getIndexNumber());
+            assertEquals(member, testProject.getMemberFromID(member.getMemberID()));
+        }
+        assertEquals(1, members.get(0).getIndexNumber());
+        assertNotEquals(members.get(0), testProject.getMemberFromID(members.get(0).getMemberID()));
+        assertFalse(testProject.memberExists(new Member("Member 1", "--", "--", 0, "member")));
+        assertFalse(testProject.memberExists(new Member("Member 151", "--", "--", 0, "member")));
+        assertTrue(testProject.memberExists(new Member("Member 152", "--", "--", 0, "member")));
+        assertTrue(testProject.memberExists(new Member("Renamed Member", "--", "--", 0, "member")));
+    }
 }
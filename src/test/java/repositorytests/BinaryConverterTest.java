@@ -0,0 +1,117 @@
+package repositorytests;
+
+import models.member.Member;
+import models.project.Project;
+import models.reminder.Reminder;
+import models.task.Task;
+import models.task.TaskState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import util.date.DateTimeHelper;
+import util.json.JsonConverter;
+import util.storage.BinaryConverter;
+import util.storage.ProjectFormatConverter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+//@@author Lucria
+class BinaryConverterTest {
+    private static final String PROJECT_ID = BinaryConverter.getLegacyProjectID("Alpha");
+    @TempDir
+    Path directory;
+    private BinaryConverter binaryConverter;
+
+    @BeforeEach
+    void createConverter() {
+        binaryConverter = new BinaryConverter(directory.toString());
+    }
+
+    private Project createProject() throws ParseException {
+        Date dueDate = new DateTimeHelper().formatDate("11/11/2019");
+        Project project = new Project("Alpha");
+        project.setProjectID(PROJECT_ID);
+        Member member = new Member("Tester", "91234567", "tester@gmail.com", 1, "leader");
+        Task task = new Task("Test Task", 5, dueDate, 10, TaskState.DOING,
+                new ArrayList<>(Arrays.asList("First", "Second")));
+        project.addMember(member);
+        project.addMember(new Member("not-a-uuid", "Editor", "--", "--", 2, "member"));
+        project.addTask(task);
+        project.addTask(new Task("Undated Task", 1, null, 0, null, null));
+        project.createAssignment(task, member);
+        project.addReminderToList(new Reminder("Test Reminder", "--", dueDate, "default"));
+        project.markReminder(true, 1);
+        project.setJournalSequence(7);
+        return project;
+    }
+
+    @Test
+    void loadProject_savedProject_sameDetailsLoaded() throws ParseException {
+        Project project = createProject();
+        binaryConverter.saveProject(project);
+
+        Project loadedProject = binaryConverter.loadProject(PROJECT_ID);
+        assertEquals(project.getMemberList().getAllMemberDetails(),
+                loadedProject.getMemberList().getAllMemberDetails());
+        assertEquals("not-a-uuid", loadedProject.getMember(2).getMemberID());
+        for (int taskIndex = 1; taskIndex <= project.getNumOfTasks(); taskIndex++) {
+            assertEquals(project.getTask(taskIndex).getDetails(), loadedProject.getTask(taskIndex).getDetails());
+            assertEquals(project.getTask(taskIndex).getTaskID(), loadedProject.getTask(taskIndex).getTaskID());
+            assertEquals(project.getTask(taskIndex).getDueDate(), loadedProject.getTask(taskIndex).getDueDate());
+        }
+        assertNull(loadedProject.getTask(2).getTaskState());
+        assertEquals(project.getTask(1).getUnlabelledTaskRequirements(),
+                loadedProject.getTask(1).getUnlabelledTaskRequirements());
+        assertEquals(project.getTasksAndAssignedMembers(), loadedProject.getTasksAndAssignedMembers());
+        assertEquals(project.getMembersIndividualTaskList(), loadedProject.getMembersIndividualTaskList());
+        assertEquals(project.getReminder(1).getReminderDate(), loadedProject.getReminder(1).getReminderDate());
+        assertEquals(true, loadedProject.getReminder(1).getIsDone());
+        assertEquals(7, loadedProject.getJournalSequence());
+    }
+
+    @Test
+    void loadProject_truncatedOrForeignFile_notLoaded() throws ParseException, IOException {
+        binaryConverter.saveProject(createProject());
+        File projectFile = binaryConverter.getProjectFile(PROJECT_ID);
+        try (RandomAccessFile truncatedFile = new RandomAccessFile(projectFile, "rw")) {
+            truncatedFile.setLength(projectFile.length() - 1);
+        }
+        assertNull(binaryConverter.loadProject(PROJECT_ID));
+
+        JsonConverter jsonConverter = new JsonConverter(directory.toString());
+        jsonConverter.saveProject(createProject());
+        Files.copy(jsonConverter.getProjectFile(PROJECT_ID).toPath(), directory.resolve("Bravo.archduke"));
+        assertNull(binaryConverter.loadProject("Bravo"));
+    }
+
+    @Test
+    void convertAllProjects_jsonToBinaryAndBack_sameProjectsSaved() throws ParseException {
+        JsonConverter jsonConverter = new JsonConverter(directory.toString());
+        Project project = createProject();
+        jsonConverter.saveProject(project);
+        Project bravoProject = new Project("Bravo");
+        jsonConverter.saveProject(bravoProject);
+
+        assertEquals(Collections.emptyList(), new ProjectFormatConverter(jsonConverter, binaryConverter)
+                .convertAllProjects());
+        assertEquals(jsonConverter.getSavedProjectIDs(), binaryConverter.getSavedProjectIDs());
+        assertEquals(2, binaryConverter.getSavedProjectIDs().size());
+        jsonConverter.getProjectFile(PROJECT_ID).delete();
+        assertEquals(Collections.emptyList(), new ProjectFormatConverter(binaryConverter, jsonConverter)
+                .convertAllProjects());
+        assertEquals(project.getTasksAndAssignedMembers(),
+                jsonConverter.loadProject(PROJECT_ID).getTasksAndAssignedMembers());
+    }
+}
@@ -0,0 +1,58 @@
+package repositorytests;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import util.storage.GroupCommitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Lucria
+class GroupCommitterTest {
+    @TempDir
+    Path directory;
+
+    private Path writeFile(String fileName, String contents) throws IOException {
+        return Files.write(directory.resolve(fileName), contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void replaceFile_temporaryFileWritten_targetReplaced() throws IOException {
+        GroupCommitter groupCommitter = new GroupCommitter(1);
+        Path targetFile = writeFile("Alpha.json", "old");
+        Path temporaryFile = writeFile("Alpha.json.tmp", "new");
+        assertTrue(groupCommitter.replaceFile(temporaryFile, targetFile).await());
+        assertEquals("new", new String(Files.readAllBytes(targetFile), StandardCharsets.UTF_8));
+        assertFalse(Files.exists(temporaryFile));
+    }
+
+    @Test
+    void replaceFile_temporaryFileMissing_targetKept() throws IOException {
+        GroupCommitter groupCommitter = new GroupCommitter(1);
+        Path targetFile = writeFile("Alpha.json", "old");
+        assertFalse(groupCommitter.replaceFile(directory.resolve("Alpha.json.tmp"), targetFile).await());
+        assertEquals("old", new String(Files.readAllBytes(targetFile), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void syncFile_requestsWithinWindow_committedAsOneGroup() throws IOException {
+        GroupCommitter groupCommitter = new GroupCommitter(200);
+        ArrayList<GroupCommitter.CommitTicket> commitTickets = new ArrayList<>();
+        for (int fileIndex = 1; fileIndex <= 5; fileIndex++) {
+            commitTickets.add(groupCommitter.syncFile(writeFile(fileIndex + ".journal", "record")));
+        }
+        commitTickets.add(groupCommitter.syncFile(directory.resolve("Deleted.journal")));
+        for (GroupCommitter.CommitTicket commitTicket : commitTickets) {
+            assertTrue(commitTicket.await());
+        }
+        assertEquals(1, groupCommitter.getNumOfGroupsCommitted());
+        assertEquals(6, groupCommitter.getNumOfRequestsCommitted());
+    }
+}
@@ -0,0 +1,133 @@
+package repositorytests;
+
+import models.member.Member;
+import models.project.Project;
+import models.reminder.Reminder;
+import models.task.Task;
+import models.task.TaskState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import util.json.JsonConverter;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Lucria
+class JsonConverterTest {
+    @TempDir
+    Path directory;
+    private JsonConverter jsonConverter;
+
+    @BeforeEach
+    void createConverter() {
+        jsonConverter = new JsonConverter(directory.toString());
+    }
+
+    @Test
+    void getSavedProjectIDs_projectsSaved_idsSorted() {
+        ArrayList<String> projectIDs = new ArrayList<>();
+        for (String projectName : Arrays.asList("Charlie", "Alpha", "Bravo")) {
+            Project project = new Project(projectName);
+            jsonConverter.saveProject(project);
+            projectIDs.add(project.getProjectID());
+        }
+        Collections.sort(projectIDs);
+        assertEquals(projectIDs, jsonConverter.getSavedProjectIDs());
+    }
+
+    @Test
+    void saveProject_namesDifferingInIllegalCharacters_savedSeparately() {
+        Project slashProject = new Project("CS2113/T");
+        Project colonProject = new Project("CS2113:T");
+        jsonConverter.saveProject(slashProject);
+        jsonConverter.saveProject(colonProject);
+        assertEquals(2, jsonConverter.getSavedProjectIDs().size());
+        assertEquals("CS2113/T", jsonConverter.loadProject(slashProject.getProjectID()).getName());
+        assertEquals("CS2113:T", jsonConverter.loadProject(colonProject.getProjectID()).getName());
+    }
+
+    @Test
+    void loadProject_savedUnderNameByEarlierVersion_idDerivedFromName() throws IOException {
+        Project project = new Project("Alpha");
+        jsonConverter.saveProject(project);
+        Files.move(jsonConverter.getProjectFile(project.getProjectID()).toPath(),
+                directory.resolve("Alpha.json"));
+        assertEquals(Collections.singletonList("Alpha"), jsonConverter.getSavedProjectIDs());
+        assertFalse(JsonConverter.isProjectID("Alpha"));
+        assertTrue(JsonConverter.isProjectID(project.getProjectID()));
+        assertEquals(JsonConverter.getLegacyProjectID("Alpha"), jsonConverter.loadProject("Alpha").getProjectID());
+    }
+
+    @Test
+    void loadProjects_oneCorruptedFile_otherProjectsLoadedInOrder() throws IOException {
+        Project alphaProject = new Project("Alpha");
+        Project charlieProject = new Project("Charlie");
+        jsonConverter.saveProject(alphaProject);
+        jsonConverter.saveProject(charlieProject);
+        try (FileWriter fileWriter = new FileWriter(directory.resolve("Bravo.json").toFile())) {
+            fileWriter.write("{\"name\": ");
+        }
+        ArrayList<Project> loadedProjects = jsonConverter.loadProjects(Arrays.asList(alphaProject.getProjectID(),
+                "Bravo", charlieProject.getProjectID()));
+        assertEquals(3, loadedProjects.size());
+        assertEquals("Alpha", loadedProjects.get(0).getName());
+        assertNull(loadedProjects.get(1));
+        assertEquals("Charlie", loadedProjects.get(2).getName());
+    }
+
+    @Test
+    void loadProject_savedProject_sameDetailsLoaded() {
+        Project project = new Project("Alpha");
+        Member member = new Member("Tester", "91234567", "tester@gmail.com", 1, "leader");
+        ArrayList<String> taskRequirements = new ArrayList<>(Arrays.asList("First", "Second"));
+        Task task = new Task("Test Task", 5, new Date(1573488000000L), 10, TaskState.DOING, taskRequirements);
+        project.addMember(member);
+        project.addTask(task);
+        project.createAssignment(task, member);
+        project.addReminderToList(new Reminder("Test Reminder", "--", new Date(1573488000000L), "default"));
+        project.markReminder(true, 1);
+        jsonConverter.saveProject(project);
+
+        Project loadedProject = jsonConverter.loadProject(project.getProjectID());
+        assertEquals(project.getProjectID(), loadedProject.getProjectID());
+        assertEquals(project.getMemberList().getAllMemberDetails(),
+                loadedProject.getMemberList().getAllMemberDetails());
+        assertEquals(task.getDetails(), loadedProject.getTask(1).getDetails());
+        assertEquals(task.getTaskID(), loadedProject.getTask(1).getTaskID());
+        assertEquals(taskRequirements, loadedProject.getTask(1).getUnlabelledTaskRequirements());
+        assertEquals(project.getTasksAndAssignedMembers(), loadedProject.getTasksAndAssignedMembers());
+        assertEquals(project.getMembersIndividualTaskList(), loadedProject.getMembersIndividualTaskList());
+        assertEquals(project.getReminder(1).getReminderDate(), loadedProject.getReminder(1).getReminderDate());
+        assertEquals(true, loadedProject.getReminder(1).getIsDone());
+    }
+
+    @Test
+    void convertProjectToJson_projectWithTasks_helpersNotWritten() {
+        Project project = new Project("Alpha");
+        project.addTask(new Task("Test Task", 5, null, 10, TaskState.OPEN, null));
+        String projectJson = jsonConverter.convertProjectToJson(project);
+        assertFalse(projectJson.contains("parserHelper"));
+        assertFalse(projectJson.contains("dateTimeHelper"));
+    }
+
+    @Test
+    void getResourcesInJar_savedByEarlierVersion_projectsLoaded() {
+        ArrayList<Project> jarProjects = jsonConverter.getResourcesInJar();
+        assertEquals(2, jarProjects.size());
+        assertEquals("avengers", jarProjects.get(0).getName());
+        assertEquals(jarProjects.get(0).getMemberList().getNumOfMembers(),
+                jarProjects.get(0).getMembersIndividualTaskList().size());
+    }
+}
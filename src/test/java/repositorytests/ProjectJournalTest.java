@@ -0,0 +1,138 @@
+package repositorytests;
+
+import controllers.ProjectInputController;
+import models.project.Project;
+import models.project.ProjectChange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import repositories.ProjectJournal;
+import repositories.ProjectRepository;
+import util.storage.GroupCommitter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Lucria
+class ProjectJournalTest {
+    private ProjectJournal projectJournal = new ProjectJournal();
+    private File journalFile = new File(System.getProperty("user.dir") + "/Journal Testing.journal");
+
+    @AfterEach
+    void deleteJournal() {
+        projectJournal.delete("Journal Testing");
+    }
+
+    private List<ProjectChange> renameTo(String projectName) {
+        return Collections.singletonList(ProjectChange.renameProject(projectName));
+    }
+
+    @Test
+    void readRecordsAfter_recordsAppended_onlyNewerRecordsReturned() throws IOException {
+        projectJournal.append("Journal Testing", 1, renameTo("First"));
+        projectJournal.append("Journal Testing", 2, renameTo("Second"));
+        LinkedHashMap<Long, List<ProjectChange>> journalRecords = projectJournal.readRecordsAfter("Journal Testing", 1);
+        assertEquals(1, journalRecords.size());
+        assertEquals("Second", journalRecords.get(2L).get(0).getProjectName());
+    }
+
+    @Test
+    void append_recordAppended_recordSyncedBeforeReturning() throws IOException {
+        GroupCommitter sharedCommitter = GroupCommitter.getSharedCommitter();
+        long numOfRequestsCommitted = sharedCommitter.getNumOfRequestsCommitted();
+        projectJournal.append("Journal Testing", 1, renameTo("First"));
+        assertTrue(sharedCommitter.getNumOfRequestsCommitted() > numOfRequestsCommitted);
+    }
+
+    @Test
+    void readRecordsAfter_lastRecordCutShort_recordsBeforeItReturned() throws IOException {
+        projectJournal.append("Journal Testing", 1, renameTo("First"));
+        long journalSize = projectJournal.append("Journal Testing", 2, renameTo("Second"));
+        try (RandomAccessFile journal = new RandomAccessFile(journalFile, "rw")) {
+            journal.setLength(journalSize - 4);
+        }
+        LinkedHashMap<Long, List<ProjectChange>> journalRecords = projectJournal.readRecordsAfter("Journal Testing", 0);
+        assertEquals(1, journalRecords.size());
+        assertEquals("First", journalRecords.get(1L).get(0).getProjectName());
+    }
+
+    @Test
+    void compact_allRecordsInSnapshot_journalDeleted() throws IOException {
+        projectJournal.append("Journal Testing", 1, renameTo("First"));
+        projectJournal.compact("Journal Testing", 1);
+        assertFalse(journalFile.exists());
+    }
+
+    @Test
+    void manageProject_changingCommand_commandReplayedOnLoad() {
+        ProjectRepository projectRepository = new ProjectRepository();
+        projectRepository.addToRepo("create Journal Testing");
+        projectRepository.flushToRepo();
+        ProjectInputController projectInputController = new ProjectInputController(projectRepository);
+        int projectIndex = projectRepository.getAll().size();
+        final File journalFile = new File(System.getProperty("user.dir") + "/"
+                + projectRepository.getItem(projectIndex).getProjectID() + ".journal");
+        projectInputController.onCommandReceived(Integer.toString(projectIndex));
+        projectInputController.manageProject("view members");
+        assertFalse(journalFile.exists());
+        projectInputController.manageProject("add member -n Journal Member");
+        assertTrue(journalFile.exists());
+
+        ProjectRepository reloadedRepository = new ProjectRepository();
+        int reloadedIndex = 1;
+        while (!"Journal Testing".equals(reloadedRepository.getItem(reloadedIndex).getName())) {
+            reloadedIndex++;
+        }
+        assertEquals(1, reloadedRepository.getItem(reloadedIndex).getNumOfMembers());
+        reloadedRepository.deleteItem(reloadedIndex);
+        assertFalse(journalFile.exists());
+    }
+
+    @Test
+    void manageProject_changesJournaled_sameIdsAfterEveryLoad() {
+        ProjectRepository projectRepository = new ProjectRepository();
+        projectRepository.addToRepo("create Journal Testing");
+        projectRepository.flushToRepo();
+        int projectIndex = projectRepository.getNumOfProjects();
+        ProjectInputController projectInputController = new ProjectInputController(projectRepository);
+        projectInputController.onCommandReceived(Integer.toString(projectIndex));
+        projectInputController.manageProject("add member -n Mary-Jane");
+        projectInputController.manageProject("add member -n Peter");
+        projectInputController.manageProject("add task -n Save the city -p 1 -c 10");
+        projectInputController.manageProject("assign task -i 1 -to 1 2");
+        projectInputController.manageProject("edit task 1 -n Save the world -s doing");
+        projectInputController.manageProject("delete member 2");
+        projectInputController.manageProject("add reminder -n Buy suit -r Spider -d 10/10/2019");
+        projectInputController.manageProject("mark reminder 1");
+        projectInputController.manageProject("rename Journal Renamed");
+        Project project = projectRepository.getItem(projectIndex);
+        String projectID = project.getProjectID();
+
+        Project reloadedProject = null;
+        for (int load = 0; load < 2; load++) {
+            ProjectRepository reloadedRepository = new ProjectRepository();
+            int reloadedIndex = 1;
+            while (!projectID.equals(reloadedRepository.getItem(reloadedIndex).getProjectID())) {
+                reloadedIndex++;
+            }
+            reloadedProject = reloadedRepository.getItem(reloadedIndex);
+            assertEquals("Journal Renamed", reloadedProject.getName());
+            assertEquals(1, reloadedProject.getNumOfMembers());
+            assertEquals("Mary-Jane", reloadedProject.getMember(1).getName());
+            assertEquals(project.getMember(1).getMemberID(), reloadedProject.getMember(1).getMemberID());
+            assertEquals("Save the world", reloadedProject.getTask(1).getTaskName());
+            assertEquals(project.getTask(1).getTaskID(), reloadedProject.getTask(1).getTaskID());
+            assertEquals(project.getAssignedMemberIDs(project.getTask(1).getTaskID()),
+                    reloadedProject.getAssignedMemberIDs(reloadedProject.getTask(1).getTaskID()));
+            assertTrue(reloadedProject.getReminder(1).getIsDone());
+        }
+        projectRepository.deleteItem(projectIndex);
+    }
+}
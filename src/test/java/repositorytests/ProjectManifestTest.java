@@ -0,0 +1,98 @@
+package repositorytests;
+
+import models.member.Member;
+import models.project.Project;
+import models.project.ProjectChange;
+import models.project.ProjectSummary;
+import models.task.Task;
+import models.task.TaskState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import repositories.ProjectJournal;
+import repositories.ProjectManifest;
+import util.date.CalendarIndex;
+import util.json.JsonConverter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static util.constant.ConstantHelper.PROJECT_MANIFEST_FILE_NAME;
+
+//@@author Lucria
+class ProjectManifestTest {
+    @TempDir
+    Path directory;
+    private JsonConverter jsonConverter;
+    private ProjectJournal projectJournal;
+    private ProjectManifest projectManifest;
+    private Project project = new Project("Manifest Testing");
+
+    @BeforeEach
+    void createManifest() {
+        jsonConverter = new JsonConverter(directory.toString());
+        projectJournal = new ProjectJournal(directory.toString());
+        projectManifest = new ProjectManifest(directory.toString(), jsonConverter, projectJournal);
+    }
+
+    @Test
+    void loadUpToDateSummaries_projectUnchanged_summaryReturned() {
+        jsonConverter.saveProject(project);
+        ArrayList<ProjectSummary> projectSummaries = new ArrayList<>();
+        projectSummaries.add(new ProjectSummary(project));
+        projectManifest.save(projectSummaries);
+        HashMap<String, ProjectSummary> upToDateSummaries = projectManifest.loadUpToDateSummaries();
+        assertTrue(upToDateSummaries.containsKey(project.getProjectID()));
+        assertEquals(0, upToDateSummaries.get(project.getProjectID()).getNumOfMembers());
+    }
+
+    @Test
+    void loadUpToDateSummaries_projectJournaledAfterSave_summaryNotReturned() throws IOException {
+        jsonConverter.saveProject(project);
+        ArrayList<ProjectSummary> projectSummaries = new ArrayList<>();
+        projectSummaries.add(new ProjectSummary(project));
+        projectManifest.save(projectSummaries);
+        projectJournal.append(project.getProjectID(), 1,
+                Collections.singletonList(ProjectChange.putMember(new Member("Manifest Member", "--", "--", 1,
+                        "member"))));
+        assertFalse(projectManifest.loadUpToDateSummaries().containsKey(project.getProjectID()));
+    }
+
+    @Test
+    void loadUpToDateSummaries_taskWithDeadline_deadlineDetailsFormattedWhenRead() {
+        LocalDate dueDay = LocalDate.now().plusDays(3);
+        project.addTasks(Collections.singletonList(new Task("Manifest Task", 2,
+                CalendarIndex.toDate(dueDay.toEpochDay()), 10, TaskState.TODO, new ArrayList<>())));
+        jsonConverter.saveProject(project);
+        ArrayList<ProjectSummary> projectSummaries = new ArrayList<>();
+        projectSummaries.add(new ProjectSummary(project));
+        projectManifest.save(projectSummaries);
+        ProjectSummary loadedSummary = projectManifest.loadUpToDateSummaries().get(project.getProjectID());
+        assertEquals("Manifest Task", loadedSummary.getNextDeadlineTaskName());
+        assertEquals(dueDay.toEpochDay(), loadedSummary.getNextDeadlineDay());
+        assertArrayEquals(project.getTaskList().getClosestDeadlineTask(), loadedSummary.getNextDeadlineDetails());
+    }
+
+    @Test
+    void loadUpToDateSummaries_entriesWithoutSummaries_noSummariesReturned() throws IOException {
+        Files.write(directory.resolve(PROJECT_MANIFEST_FILE_NAME),
+                "[null, {\"snapshotLength\": 1}]".getBytes(StandardCharsets.UTF_8));
+        assertTrue(projectManifest.loadUpToDateSummaries().isEmpty());
+    }
+
+    @Test
+    void loadUpToDateSummaries_emptyManifest_noSummariesReturned() throws IOException {
+        Files.write(directory.resolve(PROJECT_MANIFEST_FILE_NAME), new byte[0]);
+        assertTrue(projectManifest.loadUpToDateSummaries().isEmpty());
+    }
+}
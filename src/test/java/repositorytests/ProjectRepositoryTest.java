@@ -1,12 +1,25 @@
 package repositorytests;
 
+import controllers.ProjectInputController;
+import models.member.Member;
 import models.project.Project;
+import models.project.ProjectChange;
 import org.junit.jupiter.api.Test;
+import repositories.ProjectJournal;
 import repositories.ProjectRepository;
+import util.json.JsonConverter;
+import util.storage.ProjectConverter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 //@@author Lucria
 class ProjectRepositoryTest {
@@ -106,4 +119,73 @@ class ProjectRepositoryTest {
         };
         assertArrayEquals(expectedOutput, simulatedOutput);
     }
+
+    @Test
+    void deleteItem_saveFileCannotBeLoaded_deletedWithoutLoading() throws IOException {
+        while (projectRepository.getAll().size() != 0) {
+            projectRepository.deleteItem(1);
+        }
+        projectRepository.addToRepo("create Corrupted Testing");
+        projectRepository.flushToRepo();
+        File saveFile = new JsonConverter().getProjectFile(projectRepository.getItem(1).getProjectID());
+        long lastModified = saveFile.lastModified();
+        byte[] corruptedData = new byte[(int) saveFile.length()];
+        Arrays.fill(corruptedData, (byte) '{');
+        Files.write(saveFile.toPath(), corruptedData);
+        assertTrue(saveFile.setLastModified(lastModified));
+
+        ProjectRepository reloadedRepository = new ProjectRepository();
+        int numOfProjects = reloadedRepository.getNumOfProjects();
+        assertArrayEquals(new String[] {"Project 1 has been deleted"}, reloadedRepository.deleteItem(1));
+        assertEquals(numOfProjects - 1, reloadedRepository.getNumOfProjects());
+        assertFalse(saveFile.exists());
+    }
+
+    private int findProjectIndex(ProjectRepository repository, String projectID) {
+        int projectIndex = 1;
+        while (!projectID.equals(repository.getItem(projectIndex).getProjectID())) {
+            projectIndex++;
+        }
+        return projectIndex;
+    }
+
+    @Test
+    void updateItem_projectRenamed_saveFileKept() {
+        projectRepository.addToRepo("create Rename Testing");
+        projectRepository.flushToRepo();
+        int projectIndex = projectRepository.getAll().size();
+        Project project = projectRepository.getItem(projectIndex);
+        final File saveFile = new JsonConverter().getProjectFile(project.getProjectID());
+        ProjectInputController projectInputController = new ProjectInputController(projectRepository);
+        projectInputController.onCommandReceived(Integer.toString(projectIndex));
+        projectInputController.manageProject("rename Renamed Testing");
+        projectRepository.flushToRepo();
+        assertTrue(saveFile.exists());
+
+        ProjectRepository reloadedRepository = new ProjectRepository();
+        int reloadedIndex = findProjectIndex(reloadedRepository, project.getProjectID());
+        assertEquals("Renamed Testing", reloadedRepository.getItem(reloadedIndex).getName());
+        reloadedRepository.deleteItem(reloadedIndex);
+        assertFalse(saveFile.exists());
+    }
+
+    @Test
+    void projectRepository_projectSavedUnderNameByEarlierVersion_movedToSaveFileOfId() throws IOException {
+        JsonConverter jsonConverter = new JsonConverter();
+        Project legacyProject = new Project("Migration Testing");
+        jsonConverter.saveProject(legacyProject);
+        File legacyFile = jsonConverter.getProjectFile("Migration Testing");
+        Files.move(jsonConverter.getProjectFile(legacyProject.getProjectID()).toPath(), legacyFile.toPath());
+        new ProjectJournal().append("Migration Testing", 1,
+                Collections.singletonList(ProjectChange.putMember(new Member("Legacy Member", "--", "--", 1,
+                        "member"))));
+
+        ProjectRepository migratedRepository = new ProjectRepository();
+        String projectID = ProjectConverter.getLegacyProjectID("Migration Testing");
+        assertFalse(legacyFile.exists());
+        assertTrue(jsonConverter.getProjectFile(projectID).exists());
+        int migratedIndex = findProjectIndex(migratedRepository, projectID);
+        assertEquals(1, migratedRepository.getItem(migratedIndex).getNumOfMembers());
+        migratedRepository.deleteItem(migratedIndex);
+    }
 }
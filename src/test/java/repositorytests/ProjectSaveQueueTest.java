@@ -0,0 +1,65 @@
+package repositorytests;
+
+import models.project.Project;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import repositories.ProjectJournal;
+import repositories.ProjectSaveQueue;
+import util.json.JsonConverter;
+import util.storage.ProjectConverter;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Lucria
+class ProjectSaveQueueTest {
+    private JsonConverter jsonConverter = new JsonConverter();
+    private ProjectSaveQueue projectSaveQueue = new ProjectSaveQueue(jsonConverter, new ProjectJournal(), 2);
+    private String projectID = ProjectConverter.getLegacyProjectID("Save Queue Testing");
+    private File savedFile = jsonConverter.getProjectFile(projectID);
+
+    @AfterEach
+    void deleteSavedFile() {
+        projectSaveQueue.close();
+        savedFile.delete();
+    }
+
+    private Project createProject() {
+        Project project = new Project("Save Queue Testing");
+        project.setProjectID(projectID);
+        return project;
+    }
+
+    @Test
+    void flush_queuedProject_projectWrittenToDisk() {
+        Project project = createProject();
+        projectSaveQueue.enqueue(project);
+        projectSaveQueue.enqueue(project);
+        projectSaveQueue.flush();
+        assertTrue(savedFile.exists());
+    }
+
+    @Test
+    void discard_unwrittenProject_nothingWritten() {
+        Project project = createProject();
+        synchronized (project) {
+            projectSaveQueue.enqueue(project);
+            assertTrue(projectSaveQueue.discard(project.getProjectID()));
+        }
+        projectSaveQueue.flush();
+        assertFalse(savedFile.exists());
+    }
+
+    @Test
+    void enqueue_queueFull_callerWritesBacklog() {
+        Project firstProject = createProject();
+        synchronized (firstProject) {
+            projectSaveQueue.enqueue(firstProject);
+            projectSaveQueue.enqueue(createProject());
+            projectSaveQueue.enqueue(createProject());
+            assertTrue(savedFile.exists());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package repositorytests;
+
+import models.member.Member;
+import models.project.Project;
+import models.task.Task;
+import models.task.TaskState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import util.storage.WorkspaceConverter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Lucria
+class WorkspaceConverterTest {
+    @TempDir
+    Path directory;
+    private WorkspaceConverter workspaceConverter;
+
+    @BeforeEach
+    void createConverter() {
+        workspaceConverter = new WorkspaceConverter(directory.toString());
+    }
+
+    @AfterEach
+    void closeConverter() {
+        workspaceConverter.close();
+    }
+
+    private Project createProject(String name, int numOfTasks) {
+        Project project = new Project(name);
+        project.setProjectID(WorkspaceConverter.getLegacyProjectID(name));
+        project.addMember(new Member("Tester", "91234567", "tester@gmail.com", 1, "leader"));
+        for (int taskIndex = 1; taskIndex <= numOfTasks; taskIndex++) {
+            project.addTask(new Task("Task " + taskIndex, 1, null, 10, TaskState.OPEN, null));
+        }
+        return project;
+    }
+
+    private String getProjectID(String name) {
+        return WorkspaceConverter.getLegacyProjectID(name);
+    }
+
+    private WorkspaceConverter reopenWorkspace() {
+        workspaceConverter.close();
+        workspaceConverter = new WorkspaceConverter(directory.toString());
+        return workspaceConverter;
+    }
+
+    @Test
+    void loadProject_projectsSavedAndReopened_eachProjectLoaded() {
+        workspaceConverter.saveProject(createProject("Charlie", 3));
+        workspaceConverter.saveProject(createProject("Alpha", 1));
+        workspaceConverter.saveProject(createProject("Charlie", 5));
+
+        WorkspaceConverter reopenedConverter = reopenWorkspace();
+        ArrayList<String> projectIDs = new ArrayList<>(Arrays.asList(getProjectID("Alpha"), getProjectID("Charlie")));
+        Collections.sort(projectIDs);
+        assertEquals(projectIDs, reopenedConverter.getSavedProjectIDs());
+        assertEquals(1, reopenedConverter.loadProject(getProjectID("Alpha")).getNumOfTasks());
+        assertEquals(5, reopenedConverter.loadProject(getProjectID("Charlie")).getNumOfTasks());
+        assertEquals("Tester", reopenedConverter.loadProject(getProjectID("Charlie")).getMember(1).getName());
+        assertNull(reopenedConverter.loadProject(getProjectID("Bravo")));
+    }
+
+    @Test
+    void deleteProject_savedProject_removedFromWorkspace() throws Exception {
+        Project project = createProject("Alpha", 1);
+        workspaceConverter.saveProject(project);
+        workspaceConverter.deleteProject(project.getProjectID());
+        assertEquals(Collections.emptyList(), reopenWorkspace().getSavedProjectIDs());
+    }
+
+    @Test
+    void loadProject_crashDuringSave_earlierSaveLoaded() throws IOException {
+        workspaceConverter.saveProject(createProject("Alpha", 1));
+        workspaceConverter.saveProject(createProject("Alpha", 2));
+        workspaceConverter.close();
+        File workspaceFile = workspaceConverter.getProjectFile(getProjectID("Alpha"));
+        try (RandomAccessFile workspace = new RandomAccessFile(workspaceFile, "rw")) {
+            workspace.seek(workspace.length());
+            workspace.write(new byte[] {1, 2, 3});
+            workspace.seek(40);
+            workspace.write(0xFF);
+        }
+        assertEquals(1, reopenWorkspace().loadProject(getProjectID("Alpha")).getNumOfTasks());
+
+        workspaceConverter.saveProject(createProject("Alpha", 3));
+        assertEquals(3, reopenWorkspace().loadProject(getProjectID("Alpha")).getNumOfTasks());
+    }
+
+    @Test
+    void saveProject_manyReplacedSaves_workspaceCompacted() {
+        Project project = createProject("Alpha", 2000);
+        workspaceConverter.saveProject(project);
+        long savedSize = workspaceConverter.getSavedSize(getProjectID("Alpha"));
+        int numOfSaves = 40;
+        for (int save = 1; save < numOfSaves; save++) {
+            workspaceConverter.saveProject(project);
+        }
+        assertTrue(workspaceConverter.getProjectFile(getProjectID("Alpha")).length() < numOfSaves * savedSize / 2);
+        assertEquals(2000, reopenWorkspace().loadProject(getProjectID("Alpha")).getNumOfTasks());
+    }
+}
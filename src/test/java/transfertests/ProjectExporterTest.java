@@ -0,0 +1,203 @@
+package transfertests;
+
+import exceptions.DukeException;
+import models.member.Member;
+import models.project.Project;
+import models.reminder.Reminder;
+import models.task.Task;
+import models.task.TaskState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import util.transfer.ProjectExporter;
+import util.transfer.ProjectImporter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Lucria
+class ProjectExporterTest {
+    @TempDir
+    Path directory;
+    private Project project;
+    private ProjectExporter projectExporter;
+
+    @BeforeEach
+    void createProject() throws Exception {
+        project = new Project("Avengers");
+        projectExporter = new ProjectExporter();
+        Date dueDate = new SimpleDateFormat("dd/MM/yyyy").parse("21/09/2019");
+        Task firstTask = new Task("Kill Thanos", 1, dueDate, 100, TaskState.DONE,
+            new ArrayList<>(Arrays.asList("Find Thanos", "Snap")));
+        Task secondTask = new Task("Save \"Tony\", Peter", 2, null, 40, TaskState.OPEN, new ArrayList<>());
+        project.addTask(firstTask);
+        project.addTask(secondTask);
+        Member thor = new Member("Thor", "91234567", "thor@avengers.com", 1, "member");
+        Member hulk = new Member("Hulk", "--", "--", 2, "member");
+        project.addMember(thor);
+        project.addMember(hulk);
+        project.createAssignment(firstTask, thor);
+        project.createAssignment(firstTask, hulk);
+        project.addReminderToList(new Reminder("Buy shawarma", "--", dueDate, "FOOD"));
+    }
+
+    @Test
+    void exportRows_csvTasks_importedBackUnchanged() throws IOException, DukeException {
+        Path file = directory.resolve("tasks.csv");
+        String[] exportReport = projectExporter.exportRows(project, "tasks", file);
+        assertTrue(exportReport[0].startsWith("Exported 2 tasks to " + file));
+        assertEquals(Arrays.asList("name,priority,due,credit,state,requirements",
+            "Kill Thanos,1,21/09/2019,100,done,Find Thanos;Snap",
+            "\"Save \"\"Tony\"\", Peter\",2,,40,open,"), Files.readAllLines(file, StandardCharsets.UTF_8));
+
+        Project importedProject = new Project("Guardians");
+        String[] importReport = new ProjectImporter().importRows(importedProject, "tasks", file);
+        assertTrue(importReport[0].startsWith("Imported 2 of 2 tasks"));
+        for (int taskIndex = 1; taskIndex <= 2; taskIndex++) {
+            Task exportedTask = project.getTask(taskIndex);
+            Task importedTask = importedProject.getTask(taskIndex);
+            assertEquals(exportedTask.getTaskName(), importedTask.getTaskName());
+            assertEquals(exportedTask.getTaskPriority(), importedTask.getTaskPriority());
+            assertEquals(exportedTask.getDueDate(), importedTask.getDueDate());
+            assertEquals(exportedTask.getTaskCredit(), importedTask.getTaskCredit());
+            assertEquals(exportedTask.getTaskState(), importedTask.getTaskState());
+            assertEquals(exportedTask.getUnlabelledTaskRequirements(), importedTask.getUnlabelledTaskRequirements());
+        }
+    }
+
+    @Test
+    void exportRows_requirementsWithSeparatorsAndBackslashes_importedBackUnchanged()
+            throws IOException, DukeException {
+        List<String> taskRequirements = Arrays.asList("Find Thanos; then snap", "Stones\\", "C:\\gauntlet");
+        Project exportedProject = new Project("Avengers");
+        exportedProject.addTask(new Task("Kill Thanos", 1, null, 100, TaskState.OPEN,
+            new ArrayList<>(taskRequirements)));
+        for (String fileName : new String[] {"tasks.csv", "tasks.jsonl"}) {
+            Path file = directory.resolve(fileName);
+            projectExporter.exportRows(exportedProject, "tasks", file);
+            Project importedProject = new Project("Guardians");
+            new ProjectImporter().importRows(importedProject, "tasks", file);
+            assertEquals(taskRequirements, importedProject.getTask(1).getUnlabelledTaskRequirements(), fileName);
+        }
+        assertEquals("Kill Thanos,1,,100,open,Find Thanos\\; then snap;Stones\\\\;C:\\\\gauntlet",
+            Files.readAllLines(directory.resolve("tasks.csv"), StandardCharsets.UTF_8).get(1));
+    }
+
+    @Test
+    void exportRows_jsonLinesMembersAndAssignments_missingDetailsLeftOut() throws IOException, DukeException {
+        Path membersFile = directory.resolve("members.jsonl");
+        projectExporter.exportRows(project, "members", membersFile);
+        assertEquals(Arrays.asList(
+            "{\"name\":\"Thor\",\"phone\":\"91234567\",\"email\":\"thor@avengers.com\",\"role\":\"member\"}",
+            "{\"name\":\"Hulk\",\"role\":\"member\"}"), Files.readAllLines(membersFile, StandardCharsets.UTF_8));
+
+        Path assignmentsFile = directory.resolve("assignments.csv");
+        String[] exportReport = projectExporter.exportRows(project, "assignments", assignmentsFile);
+        assertTrue(exportReport[0].startsWith("Exported 2 assignments"));
+        List<String> assignmentLines = Files.readAllLines(assignmentsFile, StandardCharsets.UTF_8);
+        assertEquals(3, assignmentLines.size());
+        assertEquals("task,member", assignmentLines.get(0));
+        assertTrue(assignmentLines.contains("Kill Thanos,Thor"));
+        assertTrue(assignmentLines.contains("Kill Thanos,Hulk"));
+    }
+
+    @Test
+    void exportRows_calendar_eventsForDatedTasksAndReminders() throws IOException, DukeException {
+        String longName = "Assemble the Avengers; then, once everyone is here, travel back in time to find the stones";
+        project.addTask(new Task(longName, 3, project.getTask(1).getDueDate(), 10, TaskState.TODO,
+            new ArrayList<>()));
+        Path file = directory.resolve("avengers.ics");
+        String[] exportReport = projectExporter.exportRows(project, "calendar", file);
+        assertTrue(exportReport[0].startsWith("Exported 3 dates"));
+
+        String calendar = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertTrue(calendar.startsWith("BEGIN:VCALENDAR\r\n"));
+        assertTrue(calendar.endsWith("END:VCALENDAR\r\n"));
+        assertTrue(calendar.contains("SUMMARY:Task: Kill Thanos\r\n"));
+        assertTrue(calendar.contains("DTSTART;VALUE=DATE:20190921\r\n"));
+        assertTrue(calendar.contains("DTEND;VALUE=DATE:20190922\r\n"));
+        assertTrue(calendar.contains("SUMMARY:Reminder: Buy shawarma\r\n"));
+        assertFalse(calendar.contains("Save"));
+        for (String line : calendar.split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, line);
+        }
+        String unfoldedCalendar = calendar.replace("\r\n ", "");
+        assertTrue(unfoldedCalendar.contains("SUMMARY:Task: Assemble the Avengers\\; then\\, once everyone is here\\, "
+            + "travel back in time to find the stones\r\n"));
+    }
+
+    @Test
+    void exportRows_calendarWithMultiByteText_linesFoldedAt75Octets() throws IOException, DukeException {
+        StringBuilder longName = new StringBuilder();
+        for (int repeat = 0; repeat < 20; repeat++) {
+            longName.append("Caf").appendCodePoint(0xE9).append(' ').appendCodePoint(0x5FA9).appendCodePoint(0x4EC7)
+                .appendCodePoint(0x8005).append(' ').appendCodePoint(0x1F6E1).append(' ');
+        }
+        project.addTask(new Task(longName.toString(), 3, project.getTask(1).getDueDate(), 10, TaskState.TODO,
+            new ArrayList<>()));
+        Path file = directory.resolve("avengers.ics");
+        projectExporter.exportRows(project, "calendar", file);
+
+        byte[] calendarBytes = Files.readAllBytes(file);
+        String calendar = new String(calendarBytes, StandardCharsets.UTF_8);
+        assertEquals(calendarBytes.length, calendar.getBytes(StandardCharsets.UTF_8).length);
+        for (String line : calendar.split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, line);
+            assertFalse(line.isEmpty() || Character.isLowSurrogate(line.charAt(line.startsWith(" ") ? 1 : 0)), line);
+        }
+        assertTrue(calendar.replace("\r\n ", "").contains("SUMMARY:Task: " + longName + "\r\n"));
+    }
+
+    @Test
+    void exportRows_calendarRemindersAddedAndRemoved_reminderUidsKept() throws IOException, DukeException {
+        Date reminderDate = project.getReminder(1).getReminderDate();
+        project.addReminderToList(new Reminder("Call Fury", "--", reminderDate, "CALL"));
+        Path file = directory.resolve("avengers.ics");
+        projectExporter.exportRows(project, "calendar", file);
+        final List<String> firstUids = getEventUids(file, "Reminder: Call Fury");
+
+        project.removeReminder(1);
+        project.addReminderToList(new Reminder("Call Fury", "Again", reminderDate, "CALL"));
+        projectExporter.exportRows(project, "calendar", file);
+        List<String> uids = getEventUids(file, "Reminder: Call Fury");
+        assertEquals(1, firstUids.size());
+        assertEquals(2, uids.size());
+        assertEquals(firstUids.get(0), uids.get(0));
+        assertNotEquals(uids.get(0), uids.get(1));
+    }
+
+    private List<String> getEventUids(Path file, String summary) throws IOException {
+        String calendar = new String(Files.readAllBytes(file), StandardCharsets.UTF_8).replace("\r\n ", "");
+        List<String> uids = new ArrayList<>();
+        for (String event : calendar.split("BEGIN:VEVENT\r\n")) {
+            if (event.contains("SUMMARY:" + summary + "\r\n")) {
+                uids.add(event.substring(0, event.indexOf("\r\n")));
+            }
+        }
+        return uids;
+    }
+
+    @Test
+    void exportRows_unknownKindOrExtension_exceptionThrown() {
+        assertThrows(DukeException.class, () -> projectExporter.exportRows(project, "tasks",
+            directory.resolve("tasks.txt")));
+        assertThrows(DukeException.class, () -> projectExporter.exportRows(project, "calendar",
+            directory.resolve("tasks.csv")));
+        assertThrows(DukeException.class, () -> projectExporter.exportRows(project, "projects",
+            directory.resolve("projects.csv")));
+        assertEquals(0, directory.toFile().listFiles().length);
+    }
+}
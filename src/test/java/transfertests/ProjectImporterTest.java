@@ -0,0 +1,117 @@
+package transfertests;
+
+import exceptions.DukeException;
+import models.project.Project;
+import models.task.Task;
+import models.task.TaskState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import util.transfer.ProjectImporter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Lucria
+class ProjectImporterTest {
+    @TempDir
+    Path directory;
+    private Project project;
+    private ProjectImporter projectImporter;
+
+    @BeforeEach
+    void createProject() {
+        project = new Project("Avengers");
+        projectImporter = new ProjectImporter();
+    }
+
+    private Path writeFile(String fileName, String... lines) throws IOException {
+        return Files.write(directory.resolve(fileName), Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void importRows_csvTasks_validRowsImportedInOrder() throws IOException, DukeException {
+        Path file = writeFile("tasks.csv",
+            "Name, Priority, Due, Credit, State, Requirements",
+            "Kill Thanos, 1, 21/09/2019, 100, done, Find Thanos;Snap",
+            "\"Save \"\"Tony\"\", Peter\", 2, , 40, , ",
+            "",
+            "Fly, 9, , 10, , ",
+            "Eat shawarma, 3, 31/02/2019, 10, , ",
+            "Assemble, 5, , 0, doing, ",
+            "Too, few");
+        String[] importReport = projectImporter.importRows(project, "tasks", file);
+        assertTrue(importReport[0].startsWith("Imported 3 of 6 tasks from " + file));
+        String taskError = "A task needs a name, a priority from 1 to 5 and a credit from 0 to 100, and its due date "
+            + "must be a valid date.";
+        assertArrayEquals(new String[] {"3 rows were skipped:", "Line 5: " + taskError, "Line 6: " + taskError,
+            "Line 8: Expected 6 values but found 2."}, Arrays.copyOfRange(importReport, 1, importReport.length));
+
+        assertEquals(3, project.getNumOfTasks());
+        Task firstTask = project.getTask(1);
+        assertEquals("Kill Thanos", firstTask.getTaskName());
+        assertEquals(TaskState.DONE, firstTask.getTaskState());
+        assertEquals(Arrays.asList("Find Thanos", "Snap"), firstTask.getUnlabelledTaskRequirements());
+        assertEquals("Save \"Tony\", Peter", project.getTask(2).getTaskName());
+        assertEquals(TaskState.OPEN, project.getTask(2).getTaskState());
+        assertEquals("Assemble", project.getTask(3).getTaskName());
+        assertEquals(1, project.getTaskList().getTasksInState(TaskState.DOING).size());
+    }
+
+    @Test
+    void importRows_jsonLinesMembers_invalidAndDuplicateMembersSkipped() throws IOException, DukeException {
+        Path file = writeFile("members.jsonl",
+            "{\"name\": \"Thor\", \"phone\": 91234567, \"email\": \"thor@avengers.com\"}",
+            "{\"name\": \"Loki\", \"email\": \"not an email\"}",
+            "{\"name\": \"Thor\"}",
+            "{\"name\": \"Hulk\", \"role\": \"leader\", \"phone\": null}",
+            "[\"Hulk\"]",
+            "{\"name\": \"Vision\", \"colour\": \"red\"}");
+        String[] importReport = projectImporter.importRows(project, "members", file);
+        assertTrue(importReport[0].startsWith("Imported 2 of 6 members"));
+        assertArrayEquals(new String[] {"4 rows were skipped:",
+            "Line 2: Email address is not a valid email address! Please adhere to standard email address formats, "
+                + "such as archduke@emailprovider.com",
+            "Line 3: A member named 'Thor' already exists.",
+            "Line 5: The line is not a JSON object.",
+            "Line 6: Unknown column 'colour'. The columns of members are name, phone, email, role."},
+            Arrays.copyOfRange(importReport, 1, importReport.length));
+
+        assertEquals(2, project.getNumOfMembers());
+        assertEquals("91234567", project.getMember(1).getPhone());
+        assertEquals("leader", project.getMember(2).getRole());
+        assertEquals(2, project.getMember(2).getIndexNumber());
+    }
+
+    @Test
+    void importRows_csvReminders_datesChecked() throws IOException, DukeException {
+        Path file = writeFile("reminders.csv",
+            "name,remarks,date,category",
+            "Buy stones,\"Six of them,\nall shiny\",21/09/2019,shopping",
+            "Snap,,32/09/2019,",
+            ",No name,,");
+        String[] importReport = projectImporter.importRows(project, "reminders", file);
+        assertTrue(importReport[0].startsWith("Imported 1 of 3 reminders"));
+        assertArrayEquals(new String[] {"2 rows were skipped:",
+            "Line 4: The date of the reminder must be a valid date.", "Line 5: A reminder needs a name."},
+            Arrays.copyOfRange(importReport, 1, importReport.length));
+        assertEquals("Six of them,\nall shiny", project.getReminder(1).getReminderRemarks());
+        assertEquals("SHOPPING", project.getReminder(1).getCategory());
+    }
+
+    @Test
+    void importRows_unknownKindOrExtension_exceptionThrown() throws IOException {
+        Path csvFile = writeFile("tasks.csv", "name");
+        Path textFile = writeFile("tasks.txt", "name");
+        assertThrows(DukeException.class, () -> projectImporter.importRows(project, "projects", csvFile));
+        assertThrows(DukeException.class, () -> projectImporter.importRows(project, "tasks", textFile));
+    }
+}